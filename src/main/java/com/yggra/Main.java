@@ -1,6 +1,11 @@
 package com.yggra;
 
+import com.yggra.cli.ScriptRunner;
 import com.yggra.cli.YggraREPL;
+import com.yggra.executor.SQLExecutor;
+import com.yggra.models.DatabaseManager;
+
+import java.nio.file.Path;
 
 /**
  * 🔥 [RUNIC INSCRIPTION] 🔥
@@ -14,10 +19,26 @@ public class Main {
      * 🌩️ [THE AWAKENING] 🌩️
      * Invokes the YggraREPL — the Read-Eval-Print Loop — allowing mortals to commune with the database gods.
      *
-     * @param args Mortal parameters (currently ignored by the gods)
+     * @param args Mortal parameters: `--file <script>` runs a script instead of the REPL
      */
 
     public static void main(String[] args) {
+        // 🏺 -Dyggra.resultCacheBytes=<n> opts in to caching SELECT results, up to about n bytes
+        long resultCacheBytes = Long.getLong("yggra.resultCacheBytes", 0L);
+        if (resultCacheBytes > 0) {
+            DatabaseManager.getInstance().enableResultCache(resultCacheBytes);
+        }
+
+        // 📜 --file <script> recites a script and returns, without summoning the Oracle
+        if (args.length == 2 && args[0].equals("--file")) {
+            try (ScriptRunner runner = new ScriptRunner(new SQLExecutor())) {
+                System.exit(runner.run(Path.of(args[1])) == 0 ? 0 : 1);
+            } catch (RuntimeException e) {
+                System.out.println("⚠️ Error: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+
         // 📦 Initializes the Oracle and prepares for mortal queries
         YggraREPL repl = new YggraREPL();
         repl.start(); // 🔮 Let the prophecy unfold
@@ -6,6 +6,8 @@ import com.yggra.parser.Lexer;
 import com.yggra.parser.Parser;
 import com.yggra.parser.Token;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
 import java.util.List;
 
 public class TestingPerformance {
@@ -292,6 +294,45 @@ public class TestingPerformance {
         printStats(times);
     }
 
+    // ⚔️ Reading the Runes: Parse a mix of statements with a fresh Parser each time, then with one Parser reset onto each
+
+    private static void benchmarkParse() {
+        String[] statements = {
+                "SELECT name, gold FROM warriors WHERE gold >= 10 AND name <> 'Loki' LIMIT 5;",
+                "INSERT INTO warriors (id, name, gold) VALUES (1, 'Thor', 99), (2, 'Sif', 42);",
+                "UPDATE warriors SET gold = 7 WHERE id = 3;",
+                "DELETE FROM warriors WHERE gold < 1;",
+                "CREATE TABLE warriors (id INT, name VARCHAR(255), gold INT);",
+        };
+        int runs = 200_000;
+        Lexer lexer = new Lexer();
+        List<List<Token>> tokens = new ArrayList<>();
+        for (String sql : statements) {
+            tokens.add(lexer.tokenize(sql));
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Parser reused = new Parser();
+        for (int round = 0; round < 2; round++) { // 🔥 the first round only warms the JIT
+            for (boolean reuse : new boolean[]{false, true}) {
+                long bytes = threads.getCurrentThreadAllocatedBytes();
+                long startTime = System.nanoTime();
+                for (int i = 0; i < runs; i++) {
+                    List<Token> statement = tokens.get(i % tokens.size());
+                    SQLCommand command = reuse ? reused.reset(statement).parseStatement() : new Parser(statement).parseStatement();
+                    if (command == null) {
+                        throw new IllegalStateException();
+                    }
+                }
+                long elapsed = System.nanoTime() - startTime;
+                long allocated = threads.getCurrentThreadAllocatedBytes() - bytes;
+                if (round == 1) {
+                    System.out.println("⚔️ Benchmark: PARSE (" + (reuse ? "one Parser, reset" : "new Parser per statement") + ")");
+                    System.out.printf("Per statement: %.1f ns, %d bytes allocated\n\n", elapsed / (double) runs, allocated / runs);
+                }
+            }
+        }
+    }
+
     // ⚔️ Marching to War: Initialize the battlefield and launch the performance benchmarking campaign
 
     public static void main(String[] args) {
@@ -314,5 +355,6 @@ public class TestingPerformance {
 //        benchmarkModifyColumn(executor);
 //        benchmarkSetDefault(executor);
 //        benchmarkDropDefault(executor);
+//        benchmarkParse();
     }
 }
\ No newline at end of file
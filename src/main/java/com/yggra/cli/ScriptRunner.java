@@ -0,0 +1,262 @@
+package com.yggra.cli;
+
+import com.yggra.commands.SQLCommand;
+import com.yggra.executor.SQLExecutor;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 📜 [RUNIC INSCRIPTION] 📜
+ * The Skald — recites a whole SQL script (`Main --file dump.sql`, or `SOURCE dump.sql` at the prompt).
+ * ⚡ Pipeline:
+ *  1. The file is memory-mapped a window at a time and split into statements at every `;` outside a quoted literal.
+ *     A statement cut by the end of a window is read again from the start of the next one.
+ *  2. Statements are gathered into batches; worker threads lex and parse each batch straight from the mapped bytes.
+ *  3. The calling thread executes the parsed batches strictly in script order, while the workers parse ahead of it.
+ * A failing statement is reported with its number and the script goes on, as at the prompt.
+ * Parsing is thereby taken off the executing thread, so a restore is bound by its inserts.
+ */
+
+public final class ScriptRunner implements AutoCloseable {
+
+    // 🗺️ How much of the file is mapped at once by default; no single statement may be longer
+    private static final long WINDOW = 1L << 28;
+
+    // 📦 Statements handed to a worker at a time
+    private static final int BATCH = 256;
+
+    // 🐍 How deeply scripts may SOURCE one another before the saga is judged endless
+    private static final int MAX_DEPTH = 16;
+
+    // 🧾 One statement as a worker left it: a command, a script to SOURCE, or the error that stopped it
+    private record Parsed(SQLCommand command, Path source, RuntimeException error) {
+    }
+
+    private final SQLExecutor executor;
+    private final ExecutorService parsers;
+    private final int ahead; // batches parsed ahead of the one executing
+    private final long window;
+
+    /**
+     * @param executor Executes the statements — the REPL's own, so PREPAREd statements are shared with it
+     */
+
+    public ScriptRunner(SQLExecutor executor) {
+        this(executor, WINDOW);
+    }
+
+    ScriptRunner(SQLExecutor executor, long window) {
+        this.executor = executor;
+        this.window = window;
+        int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.parsers = Executors.newFixedThreadPool(workers, task -> {
+            Thread thread = new Thread(task, "yggra-skald");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ahead = 2 * workers;
+    }
+
+    /**
+     * ⚔️ Executes every statement of a script, in order.
+     *
+     * @param file The script
+     * @return The number of statements that failed
+     * @throws RuntimeException if the file cannot be read, or holds a statement longer than a mapped window
+     */
+
+    public int run(Path file) {
+        return run(file, 0);
+    }
+
+    private int run(Path file, int depth) {
+        if (depth >= MAX_DEPTH) {
+            throw new RuntimeException("🐍 [ENDLESS SAGA] Scripts SOURCE one another more than " + MAX_DEPTH + " deep — is '" + file + "' sourcing itself?");
+        }
+        long started = System.nanoTime();
+        ArrayDeque<Future<List<Parsed>>> pending = new ArrayDeque<>();
+        int[] counts = new int[2]; // statements executed, statements failed
+        Path directory = file.toAbsolutePath().getParent();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long offset = 0;
+            List<ByteBuffer> batch = new ArrayList<>(BATCH);
+            while (offset < size) {
+                long length = Math.min(window, size - offset);
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                int statement = 0;
+                boolean quoted = false;
+                for (int i = 0; i < length; i++) {
+                    byte b = mapped.get(i);
+                    if (b == '\'') {
+                        quoted = !quoted; // a doubled quote inside a literal flips twice
+                    } else if (b == ';' && !quoted) {
+                        if (!isBlank(mapped, statement, i)) {
+                            batch.add(mapped.slice(statement, i + 1 - statement));
+                        }
+                        statement = i + 1;
+                        if (batch.size() == BATCH) {
+                            pending.add(parse(batch, directory));
+                            batch = new ArrayList<>(BATCH);
+                            while (pending.size() > ahead) {
+                                execute(pending.poll(), file, counts, depth);
+                            }
+                        }
+                    }
+                }
+                if (offset + length == size) {
+                    if (!isBlank(mapped, statement, (int) length)) {
+                        batch.add(mapped.slice(statement, (int) length - statement)); // 🪶 a trailing statement without its ';' is left for the parser to judge
+                    }
+                    break;
+                }
+                if (statement == 0) {
+                    throw new RuntimeException("🗺️ [SCROLL TOO LONG] A statement of '" + file + "' near byte " + offset
+                            + " runs longer than " + window + " bytes — split it.");
+                }
+                offset += statement;
+            }
+            if (!batch.isEmpty()) {
+                pending.add(parse(batch, directory));
+            }
+            while (!pending.isEmpty()) {
+                execute(pending.poll(), file, counts, depth);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("📜 [SCROLL UNREADABLE] The script '" + file + "' cannot be read: " + e.getMessage());
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+
+        System.out.println("📜 [SAGA RECITED] " + counts[0] + " statements of '" + file + "' in "
+                + (System.nanoTime() - started) * 0.000001 + " ms" + (counts[1] > 0 ? " — " + counts[1] + " failed" : ""));
+        return counts[1];
+    }
+
+    // 🔨 A worker's task: lex and parse a batch, keeping each statement's error for its turn to execute
+    private Future<List<Parsed>> parse(List<ByteBuffer> batch, Path directory) {
+        return parsers.submit(() -> {
+            Lexer lexer = new Lexer();
+            Parser parser = new Parser();
+            List<Parsed> parsed = new ArrayList<>(batch.size());
+            for (ByteBuffer statement : batch) {
+                try {
+                    String source = sourcePath(statement);
+                    if (source != null) {
+                        parsed.add(new Parsed(null, directory.resolve(source), null));
+                    } else {
+                        parsed.add(new Parsed(parser.reset(lexer.tokenize(statement)).parseStatement(), null, null));
+                    }
+                } catch (RuntimeException e) {
+                    parsed.add(new Parsed(null, null, e));
+                }
+            }
+            return parsed;
+        });
+    }
+
+    // ⚔️ Executes a parsed batch once its worker is done with it
+    private void execute(Future<List<Parsed>> future, Path file, int[] counts, int depth) {
+        List<Parsed> batch;
+        try {
+            batch = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("📜 [SAGA INTERRUPTED] The recital of '" + file + "' was interrupted.");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("📜 [SAGA BROKEN] A worker fell while parsing '" + file + "': " + e.getCause());
+        }
+        for (Parsed statement : batch) {
+            int number = ++counts[0];
+            try {
+                if (statement.error != null) {
+                    throw statement.error;
+                }
+                if (statement.source != null) {
+                    counts[1] += run(statement.source, depth + 1);
+                } else {
+                    executor.execute(statement.command);
+                }
+            } catch (RuntimeException e) {
+                counts[1]++;
+                System.out.println("⚠️ Error in statement " + number + " of '" + file + "': " + e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isBlank(ByteBuffer window, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = window.get(i);
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r' && b != '\f') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 📂 The path named by a `SOURCE <path>` statement, or null for any other statement
+    private static String sourcePath(ByteBuffer statement) {
+        int i = 0;
+        int n = statement.limit();
+        while (i < n && Character.isWhitespace(statement.get(i))) {
+            i++;
+        }
+        String keyword = "SOURCE";
+        if (n - i <= keyword.length() || !Character.isWhitespace(statement.get(i + keyword.length()))) {
+            return null;
+        }
+        for (int k = 0; k < keyword.length(); k++) {
+            if (Character.toUpperCase(statement.get(i + k)) != keyword.charAt(k)) {
+                return null;
+            }
+        }
+        byte[] text = new byte[n];
+        statement.get(0, text);
+        return sourcePath(new String(text, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 📂 The path named by a `SOURCE <path>` command, as typed at the prompt or in a script.
+     * The path may be quoted, and a closing `;` is optional.
+     *
+     * @return The path, or null if the line is not a SOURCE command
+     */
+
+    public static String sourcePath(String line) {
+        String text = line.trim();
+        if (text.length() < 7 || !text.regionMatches(true, 0, "SOURCE", 0, 6) || !Character.isWhitespace(text.charAt(6))) {
+            return null;
+        }
+        String path = text.substring(7).trim();
+        if (path.endsWith(";")) {
+            path = path.substring(0, path.length() - 1).trim();
+        }
+        if (path.length() >= 2 && (path.startsWith("'") && path.endsWith("'") || path.startsWith("\"") && path.endsWith("\""))) {
+            path = path.substring(1, path.length() - 1);
+        }
+        if (path.isEmpty()) {
+            throw new RuntimeException("📂 [SCROLL UNNAMED] SOURCE demands the path of a script.");
+        }
+        return path;
+    }
+
+    @Override
+    public void close() {
+        parsers.shutdownNow();
+    }
+}
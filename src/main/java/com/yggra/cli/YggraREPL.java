@@ -6,6 +6,7 @@ import com.yggra.models.DatabaseManager;
 import com.yggra.parser.Parser;
 import com.yggra.parser.Token;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Scanner;
 
@@ -24,6 +25,8 @@ public class YggraREPL {
     private final Scanner sc;
     // 📜 Lexer – the runic transcriber
     private final Lexer lexer;
+    // 🗺️ Parser – reset onto each statement rather than forged anew
+    private final Parser parser;
     // ⚔️ Executor – the sword that enacts divine will
     private final SQLExecutor executor;
 
@@ -34,6 +37,7 @@ public class YggraREPL {
 
         this.sc = new Scanner(System.in);
         this.lexer = new Lexer();
+        this.parser = new Parser();
         this.executor = new SQLExecutor();
     }
 
@@ -62,12 +66,26 @@ public class YggraREPL {
                     break;
                 }
 
+                // 📜 SOURCE <file> recites a whole script through the same executor
+                String script = ScriptRunner.sourcePath(input);
+                if (script != null) {
+                    try (ScriptRunner runner = new ScriptRunner(executor)) {
+                        runner.run(Path.of(script));
+                    }
+                    continue;
+                }
+
                 // 🔍 LEX → 📜 PARSE → ⚡ EXECUTE
+                // 🗃️ SELECTs and INSERTs go through the statement cache, skipping LEX and PARSE for known shapes
 
                 else {
+                    long cachedStart = System.nanoTime();
+                    if (executor.executeCached(input)) {
+                        System.out.println("⏱️ Execution time: " + (System.nanoTime() - cachedStart) * 0.000001 + " ms");
+                        continue;
+                    }
                     ArrayList<Token> tokens = lexer.tokenize(input);
-                    Parser parser = new Parser(tokens);
-                    SQLCommand command = parser.parse();
+                    SQLCommand command = parser.reset(tokens).parse();
                     if (command != null) {
                         long startTime = System.nanoTime();
                         executor.execute(command);
@@ -0,0 +1,51 @@
+package com.yggra.commands;
+
+/**
+ * 🧮 [RUNIC INSCRIPTION] 🧮
+ * One aggregate invocation from a SELECT list — the function and the column it folds.
+ * Example:
+ *   `SUM(gold)` → AggregateCall(SUM, "gold")
+ *   `COUNT(*)`  → AggregateCall(COUNT, null)
+ *   `COUNT(DISTINCT clan)` → AggregateCall(COUNT, "clan", true)
+ *   `APPROX_PERCENTILE(gold, 95)` → AggregateCall(APPROX_PERCENTILE, "gold", false, 95)
+ */
+
+public class AggregateCall {
+
+    // 🔮 Which aggregate rune is invoked
+    public final AggregateFunction function;
+
+    // 🏷️ The column being folded, or null for COUNT(*)
+    public final String columnName;
+
+    // 🔢 True when only distinct values are folded — COUNT(DISTINCT col)
+    public final boolean distinct;
+
+    // 🎯 The percentile asked of APPROX_PERCENTILE, 0 to 100 (-1 for every other function)
+    public final int percentile;
+
+    public AggregateCall(AggregateFunction function, String columnName) {
+        this(function, columnName, false);
+    }
+
+    public AggregateCall(AggregateFunction function, String columnName, boolean distinct) {
+        this(function, columnName, distinct, -1);
+    }
+
+    public AggregateCall(AggregateFunction function, String columnName, boolean distinct, int percentile) {
+        this.function = function;
+        this.columnName = columnName;
+        this.distinct = distinct;
+        this.percentile = percentile;
+    }
+
+    /**
+     * 🪞 Renders the call the way it was written, used as the result column header.
+     */
+
+    @Override
+    public String toString() {
+        return function + "(" + (distinct ? "DISTINCT " : "") + (columnName == null ? "*" : columnName)
+                + (percentile >= 0 ? ", " + percentile : "") + ")";
+    }
+}
@@ -0,0 +1,34 @@
+package com.yggra.commands;
+
+/**
+ * 🧮 [RUNIC INSCRIPTION] 🧮
+ * The aggregate runes a SELECT may invoke to fold an entire table into a single answer.
+ * They are recognised by name in the SELECT list, e.g. `SELECT COUNT(*), SUM(gold) FROM vault;`
+ * The APPROX_ runes trade exactness for constant memory: APPROX_COUNT_DISTINCT(col) estimates distinct values,
+ * APPROX_PERCENTILE(col, p) the value at the p-th percentile (0-100) of an INT column.
+ */
+
+public enum AggregateFunction {
+    COUNT, SUM, MIN, MAX, AVG, APPROX_COUNT_DISTINCT, APPROX_PERCENTILE;
+
+    // 🔮 Whether the rune estimates from a sketch rather than counting exactly
+    public boolean isApproximate() {
+        return this == APPROX_COUNT_DISTINCT || this == APPROX_PERCENTILE;
+    }
+
+    /**
+     * 🔎 Resolves a (case-insensitive) function name into its rune, or null if the name is not an aggregate.
+     *
+     * @param name The identifier spoken before '('
+     * @return The matching AggregateFunction, or null
+     */
+
+    public static AggregateFunction fromName(String name) {
+        for (AggregateFunction function : values()) {
+            if (function.name().equalsIgnoreCase(name)) {
+                return function;
+            }
+        }
+        return null;
+    }
+}
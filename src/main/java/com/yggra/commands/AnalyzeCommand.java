@@ -0,0 +1,21 @@
+package com.yggra.commands;
+
+/**
+ * 📊 [RUNIC INSCRIPTION] 📊
+ * ANALYZE — asks the Norns to measure a table: its row count and, per column, the NULL fraction,
+ * the number of distinct values and the spread of values.
+ * The planner reads these measurements to choose join orders and algorithms.
+ * Example:
+ *   ANALYZE TABLE warriors;
+ *   ANALYZE warriors;
+ */
+
+public class AnalyzeCommand extends SQLCommand {
+
+    // 🏛️ The table to measure
+    public final String tableName;
+
+    public AnalyzeCommand(String tableName) {
+        this.tableName = tableName;
+    }
+}
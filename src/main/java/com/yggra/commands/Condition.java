@@ -0,0 +1,42 @@
+package com.yggra.commands;
+
+import com.yggra.parser.TokenType;
+
+/**
+ * ⚖️ [RUNIC INSCRIPTION] ⚖️
+ * A single judgment carved into a WHERE clause — a column, a comparison rune, and a literal.
+ * Example:
+ *   In `SELECT id FROM user WHERE age > 18;` → Condition("age", GREATER_THAN, 18)
+ * Several conditions joined with AND are carried as a list; a row must pass every one of them.
+ */
+
+public class Condition {
+
+    // 🏷️ The column whose value is judged
+    public final String columnName;
+
+    // 🔍 The comparison rune (EQUALS, NOT_EQUALS, LESS_THAN, LESS_THAN_EQUAL, GREATER_THAN, GREATER_THAN_EQUAL)
+    public final TokenType operator;
+
+    // 💎 The literal the column is measured against (NUMBER_LITERAL or STRING_LITERAL)
+    public final ValueDefinition value;
+
+    /**
+     * ⚒️ [FORGING THE JUDGMENT] ⚒️
+     *
+     * @param columnName The column being judged
+     * @param operator   The comparison rune
+     * @param value      The literal on the right-hand side of the comparison
+     */
+
+    public Condition(String columnName, TokenType operator, ValueDefinition value) {
+        this.columnName = columnName;
+        this.operator = operator;
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return columnName + " " + operator + " " + value.value;
+    }
+}
@@ -0,0 +1,15 @@
+package com.yggra.commands;
+
+/**
+ * 📦 [RUNIC INSCRIPTION] 📦
+ * The file formats COPY reads and writes.
+ *  - CSV: fields split by the delimiter (',' unless told otherwise); a field in double quotes may hold
+ *    the delimiter, newlines and doubled quotes ("")
+ *  - TSV: fields split by tabs, taken exactly as written — no quoting
+ *  - JSONL: one JSON object per row, keyed by column name (written only)
+ *  - BINARY: YggraDB's own columnar file, read back at little more than the cost of copying its bytes
+ */
+
+public enum CopyFormat {
+    CSV, TSV, JSONL, BINARY
+}
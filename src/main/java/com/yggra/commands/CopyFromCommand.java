@@ -0,0 +1,27 @@
+package com.yggra.commands;
+
+/**
+ * 📥 [RUNIC INSCRIPTION] 📥
+ * COPY ... FROM — bulk-loads a delimited file into a table, one line per row and one field per column,
+ * in the table's column order. The rows are appended all at once, or not at all.
+ * Example:
+ *   COPY warriors FROM 'warriors.csv' WITH (HEADER);
+ */
+
+public class CopyFromCommand extends SQLCommand {
+
+    // 🏛️ The table receiving the rows
+    public final String tableName;
+
+    // 📂 The file to read
+    public final String path;
+
+    // ⚙️ How the file is laid out
+    public final CopyOptions options;
+
+    public CopyFromCommand(String tableName, String path, CopyOptions options) {
+        this.tableName = tableName;
+        this.path = path;
+        this.options = options;
+    }
+}
@@ -0,0 +1,36 @@
+package com.yggra.commands;
+
+/**
+ * ⚙️ [RUNIC INSCRIPTION] ⚙️
+ * The WITH (...) options of a COPY, in either direction.
+ * Example:
+ *   WITH (FORMAT CSV, HEADER, DELIMITER ';', NULL 'NA')
+ * Without options a file is CSV, has no header line, and an empty unquoted field is NULL.
+ */
+
+public class CopyOptions {
+
+    // 📦 How the file is laid out
+    public final CopyFormat format;
+
+    // 🏷️ Whether the first line names the columns rather than holding a row
+    public final boolean header;
+
+    // ✂️ The byte between fields
+    public final char delimiter;
+
+    // 🕳️ The unquoted field text that stands for NULL
+    public final String nullText;
+
+    public CopyOptions(CopyFormat format, boolean header, char delimiter, String nullText) {
+        this.format = format;
+        this.header = header;
+        this.delimiter = delimiter;
+        this.nullText = nullText;
+    }
+
+    // ⚙️ No WITH clause: CSV, no header, ',' between fields, empty fields NULL
+    public static CopyOptions defaults() {
+        return new CopyOptions(CopyFormat.CSV, false, ',', "");
+    }
+}
@@ -0,0 +1,26 @@
+package com.yggra.commands;
+
+/**
+ * 📤 [RUNIC INSCRIPTION] 📤
+ * COPY ... TO — exports every row of a table to a file, replacing whatever the file held.
+ * Example:
+ *   COPY warriors TO 'warriors.jsonl' FORMAT JSONL;
+ */
+
+public class CopyToCommand extends SQLCommand {
+
+    // 🏛️ The table whose rows are written
+    public final String tableName;
+
+    // 📂 The file to write
+    public final String path;
+
+    // ⚙️ How the file is laid out
+    public final CopyOptions options;
+
+    public CopyToCommand(String tableName, String path, CopyOptions options) {
+        this.tableName = tableName;
+        this.path = path;
+        this.options = options;
+    }
+}
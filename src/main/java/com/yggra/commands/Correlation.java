@@ -0,0 +1,29 @@
+package com.yggra.commands;
+
+/**
+ * 🔗 [RUNIC INSCRIPTION] 🔗
+ * A `column = column` condition inside a subquery's WHERE, tying the subquery to the row of the query around it.
+ * Example:
+ *   In `... WHERE EXISTS (SELECT * FROM weapons WHERE weapons.owner = warriors.id);`
+ *   → Correlation("weapons.owner", "warriors.id")
+ * The columns are kept as written; the planner decides which side belongs to the subquery and which to the outer query.
+ */
+
+public class Correlation {
+
+    // 🏷️ The column reference on the left of '='
+    public final String leftColumn;
+
+    // 🏷️ The column reference on the right of '='
+    public final String rightColumn;
+
+    public Correlation(String leftColumn, String rightColumn) {
+        this.leftColumn = leftColumn;
+        this.rightColumn = rightColumn;
+    }
+
+    @Override
+    public String toString() {
+        return leftColumn + " = " + rightColumn;
+    }
+}
@@ -0,0 +1,23 @@
+package com.yggra.commands;
+
+/**
+ * 🪞 [RUNIC INSCRIPTION] 🪞
+ * CREATE MATERIALIZED VIEW — stores the result of a single-table SELECT as a table of its own,
+ * kept current as rows are inserted into the source table.
+ * Example:
+ *   CREATE MATERIALIZED VIEW clan_gold AS SELECT clan, COUNT(*), SUM(gold) FROM warriors GROUP BY clan;
+ */
+
+public class CreateMaterializedViewCommand extends SQLCommand {
+
+    // 🏷️ The name the view is read by
+    public final String viewName;
+
+    // 🔍 The SELECT whose result the view holds
+    public final SelectCommand query;
+
+    public CreateMaterializedViewCommand(String viewName, SelectCommand query) {
+        this.viewName = viewName;
+        this.query = query;
+    }
+}
@@ -0,0 +1,25 @@
+package com.yggra.commands;
+
+import java.util.List;
+
+/**
+ * 🗡️ [RUNIC INSCRIPTION] 🗡️
+ * DELETE — removes every row that passes the WHERE.
+ * Example:
+ *   DELETE FROM warriors WHERE clan = 'Jotun';
+ * Without a WHERE every row falls, as with TRUNCATE.
+ */
+
+public class DeleteCommand extends SQLCommand {
+
+    // 🏺 The table rows are removed from
+    public final String tableName;
+
+    // ⚖️ The AND-joined WHERE conditions (empty when absent)
+    public final List<Condition> conditions;
+
+    public DeleteCommand(String tableName, List<Condition> conditions) {
+        this.tableName = tableName;
+        this.conditions = conditions;
+    }
+}
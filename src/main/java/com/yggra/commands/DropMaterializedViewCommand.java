@@ -0,0 +1,18 @@
+package com.yggra.commands;
+
+/**
+ * 🪞 [RUNIC INSCRIPTION] 🪞
+ * DROP MATERIALIZED VIEW — removes a view and stops its maintenance; the source table is untouched.
+ * Example:
+ *   DROP MATERIALIZED VIEW clan_gold;
+ */
+
+public class DropMaterializedViewCommand extends SQLCommand {
+
+    // 🏷️ The view to remove
+    public final String viewName;
+
+    public DropMaterializedViewCommand(String viewName) {
+        this.viewName = viewName;
+    }
+}
@@ -0,0 +1,24 @@
+package com.yggra.commands;
+
+import java.util.List;
+
+/**
+ * ⚡ [RUNIC INSCRIPTION] ⚡
+ * EXECUTE — runs a statement sealed by PREPARE, binding its `?` placeholders to the given values in order.
+ * Example:
+ *   EXECUTE find_warrior(7);
+ */
+
+public class ExecuteCommand extends SQLCommand {
+
+    // 🏷️ The name the statement was prepared under
+    public final String name;
+
+    // 🔮 One value per placeholder (numbers, strings, NULL or DEFAULT)
+    public final List<ValueDefinition> arguments;
+
+    public ExecuteCommand(String name, List<ValueDefinition> arguments) {
+        this.name = name;
+        this.arguments = arguments;
+    }
+}
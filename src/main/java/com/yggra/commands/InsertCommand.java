@@ -5,7 +5,7 @@ import java.util.List;
 /**
  * ⚔️ [RUNIC INSCRIPTION] ⚔️
  * The INSERT INTO command is a ritual offering to Yggra’s memory.
- * A single row is forged, with each value aligned to its destined column.
+ * One or more rows are forged — `VALUES (...), (...), ...` — with each value aligned to its destined column.
  * Columns may be given mortal values, divine defaults, or silence (NULL),
  * and the Executor shall judge what truly enters the eternal table.
  */
@@ -18,35 +18,35 @@ public class InsertCommand extends SQLCommand {
     // 📜 The chosen columns receiving the offerings
     public List<String> columns;
 
-    // 🔮 The raw offerings themselves — which may be:
+    // 🔮 The raw offerings themselves, one list per row — each value may be:
     //     - a literal value (e.g., 2, 'Kratos'),
     //     - the eternal void (NULL),
     //     - or the keyword DEFAULT, whose true meaning
     //       shall be unveiled by the Executor at runtime.
 
-    public List<ValueDefinition> values;
+    public List<List<ValueDefinition>> rows;
 
     /**
      * 🛠️ [FORGE OF OFFERINGS] 🛠️
      * Forges a new InsertCommand scroll, binding table name,
      * columns, and raw values into a single incantation.
      *
-     * @param tableName The name of the table receiving the row
+     * @param tableName The name of the table receiving the rows
      * @param columns The columns that shall be filled
-     * @param values The raw values (literal, NULL, or DEFAULT) awaiting judgment
+     * @param rows The raw values (literal, NULL, or DEFAULT) awaiting judgment, one list per row
      */
 
-    public InsertCommand(String tableName, List<String> columns, List<ValueDefinition> values) {
+    public InsertCommand(String tableName, List<String> columns, List<List<ValueDefinition>> rows) {
         this.tableName = tableName;
         this.columns = columns;
-        this.values = values;
+        this.rows = rows;
     }
 
     /**
      * 🔮 [SCRYING OF THE OFFERING] 🔮
      * Reveals the inner soul of this InsertCommand,
      * allowing mortals and gods alike to read
-     * which table shall receive the row,
+     * which table shall receive the rows,
      * which columns are touched,
      * and what raw offerings are made (literal, NULL, or DEFAULT).
      *
@@ -66,10 +66,13 @@ public class InsertCommand extends SQLCommand {
         }
 
         sb.append("VALUES\n");
-        for (ValueDefinition value : values) {
-            sb.append("  VALUE\n");
-            sb.append("    TYPE:").append(value.type).append("\n");
-            sb.append("    VALUE:").append(value.value).append("\n");
+        for (List<ValueDefinition> row : rows) {
+            sb.append("  ROW\n");
+            for (ValueDefinition value : row) {
+                sb.append("    VALUE\n");
+                sb.append("      TYPE:").append(value.type).append("\n");
+                sb.append("      VALUE:").append(value.value).append("\n");
+            }
         }
 
         return sb.toString();
@@ -0,0 +1,38 @@
+package com.yggra.commands;
+
+/**
+ * 🌉 [RUNIC INSCRIPTION] 🌉
+ * One `[INNER | LEFT [OUTER]] JOIN <table> ON <column> = <column>` clause of a SELECT.
+ * Example:
+ *   In `SELECT * FROM warriors JOIN weapons ON warriors.id = weapons.owner;`
+ *   → JoinClause(INNER, "weapons", "warriors.id", "weapons.owner")
+ * Column references may be qualified (`table.column`) or bare when the name is unambiguous;
+ * either side of the equality may name either table.
+ */
+
+public class JoinClause {
+
+    // 🌉 INNER or LEFT
+    public final JoinType type;
+
+    // 🏛️ The table being joined onto the rows built so far
+    public final String tableName;
+
+    // 🏷️ The column reference on the left of '='
+    public final String leftColumn;
+
+    // 🏷️ The column reference on the right of '='
+    public final String rightColumn;
+
+    public JoinClause(JoinType type, String tableName, String leftColumn, String rightColumn) {
+        this.type = type;
+        this.tableName = tableName;
+        this.leftColumn = leftColumn;
+        this.rightColumn = rightColumn;
+    }
+
+    @Override
+    public String toString() {
+        return type + " JOIN " + tableName + " ON " + leftColumn + " = " + rightColumn;
+    }
+}
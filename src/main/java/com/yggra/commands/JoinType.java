@@ -0,0 +1,12 @@
+package com.yggra.commands;
+
+/**
+ * 🌉 [RUNIC INSCRIPTION] 🌉
+ * The bridges a SELECT may build between two tables.
+ *  - INNER → only rows that find a partner on both sides cross the Bifrost.
+ *  - LEFT  → every row of the left side crosses; those without a partner carry NULLs for the right side.
+ */
+
+public enum JoinType {
+    INNER, LEFT
+}
@@ -0,0 +1,27 @@
+package com.yggra.commands;
+
+/**
+ * 📦 [RUNIC INSCRIPTION] 📦
+ * PREPARE — seals a statement under a name so it can be executed again and again without being
+ * lexed or parsed anew. Each `?` in the statement is a placeholder, bound by EXECUTE.
+ * Example:
+ *   PREPARE find_warrior AS SELECT name FROM warriors WHERE id = ?;
+ */
+
+public class PrepareCommand extends SQLCommand {
+
+    // 🏷️ The name EXECUTE will call the statement by
+    public final String name;
+
+    // 📜 The parsed statement, its placeholders still unbound
+    public final SQLCommand template;
+
+    // ❓ How many `?` placeholders the statement holds
+    public final int parameterCount;
+
+    public PrepareCommand(String name, SQLCommand template, int parameterCount) {
+        this.name = name;
+        this.template = template;
+        this.parameterCount = parameterCount;
+    }
+}
@@ -0,0 +1,12 @@
+package com.yggra.commands;
+
+/**
+ * 🎲 [RUNIC INSCRIPTION] 🎲
+ * How TABLESAMPLE chooses the rows it reads.
+ *  - SYSTEM picks whole blocks of neighbouring rows — the cheapest, but rows of a block rise or fall together.
+ *  - BERNOULLI picks each row on its own — an unbiased sample, at the cost of visiting every chosen row's neighbourhood.
+ */
+
+public enum SampleMethod {
+    SYSTEM, BERNOULLI
+}
@@ -1,5 +1,6 @@
 package com.yggra.commands;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -8,9 +9,15 @@ import java.util.List;
  * This class represents a parsed `SELECT` query in YggraDB.
  * It is created by the SQL parser and later executed by the SQL engine.
  * ⚡ Responsibilities:
- *  - Holds the name of the target table.
+ *  - Holds the name of the target table and the tables JOINed onto it.
  *  - Holds the list of columns requested by the query.
- *  - (Future) Will also carry filtering conditions (WHERE) and other modifiers.
+ *  - Holds the aggregate calls (COUNT, SUM, MIN, MAX, AVG) requested instead of (or, with GROUP BY, beside) columns.
+ *  - Holds the GROUP BY columns that split the rows into groups, each folded into one result row.
+ *  - Holds the window calls (ROW_NUMBER, RANK, COUNT/SUM/AVG OVER) that add one value to each returned row.
+ *  - Holds the filtering conditions (WHERE) that every returned row must satisfy, subquery conditions included.
+ *  - Holds the LIMIT / OFFSET window over the returned rows.
+ *  - Holds the DISTINCT flag that removes duplicate result rows.
+ *  - Holds the TABLESAMPLE clause that reads only a sample of the FROM table.
  */
 
 public class SelectCommand extends SQLCommand {
@@ -34,11 +41,89 @@ public class SelectCommand extends SQLCommand {
 
     public final List<String> columns;
 
-    // 🔮 Future expansion:
-    // public final List<Condition> conditions;
-    // Example:
-    //   In `SELECT id FROM user WHERE age > 18;`
-    //   conditions = [ Condition("age", ">", 18) ]
+    /**
+     * 🧮 The aggregates folded over the (filtered) table.
+     * Example:
+     *   In `SELECT COUNT(*), SUM(gold) FROM vault;` → aggregates = [COUNT(*), SUM(gold)]
+     * Empty when the query selects plain columns.
+     */
+
+    public final List<AggregateCall> aggregates;
+
+    /**
+     * ⚖️ The WHERE conditions, joined by AND.
+     * Example:
+     *   In `SELECT id FROM user WHERE age > 18;` → conditions = [ Condition("age", GREATER_THAN, 18) ]
+     * Empty when the query has no WHERE clause.
+     */
+
+    public final List<Condition> conditions;
+
+    /**
+     * 🪆 The WHERE conditions that consult a subquery, joined by AND with the plain conditions.
+     * Example:
+     *   In `SELECT id FROM user WHERE id IN (SELECT owner FROM weapons);` → subqueries = [ id IN (SELECT owner FROM weapons) ]
+     * Empty when the WHERE clause holds no subquery.
+     */
+
+    public final List<SubqueryCondition> subqueries;
+
+    /**
+     * 🌉 The JOIN clauses applied, in order, onto the table named in FROM.
+     * Example:
+     *   In `SELECT * FROM a JOIN b ON a.id = b.a_id;` → joins = [ JoinClause(INNER, "b", "a.id", "b.a_id") ]
+     * Empty when the query reads a single table.
+     */
+
+    public final List<JoinClause> joins;
+
+    /**
+     * ✂️ The LIMIT — the most rows to return, or -1 when the query has no LIMIT.
+     * Example:
+     *   In `SELECT * FROM user LIMIT 10 OFFSET 20;` → limit = 10
+     */
+
+    public final long limit;
+
+    /**
+     * ✂️ The OFFSET — how many leading rows to skip (0 when absent).
+     * Example:
+     *   In `SELECT * FROM user LIMIT 10 OFFSET 20;` → offset = 20
+     */
+
+    public final long offset;
+
+    /**
+     * 🔢 True for `SELECT DISTINCT ...` — duplicate result rows are returned only once.
+     */
+
+    public final boolean distinct;
+
+    /**
+     * 🗂️ The GROUP BY columns — rows sharing their values are folded into one result row.
+     * Example:
+     *   In `SELECT clan, COUNT(*) FROM warriors GROUP BY clan;` → groupBy = ["clan"]
+     * Empty when the query has no GROUP BY.
+     */
+
+    public final List<String> groupBy;
+
+    /**
+     * 🪟 The window calls — each appends one value per row, computed over the row's window.
+     * Example:
+     *   In `SELECT id, ROW_NUMBER() OVER (ORDER BY id) FROM user;` → windows = [ROW_NUMBER() OVER (ORDER BY id)]
+     * Empty when the query has no OVER clause.
+     */
+
+    public final List<WindowCall> windows;
+
+    /**
+     * 🎲 The TABLESAMPLE clause on the FROM table, or null when the whole table is read.
+     * Example:
+     *   In `SELECT * FROM user TABLESAMPLE BERNOULLI (10);` → sample = TableSample(BERNOULLI, 10.0, null)
+     */
+
+    public final TableSample sample;
 
     /**
      * 🏗️ Constructs a new SELECT command representation.
@@ -48,7 +133,128 @@ public class SelectCommand extends SQLCommand {
      */
 
     public SelectCommand(String tableName, List<String> columns) {
+        this(tableName, columns, List.of(), List.of());
+    }
+
+    /**
+     * 🏗️ Constructs a single-table SELECT command carrying aggregates and WHERE conditions.
+     */
+
+    public SelectCommand(String tableName, List<String> columns, List<AggregateCall> aggregates, List<Condition> conditions) {
+        this(tableName, List.of(), columns, aggregates, conditions);
+    }
+
+    /**
+     * 🏗️ Constructs a SELECT command carrying joins, aggregates and WHERE conditions.
+     *
+     * @param tableName  The target table from which to fetch rows.
+     * @param joins      The JOIN clauses applied onto the FROM table (empty when absent).
+     * @param columns    The specific columns requested in the query (empty when aggregating).
+     * @param aggregates The aggregate calls requested in the query (empty when projecting columns).
+     * @param conditions The AND-joined WHERE conditions (empty when absent).
+     */
+
+    public SelectCommand(String tableName, List<JoinClause> joins, List<String> columns, List<AggregateCall> aggregates, List<Condition> conditions) {
+        this(tableName, joins, columns, aggregates, conditions, -1, 0);
+    }
+
+    /**
+     * 🏗️ Constructs a SELECT command carrying joins, aggregates, WHERE conditions and a LIMIT window.
+     */
+
+    public SelectCommand(String tableName, List<JoinClause> joins, List<String> columns, List<AggregateCall> aggregates,
+                         List<Condition> conditions, long limit, long offset) {
+        this(tableName, false, joins, columns, aggregates, conditions, limit, offset);
+    }
+
+    /**
+     * 🏗️ Constructs a SELECT command carrying every clause, including LIMIT and OFFSET.
+     *
+     * @param tableName  The target table from which to fetch rows.
+     * @param distinct   True for SELECT DISTINCT.
+     * @param joins      The JOIN clauses applied onto the FROM table (empty when absent).
+     * @param columns    The specific columns requested in the query (empty when aggregating).
+     * @param aggregates The aggregate calls requested in the query (empty when projecting columns).
+     * @param conditions The AND-joined WHERE conditions (empty when absent).
+     * @param limit      The most rows to return (-1 for no LIMIT).
+     * @param offset     The number of leading rows to skip (0 for no OFFSET).
+     */
+
+    public SelectCommand(String tableName, boolean distinct, List<JoinClause> joins, List<String> columns, List<AggregateCall> aggregates,
+                         List<Condition> conditions, long limit, long offset) {
+        this(tableName, distinct, joins, columns, aggregates, conditions, List.of(), limit, offset);
+    }
+
+    /**
+     * 🏗️ Constructs a SELECT command carrying every clause, GROUP BY included.
+     *
+     * @param groupBy The GROUP BY columns (empty when absent); every plain column must be among them.
+     */
+
+    public SelectCommand(String tableName, boolean distinct, List<JoinClause> joins, List<String> columns, List<AggregateCall> aggregates,
+                         List<Condition> conditions, List<String> groupBy, long limit, long offset) {
+        this(tableName, distinct, joins, columns, aggregates, List.of(), conditions, groupBy, limit, offset);
+    }
+
+    /**
+     * 🏗️ Constructs a SELECT command carrying every clause, window calls included.
+     *
+     * @param windows The window calls (empty when absent); they cannot be mixed with aggregates or GROUP BY.
+     */
+
+    public SelectCommand(String tableName, boolean distinct, List<JoinClause> joins, List<String> columns, List<AggregateCall> aggregates,
+                         List<WindowCall> windows, List<Condition> conditions, List<String> groupBy, long limit, long offset) {
+        this(tableName, null, distinct, joins, columns, aggregates, windows, conditions, groupBy, limit, offset);
+    }
+
+    /**
+     * 🏗️ Constructs a SELECT command carrying every clause, TABLESAMPLE included.
+     *
+     * @param sample The TABLESAMPLE clause on the FROM table (null when absent).
+     */
+
+    public SelectCommand(String tableName, TableSample sample, boolean distinct, List<JoinClause> joins, List<String> columns,
+                         List<AggregateCall> aggregates, List<WindowCall> windows, List<Condition> conditions,
+                         List<String> groupBy, long limit, long offset) {
+        this(tableName, sample, distinct, joins, columns, aggregates, windows, conditions, List.of(), groupBy, limit, offset);
+    }
+
+    /**
+     * 🏗️ Constructs a SELECT command carrying every clause, subquery conditions included.
+     *
+     * @param subqueries The WHERE conditions that consult a subquery (empty when absent).
+     */
+
+    public SelectCommand(String tableName, TableSample sample, boolean distinct, List<JoinClause> joins, List<String> columns,
+                         List<AggregateCall> aggregates, List<WindowCall> windows, List<Condition> conditions,
+                         List<SubqueryCondition> subqueries, List<String> groupBy, long limit, long offset) {
         this.tableName = tableName;
+        this.sample = sample;
+        this.subqueries = subqueries;
+        this.windows = windows;
+        this.groupBy = groupBy;
+        this.distinct = distinct;
+        this.limit = limit;
+        this.offset = offset;
+        this.joins = joins;
         this.columns = columns;
+        this.aggregates = aggregates;
+        this.conditions = conditions;
+    }
+
+    /**
+     * 🏛️ Every table the statement reads: the FROM table, each JOINed table, then the tables of its subqueries.
+     */
+
+    public List<String> tableNames() {
+        List<String> names = new ArrayList<>();
+        names.add(tableName);
+        for (JoinClause join : joins) {
+            names.add(join.tableName);
+        }
+        for (SubqueryCondition subquery : subqueries) {
+            names.addAll(subquery.query.tableNames());
+        }
+        return names;
     }
 }
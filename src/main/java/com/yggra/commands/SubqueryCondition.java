@@ -0,0 +1,40 @@
+package com.yggra.commands;
+
+import com.yggra.parser.TokenType;
+
+import java.util.List;
+
+/**
+ * 🪆 [RUNIC INSCRIPTION] 🪆
+ * A WHERE condition that consults a subquery — IN, EXISTS or a scalar comparison, each optionally correlated.
+ * Example:
+ *   In `SELECT name FROM warriors WHERE gold > (SELECT AVG(gold) FROM warriors);`
+ *   → SubqueryCondition(SCALAR, "gold", GREATER_THAN, SELECT AVG(gold) FROM warriors, [])
+ * Like plain conditions, subquery conditions are joined by AND; a row must pass every one of them.
+ */
+
+public class SubqueryCondition {
+
+    // 🪆 IN, NOT IN, EXISTS, NOT EXISTS or a scalar comparison
+    public final SubqueryKind kind;
+
+    // 🏷️ The outer column being judged, or null for [NOT] EXISTS
+    public final String columnName;
+
+    // 🔍 The comparison rune of a scalar subquery (EQUALS for IN and NOT IN, null for [NOT] EXISTS)
+    public final TokenType operator;
+
+    // 🔍 The subquery itself, its correlations removed from its WHERE
+    public final SelectCommand query;
+
+    // 🔗 The `column = column` conditions tying the subquery to the outer row (empty when uncorrelated)
+    public final List<Correlation> correlations;
+
+    public SubqueryCondition(SubqueryKind kind, String columnName, TokenType operator, SelectCommand query, List<Correlation> correlations) {
+        this.kind = kind;
+        this.columnName = columnName;
+        this.operator = operator;
+        this.query = query;
+        this.correlations = correlations;
+    }
+}
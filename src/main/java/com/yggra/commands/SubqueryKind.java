@@ -0,0 +1,13 @@
+package com.yggra.commands;
+
+/**
+ * 🪆 [RUNIC INSCRIPTION] 🪆
+ * The ways a WHERE clause may consult a subquery.
+ *  - IN / NOT_IN: `col [NOT] IN (SELECT c FROM ...)` — is the value among the subquery's?
+ *  - EXISTS / NOT_EXISTS: `[NOT] EXISTS (SELECT ... FROM ...)` — does the subquery find any row?
+ *  - SCALAR: `col <op> (SELECT AVG(c) FROM ...)` — compare with the subquery's single value.
+ */
+
+public enum SubqueryKind {
+    IN, NOT_IN, EXISTS, NOT_EXISTS, SCALAR
+}
@@ -0,0 +1,32 @@
+package com.yggra.commands;
+
+/**
+ * 🎲 [RUNIC INSCRIPTION] 🎲
+ * A `TABLESAMPLE {SYSTEM | BERNOULLI} (n [PERCENT]) [REPEATABLE (seed)]` clause on a SELECT's FROM table.
+ * Example:
+ *   In `SELECT * FROM events TABLESAMPLE SYSTEM (0.5 PERCENT);` → TableSample(SYSTEM, 0.5, null)
+ * Each execution draws a fresh sample, unless a REPEATABLE seed fixes it.
+ */
+
+public class TableSample {
+
+    // 🎲 Block or row granularity
+    public final SampleMethod method;
+
+    // 📏 The share of the table to read, in percent (0 to 100)
+    public final double percent;
+
+    // 🌱 The REPEATABLE seed, or null for a fresh sample on every execution
+    public final Long seed;
+
+    public TableSample(SampleMethod method, double percent, Long seed) {
+        this.method = method;
+        this.percent = percent;
+        this.seed = seed;
+    }
+
+    @Override
+    public String toString() {
+        return "TABLESAMPLE " + method + " (" + percent + " PERCENT)" + (seed == null ? "" : " REPEATABLE (" + seed + ")");
+    }
+}
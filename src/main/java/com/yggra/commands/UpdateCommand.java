@@ -0,0 +1,33 @@
+package com.yggra.commands;
+
+import java.util.List;
+
+/**
+ * 🔨 [RUNIC INSCRIPTION] 🔨
+ * UPDATE — overwrites chosen columns of every row that passes the WHERE, in place.
+ * Example:
+ *   UPDATE warriors SET gold = 0, clan = 'Vanir' WHERE id >= 10;
+ * Without a WHERE every row of the table is reforged.
+ */
+
+public class UpdateCommand extends SQLCommand {
+
+    // 🏺 The table whose rows are reforged
+    public final String tableName;
+
+    // 📜 The SET columns, in the order they were written
+    public final List<String> columns;
+
+    // 🔮 One new value per SET column — a literal, NULL, DEFAULT or a ? placeholder
+    public final List<ValueDefinition> values;
+
+    // ⚖️ The AND-joined WHERE conditions (empty when absent)
+    public final List<Condition> conditions;
+
+    public UpdateCommand(String tableName, List<String> columns, List<ValueDefinition> values, List<Condition> conditions) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.values = values;
+        this.conditions = conditions;
+    }
+}
@@ -0,0 +1,21 @@
+package com.yggra.commands;
+
+/**
+ * 🧹 [RUNIC INSCRIPTION] 🧹
+ * VACUUM — sweeps a table's storage: rows left out of column order by ADD/DROP COLUMN are rewritten,
+ * the values of dropped columns are let go, and DELETEd rows still tombstoned are cut out.
+ * What queries see is unchanged; only how the rows are stored.
+ * Example:
+ *   VACUUM TABLE warriors;
+ *   VACUUM warriors;
+ */
+
+public class VacuumCommand extends SQLCommand {
+
+    // 🏛️ The table to sweep
+    public final String tableName;
+
+    public VacuumCommand(String tableName) {
+        this.tableName = tableName;
+    }
+}
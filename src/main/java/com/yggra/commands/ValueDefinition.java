@@ -12,10 +12,14 @@ import com.yggra.parser.TokenType;
 public class ValueDefinition {
 
     // 🔮 The type rune — INT, VARCHAR, etc. — revealing the nature of this value
-    public TokenType type;
+    public final TokenType type;
 
     // 📦 The actual value, as spoken by the mortal issuing the SQL command
-    public String value;
+    public final String value;
+
+    // ⚙️ The literal converted once, when it was read: an Integer for a number (a Long past INT's bounds),
+    //    the text itself for a string, null for anything else — so no INSERT reads the digits again
+    public final Object constant;
 
 
     /**
@@ -26,8 +30,21 @@ public class ValueDefinition {
      */
 
     public ValueDefinition(TokenType type, String value) {
+        this(type, value, constantOf(type, value));
+    }
+
+    /**
+     * ✨ [ESSENCE BINDING] ✨
+     * Binds a value already typed in Java (e.g. a prepared statement's argument), keeping it as the constant.
+     * @param type     The type rune (NUMBER_LITERAL, STRING_LITERAL, NULL)
+     * @param value    The value as SQL would spell it
+     * @param constant The value itself
+     */
+
+    public ValueDefinition(TokenType type, String value, Object constant) {
         this.type = type;
         this.value = value;
+        this.constant = constant;
     }
 
     /**
@@ -43,7 +60,26 @@ public class ValueDefinition {
      */
 
     public ValueDefinition(TokenType type) {
-        this.type = type;
+        this(type, null, null);
+    }
+
+    // ⚙️ Reads a literal's text once; a number past even a long's bounds is left for the column to reject
+    private static Object constantOf(TokenType type, String value) {
+        if (type == TokenType.STRING_LITERAL) {
+            return value;
+        }
+        if (type != TokenType.NUMBER_LITERAL || value == null) {
+            return null;
+        }
+        try {
+            long number = Long.parseLong(value);
+            if (number == (int) number) {
+                return (int) number;
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     /**
@@ -0,0 +1,107 @@
+package com.yggra.commands;
+
+import java.util.List;
+
+/**
+ * 🪟 [RUNIC INSCRIPTION] 🪟
+ * One window invocation from a SELECT list — the function, the column it reads, and the window it looks through.
+ * Example:
+ *   `ROW_NUMBER() OVER (PARTITION BY clan ORDER BY gold DESC)`
+ *       → WindowCall(ROW_NUMBER, null, ["clan"], ["gold"], [true], ...)
+ *   `SUM(gold) OVER (ORDER BY id ROWS BETWEEN 2 PRECEDING AND CURRENT ROW)`
+ *       → WindowCall(SUM, "gold", [], ["id"], [false], -2, 0)
+ * ⚡ Frames:
+ *  - A frame is a range of rows around the current one within its partition, given as offsets:
+ *    -2 is two rows back, 0 the current row, {@link #UNBOUNDED_PRECEDING}/{@link #UNBOUNDED_FOLLOWING} the partition's ends.
+ *  - Without a ROWS clause the frame runs from the partition's start to the current row when the window
+ *    is ordered, and over the whole partition when it is not.
+ */
+
+public class WindowCall {
+
+    public static final long UNBOUNDED_PRECEDING = Long.MIN_VALUE;
+    public static final long UNBOUNDED_FOLLOWING = Long.MAX_VALUE;
+
+    // 🔮 Which window rune is invoked
+    public final WindowFunction function;
+
+    // 🏷️ The column being read, or null for ROW_NUMBER, RANK and COUNT(*)
+    public final String columnName;
+
+    // 🗂️ PARTITION BY columns (empty — the whole result is one partition)
+    public final List<String> partitionBy;
+
+    // 📐 ORDER BY columns within each partition, and whether each one descends
+    public final List<String> orderBy;
+    public final List<Boolean> descending;
+
+    // 🖼️ The frame's first and last row, as offsets from the current row
+    public final long frameStart;
+    public final long frameEnd;
+
+    public WindowCall(WindowFunction function, String columnName, List<String> partitionBy,
+                      List<String> orderBy, List<Boolean> descending, long frameStart, long frameEnd) {
+        this.function = function;
+        this.columnName = columnName;
+        this.partitionBy = partitionBy;
+        this.orderBy = orderBy;
+        this.descending = descending;
+        this.frameStart = frameStart;
+        this.frameEnd = frameEnd;
+    }
+
+    /**
+     * 🤝 Whether two calls look through the same window — same partitions, same order — and so can share one sort.
+     */
+
+    public boolean sharesWindowWith(WindowCall other) {
+        return partitionBy.equals(other.partitionBy) && orderBy.equals(other.orderBy) && descending.equals(other.descending);
+    }
+
+    /**
+     * 🪞 Renders the call the way it was written, used as the result column header.
+     */
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(function.name()).append('(');
+        if (!function.isRanking()) {
+            text.append(columnName == null ? "*" : columnName);
+        }
+        text.append(") OVER (");
+        String separator = "";
+        if (!partitionBy.isEmpty()) {
+            text.append("PARTITION BY ").append(String.join(", ", partitionBy));
+            separator = " ";
+        }
+        if (!orderBy.isEmpty()) {
+            text.append(separator).append("ORDER BY ");
+            for (int i = 0; i < orderBy.size(); i++) {
+                text.append(i == 0 ? "" : ", ").append(orderBy.get(i)).append(descending.get(i) ? " DESC" : "");
+            }
+            separator = " ";
+        }
+        if (!function.isRanking() && !isDefaultFrame()) {
+            text.append(separator).append("ROWS BETWEEN ").append(bound(frameStart)).append(" AND ").append(bound(frameEnd));
+        }
+        return text.append(')').toString();
+    }
+
+    // 🖼️ The frame a call gets when no ROWS clause is written
+    private boolean isDefaultFrame() {
+        return frameStart == UNBOUNDED_PRECEDING && frameEnd == (orderBy.isEmpty() ? UNBOUNDED_FOLLOWING : 0);
+    }
+
+    private static String bound(long offset) {
+        if (offset == UNBOUNDED_PRECEDING) {
+            return "UNBOUNDED PRECEDING";
+        }
+        if (offset == UNBOUNDED_FOLLOWING) {
+            return "UNBOUNDED FOLLOWING";
+        }
+        if (offset == 0) {
+            return "CURRENT ROW";
+        }
+        return offset < 0 ? -offset + " PRECEDING" : offset + " FOLLOWING";
+    }
+}
@@ -0,0 +1,32 @@
+package com.yggra.commands;
+
+/**
+ * 🪟 [RUNIC INSCRIPTION] 🪟
+ * The window runes a SELECT may invoke with OVER (...) — each row keeps its place and gains one value
+ * computed from the rows of its window, e.g. `SELECT id, SUM(gold) OVER (ORDER BY id) FROM vault;`
+ */
+
+public enum WindowFunction {
+    ROW_NUMBER, RANK, COUNT, SUM, AVG;
+
+    /**
+     * 🔎 Resolves a (case-insensitive) function name into its rune, or null if the name is not a window function.
+     *
+     * @param name The identifier spoken before '('
+     * @return The matching WindowFunction, or null
+     */
+
+    public static WindowFunction fromName(String name) {
+        for (WindowFunction function : values()) {
+            if (function.name().equalsIgnoreCase(name)) {
+                return function;
+            }
+        }
+        return null;
+    }
+
+    // 🔢 ROW_NUMBER and RANK number the rows of a partition; they take no argument and no frame
+    public boolean isRanking() {
+        return this == ROW_NUMBER || this == RANK;
+    }
+}
@@ -0,0 +1,98 @@
+package com.yggra.executor;
+
+import com.yggra.commands.AggregateCall;
+import com.yggra.commands.AggregateFunction;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🧮 [RUNIC INSCRIPTION] 🧮
+ * The aggregate calls of a SELECT compiled against a schema: which function folds which column index.
+ * A spec is immutable; each morsel worker folds rows into its own {@link PartialAggregate},
+ * and the partials are merged once the workers return.
+ * COUNT(DISTINCT ...) calls carry a per-worker {@link DistinctCounter} whose memory budget is
+ * {@link QueryEngine#DISTINCT_BUDGET_VALUES} distinct values before it turns to sorting;
+ * the APPROX_ calls carry constant-size sketches instead, whatever the input.
+ */
+
+public final class AggregateSpec {
+
+    final AggregateFunction[] functions;
+    final int[] columnIndices; // -1 for COUNT(*)
+    final boolean[] distinct;
+    final double[] fractions; // APPROX_PERCENTILE's percentile as a fraction, 0 for every other call
+    final int distinctBudget;
+    private final List<String> headers;
+
+    private AggregateSpec(AggregateFunction[] functions, int[] columnIndices, boolean[] distinct, double[] fractions,
+                          int distinctBudget, List<String> headers) {
+        this.functions = functions;
+        this.columnIndices = columnIndices;
+        this.distinct = distinct;
+        this.fractions = fractions;
+        this.distinctBudget = distinctBudget;
+        this.headers = headers;
+    }
+
+    /**
+     * 🔨 Compiles aggregate calls against the schema of the rows they will fold.
+     *
+     * @throws RuntimeException if a column is unknown, or SUM/AVG/APPROX_PERCENTILE is asked of a VARCHAR column
+     */
+
+    public static AggregateSpec compile(List<AggregateCall> calls, BoundSchema schema) {
+        return compile(calls, schema, QueryEngine.DISTINCT_BUDGET_VALUES);
+    }
+
+    /**
+     * 🔨 Compiles aggregate calls with an explicit COUNT(DISTINCT ...) memory budget.
+     *
+     * @param distinctBudget Distinct values a worker hashes before switching to sort-based counting
+     */
+
+    public static AggregateSpec compile(List<AggregateCall> calls, BoundSchema schema, int distinctBudget) {
+        int size = calls.size();
+        AggregateFunction[] functions = new AggregateFunction[size];
+        int[] indices = new int[size];
+        boolean[] distinct = new boolean[size];
+        double[] fractions = new double[size];
+        List<String> headers = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            AggregateCall call = calls.get(i);
+            functions[i] = call.function;
+            distinct[i] = call.distinct;
+            fractions[i] = Math.max(0, call.percentile) / 100.0;
+            headers.add(call.toString());
+            if (call.columnName == null) {
+                indices[i] = -1;
+                continue;
+            }
+            int index = schema.resolve(call.columnName);
+            if ((call.function == AggregateFunction.SUM || call.function == AggregateFunction.AVG
+                    || call.function == AggregateFunction.APPROX_PERCENTILE) && schema.column(index).type != TokenType.INT) {
+                throw new RuntimeException("⚔️ [TYPE JUDGMENT] " + call.function + " can only count the might of INT columns — '" + call.columnName + "' holds runes!");
+            }
+            indices[i] = index;
+        }
+        return new AggregateSpec(functions, indices, distinct, fractions, distinctBudget, headers);
+    }
+
+    /**
+     * 📜 The result headers, written as the calls were spoken (e.g. "SUM(gold)").
+     */
+
+    public List<String> headers() {
+        return headers;
+    }
+
+    /**
+     * 🏺 A fresh, empty partial for one worker to fold into.
+     */
+
+    public PartialAggregate newPartial() {
+        return new PartialAggregate(this);
+    }
+}
@@ -0,0 +1,148 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.models.Table;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🗺️ [RUNIC INSCRIPTION] 🗺️
+ * The shape of the rows flowing through a query — every column paired with the table it came from.
+ * A single-table query has one table's columns; each JOIN appends the joined table's columns on the right.
+ * Column references resolve against it either qualified (`weapons.owner`) or bare (`owner`),
+ * bare names only when exactly one table carries them. Names are looked up through a hash built with the schema,
+ * so a lookup costs the same for a wide table as for a narrow one.
+ */
+
+public final class BoundSchema {
+
+    // 🏷️ Marks a bare name carried by more than one column in {@link #positions}
+    private static final int SHARED = -2;
+
+    private final List<ColumnDefinition> columns;
+    private final List<String> tableNames;
+    private final Map<String, Integer> positions; // bare column name → its position, or SHARED
+
+    private BoundSchema(List<ColumnDefinition> columns, List<String> tableNames) {
+        this.columns = columns;
+        this.tableNames = tableNames;
+        this.positions = new HashMap<>(2 * columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            positions.merge(columns.get(i).columnName, i, (first, again) -> SHARED);
+        }
+    }
+
+    /**
+     * 🏛️ The schema of a table's own rows.
+     */
+
+    public static BoundSchema of(Table table) {
+        List<String> tableNames = new ArrayList<>(table.columnList.size());
+        for (int i = 0; i < table.columnList.size(); i++) {
+            tableNames.add(table.tableName);
+        }
+        return new BoundSchema(new ArrayList<>(table.columnList), tableNames);
+    }
+
+    /**
+     * 🌉 The schema of rows produced by joining this schema (left) with another (right).
+     */
+
+    public BoundSchema join(BoundSchema right) {
+        List<ColumnDefinition> joinedColumns = new ArrayList<>(columns);
+        joinedColumns.addAll(right.columns);
+        List<String> joinedTables = new ArrayList<>(tableNames);
+        joinedTables.addAll(right.tableNames);
+        return new BoundSchema(joinedColumns, joinedTables);
+    }
+
+    /**
+     * ✂️ The schema of rows narrowed to the given column positions, in that order.
+     */
+
+    public BoundSchema project(int[] positions) {
+        List<ColumnDefinition> kept = new ArrayList<>(positions.length);
+        List<String> keptTables = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            kept.add(columns.get(position));
+            keptTables.add(tableNames.get(position));
+        }
+        return new BoundSchema(kept, keptTables);
+    }
+
+    // 📏 Number of values in every row of this schema
+    public int size() {
+        return columns.size();
+    }
+
+    // 🏛️ The definition of the column at a row position
+    public ColumnDefinition column(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * 🔍 Resolves a column reference to its row position.
+     *
+     * @param reference `column` or `table.column`
+     * @return The position of the column within each row
+     * @throws RuntimeException if the column does not exist or a bare name is ambiguous
+     */
+
+    public int resolve(String reference) {
+        int index = find(reference);
+        if (index == -1) {
+            throw new RuntimeException("💥 [COLUMN LOST] Mimir mutters: 'The column '" + reference + "' does not exist in this realm!'");
+        }
+        return index;
+    }
+
+    /**
+     * 🔍 Like {@link #resolve(String)}, but answers -1 instead of raising when the column is absent.
+     * Ambiguous bare names still raise.
+     */
+
+    public int find(String reference) {
+        int dot = reference.indexOf('.');
+        String table = dot == -1 ? null : reference.substring(0, dot);
+        String column = dot == -1 ? reference : reference.substring(dot + 1);
+
+        // 🔍 A name only one column carries is settled by the hash; a shared one is searched for
+        Integer position = positions.get(column);
+        if (position == null) {
+            return -1;
+        }
+        if (position != SHARED) {
+            return table == null || tableNames.get(position).equals(table) ? position : -1;
+        }
+        int found = -1;
+        for (int i = 0; i < columns.size(); i++) {
+            if (!columns.get(i).columnName.equals(column)) {
+                continue;
+            }
+            if (table != null && !tableNames.get(i).equals(table)) {
+                continue;
+            }
+            if (found != -1) {
+                throw new RuntimeException("🌫️ [TWIN SHADOWS] The column '" + reference + "' dwells in more than one realm — name its table (table.column)!");
+            }
+            found = i;
+        }
+        return found;
+    }
+
+    /**
+     * 🏷️ Result headers for every column — bare names for one table, `table.column` once tables are joined.
+     */
+
+    public List<String> displayNames() {
+        boolean qualify = tableNames.stream().distinct().count() > 1;
+        List<String> names = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            names.add(qualify ? tableNames.get(i) + "." + columns.get(i).columnName : columns.get(i).columnName);
+        }
+        return names;
+    }
+}
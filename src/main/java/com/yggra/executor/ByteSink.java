@@ -0,0 +1,152 @@
+package com.yggra.executor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * 🪣 [RUNIC INSCRIPTION] 🪣
+ * The bucket COPY TO fills — one reusable direct buffer in front of a {@link FileChannel}, emptied into the
+ * file whenever it is full. Numbers are written as digits and text as UTF-8 straight into the buffer,
+ * so no String or byte[] is built per value. Binary numbers are little-endian.
+ */
+
+final class ByteSink {
+
+    private static final int CAPACITY = 1 << 20;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(CAPACITY).order(ByteOrder.LITTLE_ENDIAN);
+
+    ByteSink(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    ByteSink put(int b) throws IOException {
+        room(1);
+        buffer.put((byte) b);
+        return this;
+    }
+
+    ByteSink putInt(int value) throws IOException {
+        room(4);
+        buffer.putInt(value);
+        return this;
+    }
+
+    // 🧱 Many ints at once, copied in bulk
+    ByteSink putInts(int[] values, int count) throws IOException {
+        for (int from = 0; from < count; ) {
+            room(4);
+            int n = Math.min(count - from, buffer.remaining() / 4);
+            buffer.asIntBuffer().put(values, from, n);
+            buffer.position(buffer.position() + 4 * n);
+            from += n;
+        }
+        return this;
+    }
+
+    ByteSink put(byte[] bytes, int from, int length) throws IOException {
+        while (length > 0) {
+            room(1);
+            int n = Math.min(length, buffer.remaining());
+            buffer.put(bytes, from, n);
+            from += n;
+            length -= n;
+        }
+        return this;
+    }
+
+    ByteSink put(byte[] bytes) throws IOException {
+        return put(bytes, 0, bytes.length);
+    }
+
+    // 🔢 An int as decimal digits
+    ByteSink putDecimal(int value) throws IOException {
+        room(11);
+        long magnitude = value;
+        if (magnitude < 0) {
+            buffer.put((byte) '-');
+            magnitude = -magnitude;
+        }
+        int end = buffer.position() + digits(magnitude);
+        int at = end;
+        do {
+            buffer.put(--at, (byte) ('0' + magnitude % 10));
+            magnitude /= 10;
+        } while (magnitude > 0);
+        buffer.position(end);
+        return this;
+    }
+
+    // 🔡 One code point as UTF-8
+    ByteSink putCodePoint(int codePoint) throws IOException {
+        room(4);
+        if (codePoint < 0x80) {
+            buffer.put((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            buffer.put((byte) (0xC0 | codePoint >> 6)).put((byte) (0x80 | codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            buffer.put((byte) (0xE0 | codePoint >> 12)).put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+        } else {
+            buffer.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                    .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+        }
+        return this;
+    }
+
+    // 💧 Empties the buffer into the file
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * 🔡 Encodes text as UTF-8 into an array, which must have room for three bytes per char.
+     *
+     * @return The position just past the encoded text
+     */
+
+    static int encode(String text, byte[] out, int at) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch < 0x80) {
+                out[at++] = (byte) ch;
+            } else if (ch < 0x800) {
+                out[at++] = (byte) (0xC0 | ch >> 6);
+                out[at++] = (byte) (0x80 | ch & 0x3F);
+            } else if (Character.isHighSurrogate(ch) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, text.charAt(++i));
+                out[at++] = (byte) (0xF0 | codePoint >> 18);
+                out[at++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                out[at++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                out[at++] = (byte) (0x80 | codePoint & 0x3F);
+            } else {
+                int codePoint = Character.isSurrogate(ch) ? 0xFFFD : ch; // 🩹 a lone surrogate has no UTF-8 form
+                out[at++] = (byte) (0xE0 | codePoint >> 12);
+                out[at++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                out[at++] = (byte) (0x80 | codePoint & 0x3F);
+            }
+        }
+        return at;
+    }
+
+    private void room(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private static int digits(long magnitude) {
+        int digits = 1;
+        while (magnitude >= 10) {
+            magnitude /= 10;
+            digits++;
+        }
+        return digits;
+    }
+}
@@ -0,0 +1,233 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.models.Row;
+import com.yggra.parser.TokenType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 🧱 [RUNIC INSCRIPTION] 🧱
+ * YggraDB's binary columnar file — written by COPY ... TO FORMAT BINARY, read back by COPY ... FROM FORMAT BINARY.
+ * ⚡ Layout (every number little-endian):
+ *  - "YGGRCOL1", the column count, then per column its type (0 INT, 1 VARCHAR) and its UTF-8 name (length first)
+ *  - blocks of up to {@link #BLOCK} rows: the row count, then column after column —
+ *    a NULL bitmap (one bit per row), then for an INT the values (0 where NULL),
+ *    for a VARCHAR the n + 1 offsets of its values into the UTF-8 bytes that follow
+ *  - a row count of 0 to close the file
+ * ⚡ Reading:
+ *  - One walk over the block headers finds where every block begins; the blocks are then mapped and
+ *    decoded in parallel, each column's ints and bytes copied out of the map in bulk.
+ *  - The file's columns must have the table's types, position by position; names are not compared.
+ */
+
+public final class ColumnarFile {
+
+    // 📦 Rows per block
+    static final int BLOCK = 65_536;
+
+    private static final byte[] MAGIC = "YGGRCOL1".getBytes(StandardCharsets.US_ASCII);
+    private static final byte INT = 0;
+    private static final byte VARCHAR = 1;
+
+    private record Block(long offset, int rows) {
+    }
+
+    private ColumnarFile() {
+    }
+
+    // ✍️ Writes rows of the given columns in the layout above
+    static void write(List<Row> rows, List<ColumnDefinition> columns, ByteSink sink) throws IOException {
+        sink.put(MAGIC).putInt(columns.size());
+        for (ColumnDefinition column : columns) {
+            byte[] name = column.columnName.getBytes(StandardCharsets.UTF_8);
+            sink.put(column.type == TokenType.INT ? INT : VARCHAR).putInt(name.length).put(name);
+        }
+        int[] ints = new int[Math.min(BLOCK, rows.size()) + 1];
+        byte[] nulls = new byte[(ints.length + 7) / 8];
+        byte[] text = new byte[1 << 16];
+        for (int from = 0; from < rows.size(); from += BLOCK) {
+            int n = Math.min(BLOCK, rows.size() - from);
+            sink.putInt(n);
+            for (int c = 0; c < columns.size(); c++) {
+                Arrays.fill(nulls, (byte) 0);
+                boolean isInt = columns.get(c).type == TokenType.INT;
+                int bytes = 0;
+                for (int i = 0; i < n; i++) {
+                    Object value = rows.get(from + i).getValue(c);
+                    if (value == null) {
+                        nulls[i >> 3] |= (byte) (1 << (i & 7));
+                    }
+                    if (isInt) {
+                        ints[i] = value == null ? 0 : (Integer) value;
+                    } else {
+                        ints[i] = bytes;
+                        if (value != null) {
+                            String string = (String) value;
+                            if (text.length - bytes < 3 * string.length()) {
+                                text = Arrays.copyOf(text, Math.max(2 * text.length, bytes + 3 * string.length()));
+                            }
+                            bytes = ByteSink.encode(string, text, bytes);
+                        }
+                    }
+                }
+                sink.put(nulls, 0, (n + 7) / 8);
+                if (isInt) {
+                    sink.putInts(ints, n);
+                } else {
+                    ints[n] = bytes;
+                    sink.putInts(ints, n + 1).put(text, 0, bytes);
+                }
+            }
+        }
+        sink.putInt(0);
+    }
+
+    /**
+     * 📥 Reads every row of a columnar file.
+     *
+     * @param file    The file, as written by COPY ... TO FORMAT BINARY
+     * @param columns The table's columns, which the file's must match in type and order
+     * @return The rows, in file order
+     * @throws RuntimeException if the file cannot be read, is not a columnar file, or does not fit the columns
+     */
+
+    public static List<Row> read(Path file, List<ColumnDefinition> columns) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = header(channel, file, columns);
+            List<Block> blocks = new ArrayList<>();
+            for (int n = readInt(channel, position, file); n != 0; n = readInt(channel, position, file)) {
+                if (n < 0 || n > BLOCK) {
+                    throw corrupt(file, "a block claims " + n + " rows");
+                }
+                blocks.add(new Block(position + 4, n));
+                position += 4;
+                for (ColumnDefinition column : columns) {
+                    position += (n + 7) / 8;
+                    position += column.type == TokenType.INT ? 4L * n : 4L * (n + 1) + readInt(channel, position + 4L * n, file);
+                }
+            }
+            List<Supplier<List<Row>>> tasks = new ArrayList<>(blocks.size());
+            for (int b = 0; b < blocks.size(); b++) {
+                long start = blocks.get(b).offset;
+                long end = b + 1 < blocks.size() ? blocks.get(b + 1).offset - 4 : position;
+                int rows = blocks.get(b).rows;
+                if (end - start > Integer.MAX_VALUE) {
+                    throw corrupt(file, "a block runs longer than " + Integer.MAX_VALUE + " bytes");
+                }
+                tasks.add(() -> {
+                    try {
+                        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start).order(ByteOrder.LITTLE_ENDIAN);
+                        return decode(bytes, rows, columns, file);
+                    } catch (IOException e) {
+                        throw new RuntimeException("📂 [SCROLL UNREADABLE] The file '" + file + "' cannot be read: " + e.getMessage());
+                    }
+                });
+            }
+            List<Row> rows = new ArrayList<>(blocks.stream().mapToInt(Block::rows).sum());
+            if (!tasks.isEmpty()) {
+                MorselScheduler.invokeAll(tasks).forEach(rows::addAll);
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new RuntimeException("📂 [SCROLL UNREADABLE] The file '" + file + "' cannot be read: " + e.getMessage());
+        }
+    }
+
+    // 🏷️ Checks the magic and the columns; returns where the first block begins
+    private static long header(FileChannel channel, Path file, List<ColumnDefinition> columns) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+        channel.read(magic, 0);
+        if (!Arrays.equals(magic.array(), MAGIC)) {
+            throw new RuntimeException("🧱 [FOREIGN SCROLL] '" + file + "' is not a columnar file written by COPY ... TO FORMAT BINARY.");
+        }
+        long position = MAGIC.length;
+        int count = readInt(channel, position, file);
+        if (count != columns.size()) {
+            throw new RuntimeException("🧱 [MISSHAPEN TRIBUTE] '" + file + "' holds " + count + " columns but the table has " + columns.size() + ".");
+        }
+        position += 4;
+        for (ColumnDefinition column : columns) {
+            ByteBuffer type = ByteBuffer.allocate(1);
+            channel.read(type, position);
+            if (type.get(0) != (column.type == TokenType.INT ? INT : VARCHAR)) {
+                throw new RuntimeException("🧱 [MISSHAPEN TRIBUTE] Column '" + column.columnName + "' is " + column.type
+                        + " in the table, but not in '" + file + "'.");
+            }
+            position += 1 + 4 + readInt(channel, position + 1, file);
+        }
+        return position;
+    }
+
+    // 🔓 Turns one mapped block into rows
+    private static List<Row> decode(ByteBuffer bytes, int n, List<ColumnDefinition> columns, Path file) {
+        List<Row> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rows.add(new Row(new ArrayList<>(columns.size())));
+        }
+        byte[] nulls = new byte[(n + 7) / 8];
+        int[] ints = new int[n + 1];
+        int position = 0;
+        try {
+            for (ColumnDefinition column : columns) {
+                bytes.get(position, nulls);
+                position += nulls.length;
+                boolean isInt = column.type == TokenType.INT;
+                int count = isInt ? n : n + 1;
+                bytes.slice(position, 4 * count).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(ints, 0, count);
+                position += 4 * count;
+                if (isInt) {
+                    for (int i = 0; i < n; i++) {
+                        rows.get(i).values.add(isNull(nulls, i) ? null : ints[i]);
+                    }
+                    continue;
+                }
+                byte[] text = new byte[ints[n]];
+                bytes.get(position, text);
+                position += text.length;
+                for (int i = 0; i < n; i++) {
+                    if (ints[i] < 0 || ints[i] > ints[i + 1]) {
+                        throw corrupt(file, "the offsets of column '" + column.columnName + "' run backwards");
+                    }
+                    String value = isNull(nulls, i) ? null : new String(text, ints[i], ints[i + 1] - ints[i], StandardCharsets.UTF_8);
+                    if (value != null && value.length() > column.length) {
+                        throw new RuntimeException("🛡️ [STRING TOO MIGHTY] Column '" + column.columnName + "' can only hold "
+                                + column.length + " runes, but '" + file + "' gives it " + value.length());
+                    }
+                    rows.get(i).values.add(value);
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw corrupt(file, "a block ends before its columns do");
+        }
+        return rows;
+    }
+
+    private static boolean isNull(byte[] nulls, int row) {
+        return (nulls[row >> 3] & 1 << (row & 7)) != 0;
+    }
+
+    private static int readInt(FileChannel channel, long position, Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw corrupt(file, "it ends at byte " + (position + buffer.position()) + ", in the middle of a block");
+            }
+        }
+        return buffer.getInt(0);
+    }
+
+    private static RuntimeException corrupt(Path file, String problem) {
+        return new RuntimeException("🧱 [SHATTERED SCROLL] '" + file + "' is damaged — " + problem + ".");
+    }
+}
@@ -0,0 +1,313 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.CopyFormat;
+import com.yggra.commands.CopyOptions;
+import com.yggra.models.Row;
+import com.yggra.parser.TokenType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 📥 [RUNIC INSCRIPTION] 📥
+ * The loader behind COPY ... FROM — turns a CSV or TSV file into rows of a table's columns.
+ * ⚡ Pipeline:
+ *  1. One sequential pass over the memory-mapped file cuts it into chunks of about {@link #CHUNK} bytes,
+ *     each ending at a newline outside any quoted field (for TSV, which has no quoting, the pass jumps
+ *     straight to the first newline past each cut).
+ *  2. Every chunk is mapped on its own and parsed by a worker of the {@link MorselScheduler} pool,
+ *     straight from the mapped bytes into typed values: INTs are read digit by digit,
+ *     VARCHARs decoded from UTF-8 once, with no ValueDefinition or literal String in between.
+ *  3. The chunks' rows are joined in file order for the caller to append in one step.
+ * ⚡ Rules:
+ *  - One line is one row, holding one field per column in the table's column order.
+ *  - CSV fields may be quoted with '"'; a quoted field keeps delimiters and newlines, and "" inside it is one '"'.
+ *  - An unquoted field equal to the NULL text is NULL; a quoted one never is.
+ *  - A '\r' before a line's '\n' is dropped, and empty lines are skipped.
+ * Any flaw fails the whole file, naming the byte where its record begins.
+ */
+
+public final class CsvLoader {
+
+    // 📦 Bytes per chunk handed to a worker
+    static final long CHUNK = 64L << 20;
+
+    private CsvLoader() {
+    }
+
+    /**
+     * 📥 Reads every row of a delimited file.
+     *
+     * @param file    The file to read
+     * @param options Its format, delimiter, NULL text and whether a header line comes first
+     * @param columns The columns each line fills, in order
+     * @return The rows, in file order
+     * @throws RuntimeException if the file cannot be read or a line does not fit the columns
+     */
+
+    public static List<Row> load(Path file, CopyOptions options, List<ColumnDefinition> columns) {
+        return load(file, options, columns, CHUNK);
+    }
+
+    static List<Row> load(Path file, CopyOptions options, List<ColumnDefinition> columns, long chunk) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Long> starts = split(channel, size, options.format == CopyFormat.CSV, chunk);
+            List<Supplier<List<Row>>> tasks = new ArrayList<>(starts.size());
+            for (int i = 0; i < starts.size(); i++) {
+                long start = starts.get(i);
+                long end = i + 1 < starts.size() ? starts.get(i + 1) : size;
+                if (end - start > Integer.MAX_VALUE) {
+                    throw new RuntimeException("📥 [SCROLL TOO LONG] A record of '" + file + "' near byte " + start + " runs longer than "
+                            + Integer.MAX_VALUE + " bytes — is a quote left open?");
+                }
+                boolean first = i == 0;
+                tasks.add(() -> {
+                    try {
+                        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                        return new ChunkReader(bytes, start, options, columns, file).read(first && options.header);
+                    } catch (IOException e) {
+                        throw new RuntimeException("📂 [SCROLL UNREADABLE] The file '" + file + "' cannot be read: " + e.getMessage());
+                    }
+                });
+            }
+            List<List<Row>> chunks = MorselScheduler.invokeAll(tasks);
+            List<Row> rows = new ArrayList<>(chunks.stream().mapToInt(List::size).sum());
+            chunks.forEach(rows::addAll);
+            return rows;
+        } catch (IOException e) {
+            throw new RuntimeException("📂 [SCROLL UNREADABLE] The file '" + file + "' cannot be read: " + e.getMessage());
+        }
+    }
+
+    // ✂️ Where each chunk begins: the first newline outside quotes at or past every `chunk` bytes ends a chunk
+    private static List<Long> split(FileChannel channel, long size, boolean quoting, long chunk) throws IOException {
+        List<Long> starts = new ArrayList<>();
+        starts.add(0L);
+        long cut = chunk;
+        boolean quoted = false;
+        for (long window = 0; window < size && cut < size; ) {
+            long length = Math.min(chunk, size - window);
+            if (!quoting && window + length <= cut) {
+                window += length; // 🦘 without quoting nothing before the cut matters
+                continue;
+            }
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, window, length);
+            for (int i = quoting ? 0 : (int) (cut - window); i < length; i++) {
+                byte b = bytes.get(i);
+                if (b == '"' && quoting) {
+                    quoted = !quoted; // a doubled quote flips twice
+                } else if (b == '\n' && !quoted && window + i >= cut) {
+                    long next = window + i + 1;
+                    if (next < size) {
+                        starts.add(next);
+                    }
+                    cut = next + chunk;
+                    if (!quoting) {
+                        i = (int) Math.min(length, cut - window) - 1;
+                    }
+                }
+            }
+            window += length;
+        }
+        return starts;
+    }
+
+    /**
+     * 🔨 Parses one chunk. Each worker owns its reader, so the scratch buffer is never shared.
+     */
+
+    private static final class ChunkReader {
+        private final ByteBuffer bytes;
+        private final long base;
+        private final boolean quoting;
+        private final byte delimiter;
+        private final byte[] nullText;
+        private final List<ColumnDefinition> columns;
+        private final Path file;
+
+        // 🧺 Holds a quoted field with its doubled quotes undone, and any VARCHAR on its way to a String
+        private byte[] scratch = new byte[256];
+        private ByteBuffer scratchView = ByteBuffer.wrap(scratch);
+
+        private int position;
+        private long record; // where the current record begins, in file bytes
+
+        ChunkReader(ByteBuffer bytes, long base, CopyOptions options, List<ColumnDefinition> columns, Path file) {
+            this.bytes = bytes;
+            this.base = base;
+            this.quoting = options.format == CopyFormat.CSV;
+            this.delimiter = (byte) options.delimiter;
+            this.nullText = options.nullText.getBytes(StandardCharsets.UTF_8);
+            this.columns = columns;
+            this.file = file;
+        }
+
+        List<Row> read(boolean header) {
+            List<Row> rows = new ArrayList<>();
+            int limit = bytes.limit();
+            while (position < limit) {
+                byte b = bytes.get(position);
+                if (b == '\n' || b == '\r' && position + 1 < limit && bytes.get(position + 1) == '\n') {
+                    position += b == '\n' ? 1 : 2; // 🕳️ an empty line
+                    continue;
+                }
+                record = base + position;
+                List<Object> values = new ArrayList<>(columns.size());
+                int field = 0;
+                while (true) {
+                    if (field == columns.size()) {
+                        throw flaw("holds more fields than the " + columns.size() + " columns of the table");
+                    }
+                    Object value = field(header ? null : columns.get(field));
+                    values.add(value);
+                    field++;
+                    if (position >= limit) {
+                        break;
+                    }
+                    byte next = bytes.get(position);
+                    if (next == delimiter) {
+                        position++;
+                    } else if (next == '\n') {
+                        position++;
+                        break;
+                    } else if (next == '\r' && (position + 1 == limit || bytes.get(position + 1) == '\n')) {
+                        position = Math.min(limit, position + 2);
+                        break;
+                    } else {
+                        throw flaw("has stray text after the closing quote of field " + field);
+                    }
+                }
+                if (field != columns.size()) {
+                    throw flaw("holds " + field + " fields but the table has " + columns.size() + " columns");
+                }
+                if (header) {
+                    header = false;
+                } else {
+                    rows.add(new Row(values));
+                }
+            }
+            return rows;
+        }
+
+        // 🔡 Reads the field at the position and converts it for its column (null column: read and discard)
+        private Object field(ColumnDefinition column) {
+            int limit = bytes.limit();
+            if (quoting && position < limit && bytes.get(position) == '"') {
+                int length = 0;
+                position++;
+                while (true) {
+                    if (position >= limit) {
+                        throw flaw("opens a quote it never closes");
+                    }
+                    byte b = bytes.get(position++);
+                    if (b == '"') {
+                        if (position < limit && bytes.get(position) == '"') {
+                            position++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (length == scratch.length) {
+                        grow(length + 1);
+                    }
+                    scratch[length++] = b;
+                }
+                return column == null ? null : convert(column, scratchView, 0, length);
+            }
+            int from = position;
+            while (position < limit) {
+                byte b = bytes.get(position);
+                if (b == delimiter || b == '\n') {
+                    break;
+                }
+                position++;
+            }
+            int to = position;
+            if (to > from && bytes.get(to - 1) == '\r' && (to == limit || bytes.get(to) == '\n')) {
+                to--;
+                position--; // the '\r' is left for the record's end to swallow
+            }
+            if (column == null || isNull(from, to)) {
+                return null;
+            }
+            return convert(column, bytes, from, to);
+        }
+
+        private boolean isNull(int from, int to) {
+            if (to - from != nullText.length) {
+                return false;
+            }
+            for (int i = 0; i < nullText.length; i++) {
+                if (bytes.get(from + i) != nullText[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Object convert(ColumnDefinition column, ByteBuffer source, int from, int to) {
+            if (column.type == TokenType.INT) {
+                return parseInt(column, source, from, to);
+            }
+            int length = to - from;
+            if (source != scratchView) {
+                if (length > scratch.length) {
+                    grow(length);
+                }
+                source.get(from, scratch, 0, length);
+            }
+            String text = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            if (text.length() > column.length) {
+                throw flaw("gives column '" + column.columnName + "' " + text.length() + " runes, but it holds only " + column.length);
+            }
+            return text;
+        }
+
+        // 🔢 An INT read straight from its digits, with an optional sign
+        private Integer parseInt(ColumnDefinition column, ByteBuffer source, int from, int to) {
+            boolean negative = from < to && source.get(from) == '-';
+            int i = from < to && (source.get(from) == '-' || source.get(from) == '+') ? from + 1 : from;
+            if (i == to) {
+                throw notAnInt(column, source, from, to);
+            }
+            long value = 0;
+            for (; i < to; i++) {
+                int digit = source.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    throw notAnInt(column, source, from, to);
+                }
+                value = value * 10 + digit;
+                if (value > (negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE)) {
+                    throw flaw("gives column '" + column.columnName + "' a number beyond the bounds of an INT");
+                }
+            }
+            return (int) (negative ? -value : value);
+        }
+
+        private RuntimeException notAnInt(ColumnDefinition column, ByteBuffer source, int from, int to) {
+            byte[] text = new byte[Math.min(to - from, 20)];
+            source.get(from, text);
+            return flaw("gives INT column '" + column.columnName + "' the value '" + new String(text, StandardCharsets.UTF_8) + "'");
+        }
+
+        private void grow(int needed) {
+            byte[] larger = new byte[Math.max(needed, scratch.length * 2)];
+            System.arraycopy(scratch, 0, larger, 0, scratch.length);
+            scratch = larger;
+            scratchView = ByteBuffer.wrap(scratch);
+        }
+
+        private RuntimeException flaw(String problem) {
+            return new RuntimeException("📥 [FLAWED OFFERING] The record at byte " + record + " of '" + file + "' " + problem + ".");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.yggra.executor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 🔢 [RUNIC INSCRIPTION] 🔢
+ * Counts the distinct non-NULL values of one column for COUNT(DISTINCT ...).
+ * ⚡ Strategy:
+ *  - Hash: INT values go into a primitive {@link IntHashSet}; VARCHAR values into a HashSet.
+ *  - Sort: once more than {@code budget} distinct values are held, hashing costs more memory than
+ *    it saves — the counter switches to appending raw values to a flat buffer, and counts by
+ *    sorting the buffer and skipping adjacent duplicates when the result is asked for.
+ * Each morsel worker owns one counter; {@link #merge} unions them after the scan.
+ */
+
+final class DistinctCounter {
+
+    private final int budget;
+
+    // 🗝️ Hash mode (one of these is used, depending on the first value seen)
+    private IntHashSet ints;
+    private Set<Object> objects;
+
+    // 📚 Sort mode — raw values, duplicates allowed
+    private int[] intBuffer;
+    private int intCount;
+    private List<Object> objectBuffer;
+
+    DistinctCounter(int budget) {
+        this.budget = budget;
+    }
+
+    /**
+     * ⚒️ Records one non-NULL value.
+     */
+
+    void add(Object value) {
+        if (value instanceof Integer number) {
+            addInt(number);
+        } else {
+            addObject(value);
+        }
+    }
+
+    private void addInt(int value) {
+        if (intBuffer != null) {
+            if (intCount == intBuffer.length) {
+                intBuffer = Arrays.copyOf(intBuffer, intBuffer.length * 2);
+            }
+            intBuffer[intCount++] = value;
+            return;
+        }
+        if (ints == null) {
+            ints = new IntHashSet(16);
+        }
+        ints.add(value);
+        if (ints.size() > budget) {
+            // 📚 Over budget — trade the hash set for a flat buffer sorted at the end
+            intBuffer = ints.toArray();
+            intCount = intBuffer.length;
+            intBuffer = Arrays.copyOf(intBuffer, Math.max(16, intCount * 2));
+            ints = null;
+        }
+    }
+
+    private void addObject(Object value) {
+        if (objectBuffer != null) {
+            objectBuffer.add(value);
+            return;
+        }
+        if (objects == null) {
+            objects = new HashSet<>();
+        }
+        objects.add(value);
+        if (objects.size() > budget) {
+            objectBuffer = new ArrayList<>(objects);
+            objects = null;
+        }
+    }
+
+    /**
+     * 🤝 Unions another worker's values into this counter.
+     */
+
+    void merge(DistinctCounter other) {
+        if (other.ints != null) {
+            for (int value : other.ints.toArray()) {
+                addInt(value);
+            }
+        }
+        for (int i = 0; i < other.intCount; i++) {
+            addInt(other.intBuffer[i]);
+        }
+        if (other.objects != null) {
+            for (Object value : other.objects) {
+                addObject(value);
+            }
+        }
+        if (other.objectBuffer != null) {
+            for (Object value : other.objectBuffer) {
+                addObject(value);
+            }
+        }
+    }
+
+    /**
+     * 🏆 The number of distinct values seen.
+     */
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    long count() {
+        long count = 0;
+        if (ints != null) {
+            count += ints.size();
+        }
+        if (intBuffer != null) {
+            int[] sorted = Arrays.copyOf(intBuffer, intCount);
+            Arrays.sort(sorted);
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    count++;
+                }
+            }
+        }
+        if (objects != null) {
+            count += objects.size();
+        }
+        if (objectBuffer != null) {
+            List<Comparable> sorted = new ArrayList<>((List) objectBuffer);
+            sorted.sort(null);
+            for (int i = 0; i < sorted.size(); i++) {
+                if (i == 0 || sorted.get(i).compareTo(sorted.get(i - 1)) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
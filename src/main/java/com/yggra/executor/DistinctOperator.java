@@ -0,0 +1,142 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 🔢 [RUNIC INSCRIPTION] 🔢
+ * SELECT DISTINCT — hands out each distinct projected row once, in first-seen order.
+ * ⚡ Strategy:
+ *  - Hash: rows stream through and are remembered as they pass. A single INT column is kept in a
+ *    primitive {@link IntHashSet}; wider rows are remembered by their value lists.
+ *  - Sort: once more than {@code budget} distinct rows are remembered, the hash set stops growing.
+ *    The rest of the input is drained, sorted and deduplicated by neighbour comparison, and only rows
+ *    the hash set has not already handed out are emitted (in sorted order).
+ * Streaming in hash mode keeps LIMIT's early stop intact: DISTINCT ... LIMIT 5 reads only until five
+ * distinct rows have been found.
+ */
+
+public final class DistinctOperator implements Operator {
+
+    private final Operator child;
+    private final boolean singleIntColumn;
+    private final int budget;
+
+    private final IntHashSet ints;
+    private boolean nullSeen;
+    private final Set<List<Object>> seen;
+    private Iterator<Row> sorted;
+
+    /**
+     * @param child           The (projected) rows to deduplicate
+     * @param singleIntColumn True when each row is one INT column, enabling the primitive set
+     * @param budget          Distinct rows hashed before the remainder is deduplicated by sorting
+     */
+
+    public DistinctOperator(Operator child, boolean singleIntColumn, int budget) {
+        this.child = child;
+        this.singleIntColumn = singleIntColumn;
+        this.budget = budget;
+        this.ints = singleIntColumn ? new IntHashSet(16) : null;
+        this.seen = singleIntColumn ? null : new HashSet<>();
+    }
+
+    @Override
+    public Row next() {
+        if (sorted != null) {
+            return sorted.hasNext() ? sorted.next() : null;
+        }
+        for (Row row = child.next(); row != null; row = child.next()) {
+            if (remembered() >= budget) {
+                // 📚 Over budget — finish by sorting instead of hashing
+                sorted = sortRemaining(row).iterator();
+                return sorted.hasNext() ? sorted.next() : null;
+            }
+            if (remember(row)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        child.close();
+    }
+
+    private int remembered() {
+        return singleIntColumn ? ints.size() + (nullSeen ? 1 : 0) : seen.size();
+    }
+
+    // 🗝️ Returns true if the row had not been seen before
+    private boolean remember(Row row) {
+        if (!singleIntColumn) {
+            return seen.add(row.values);
+        }
+        Object value = row.getValue(0);
+        if (value == null) {
+            boolean fresh = !nullSeen;
+            nullSeen = true;
+            return fresh;
+        }
+        return ints.add((Integer) value);
+    }
+
+    private boolean alreadyEmitted(Row row) {
+        if (!singleIntColumn) {
+            return seen.contains(row.values);
+        }
+        Object value = row.getValue(0);
+        return value == null ? nullSeen : ints.contains((Integer) value);
+    }
+
+    // 📚 Drains the child from {@code first} on, sorts, and keeps one row per distinct value not yet emitted
+    private List<Row> sortRemaining(Row first) {
+        List<Row> rest = new ArrayList<>();
+        for (Row row = first; row != null; row = child.next()) {
+            rest.add(row);
+        }
+        rest.sort(ROW_ORDER);
+        List<Row> result = new ArrayList<>();
+        Row previous = null;
+        for (Row row : rest) {
+            if ((previous == null || ROW_ORDER.compare(previous, row) != 0) && !alreadyEmitted(row)) {
+                result.add(row);
+            }
+            previous = row;
+        }
+        return result;
+    }
+
+    /**
+     * ⚖️ Orders rows value by value, NULL first — the sort key for sort-based deduplication.
+     */
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Comparator<Row> ROW_ORDER = (a, b) -> {
+        for (int i = 0; i < a.values.size(); i++) {
+            Object x = a.getValue(i);
+            Object y = b.getValue(i);
+            if (x == y) {
+                continue;
+            }
+            if (x == null) {
+                return -1;
+            }
+            if (y == null) {
+                return 1;
+            }
+            int cmp = ((Comparable) x).compareTo(y);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    };
+}
@@ -0,0 +1,126 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🗂️ [RUNIC INSCRIPTION] 🗂️
+ * The running state of a GROUP BY: one {@link PartialAggregate} per distinct group key, in the
+ * order the groups were first seen. NULL is a key value like any other, so all NULLs share a group.
+ * Each morsel worker folds its rows into its own instance; instances merge group by group,
+ * and later morsels' new groups are appended after earlier ones, so the order stays stable.
+ */
+
+public final class GroupedAggregate {
+
+    private final AggregateSpec spec;
+    private final int[] keyIndices;
+    private final Map<List<Object>, PartialAggregate> groups = new LinkedHashMap<>();
+
+    /**
+     * @param spec       The aggregates folded per group (may hold none — GROUP BY alone lists the groups)
+     * @param keyIndices The positions of the GROUP BY columns in the rows folded
+     */
+
+    public GroupedAggregate(AggregateSpec spec, int[] keyIndices) {
+        this.spec = spec;
+        this.keyIndices = keyIndices;
+    }
+
+    /**
+     * ⚒️ Folds one row into its group, opening the group if it is new.
+     *
+     * @return The state of the row's group
+     */
+
+    public PartialAggregate accumulate(Row row) {
+        return accumulate(key(row), row);
+    }
+
+    /**
+     * ⚒️ Folds one row into the group of an already computed key.
+     *
+     * @return The state of the group
+     */
+
+    public PartialAggregate accumulate(List<Object> key, Row row) {
+        PartialAggregate partial = open(key);
+        partial.accumulate(row);
+        return partial;
+    }
+
+    /**
+     * 🚪 The state of a group, opened empty if no row has reached it yet.
+     */
+
+    public PartialAggregate open(List<Object> key) {
+        return groups.computeIfAbsent(key, k -> spec.newPartial());
+    }
+
+    /**
+     * 🔑 The group a row belongs to — its values in the GROUP BY columns.
+     */
+
+    public List<Object> key(Row row) {
+        Object[] key = new Object[keyIndices.length];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = row.getValue(keyIndices[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    /**
+     * 🤝 Merges another worker's groups into these.
+     *
+     * @return this, for chaining in reductions
+     */
+
+    public GroupedAggregate merge(GroupedAggregate other) {
+        for (Map.Entry<List<Object>, PartialAggregate> group : other.groups.entrySet()) {
+            groups.merge(group.getKey(), group.getValue(), PartialAggregate::merge);
+        }
+        return this;
+    }
+
+    public int size() {
+        return groups.size();
+    }
+
+    // 🗂️ Every group's key and state, in first-seen order
+    Map<List<Object>, PartialAggregate> groups() {
+        return groups;
+    }
+
+    /**
+     * 🏆 One result row per group: the chosen key columns, then the aggregate results.
+     *
+     * @param keyColumns Positions within the group key to emit, in output order
+     */
+
+    public List<Row> rows(int[] keyColumns) {
+        List<Row> rows = new ArrayList<>(groups.size());
+        for (Map.Entry<List<Object>, PartialAggregate> group : groups.entrySet()) {
+            rows.add(row(group.getKey(), group.getValue(), keyColumns));
+        }
+        return rows;
+    }
+
+    /**
+     * 🏆 The result row of a single group.
+     */
+
+    public static Row row(List<Object> key, PartialAggregate partial, int[] keyColumns) {
+        List<Object> results = partial.results();
+        List<Object> values = new ArrayList<>(keyColumns.length + results.size());
+        for (int column : keyColumns) {
+            values.add(key.get(column));
+        }
+        values.addAll(results);
+        return new Row(values);
+    }
+}
@@ -0,0 +1,157 @@
+package com.yggra.executor;
+
+import com.yggra.commands.JoinType;
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 🔥 [RUNIC INSCRIPTION] 🔥
+ * The forge of Brokkr — joins two row lists on equal keys by building an {@link IntKeyHashTable}
+ * over the smaller side and probing it with the larger one.
+ * ⚡ Behavior:
+ *  - INNER: builds on whichever side is smaller.
+ *  - LEFT: builds on the smaller side too; when that is the left side, a bitset remembers which
+ *    left rows found a partner so the rest can be emitted with NULLs once probing ends.
+ *  - NULL keys never match, as in SQL.
+ *  - Memory budget: a build side larger than {@code budgetRows} is split (grace-hash style) into
+ *    partitions by key hash, and each partition pair is joined on its own, so no single hash table
+ *    ever holds more than roughly {@code budgetRows} entries.
+ * Output rows are the left values followed by the right values.
+ */
+
+final class HashJoin {
+
+    private HashJoin() {
+    }
+
+    /**
+     * ⚔️ Joins left and right on left[leftKey] = right[rightKey].
+     *
+     * @param left       Rows of the left input
+     * @param leftKey    Key position within left rows
+     * @param right      Rows of the right input
+     * @param rightKey   Key position within right rows
+     * @param rightWidth Values per right row (for NULL padding)
+     * @param type       INNER or LEFT
+     * @param budgetRows Maximum build-side rows held in one hash table
+     * @return The joined rows
+     */
+
+    static List<Row> join(List<Row> left, int leftKey,
+                          List<Row> right, int rightKey, int rightWidth,
+                          JoinType type, int budgetRows) {
+        int buildSize = Math.min(left.size(), right.size());
+        if (buildSize <= budgetRows) {
+            List<Row> output = new ArrayList<>();
+            joinInMemory(left, leftKey, right, rightKey, rightWidth, type, output);
+            return output;
+        }
+
+        // 🪓 Grace partitioning — the same key always lands in the same partition on both sides
+        int partitions = Integer.highestOneBit((buildSize + budgetRows - 1) / budgetRows - 1) << 1;
+        List<List<Row>> leftParts = partition(left, leftKey, partitions);
+        List<List<Row>> rightParts = partition(right, rightKey, partitions);
+
+        List<Row> output = new ArrayList<>();
+        for (int p = 0; p < partitions; p++) {
+            joinInMemory(leftParts.get(p), leftKey, rightParts.get(p), rightKey, rightWidth, type, output);
+        }
+        // 🌑 Rows with NULL keys were parked in the extra last partition; LEFT joins still owe them a row
+        if (type == JoinType.LEFT) {
+            for (Row row : leftParts.get(partitions)) {
+                output.add(concat(row, null, rightWidth));
+            }
+        }
+        return output;
+    }
+
+    private static void joinInMemory(List<Row> left, int leftKey,
+                                     List<Row> right, int rightKey, int rightWidth,
+                                     JoinType type, List<Row> output) {
+        boolean buildLeft = left.size() <= right.size();
+        List<Row> build = buildLeft ? left : right;
+        List<Row> probe = buildLeft ? right : left;
+        int buildKey = buildLeft ? leftKey : rightKey;
+        int probeKey = buildLeft ? rightKey : leftKey;
+
+        IntKeyHashTable table = new IntKeyHashTable(build.size());
+        for (int i = 0; i < build.size(); i++) {
+            Object key = build.get(i).getValue(buildKey);
+            if (key != null) {
+                table.put(hash(key), i);
+            }
+        }
+
+        BitSet matchedLeft = type == JoinType.LEFT && buildLeft ? new BitSet(build.size()) : null;
+
+        for (Row probeRow : probe) {
+            Object key = probeRow.getValue(probeKey);
+            boolean matched = false;
+            if (key != null) {
+                for (int entry = table.first(hash(key)); entry != -1; entry = table.next(entry)) {
+                    Row buildRow = build.get(entry);
+                    if (!key.equals(buildRow.getValue(buildKey))) {
+                        continue; // 🌫️ hash collision between different keys
+                    }
+                    matched = true;
+                    if (buildLeft) {
+                        output.add(concat(buildRow, probeRow, rightWidth));
+                        if (matchedLeft != null) {
+                            matchedLeft.set(entry);
+                        }
+                    } else {
+                        output.add(concat(probeRow, buildRow, rightWidth));
+                    }
+                }
+            }
+            if (!matched && type == JoinType.LEFT && !buildLeft) {
+                output.add(concat(probeRow, null, rightWidth));
+            }
+        }
+
+        if (matchedLeft != null) {
+            for (int i = matchedLeft.nextClearBit(0); i < build.size(); i = matchedLeft.nextClearBit(i + 1)) {
+                output.add(concat(build.get(i), null, rightWidth));
+            }
+        }
+    }
+
+    // 🪓 Splits rows into partitions by key hash; NULL keys go to an extra trailing partition
+    private static List<List<Row>> partition(List<Row> rows, int key, int partitions) {
+        List<List<Row>> parts = new ArrayList<>(partitions + 1);
+        for (int p = 0; p <= partitions; p++) {
+            parts.add(new ArrayList<>());
+        }
+        for (Row row : rows) {
+            Object value = row.getValue(key);
+            int p = value == null ? partitions : (IntKeyHashTable.mix(hash(value)) >>> 16) & (partitions - 1);
+            parts.get(p).add(row);
+        }
+        return parts;
+    }
+
+    // 🔢 INT keys hash to themselves; VARCHAR keys to their String hash
+    static int hash(Object key) {
+        return key instanceof Integer value ? value : key.hashCode();
+    }
+
+    /**
+     * 🌉 Glues a left row and a right row (or NULLs when right is null) into one output row.
+     */
+
+    static Row concat(Row left, Row right, int rightWidth) {
+        List<Object> values = new ArrayList<>(left.values.size() + rightWidth);
+        values.addAll(left.values);
+        if (right == null) {
+            for (int i = 0; i < rightWidth; i++) {
+                values.add(null);
+            }
+        } else {
+            values.addAll(right.values);
+        }
+        return new Row(values);
+    }
+}
@@ -0,0 +1,95 @@
+package com.yggra.executor;
+
+import java.util.Arrays;
+
+/**
+ * 🗝️ [RUNIC INSCRIPTION] 🗝️
+ * An open-addressing set of primitive ints — the distinct-value keeper for INT columns.
+ * Keys are stored unboxed in a single array; the table doubles whenever it passes half full.
+ */
+
+final class IntHashSet {
+
+    private int[] keys;
+    private boolean[] used;
+    private int size;
+    private int mask;
+
+    IntHashSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(8, expected) * 2 - 1) << 1;
+        this.keys = new int[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * ⚒️ Adds a key.
+     *
+     * @return true if the key was not yet present
+     */
+
+    boolean add(int key) {
+        int slot = IntKeyHashTable.mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(int key) {
+        int slot = IntKeyHashTable.mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 📦 Copies every key into a fresh array (unordered).
+     */
+
+    int[] toArray() {
+        int[] result = new int[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                result[n++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        keys = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        mask = keys.length - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                add(oldKeys[i]);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,81 @@
+package com.yggra.executor;
+
+import java.util.Arrays;
+
+/**
+ * 🗝️ [RUNIC INSCRIPTION] 🗝️
+ * An open-addressing multimap from primitive int keys to int entry numbers — no boxing, no node objects.
+ * ⚡ Layout:
+ *  - slotKeys / slotHeads: linear-probed slots, each holding a key and the newest entry chained under it.
+ *  - next: per-entry link to the previous entry with the same key (-1 ends the chain).
+ * Join build sides store each row's key hash with the row's position; probes walk the chain and
+ * confirm real key equality, so hash collisions between different VARCHAR keys are harmless.
+ */
+
+final class IntKeyHashTable {
+
+    private static final int EMPTY = -1;
+
+    private final int[] slotKeys;
+    private final int[] slotHeads;
+    private final int[] next;
+    private final int mask;
+
+    /**
+     * 🏗️ Sizes the table for a known number of entries at a load factor of at most one half.
+     *
+     * @param expectedEntries The number of entries that will be put
+     */
+
+    IntKeyHashTable(int expectedEntries) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedEntries) * 2 - 1) << 1;
+        this.slotKeys = new int[capacity];
+        this.slotHeads = new int[capacity];
+        Arrays.fill(slotHeads, EMPTY);
+        this.next = new int[Math.max(1, expectedEntries)];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * ⚒️ Chains an entry under a key. Entry numbers must be in [0, expectedEntries).
+     */
+
+    void put(int key, int entry) {
+        int slot = mix(key) & mask;
+        while (slotHeads[slot] != EMPTY && slotKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        slotKeys[slot] = key;
+        next[entry] = slotHeads[slot];
+        slotHeads[slot] = entry;
+    }
+
+    /**
+     * 🔍 The newest entry chained under a key, or -1 when the key is absent.
+     */
+
+    int first(int key) {
+        int slot = mix(key) & mask;
+        while (slotHeads[slot] != EMPTY) {
+            if (slotKeys[slot] == key) {
+                return slotHeads[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * ⛓️ The next (older) entry in the same chain, or -1 at its end.
+     */
+
+    int next(int entry) {
+        return next[entry];
+    }
+
+    // 🌀 Spreads clustered keys (sequential ids) across the slots
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
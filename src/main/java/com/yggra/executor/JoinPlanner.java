@@ -0,0 +1,237 @@
+package com.yggra.executor;
+
+import com.yggra.commands.Condition;
+import com.yggra.commands.JoinClause;
+import com.yggra.commands.JoinType;
+import com.yggra.models.ColumnStatistics;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.models.TableStatistics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🧭 [RUNIC INSCRIPTION] 🧭
+ * The cost-based planner for joins. It estimates row counts from the statistics ANALYZE leaves on
+ * each {@link Table} (or, for tables never analyzed, from their sizes and fixed guesses) and decides:
+ *  - Join order: a chain of INNER joins is evaluated greedily, always taking next the table whose
+ *    join with the rows built so far is estimated smallest. LEFT joins keep the written order.
+ *  - Join algorithm: a merge join when both inputs are known to be ordered on their keys — for an
+ *    analyzed table this is read from its statistics without a scan — otherwise a hash join.
+ * YggraDB has no secondary indexes, so every table is read by a full scan; the only access-path
+ * decision left is which tables to combine first.
+ */
+
+final class JoinPlanner {
+
+    // 🎲 Guessed selectivities for tables that were never analyzed
+    static final double DEFAULT_EQUALITY_SELECTIVITY = 0.1;
+    static final double DEFAULT_RANGE_SELECTIVITY = 1.0 / 3;
+
+    /**
+     * 🪜 One step of a join plan: a table (by its position in the FROM/JOIN list) and the clause that
+     * joins it onto the tables before it (null for the first table).
+     */
+
+    record Step(int table, JoinClause clause) {
+    }
+
+    private JoinPlanner() {
+    }
+
+    /**
+     * 🧭 Chooses the order in which the tables of a SELECT are joined.
+     *
+     * @param tables     The FROM table followed by each JOINed table, in written order
+     * @param joins      The JOIN clauses; joins[k] joins tables[k + 1]
+     * @param conditions The WHERE conditions, used to estimate how many rows of each table survive
+     * @return The steps to execute; the written order when reordering is not allowed or not understood
+     */
+
+    static List<Step> plan(List<Table> tables, List<JoinClause> joins, List<Condition> conditions) {
+        List<Step> written = new ArrayList<>();
+        written.add(new Step(0, null));
+        for (int k = 0; k < joins.size(); k++) {
+            written.add(new Step(k + 1, joins.get(k)));
+        }
+        // 🔒 With fewer than three tables there is nothing to reorder; LEFT joins must stay in place
+        if (joins.size() < 2 || joins.stream().anyMatch(join -> join.type != JoinType.INNER)) {
+            return written;
+        }
+
+        int n = tables.size();
+        int[][] ends = new int[joins.size()][];
+        for (int k = 0; k < joins.size(); k++) {
+            ends[k] = attribute(tables, joins.get(k));
+            if (ends[k] == null) {
+                return written; // 🌫️ a reference we cannot pin to one table — trust the written order
+            }
+        }
+        double[] rows = new double[n];
+        for (int t = 0; t < n; t++) {
+            rows[t] = estimateRows(tables.get(t), conditions, tables);
+        }
+
+        // 🌱 Seed with the cheapest single join, then grow greedily
+        boolean[] joined = new boolean[n];
+        List<Step> steps = new ArrayList<>();
+        int seedEdge = -1;
+        double seedCost = Double.MAX_VALUE;
+        for (int k = 0; k < joins.size(); k++) {
+            double cost = joinRows(rows[ends[k][0]], rows[ends[k][1]], tables, ends[k]);
+            if (cost < seedCost) {
+                seedCost = cost;
+                seedEdge = k;
+            }
+        }
+        int first = Math.min(ends[seedEdge][0], ends[seedEdge][1]);
+        int second = Math.max(ends[seedEdge][0], ends[seedEdge][1]);
+        steps.add(new Step(first, null));
+        steps.add(new Step(second, joins.get(seedEdge)));
+        joined[first] = true;
+        joined[second] = true;
+        double current = seedCost;
+
+        while (steps.size() < n) {
+            int bestEdge = -1;
+            int bestTable = -1;
+            double bestCost = Double.MAX_VALUE;
+            for (int k = 0; k < joins.size(); k++) {
+                int a = ends[k][0];
+                int b = ends[k][1];
+                if (joined[a] == joined[b]) {
+                    continue;
+                }
+                int next = joined[a] ? b : a;
+                double cost = joinRows(joined[a] ? current : rows[a], joined[b] ? current : rows[b], tables, ends[k]);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestEdge = k;
+                    bestTable = next;
+                }
+            }
+            if (bestEdge == -1) {
+                return written; // 🌉 disconnected join graph — should not happen for a chain of ON clauses
+            }
+            steps.add(new Step(bestTable, joins.get(bestEdge)));
+            joined[bestTable] = true;
+            current = bestCost;
+        }
+        return steps;
+    }
+
+    /**
+     * 🌊 True when the rows are ordered on the key, as a merge join requires. When the rows come
+     * straight from an analyzed table's scan (filtering keeps their order) the answer is read from
+     * its statistics; otherwise the rows are checked.
+     *
+     * @param table     The table the rows were scanned from, or null for intermediate join results
+     * @param reference The key's column reference, to find it in the table's own schema
+     */
+
+    static boolean isOrderedOn(List<Row> rows, int key, Table table, String reference) {
+        if (table != null && table.statistics != null) {
+            int column = BoundSchema.of(table).find(reference);
+            if (column != -1) {
+                return table.statistics.column(column).isOrdered();
+            }
+        }
+        return MergeJoin.isOrderedOn(rows, key);
+    }
+
+    /**
+     * 📏 Estimated rows of a table that survive the WHERE conditions that concern only that table.
+     */
+
+    static double estimateRows(Table table, List<Condition> conditions, List<Table> tables) {
+        TableStatistics statistics = table.statistics;
+        double rows = statistics != null ? statistics.rowCount() : table.liveRowCount();
+        BoundSchema schema = BoundSchema.of(table);
+        for (Condition condition : conditions) {
+            int index = owningColumn(condition.columnName, table, tables);
+            if (index == -1) {
+                continue;
+            }
+            rows *= selectivity(statistics, schema, index, condition);
+        }
+        return rows;
+    }
+
+    private static double selectivity(TableStatistics statistics, BoundSchema schema, int index, Condition condition) {
+        if (statistics != null) {
+            try {
+                Object literal = RowPredicate.convertLiteral(schema.column(index), condition);
+                return statistics.column(index).selectivity(condition.operator, literal);
+            } catch (RuntimeException e) {
+                return 1; // the predicate compiler will report the bad literal
+            }
+        }
+        return switch (condition.operator) {
+            case EQUALS -> DEFAULT_EQUALITY_SELECTIVITY;
+            case NOT_EQUALS -> 1 - DEFAULT_EQUALITY_SELECTIVITY;
+            default -> DEFAULT_RANGE_SELECTIVITY;
+        };
+    }
+
+    /**
+     * 🌉 Estimated rows of an equi-join: |L| × |R| / max(distinct(left key), distinct(right key)).
+     * Without statistics a key is assumed unique within its input.
+     */
+
+    private static double joinRows(double leftRows, double rightRows, List<Table> tables, int[] ends) {
+        double leftDistinct = distinctKeys(tables.get(ends[0]), ends[2], leftRows);
+        double rightDistinct = distinctKeys(tables.get(ends[1]), ends[3], rightRows);
+        return leftRows * rightRows / Math.max(1, Math.max(leftDistinct, rightDistinct));
+    }
+
+    private static double distinctKeys(Table table, int column, double rows) {
+        if (table.statistics == null) {
+            return rows;
+        }
+        ColumnStatistics statistics = table.statistics.column(column);
+        return Math.min(rows, statistics.distinctValues());
+    }
+
+    /**
+     * 🔍 Pins both ON references of a clause to a single table each.
+     *
+     * @return {leftTable, rightTable, leftColumn, rightColumn}, or null if either reference is absent or ambiguous
+     */
+
+    private static int[] attribute(List<Table> tables, JoinClause join) {
+        int[] left = owner(join.leftColumn, tables);
+        int[] right = owner(join.rightColumn, tables);
+        if (left == null || right == null || left[0] == right[0]) {
+            return null;
+        }
+        return new int[]{left[0], right[0], left[1], right[1]};
+    }
+
+    // 🏛️ {table position, column position} of the single table that resolves the reference, or null
+    static int[] owner(String reference, List<Table> tables) {
+        int[] found = null;
+        for (int t = 0; t < tables.size(); t++) {
+            int index;
+            try {
+                index = BoundSchema.of(tables.get(t)).find(reference);
+            } catch (RuntimeException e) {
+                return null;
+            }
+            if (index == -1) {
+                continue;
+            }
+            if (found != null) {
+                return null;
+            }
+            found = new int[]{t, index};
+        }
+        return found;
+    }
+
+    // 🏷️ The column a condition reads if it belongs to the given table alone, else -1
+    private static int owningColumn(String reference, Table table, List<Table> tables) {
+        int[] owner = owner(reference, tables);
+        return owner != null && tables.get(owner[0]) == table ? owner[1] : -1;
+    }
+}
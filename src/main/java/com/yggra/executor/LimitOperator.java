@@ -0,0 +1,57 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+/**
+ * ✂️ [RUNIC INSCRIPTION] ✂️
+ * LIMIT / OFFSET — skips the first {@code offset} rows, hands out at most {@code limit} more,
+ * then sends the stop signal down the pipeline so the scan beneath ends immediately.
+ */
+
+public final class LimitOperator implements Operator {
+
+    private final Operator child;
+    private final long limit;
+    private long toSkip;
+    private long produced;
+
+    /**
+     * @param child  The operator to draw rows from
+     * @param limit  Maximum rows to hand out (-1 for no limit)
+     * @param offset Rows to discard first
+     */
+
+    public LimitOperator(Operator child, long limit, long offset) {
+        this.child = child;
+        this.limit = limit;
+        this.toSkip = offset;
+    }
+
+    @Override
+    public Row next() {
+        if (limit >= 0 && produced >= limit) {
+            child.close();
+            return null;
+        }
+        while (toSkip > 0) {
+            if (child.next() == null) {
+                return null;
+            }
+            toSkip--;
+        }
+        Row row = child.next();
+        if (row == null) {
+            return null;
+        }
+        produced++;
+        if (limit >= 0 && produced >= limit) {
+            child.close(); // 🛑 enough — stop the scan before it reads another row
+        }
+        return row;
+    }
+
+    @Override
+    public void close() {
+        child.close();
+    }
+}
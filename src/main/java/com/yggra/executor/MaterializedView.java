@@ -0,0 +1,271 @@
+package com.yggra.executor;
+
+import com.yggra.commands.AggregateCall;
+import com.yggra.commands.AggregateFunction;
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.SelectCommand;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.models.TableObserver;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🪞 [RUNIC INSCRIPTION] 🪞
+ * A materialized view — the stored result of a single-table SELECT, kept current as its source grows.
+ * ⚡ Rules:
+ *  - A projection view (plain columns, optional WHERE) appends the projection of each inserted row that passes the WHERE.
+ *  - An aggregate view (aggregates, optional GROUP BY) keeps one {@link PartialAggregate} per group and folds
+ *    each inserted row into its group as a delta: the group's row is replaced, no other row is touched.
+ *    Without GROUP BY the view always holds exactly one row, even over an empty source.
+ *  - Any other change to the source's rows (UPDATE, DELETE, TRUNCATE) recomputes the view from scratch.
+ *  - Columns are named after what they hold: plain columns keep their name, aggregates become
+ *    count, sum_gold, avg_gold, count_distinct_clan, ...; COUNT, SUM and APPROX_COUNT_DISTINCT are INT columns, AVG is DOUBLE.
+ * The view is read like any table, but it changes only through its source.
+ */
+
+public final class MaterializedView extends Table implements TableObserver {
+
+    private final Table source;
+
+    // 🔍 The SELECT whose result the view holds
+    public final SelectCommand query;
+
+    private final RowPredicate predicate;
+
+    // ✂️ Projection views: the source columns kept (null for aggregate views)
+    private final int[] projection;
+
+    // 🧮 Aggregate views: the aggregates, the GROUP BY columns, and which key positions lead each view row
+    private final AggregateSpec spec;
+    private final int[] keyIndices;
+    private final int[] keyOutput;
+    private GroupedAggregate groups;
+    private final Map<List<Object>, Integer> slots = new HashMap<>();
+
+    private MaterializedView(String name, List<ColumnDefinition> columns, Table source, SelectCommand query,
+                             RowPredicate predicate, int[] projection, AggregateSpec spec, int[] keyIndices, int[] keyOutput) {
+        super(name, columns);
+        this.source = source;
+        this.query = query;
+        this.predicate = predicate;
+        this.projection = projection;
+        this.spec = spec;
+        this.keyIndices = keyIndices;
+        this.keyOutput = keyOutput;
+    }
+
+    /**
+     * 🔨 Compiles a view over its source table and computes its first contents.
+     * The view is not yet registered as an observer of the source — the caller does that.
+     *
+     * @param name   The view's name
+     * @param query  A single-table SELECT without TABLESAMPLE, DISTINCT, subqueries, window calls, LIMIT or OFFSET
+     * @param source The table named in the query's FROM
+     * @throws RuntimeException if the query cannot be maintained incrementally, or names unknown or clashing columns
+     */
+
+    public static MaterializedView create(String name, SelectCommand query, Table source) {
+        if (!query.joins.isEmpty()) {
+            throw new RuntimeException("🪞 [MIRROR OF ONE REALM] A materialized view reflects a single table — JOINs cannot be kept in step.");
+        }
+        if (query.sample != null) {
+            throw new RuntimeException("🪞 [MIRROR UNBOUND] A materialized view reflects its whole source — TABLESAMPLE cannot be kept in step.");
+        }
+        if (!query.subqueries.isEmpty()) {
+            throw new RuntimeException("🪞 [MIRROR UNBOUND] A materialized view cannot hold subqueries — a change to the tables they read would go unseen.");
+        }
+        if (!query.windows.isEmpty()) {
+            throw new RuntimeException("🪞 [MIRROR UNBOUND] A materialized view cannot hold window calls — one new row would shift the values of its neighbours.");
+        }
+        if (query.distinct || query.limit >= 0 || query.offset > 0) {
+            throw new RuntimeException("🪞 [MIRROR UNBOUND] A materialized view cannot hold DISTINCT, LIMIT or OFFSET — use GROUP BY to fold duplicates.");
+        }
+        if (source.isDerived()) {
+            throw new RuntimeException("🪞 [MIRROR OF A MIRROR] '" + source.tableName + "' is itself a materialized view — build views over tables only.");
+        }
+
+        BoundSchema schema = BoundSchema.of(source);
+        RowPredicate predicate = RowPredicate.compile(query.conditions, schema);
+        List<ColumnDefinition> columns = new ArrayList<>();
+
+        if (query.aggregates.isEmpty() && query.groupBy.isEmpty()) {
+            List<String> selected = query.columns.size() == 1 && query.columns.getFirst().equalsIgnoreCase("ALL")
+                    ? source.columnList.stream().map(column -> column.columnName).toList()
+                    : query.columns;
+            int[] projection = new int[selected.size()];
+            for (int i = 0; i < projection.length; i++) {
+                projection[i] = schema.resolve(selected.get(i));
+                columns.add(copyOf(unqualified(selected.get(i)), schema.column(projection[i])));
+            }
+            return refreshed(new MaterializedView(name, unique(columns), source, query, predicate, projection, null, null, null));
+        }
+
+        AggregateSpec spec = AggregateSpec.compile(query.aggregates, schema);
+        int[] keyIndices = new int[query.groupBy.size()];
+        for (int i = 0; i < keyIndices.length; i++) {
+            keyIndices[i] = schema.resolve(query.groupBy.get(i));
+        }
+        int[] keyOutput = new int[query.columns.size()];
+        for (int i = 0; i < keyOutput.length; i++) {
+            keyOutput[i] = query.groupBy.indexOf(query.columns.get(i));
+            columns.add(copyOf(unqualified(query.columns.get(i)), schema.column(keyIndices[keyOutput[i]])));
+        }
+        for (int i = 0; i < query.aggregates.size(); i++) {
+            AggregateCall call = query.aggregates.get(i);
+            int index = spec.columnIndices[i];
+            columns.add(switch (call.function) {
+                case COUNT, SUM, APPROX_COUNT_DISTINCT -> new ColumnDefinition(aggregateName(call), TokenType.INT, -1);
+                case AVG -> new ColumnDefinition(aggregateName(call), TokenType.DOUBLE, -1);
+                case MIN, MAX, APPROX_PERCENTILE -> copyOf(aggregateName(call), schema.column(index));
+            });
+        }
+        return refreshed(new MaterializedView(name, unique(columns), source, query, predicate, null, spec, keyIndices, keyOutput));
+    }
+
+    private static MaterializedView refreshed(MaterializedView view) {
+        view.refresh();
+        return view;
+    }
+
+    // 🏷️ sum_gold, count_distinct_clan, approx_percentile_95_gold, or count for COUNT(*)
+    private static String aggregateName(AggregateCall call) {
+        String name = call.function.name().toLowerCase() + (call.distinct ? "_distinct" : "")
+                + (call.percentile >= 0 ? "_" + call.percentile : "");
+        return call.columnName == null ? name : name + "_" + unqualified(call.columnName);
+    }
+
+    private static String unqualified(String reference) {
+        return reference.substring(reference.indexOf('.') + 1);
+    }
+
+    private static ColumnDefinition copyOf(String name, ColumnDefinition column) {
+        return new ColumnDefinition(name, column.type, column.length);
+    }
+
+    private static List<ColumnDefinition> unique(List<ColumnDefinition> columns) {
+        Set<String> names = new HashSet<>();
+        for (ColumnDefinition column : columns) {
+            if (!names.add(column.columnName)) {
+                throw new RuntimeException("🔄 [ECHO OF CONFUSION] The view would hold two columns named '" + column.columnName + "' — select each column and aggregate only once.");
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * 🔁 Recomputes the whole view from its source.
+     */
+
+    public void refresh() {
+        rowList.clear();
+        slots.clear();
+        if (projection != null) {
+            rowList.addAll(MorselScheduler.filter(source.scanRows(), source.tombstones(), predicate, projection));
+        } else {
+            groups = MorselScheduler.group(source.scanRows(), source.tombstones(), predicate, spec, keyIndices);
+            if (keyIndices.length == 0) {
+                groups.open(List.of()); // a view without GROUP BY always holds its one row
+            }
+            for (Map.Entry<List<Object>, PartialAggregate> group : groups.groups().entrySet()) {
+                slots.put(group.getKey(), rowList.size());
+                rowList.add(viewRow(group.getKey(), group.getValue()));
+            }
+        }
+        changed();
+    }
+
+    // 🏆 A group's view row; COUNT and SUM are narrowed to the INT columns that hold them
+    private Row viewRow(List<Object> key, PartialAggregate partial) {
+        Row row = GroupedAggregate.row(key, partial, keyOutput);
+        for (int i = 0; i < spec.functions.length; i++) {
+            int column = keyOutput.length + i;
+            if (row.values.get(column) instanceof Long value) {
+                try {
+                    row.values.set(column, Math.toIntExact(value));
+                } catch (ArithmeticException e) {
+                    throw new RuntimeException("🌊 [OVERFLOWING MIRROR] " + columnList.get(column).columnName + " of view '" + tableName + "' no longer fits an INT.");
+                }
+            }
+        }
+        return row;
+    }
+
+    private void changed() {
+        version++;
+        statistics = null;
+    }
+
+    @Override
+    public boolean isDerived() {
+        return true;
+    }
+
+    @Override
+    public String name() {
+        return tableName;
+    }
+
+    /**
+     * 🛡️ Refuses a row that would push a SUM of its group past what an INT column holds.
+     */
+
+    @Override
+    public void beforeInsert(Row row) {
+        if (spec == null || !predicate.test(row)) {
+            return;
+        }
+        Integer slot = slots.get(groups.key(row));
+        for (int i = 0; i < spec.functions.length; i++) {
+            if (spec.functions[i] != AggregateFunction.SUM || spec.distinct[i] || row.getValue(spec.columnIndices[i]) == null) {
+                continue;
+            }
+            Object current = slot == null ? null : rowList.get(slot).getValue(keyOutput.length + i);
+            long sum = (current == null ? 0L : (Integer) current) + (Integer) row.getValue(spec.columnIndices[i]);
+            if (sum != (int) sum) {
+                throw new RuntimeException("🌊 [OVERFLOWING MIRROR] This row would push " + columnList.get(keyOutput.length + i).columnName
+                        + " of view '" + tableName + "' past what an INT can hold.");
+            }
+        }
+    }
+
+    /**
+     * ⚒️ Applies one inserted source row to the view.
+     */
+
+    @Override
+    public void afterInsert(Row row) {
+        if (!predicate.test(row)) {
+            return;
+        }
+        if (projection != null) {
+            rowList.add(ProjectOperator.project(row, projection));
+        } else {
+            List<Object> key = groups.key(row);
+            Row updated = viewRow(key, groups.accumulate(key, row));
+            Integer slot = slots.putIfAbsent(key, rowList.size());
+            if (slot == null) {
+                rowList.add(updated);
+            } else {
+                rowList.set(slot, updated); // rows handed out earlier stay as they were
+            }
+        }
+        changed();
+    }
+
+    @Override
+    public void rowsReplaced() {
+        refresh();
+    }
+
+    // 🔗 The table the view reflects
+    public Table source() {
+        return source;
+    }
+}
@@ -0,0 +1,82 @@
+package com.yggra.executor;
+
+import com.yggra.commands.JoinType;
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🌊 [RUNIC INSCRIPTION] 🌊
+ * Joins two inputs that already arrive ordered by their join keys by walking both in lock-step —
+ * no hash table is built and no memory beyond the output is needed.
+ * YggraDB keeps no secondary indexes, so "already ordered" is established by {@link #isOrderedOn},
+ * a single cheap pass; tables filled with ascending ids (the common case) qualify without any sorting.
+ */
+
+final class MergeJoin {
+
+    private MergeJoin() {
+    }
+
+    /**
+     * 🔍 True when every key is non-NULL and the keys never decrease.
+     */
+
+    @SuppressWarnings("unchecked")
+    static boolean isOrderedOn(List<Row> rows, int key) {
+        Comparable<Object> previous = null;
+        for (Row row : rows) {
+            Object value = row.getValue(key);
+            if (value == null) {
+                return false;
+            }
+            if (previous != null && previous.compareTo(value) > 0) {
+                return false;
+            }
+            previous = (Comparable<Object>) value;
+        }
+        return true;
+    }
+
+    /**
+     * ⚔️ Merges two ordered inputs on left[leftKey] = right[rightKey].
+     * Both inputs must satisfy {@link #isOrderedOn}.
+     *
+     * @return The joined rows, in key order
+     */
+
+    @SuppressWarnings("unchecked")
+    static List<Row> join(List<Row> left, int leftKey, List<Row> right, int rightKey, int rightWidth, JoinType type) {
+        List<Row> output = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < left.size()) {
+            Comparable<Object> leftValue = (Comparable<Object>) left.get(i).getValue(leftKey);
+            // 🌊 Skip right rows whose keys are already behind
+            while (j < right.size() && leftValue.compareTo(right.get(j).getValue(rightKey)) > 0) {
+                j++;
+            }
+            int runEnd = j;
+            while (runEnd < right.size() && leftValue.compareTo(right.get(runEnd).getValue(rightKey)) == 0) {
+                runEnd++;
+            }
+            // ⚔️ Every left row with this key meets every right row of the matching run
+            do {
+                Row leftRow = left.get(i);
+                if (runEnd == j) {
+                    if (type == JoinType.LEFT) {
+                        output.add(HashJoin.concat(leftRow, null, rightWidth));
+                    }
+                } else {
+                    for (int r = j; r < runEnd; r++) {
+                        output.add(HashJoin.concat(leftRow, right.get(r), rightWidth));
+                    }
+                }
+                i++;
+            } while (i < left.size() && leftValue.compareTo(left.get(i).getValue(leftKey)) == 0);
+            j = runEnd;
+        }
+        return output;
+    }
+}
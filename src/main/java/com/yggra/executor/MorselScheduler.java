@@ -0,0 +1,333 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * 🌳 [RUNIC INSCRIPTION] 🌳
+ * The Einherjar of Valhalla — a work-stealing pool, one warrior per core, that splits a table's
+ * rows into fixed-size morsels and fights over them until none remain.
+ * ⚡ Behavior:
+ *  - Inputs smaller than one morsel are processed inline on the calling thread; forking costs more than it saves.
+ *  - Larger inputs are split recursively by morsel range; idle workers steal the other halves.
+ *  - Filtering writes each morsel's survivors into its own slot, so output order matches table order.
+ *    A pushed-down projection is applied by the worker that judged the row, so only surviving rows
+ *    are ever copied, and only the columns the query still needs.
+ *  - Aggregation folds each morsel into a private {@link PartialAggregate}; partials merge on the way back up.
+ *    Grouping does the same with a private {@link GroupedAggregate} per morsel, merged left to right.
+ * Positions set in a table's tombstones (DELETEd rows awaiting compaction) are skipped by every scan.
+ * Rows must not be mutated while a scan is running — the REPL executes one statement at a time.
+ */
+
+public final class MorselScheduler {
+
+    // 📦 Rows per morsel — large enough to amortise task overhead, small enough to balance across cores
+    public static final int MORSEL_SIZE = 16_384;
+
+    // ⚔️ One worker per core; ForkJoinPool workers are daemons and never hold the JVM open
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private MorselScheduler() {
+    }
+
+    /**
+     * ⚖️ [PARALLEL JUDGMENT] ⚖️
+     * Returns the rows that satisfy the predicate, in their original order.
+     *
+     * @param rows      The rows to scan (read-only during the scan)
+     * @param predicate The compiled WHERE clause
+     * @return A new list holding the surviving rows
+     */
+
+    public static List<Row> filter(List<Row> rows, RowPredicate predicate) {
+        return filter(rows, predicate, null);
+    }
+
+    /**
+     * ⚖️ [PARALLEL JUDGMENT] ⚖️
+     * Returns the rows that satisfy the predicate, narrowed to the given columns, in their original order.
+     *
+     * @param rows       The rows to scan (read-only during the scan)
+     * @param predicate  The compiled WHERE clause, judged against the full rows
+     * @param projection The column positions to keep, or null to keep the rows whole
+     * @return A new list holding the surviving rows
+     */
+
+    public static List<Row> filter(List<Row> rows, RowPredicate predicate, int[] projection) {
+        return filter(rows, null, predicate, projection);
+    }
+
+    /**
+     * ⚖️ [PARALLEL JUDGMENT] ⚖️
+     * Like {@link #filter(List, RowPredicate, int[])}, over a table's row list that may hold tombstones.
+     *
+     * @param dead The positions to skip (see {@link com.yggra.models.Table#tombstones()}), or null
+     */
+
+    public static List<Row> filter(List<Row> rows, BitSet dead, RowPredicate predicate, int[] projection) {
+        int morsels = morselCount(rows.size());
+        if (morsels <= 1) {
+            return filterRange(rows, dead, predicate, projection, 0, rows.size());
+        }
+        @SuppressWarnings("unchecked")
+        List<Row>[] survivors = (List<Row>[]) new List<?>[morsels];
+        POOL.invoke(new FilterTask(rows, dead, predicate, projection, survivors, 0, morsels));
+
+        int total = 0;
+        for (List<Row> part : survivors) {
+            total += part.size();
+        }
+        List<Row> result = new ArrayList<>(total);
+        for (List<Row> part : survivors) {
+            result.addAll(part);
+        }
+        return result;
+    }
+
+    /**
+     * 🧮 [PARALLEL FOLDING] 🧮
+     * Folds every row that satisfies the predicate into the aggregates of the spec.
+     *
+     * @param rows      The rows to scan (read-only during the scan)
+     * @param predicate The compiled WHERE clause
+     * @param spec      The compiled aggregates
+     * @return The merged partial holding the final state
+     */
+
+    public static PartialAggregate aggregate(List<Row> rows, RowPredicate predicate, AggregateSpec spec) {
+        return aggregate(rows, null, predicate, spec);
+    }
+
+    // 🧮 The same, skipping the tombstoned positions in dead (may be null)
+    public static PartialAggregate aggregate(List<Row> rows, BitSet dead, RowPredicate predicate, AggregateSpec spec) {
+        int morsels = morselCount(rows.size());
+        if (morsels <= 1) {
+            return aggregateRange(rows, dead, predicate, spec, 0, rows.size());
+        }
+        return POOL.invoke(new AggregateTask(rows, dead, predicate, spec, 0, morsels));
+    }
+
+    /**
+     * 🗂️ [PARALLEL GROUPING] 🗂️
+     * Folds every row that satisfies the predicate into the aggregates of its group.
+     *
+     * @param rows       The rows to scan (read-only during the scan)
+     * @param predicate  The compiled WHERE clause
+     * @param spec       The compiled aggregates
+     * @param keyIndices The positions of the GROUP BY columns
+     * @return The merged groups, in the order they first appear in the rows
+     */
+
+    public static GroupedAggregate group(List<Row> rows, RowPredicate predicate, AggregateSpec spec, int[] keyIndices) {
+        return group(rows, null, predicate, spec, keyIndices);
+    }
+
+    // 🗂️ The same, skipping the tombstoned positions in dead (may be null)
+    public static GroupedAggregate group(List<Row> rows, BitSet dead, RowPredicate predicate, AggregateSpec spec, int[] keyIndices) {
+        int morsels = morselCount(rows.size());
+        if (morsels <= 1) {
+            return groupRange(rows, dead, predicate, spec, keyIndices, 0, rows.size());
+        }
+        return POOL.invoke(new GroupTask(rows, dead, predicate, spec, keyIndices, 0, morsels));
+    }
+
+    /**
+     * 🪓 [PARALLEL LABOUR] 🪓
+     * Runs independent tasks on the pool's workers (a single task inline) and returns their results in task order.
+     *
+     * @param tasks The tasks; each must touch only what it alone owns
+     * @return One result per task, in the order the tasks were given
+     * @throws RuntimeException the failure of the first failing task, as it threw it
+     */
+
+    static <T> List<T> invokeAll(List<Supplier<T>> tasks) {
+        if (tasks.size() == 1) {
+            return List.of(tasks.getFirst().get());
+        }
+        List<Future<T>> futures = POOL.invokeAll(tasks.stream().<Callable<T>>map(task -> task::get).toList());
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("🌳 [LABOUR INTERRUPTED] The Einherjar were called from the field before their work was done.");
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException failure ? failure : new RuntimeException(e.getCause());
+            }
+        }
+        return results;
+    }
+
+    private static int morselCount(int rowCount) {
+        return (rowCount + MORSEL_SIZE - 1) / MORSEL_SIZE;
+    }
+
+    private static List<Row> filterRange(List<Row> rows, BitSet dead, RowPredicate predicate, int[] projection, int from, int to) {
+        List<Row> survivors = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            Row row = rows.get(i);
+            if ((dead == null || !dead.get(i)) && predicate.test(row)) {
+                survivors.add(projection == null ? row : ProjectOperator.project(row, projection));
+            }
+        }
+        return survivors;
+    }
+
+    private static PartialAggregate aggregateRange(List<Row> rows, BitSet dead, RowPredicate predicate, AggregateSpec spec, int from, int to) {
+        PartialAggregate partial = spec.newPartial();
+        boolean acceptsAll = predicate.acceptsAll();
+        for (int i = from; i < to; i++) {
+            Row row = rows.get(i);
+            if ((dead == null || !dead.get(i)) && (acceptsAll || predicate.test(row))) {
+                partial.accumulate(row);
+            }
+        }
+        return partial;
+    }
+
+    private static GroupedAggregate groupRange(List<Row> rows, BitSet dead, RowPredicate predicate, AggregateSpec spec, int[] keyIndices, int from, int to) {
+        GroupedAggregate groups = new GroupedAggregate(spec, keyIndices);
+        boolean acceptsAll = predicate.acceptsAll();
+        for (int i = from; i < to; i++) {
+            Row row = rows.get(i);
+            if ((dead == null || !dead.get(i)) && (acceptsAll || predicate.test(row))) {
+                groups.accumulate(row);
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * 🗡️ Splits a range of morsels until a single morsel remains, then filters it into its slot.
+     */
+
+    private static final class FilterTask extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L; // 🪶 a fork/join task is never serialized
+
+        private final transient List<Row> rows;
+        private final BitSet dead;
+        private final transient RowPredicate predicate;
+        private final int[] projection;
+        private final transient List<Row>[] survivors;
+        private final int firstMorsel;
+        private final int lastMorsel; // exclusive
+
+        FilterTask(List<Row> rows, BitSet dead, RowPredicate predicate, int[] projection, List<Row>[] survivors, int firstMorsel, int lastMorsel) {
+            this.rows = rows;
+            this.dead = dead;
+            this.predicate = predicate;
+            this.projection = projection;
+            this.survivors = survivors;
+            this.firstMorsel = firstMorsel;
+            this.lastMorsel = lastMorsel;
+        }
+
+        @Override
+        protected void compute() {
+            if (lastMorsel - firstMorsel == 1) {
+                int from = firstMorsel * MORSEL_SIZE;
+                int to = Math.min(from + MORSEL_SIZE, rows.size());
+                survivors[firstMorsel] = filterRange(rows, dead, predicate, projection, from, to);
+                return;
+            }
+            int middle = (firstMorsel + lastMorsel) >>> 1;
+            invokeAll(new FilterTask(rows, dead, predicate, projection, survivors, firstMorsel, middle),
+                    new FilterTask(rows, dead, predicate, projection, survivors, middle, lastMorsel));
+        }
+    }
+
+    /**
+     * 🗡️ Splits a range of morsels until a single morsel remains, folds it, and merges partials upward.
+     */
+
+    private static final class AggregateTask extends RecursiveTask<PartialAggregate> {
+        @Serial
+        private static final long serialVersionUID = 1L; // 🪶 a fork/join task is never serialized
+
+        private final transient List<Row> rows;
+        private final BitSet dead;
+        private final transient RowPredicate predicate;
+        private final transient AggregateSpec spec;
+        private final int firstMorsel;
+        private final int lastMorsel; // exclusive
+
+        AggregateTask(List<Row> rows, BitSet dead, RowPredicate predicate, AggregateSpec spec, int firstMorsel, int lastMorsel) {
+            this.rows = rows;
+            this.dead = dead;
+            this.predicate = predicate;
+            this.spec = spec;
+            this.firstMorsel = firstMorsel;
+            this.lastMorsel = lastMorsel;
+        }
+
+        @Override
+        protected PartialAggregate compute() {
+            if (lastMorsel - firstMorsel == 1) {
+                int from = firstMorsel * MORSEL_SIZE;
+                int to = Math.min(from + MORSEL_SIZE, rows.size());
+                return aggregateRange(rows, dead, predicate, spec, from, to);
+            }
+            int middle = (firstMorsel + lastMorsel) >>> 1;
+            AggregateTask left = new AggregateTask(rows, dead, predicate, spec, firstMorsel, middle);
+            AggregateTask right = new AggregateTask(rows, dead, predicate, spec, middle, lastMorsel);
+            left.fork();
+            PartialAggregate rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    /**
+     * 🗡️ Splits a range of morsels until a single morsel remains, groups it, and merges groups upward.
+     */
+
+    private static final class GroupTask extends RecursiveTask<GroupedAggregate> {
+        @Serial
+        private static final long serialVersionUID = 1L; // 🪶 a fork/join task is never serialized
+
+        private final transient List<Row> rows;
+        private final BitSet dead;
+        private final transient RowPredicate predicate;
+        private final transient AggregateSpec spec;
+        private final int[] keyIndices;
+        private final int firstMorsel;
+        private final int lastMorsel; // exclusive
+
+        GroupTask(List<Row> rows, BitSet dead, RowPredicate predicate, AggregateSpec spec, int[] keyIndices, int firstMorsel, int lastMorsel) {
+            this.rows = rows;
+            this.dead = dead;
+            this.predicate = predicate;
+            this.spec = spec;
+            this.keyIndices = keyIndices;
+            this.firstMorsel = firstMorsel;
+            this.lastMorsel = lastMorsel;
+        }
+
+        @Override
+        protected GroupedAggregate compute() {
+            if (lastMorsel - firstMorsel == 1) {
+                int from = firstMorsel * MORSEL_SIZE;
+                int to = Math.min(from + MORSEL_SIZE, rows.size());
+                return groupRange(rows, dead, predicate, spec, keyIndices, from, to);
+            }
+            int middle = (firstMorsel + lastMorsel) >>> 1;
+            GroupTask left = new GroupTask(rows, dead, predicate, spec, keyIndices, firstMorsel, middle);
+            GroupTask right = new GroupTask(rows, dead, predicate, spec, keyIndices, middle, lastMorsel);
+            left.fork();
+            GroupedAggregate rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+/**
+ * ⛓️ [RUNIC INSCRIPTION] ⛓️
+ * One link of a query's pull pipeline — scan → filter → project → limit.
+ * Each operator hands out one row per {@link #next()} call, pulling from its child only as needed,
+ * so a consumer that stops asking stops the whole chain beneath it.
+ */
+
+public interface Operator {
+
+    /**
+     * 📦 Produces the next row, or null once the operator is exhausted.
+     */
+
+    Row next();
+
+    /**
+     * 🛑 The stop signal — the consumer needs no more rows.
+     * Operators pass it to their children so scans end without touching the rest of the table.
+     */
+
+    void close();
+}
@@ -0,0 +1,151 @@
+package com.yggra.executor;
+
+import com.yggra.commands.AggregateFunction;
+import com.yggra.models.HyperLogLog;
+import com.yggra.models.QuantileSketch;
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🏺 [RUNIC INSCRIPTION] 🏺
+ * The running state of every aggregate in an {@link AggregateSpec}, owned by a single worker.
+ * Counts and sums live in primitive arrays so folding a row allocates nothing; partials from
+ * different morsels are combined with {@link #merge(PartialAggregate)}.
+ * COUNT(DISTINCT ...) keeps a {@link DistinctCounter} per call instead of a running count;
+ * APPROX_COUNT_DISTINCT keeps a {@link HyperLogLog} and APPROX_PERCENTILE a {@link QuantileSketch},
+ * both of fixed size and merged sketch by sketch.
+ */
+
+public final class PartialAggregate {
+
+    private final AggregateSpec spec;
+    private final long[] counts;
+    private final long[] sums;
+    private final Comparable<Object>[] extremes;
+    private final DistinctCounter[] distinct;
+    private final HyperLogLog[] distinctSketches;
+    private final QuantileSketch[] quantileSketches;
+
+    @SuppressWarnings("unchecked")
+    PartialAggregate(AggregateSpec spec) {
+        this.spec = spec;
+        int size = spec.functions.length;
+        this.counts = new long[size];
+        this.sums = new long[size];
+        this.extremes = (Comparable<Object>[]) new Comparable<?>[size];
+        this.distinct = new DistinctCounter[size];
+        this.distinctSketches = new HyperLogLog[size];
+        this.quantileSketches = new QuantileSketch[size];
+        for (int i = 0; i < size; i++) {
+            if (spec.distinct[i]) {
+                distinct[i] = new DistinctCounter(spec.distinctBudget);
+            } else if (spec.functions[i] == AggregateFunction.APPROX_COUNT_DISTINCT) {
+                distinctSketches[i] = new HyperLogLog();
+            } else if (spec.functions[i] == AggregateFunction.APPROX_PERCENTILE) {
+                quantileSketches[i] = new QuantileSketch();
+            }
+        }
+    }
+
+    /**
+     * ⚒️ Folds one row into the running state.
+     */
+
+    @SuppressWarnings("unchecked")
+    public void accumulate(Row row) {
+        for (int i = 0; i < counts.length; i++) {
+            int index = spec.columnIndices[i];
+            if (index < 0) {
+                counts[i]++; // COUNT(*)
+                continue;
+            }
+            Object value = row.getValue(index);
+            if (value == null) {
+                continue; // aggregates skip the void
+            }
+            if (distinct[i] != null) {
+                distinct[i].add(value);
+                continue;
+            }
+            counts[i]++;
+            switch (spec.functions[i]) {
+                case SUM, AVG -> sums[i] += (Integer) value;
+                case APPROX_COUNT_DISTINCT -> distinctSketches[i].add(value);
+                case APPROX_PERCENTILE -> quantileSketches[i].add((Integer) value);
+                case MIN -> {
+                    if (extremes[i] == null || extremes[i].compareTo(value) > 0) {
+                        extremes[i] = (Comparable<Object>) value;
+                    }
+                }
+                case MAX -> {
+                    if (extremes[i] == null || extremes[i].compareTo(value) < 0) {
+                        extremes[i] = (Comparable<Object>) value;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+
+    /**
+     * 🤝 Merges another worker's partial into this one.
+     *
+     * @param other A partial built from the same spec
+     * @return this, for chaining in reductions
+     */
+
+    public PartialAggregate merge(PartialAggregate other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+            sums[i] += other.sums[i];
+            if (distinct[i] != null) {
+                distinct[i].merge(other.distinct[i]);
+                continue;
+            }
+            if (distinctSketches[i] != null) {
+                distinctSketches[i].merge(other.distinctSketches[i]);
+                continue;
+            }
+            if (quantileSketches[i] != null) {
+                quantileSketches[i].merge(other.quantileSketches[i]);
+                continue;
+            }
+            Comparable<Object> theirs = other.extremes[i];
+            if (theirs == null) {
+                continue;
+            }
+            if (extremes[i] == null
+                    || (spec.functions[i] == AggregateFunction.MIN && extremes[i].compareTo(theirs) > 0)
+                    || (spec.functions[i] == AggregateFunction.MAX && extremes[i].compareTo(theirs) < 0)) {
+                extremes[i] = theirs;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 🏆 The final values, one per aggregate, in SELECT order.
+     * COUNT and APPROX_COUNT_DISTINCT yield 0 over an empty input; SUM, MIN, MAX, AVG and APPROX_PERCENTILE yield NULL.
+     */
+
+    public List<Object> results() {
+        List<Object> results = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            results.add(switch (spec.functions[i]) {
+                case COUNT -> distinct[i] != null ? distinct[i].count() : counts[i];
+                case SUM -> counts[i] == 0 ? null : sums[i];
+                case AVG -> counts[i] == 0 ? null : (double) sums[i] / counts[i];
+                case MIN, MAX -> extremes[i];
+                case APPROX_COUNT_DISTINCT -> Math.min(distinctSketches[i].estimate(), counts[i]);
+                case APPROX_PERCENTILE -> {
+                    Long value = quantileSketches[i].quantile(spec.fractions[i]);
+                    yield value == null ? null : value.intValue();
+                }
+            });
+        }
+        return results;
+    }
+}
@@ -0,0 +1,403 @@
+package com.yggra.executor;
+
+import com.yggra.commands.AggregateFunction;
+import com.yggra.commands.Condition;
+import com.yggra.commands.JoinClause;
+import com.yggra.commands.SelectCommand;
+import com.yggra.commands.TableSample;
+import com.yggra.commands.WindowCall;
+import com.yggra.models.ColumnStatistics;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.models.TableStatistics;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 📜 [RUNIC INSCRIPTION] 📜
+ * A SELECT planned once and executed many times.
+ * ⚡ What is fixed at preparation:
+ *  - the tables the statement reads, and the schema version each was planned against
+ *  - the pushdown of conditions and projections, and the join order chosen by the {@link JoinPlanner}
+ *  - every resolved column index — the selected columns, the GROUP BY keys, the aggregate spec, the window specs,
+ *    the DISTINCT kernel
+ * ⚡ What is bound per execution:
+ *  - the literals of the WHERE conditions (a template's '?' placeholders included), compiled into
+ *    fresh {@link RowPredicate}s; the bound SELECT must have the template's shape, only its values differ
+ *  - the choice between merge and hash join, which depends on the rows actually present
+ *  - the TABLESAMPLE draw, taken afresh on every execution unless its seed is REPEATABLE
+ *  - the WHERE subqueries, each run once and probed as a {@link SemiJoin}
+ * A plan goes stale when a table it reads is dropped, recreated or altered — see {@link #isValid}.
+ */
+
+public final class PreparedQuery {
+
+    private final SelectCommand template;
+    private final List<Table> joinedTables;
+    private final int[] schemaVersions;
+
+    // 🧭 Single-table plans leave these null
+    private final Pushdown pushdown;
+    private final List<JoinPlanner.Step> steps;
+    private final BoundSchema[] scanSchemas;
+
+    // 🗺️ The schema of the rows the final predicate, aggregates and projection read
+    private final BoundSchema schema;
+    private final AggregateSpec aggregates;
+    private final List<String> columns;
+    private final int[] columnIndices;
+    private final boolean singleIntDistinct;
+
+    // 🗂️ GROUP BY: the key columns in the schema, and which key positions the SELECT list emits (null without GROUP BY)
+    private final int[] groupKeys;
+    private final int[] groupOutput;
+
+    // 🪟 Window calls: one spec per distinct window, each appending its values after the schema's columns (null without windows)
+    private final List<WindowSpec> windows;
+
+    // 🪆 Resolves the tables of the WHERE subqueries, which are run anew at each execution
+    private final Function<String, Table> tables;
+
+    // 🔢 Where each template condition sits, so a bound SELECT's conditions can be looked up by position
+    private final Map<Condition, Integer> positions = new IdentityHashMap<>();
+
+    private PreparedQuery(SelectCommand template, List<Table> joinedTables, Function<String, Table> tables) {
+        this.template = template;
+        this.joinedTables = joinedTables;
+        this.tables = tables;
+        this.schemaVersions = new int[joinedTables.size()];
+        for (int t = 0; t < joinedTables.size(); t++) {
+            schemaVersions[t] = joinedTables.get(t).schemaVersion;
+        }
+        for (int i = 0; i < template.conditions.size(); i++) {
+            positions.put(template.conditions.get(i), i);
+        }
+
+        if (template.joins.isEmpty()) {
+            pushdown = null;
+            steps = null;
+            scanSchemas = null;
+            schema = BoundSchema.of(joinedTables.getFirst());
+        } else {
+            pushdown = Pushdown.plan(template, joinedTables);
+            steps = JoinPlanner.plan(joinedTables, template.joins, template.conditions);
+            scanSchemas = new BoundSchema[joinedTables.size()];
+            BoundSchema joined = null;
+            for (JoinPlanner.Step step : steps) {
+                int t = step.table();
+                scanSchemas[t] = scanSchema(joinedTables.get(t), pushdown.projections[t]);
+                joined = joined == null ? scanSchemas[t] : joined.join(scanSchemas[t]);
+            }
+            schema = joined;
+        }
+
+        // ⚖️ Resolve the remaining conditions now, so an unknown column fails at preparation
+        for (Condition condition : template.joins.isEmpty() ? template.conditions : pushdown.remaining) {
+            schema.resolve(condition.columnName);
+        }
+
+        if (!template.groupBy.isEmpty()) {
+            aggregates = AggregateSpec.compile(template.aggregates, schema);
+            groupKeys = new int[template.groupBy.size()];
+            for (int i = 0; i < groupKeys.length; i++) {
+                groupKeys[i] = schema.resolve(template.groupBy.get(i));
+            }
+            groupOutput = new int[template.columns.size()];
+            for (int i = 0; i < groupOutput.length; i++) {
+                groupOutput[i] = template.groupBy.indexOf(template.columns.get(i));
+            }
+            columns = new ArrayList<>(template.columns);
+            columns.addAll(aggregates.headers());
+            columnIndices = null;
+            singleIntDistinct = false;
+            windows = null;
+        } else if (!template.aggregates.isEmpty()) {
+            aggregates = AggregateSpec.compile(template.aggregates, schema);
+            groupKeys = null;
+            groupOutput = null;
+            columns = null;
+            columnIndices = null;
+            singleIntDistinct = false;
+            windows = null;
+        } else {
+            aggregates = null;
+            groupKeys = null;
+            groupOutput = null;
+            List<String> selected = selectedColumns(template.joins.isEmpty() ? schema : writtenSchema(joinedTables), template.columns);
+            columns = new ArrayList<>(selected);
+            columnIndices = new int[selected.size() + template.windows.size()];
+            for (int i = 0; i < selected.size(); i++) {
+                columnIndices[i] = schema.resolve(selected.get(i));
+            }
+            if (template.windows.isEmpty()) {
+                windows = null;
+                singleIntDistinct = columnIndices.length == 1 && schema.column(columnIndices[0]).type == TokenType.INT;
+            } else {
+                windows = WindowSpec.compile(template.windows, schema);
+                for (int i = 0; i < template.windows.size(); i++) {
+                    WindowCall call = template.windows.get(i);
+                    int appended = schema.size(); // 🪟 each stage appends its values after the ones before it
+                    for (WindowSpec window : windows) {
+                        if (window.calls.contains(call)) {
+                            columnIndices[selected.size() + i] = appended + window.calls.indexOf(call);
+                        }
+                        appended += window.size();
+                    }
+                    columns.add(call.toString());
+                }
+                singleIntDistinct = false;
+            }
+        }
+    }
+
+    /**
+     * 🔨 Plans a SELECT against the current tables.
+     *
+     * @param template The parsed SELECT; its condition values may still be '?' placeholders
+     * @param tables   Resolves table names (FROM and JOIN) to tables of the current realm
+     * @throws RuntimeException if a table or column is unknown
+     */
+
+    public static PreparedQuery prepare(SelectCommand template, Function<String, Table> tables) {
+        List<Table> joinedTables = new ArrayList<>();
+        joinedTables.add(tables.apply(template.tableName));
+        for (JoinClause join : template.joins) {
+            joinedTables.add(tables.apply(join.tableName));
+        }
+        return new PreparedQuery(template, joinedTables, tables);
+    }
+
+    /**
+     * 🔍 Whether the plan still describes the realm: every table it reads resolves to the same
+     * table it was planned against, at the same schema version.
+     */
+
+    public boolean isValid(Function<String, Table> tables) {
+        try {
+            if (tables.apply(template.tableName) != joinedTables.getFirst() || joinedTables.getFirst().schemaVersion != schemaVersions[0]) {
+                return false;
+            }
+            for (int k = 0; k < template.joins.size(); k++) {
+                Table table = joinedTables.get(k + 1);
+                if (tables.apply(template.joins.get(k).tableName) != table || table.schemaVersion != schemaVersions[k + 1]) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            return false; // 🕳️ a table has been dropped
+        }
+    }
+
+    /**
+     * ⚔️ Executes the plan with a SELECT of the template's shape.
+     *
+     * @param bound The template itself, or a copy whose condition values have been bound
+     * @return The projected (or aggregated) result
+     * @throws RuntimeException if a bound literal does not match its column's type
+     */
+
+    public QueryResult execute(SelectCommand bound) {
+        List<Row> rows;
+        BitSet dead = null; // 🪦 the FROM table's tombstones, while rows is still its row list
+        RowPredicate predicate;
+        if (template.joins.isEmpty()) {
+            Table from = joinedTables.getFirst();
+            if (bound.sample == null) {
+                rows = from.scanRows();
+                dead = from.tombstones();
+            } else {
+                rows = TableSampler.sample(from.scanRows(), from.tombstones(), bound.sample);
+            }
+            predicate = RowPredicate.compile(bound.conditions, schema);
+        } else {
+            int first = steps.getFirst().table();
+            rows = scan(joinedTables.get(first), first == 0 ? bound.sample : null, bind(pushdown.pushed.get(first), bound), pushdown.projections[first]);
+            BoundSchema joinedSchema = scanSchemas[first];
+            Table baseTable = joinedTables.get(first); // 🏛️ non-null while the rows are still one table's scan
+            for (JoinPlanner.Step step : steps.subList(1, steps.size())) {
+                int t = step.table();
+                Table joined = joinedTables.get(t);
+                List<Row> joinedRows = scan(joined, t == 0 ? bound.sample : null, bind(pushdown.pushed.get(t), bound), pushdown.projections[t]);
+                rows = join(rows, joinedSchema, baseTable, joinedRows, scanSchemas[t], joined, step.clause());
+                joinedSchema = joinedSchema.join(scanSchemas[t]);
+                baseTable = null;
+            }
+            predicate = RowPredicate.compile(bind(pushdown.remaining, bound), schema);
+        }
+        if (!bound.subqueries.isEmpty()) {
+            rows = SemiJoin.filter(MorselScheduler.filter(rows, dead, predicate, null), schema, bound.subqueries, tables);
+            dead = null;
+            predicate = RowPredicate.ALWAYS;
+        }
+
+        if (groupKeys != null) {
+            return group(bound, rows, dead, predicate);
+        }
+        if (aggregates != null) {
+            return aggregate(bound, rows, dead, predicate);
+        }
+        return project(bound, rows, dead, predicate);
+    }
+
+    // 🔗 The bound SELECT's conditions standing where the template's planned ones stood
+    private List<Condition> bind(List<Condition> planned, SelectCommand bound) {
+        if (bound == template) {
+            return planned;
+        }
+        List<Condition> conditions = new ArrayList<>(planned.size());
+        for (Condition condition : planned) {
+            conditions.add(bound.conditions.get(positions.get(condition)));
+        }
+        return conditions;
+    }
+
+    // 🧮 Folds the rows morsel by morsel into a single result row
+    private QueryResult aggregate(SelectCommand command, List<Row> rows, BitSet dead, RowPredicate predicate) {
+        List<Object> results = fromStatistics(command);
+        if (results == null) {
+            results = MorselScheduler.aggregate(rows, dead, predicate, aggregates).results();
+        }
+        List<Row> aggregated = List.of(new Row(results));
+        Operator pipeline = new LimitOperator(new ScanOperator(aggregated, RowPredicate.ALWAYS), command.limit, command.offset);
+        return new QueryResult(aggregates.headers(), drain(pipeline));
+    }
+
+    // 📊 APPROX_ aggregates over a whole analyzed table are read off its column sketches, which every INSERT keeps current
+    private List<Object> fromStatistics(SelectCommand command) {
+        TableStatistics statistics = joinedTables.getFirst().statistics;
+        if (!template.joins.isEmpty() || !command.conditions.isEmpty() || !command.subqueries.isEmpty() || command.sample != null || statistics == null) {
+            return null;
+        }
+        for (AggregateFunction function : aggregates.functions) {
+            if (!function.isApproximate()) {
+                return null;
+            }
+        }
+        List<Object> results = new ArrayList<>(aggregates.functions.length);
+        for (int i = 0; i < aggregates.functions.length; i++) {
+            ColumnStatistics column = statistics.column(aggregates.columnIndices[i]);
+            results.add(aggregates.functions[i] == AggregateFunction.APPROX_COUNT_DISTINCT
+                    ? column.distinctValues()
+                    : column.quantile(aggregates.fractions[i]));
+        }
+        return results;
+    }
+
+    // 🗂️ Folds the rows morsel by morsel into one result row per group, then applies [distinct] → limit
+    private QueryResult group(SelectCommand command, List<Row> rows, BitSet dead, RowPredicate predicate) {
+        GroupedAggregate groups = MorselScheduler.group(rows, dead, predicate, aggregates, groupKeys);
+        Operator grouped = new ScanOperator(groups.rows(groupOutput), RowPredicate.ALWAYS);
+        if (command.distinct) {
+            grouped = new DistinctOperator(grouped, false, QueryEngine.DISTINCT_BUDGET_VALUES);
+        }
+        return new QueryResult(columns, drain(new LimitOperator(grouped, command.limit, command.offset)));
+    }
+
+    // 🎯 Filters and projects the rows through the scan → [window...] → [distinct] → limit pipeline
+    private QueryResult project(SelectCommand command, List<Row> rows, BitSet dead, RowPredicate predicate) {
+        Operator projected;
+        if (windows != null) {
+            // 🪟 Every window sorts all the filtered rows, so they are judged in parallel and projected last
+            projected = new ScanOperator(MorselScheduler.filter(rows, dead, predicate, null), RowPredicate.ALWAYS);
+            for (WindowSpec window : windows) {
+                projected = new WindowOperator(projected, window);
+            }
+            projected = new ProjectOperator(projected, columnIndices);
+        } else if (command.limit >= 0 || predicate.acceptsAll()) {
+            // 🔦 With a LIMIT the scan streams and stops early; without one every morsel is judged in parallel
+            projected = new ScanOperator(rows, dead, predicate, columnIndices);
+        } else {
+            projected = new ScanOperator(MorselScheduler.filter(rows, dead, predicate, columnIndices), RowPredicate.ALWAYS);
+        }
+        if (command.distinct) {
+            projected = new DistinctOperator(projected, singleIntDistinct, QueryEngine.DISTINCT_BUDGET_VALUES);
+        }
+        Operator pipeline = new LimitOperator(projected, command.limit, command.offset);
+        return new QueryResult(columns, drain(pipeline));
+    }
+
+    // 🪨 A table's live (sampled) rows after its pushed-down conditions and projection (the table's own list when nothing applies)
+    private static List<Row> scan(Table table, TableSample sample, List<Condition> pushed, int[] projection) {
+        List<Row> rows = table.scanRows();
+        BitSet dead = table.tombstones();
+        if (sample != null) {
+            rows = TableSampler.sample(rows, dead, sample);
+            dead = null;
+        }
+        if (pushed.isEmpty() && projection == null && dead == null) {
+            return rows;
+        }
+        RowPredicate predicate = RowPredicate.compile(pushed, BoundSchema.of(table));
+        return MorselScheduler.filter(rows, dead, predicate, projection);
+    }
+
+    private static BoundSchema scanSchema(Table table, int[] projection) {
+        BoundSchema schema = BoundSchema.of(table);
+        return projection == null ? schema : schema.project(projection);
+    }
+
+    // 🏺 Pulls every row out of a pipeline, then closes it
+    private static List<Row> drain(Operator pipeline) {
+        List<Row> result = new ArrayList<>();
+        for (Row row = pipeline.next(); row != null; row = pipeline.next()) {
+            result.add(row);
+        }
+        pipeline.close();
+        return result;
+    }
+
+    /**
+     * 🌉 Joins the rows built so far (left) with a table (right) on the clause's ON columns.
+     * Either side of the '=' may name either input; the keys must share a type.
+     */
+
+    private static List<Row> join(List<Row> left, BoundSchema leftSchema, Table leftTable,
+                                  List<Row> right, BoundSchema rightSchema, Table rightTable, JoinClause join) {
+        String leftReference = join.leftColumn;
+        String rightReference = join.rightColumn;
+        if (leftSchema.find(leftReference) == -1 || rightSchema.find(rightReference) == -1) {
+            // 🔄 ON b.x = a.y — the references were written the other way round
+            leftReference = join.rightColumn;
+            rightReference = join.leftColumn;
+        }
+        int leftKey = leftSchema.find(leftReference);
+        int rightKey = rightSchema.find(rightReference);
+        if (leftKey == -1 || rightKey == -1) {
+            throw new RuntimeException("🌉 [BRIDGE WITHOUT PILLARS] " + join + " must name one column from each side of the join!");
+        }
+        if (leftSchema.column(leftKey).type != rightSchema.column(rightKey).type) {
+            throw new RuntimeException("⚔️ [TYPE JUDGMENT] " + join + " binds columns of different essence — "
+                    + leftSchema.column(leftKey).type + " can never equal " + rightSchema.column(rightKey).type + "!");
+        }
+
+        if (JoinPlanner.isOrderedOn(left, leftKey, leftTable, leftReference)
+                && JoinPlanner.isOrderedOn(right, rightKey, rightTable, rightReference)) {
+            return MergeJoin.join(left, leftKey, right, rightKey, rightSchema.size(), join.type);
+        }
+        return HashJoin.join(left, leftKey, right, rightKey, rightSchema.size(), join.type, QueryEngine.JOIN_BUDGET_ROWS);
+    }
+
+    // 🗺️ The schema in FROM/JOIN order, which fixes the column order of SELECT *
+    private static BoundSchema writtenSchema(List<Table> joinedTables) {
+        BoundSchema schema = BoundSchema.of(joinedTables.getFirst());
+        for (Table table : joinedTables.subList(1, joinedTables.size())) {
+            schema = schema.join(BoundSchema.of(table));
+        }
+        return schema;
+    }
+
+    // 🌐 SELECT * expands to every column of every joined table, in row order
+    private static List<String> selectedColumns(BoundSchema schema, List<String> columns) {
+        if (columns.size() == 1 && columns.getFirst().equalsIgnoreCase("ALL")) {
+            return schema.displayNames();
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,193 @@
+package com.yggra.executor;
+
+import com.yggra.commands.Condition;
+import com.yggra.commands.DeleteCommand;
+import com.yggra.commands.InsertCommand;
+import com.yggra.commands.SQLCommand;
+import com.yggra.commands.SelectCommand;
+import com.yggra.commands.UpdateCommand;
+import com.yggra.commands.ValueDefinition;
+import com.yggra.models.DatabaseManager;
+import com.yggra.models.InsertPlan;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📦 [RUNIC INSCRIPTION] 📦
+ * A statement lexed and parsed once, executed many times with its `?` placeholders bound anew.
+ * ⚡ What is cached:
+ *  - the parsed command (the template)
+ *  - for a SELECT, its {@link PreparedQuery} — resolved columns, pushdown and join order
+ *  - for an INSERT, its {@link InsertPlan} — the column mapping and the types rows are validated against
+ * Plans are built at the first execution and rebuilt only when a table they read has been dropped,
+ * recreated or altered since; binding a parameter never replans.
+ * Example:
+ *   PreparedStatement find = PreparedStatement.prepare("SELECT name FROM warriors WHERE id = ?;");
+ *   QueryResult kratos = find.executeQuery(7);
+ */
+
+public final class PreparedStatement {
+
+    // 📜 The parsed statement, its placeholders still unbound
+    public final SQLCommand template;
+
+    // ❓ How many `?` placeholders the statement holds
+    public final int parameterCount;
+
+    private PreparedQuery query;
+    private InsertPlan insert;
+
+    public PreparedStatement(SQLCommand template, int parameterCount) {
+        this.template = template;
+        this.parameterCount = parameterCount;
+    }
+
+    /**
+     * 🔨 Lexes and parses a statement once.
+     *
+     * @param sql One statement, `?` standing for each value bound later
+     * @throws RuntimeException describing the first syntax error
+     */
+
+    public static PreparedStatement prepare(String sql) {
+        Parser parser = new Parser(new Lexer().tokenize(sql));
+        return new PreparedStatement(parser.parseStatement(), parser.parameterCount());
+    }
+
+    /**
+     * 🔭 Executes a prepared SELECT and returns its rows instead of printing them.
+     *
+     * @param arguments One value per placeholder: Integer or Long, String, or null
+     * @throws RuntimeException if the statement is not a SELECT, or the arguments do not fit it
+     */
+
+    public QueryResult executeQuery(Object... arguments) {
+        if (!(template instanceof SelectCommand)) {
+            throw new RuntimeException("🔭 [BLIND SEER] Only a prepared SELECT yields rows to behold!");
+        }
+        return query((SelectCommand) bind(values(arguments)));
+    }
+
+    /**
+     * ⚔️ Executes the prepared statement — a SELECT prints its rows as the REPL would.
+     *
+     * @param arguments One value per placeholder: Integer or Long, String, or null
+     * @throws RuntimeException if the arguments do not fit the statement, or the statement itself fails
+     */
+
+    public void execute(Object... arguments) {
+        execute(values(arguments), new SQLExecutor());
+    }
+
+    // ⚡ Binds the placeholders, then runs the statement through its cached plan
+    void execute(List<ValueDefinition> arguments, SQLExecutor executor) {
+        SQLCommand bound = bind(arguments);
+        switch (bound) {
+            case SelectCommand select -> DatabaseManager.getInstance().selectCommand(select, this::query);
+            case InsertCommand insertCommand -> {
+                DatabaseManager realm = DatabaseManager.getInstance();
+                if (!isInsertPlanValid(realm, insertCommand.tableName)) {
+                    insert = realm.prepareInsert(insertCommand.tableName, insertCommand.columns);
+                }
+                realm.insertIntoTable(insert, insertCommand.rows);
+            }
+            default -> executor.execute(bound);
+        }
+    }
+
+    private QueryResult query(SelectCommand bound) {
+        DatabaseManager realm = realm();
+        if (query == null || !query.isValid(realm::getTable)) {
+            query = PreparedQuery.prepare((SelectCommand) template, realm::getTable);
+        }
+        return query.execute(bound);
+    }
+
+    private boolean isInsertPlanValid(DatabaseManager realm, String tableName) {
+        try {
+            return insert != null && insert.isValidFor(realm.getTable(tableName));
+        } catch (RuntimeException e) {
+            return false; // 🕳️ no realm, or the table has been dropped — preparing again reports why
+        }
+    }
+
+    private static DatabaseManager realm() {
+        DatabaseManager realm = DatabaseManager.getInstance();
+        if (!realm.hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [ABYSS OF NOTHINGNESS] A prepared statement needs a realm — use `USE <database>` first!");
+        }
+        return realm;
+    }
+
+    /**
+     * 🔗 The template with each placeholder replaced by its argument.
+     *
+     * @throws RuntimeException if the number of arguments differs from the number of placeholders
+     */
+
+    SQLCommand bind(List<ValueDefinition> arguments) {
+        if (arguments.size() != parameterCount) {
+            throw new RuntimeException("⚖️ [SCALES UNBALANCED] The statement awaits " + parameterCount
+                    + " value(s) but " + arguments.size() + " were offered!");
+        }
+        if (parameterCount == 0) {
+            return template;
+        }
+        return switch (template) {
+            case SelectCommand select -> new SelectCommand(select.tableName, select.sample, select.distinct, select.joins, select.columns,
+                    select.aggregates, select.windows, bind(select.conditions, arguments), select.subqueries, select.groupBy, select.limit, select.offset);
+            case InsertCommand insertCommand -> {
+                List<List<ValueDefinition>> rows = new ArrayList<>(insertCommand.rows.size());
+                for (List<ValueDefinition> row : insertCommand.rows) {
+                    List<ValueDefinition> values = new ArrayList<>(row.size());
+                    for (ValueDefinition value : row) {
+                        values.add(substitute(value, arguments));
+                    }
+                    rows.add(values);
+                }
+                yield new InsertCommand(insertCommand.tableName, insertCommand.columns, rows);
+            }
+            case UpdateCommand update -> {
+                List<ValueDefinition> values = new ArrayList<>(update.values.size());
+                for (ValueDefinition value : update.values) {
+                    values.add(substitute(value, arguments));
+                }
+                yield new UpdateCommand(update.tableName, update.columns, values, bind(update.conditions, arguments));
+            }
+            case DeleteCommand delete -> new DeleteCommand(delete.tableName, bind(delete.conditions, arguments));
+            default -> template;
+        };
+    }
+
+    private static List<Condition> bind(List<Condition> conditions, List<ValueDefinition> arguments) {
+        List<Condition> bound = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            bound.add(new Condition(condition.columnName, condition.operator, substitute(condition.value, arguments)));
+        }
+        return bound;
+    }
+
+    private static ValueDefinition substitute(ValueDefinition value, List<ValueDefinition> arguments) {
+        return value.type == TokenType.PARAMETER ? arguments.get((Integer) value.constant) : value;
+    }
+
+    // 🔮 Java values as the literals the parser would have produced for them
+    private static List<ValueDefinition> values(Object... arguments) {
+        List<ValueDefinition> values = new ArrayList<>(arguments.length);
+        for (Object argument : arguments) {
+            values.add(switch (argument) {
+                case null -> new ValueDefinition(TokenType.NULL, null);
+                case Integer number -> new ValueDefinition(TokenType.NUMBER_LITERAL, number.toString(), number);
+                case Long number -> new ValueDefinition(TokenType.NUMBER_LITERAL, number.toString());
+                case String text -> new ValueDefinition(TokenType.STRING_LITERAL, text);
+                default -> throw new RuntimeException("🔮 [ALIEN ESSENCE] YggraDB binds only numbers, strings and NULL — not "
+                        + argument.getClass().getSimpleName() + "!");
+            });
+        }
+        return values;
+    }
+}
@@ -0,0 +1,45 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🎯 [RUNIC INSCRIPTION] 🎯
+ * Narrows each row to the requested column positions, in SELECT order.
+ */
+
+public final class ProjectOperator implements Operator {
+
+    private final Operator child;
+    private final int[] columnIndices;
+
+    public ProjectOperator(Operator child, int[] columnIndices) {
+        this.child = child;
+        this.columnIndices = columnIndices;
+    }
+
+    @Override
+    public Row next() {
+        Row row = child.next();
+        return row == null ? null : project(row, columnIndices);
+    }
+
+    /**
+     * 🎯 Copies the values at the given positions into a new, narrower row.
+     */
+
+    static Row project(Row row, int[] columnIndices) {
+        List<Object> values = new ArrayList<>(columnIndices.length);
+        for (int index : columnIndices) {
+            values.add(row.getValue(index));
+        }
+        return new Row(values);
+    }
+
+    @Override
+    public void close() {
+        child.close();
+    }
+}
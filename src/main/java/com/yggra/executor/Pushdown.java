@@ -0,0 +1,142 @@
+package com.yggra.executor;
+
+import com.yggra.commands.AggregateCall;
+import com.yggra.commands.Condition;
+import com.yggra.commands.Correlation;
+import com.yggra.commands.JoinClause;
+import com.yggra.commands.JoinType;
+import com.yggra.commands.SelectCommand;
+import com.yggra.commands.SubqueryCondition;
+import com.yggra.commands.WindowCall;
+import com.yggra.models.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 🪨 [RUNIC INSCRIPTION] 🪨
+ * Decides what each table's scan can do before a join sees its rows.
+ * ⚡ Pushdown rules:
+ *  - Predicates: a WHERE condition that reads a single table is judged while that table is scanned,
+ *    so rows that fail it never reach a join. Conditions on the NULL-padded side of a LEFT join stay
+ *    above the join, because there they must also reject the padding.
+ *  - Projection: each scan keeps only the columns still read above it — the SELECT list, the
+ *    aggregates, the GROUP BY keys, the remaining conditions and the join keys — so joined rows stay narrow.
+ * A reference that cannot be pinned to one table (an ambiguous bare name) disables the pushdown it
+ * concerns; the schema above the joins then reports it exactly as before.
+ */
+
+final class Pushdown {
+
+    // ⚖️ Conditions judged during each table's scan, by written table position
+    final List<List<Condition>> pushed;
+
+    // ⚖️ Conditions judged after the joins
+    final List<Condition> remaining;
+
+    // ✂️ The columns each table's scan keeps, or null for all of them
+    final int[][] projections;
+
+    private Pushdown(List<List<Condition>> pushed, List<Condition> remaining, int[][] projections) {
+        this.pushed = pushed;
+        this.remaining = remaining;
+        this.projections = projections;
+    }
+
+    /**
+     * 🪨 Plans the pushdown for a joined SELECT.
+     *
+     * @param command The parsed SELECT
+     * @param tables  The FROM table followed by each JOINed table, in written order
+     */
+
+    static Pushdown plan(SelectCommand command, List<Table> tables) {
+        int n = tables.size();
+        boolean[] nullSupplying = new boolean[n];
+        for (int k = 0; k < command.joins.size(); k++) {
+            nullSupplying[k + 1] = command.joins.get(k).type == JoinType.LEFT;
+        }
+
+        List<List<Condition>> pushed = new ArrayList<>();
+        for (int t = 0; t < n; t++) {
+            pushed.add(new ArrayList<>());
+        }
+        List<Condition> remaining = new ArrayList<>();
+        for (Condition condition : command.conditions) {
+            int[] owner = JoinPlanner.owner(condition.columnName, tables);
+            if (owner != null && !nullSupplying[owner[0]]) {
+                pushed.get(owner[0]).add(condition);
+            } else {
+                remaining.add(condition);
+            }
+        }
+
+        return new Pushdown(pushed, remaining, projections(command, tables, remaining));
+    }
+
+    // ✂️ Per table, the sorted column positions read above the scan; all null when anything is unresolved
+    private static int[][] projections(SelectCommand command, List<Table> tables, List<Condition> remaining) {
+        int[][] none = new int[tables.size()][];
+        boolean selectAll = command.aggregates.isEmpty()
+                && command.columns.size() == 1 && command.columns.getFirst().equalsIgnoreCase("ALL");
+        if (selectAll) {
+            return none;
+        }
+
+        List<String> references = new ArrayList<>(command.columns);
+        for (AggregateCall call : command.aggregates) {
+            if (call.columnName != null) {
+                references.add(call.columnName);
+            }
+        }
+        references.addAll(command.groupBy);
+        for (WindowCall call : command.windows) {
+            if (call.columnName != null) {
+                references.add(call.columnName);
+            }
+            references.addAll(call.partitionBy);
+            references.addAll(call.orderBy);
+        }
+        for (Condition condition : remaining) {
+            references.add(condition.columnName);
+        }
+        for (JoinClause join : command.joins) {
+            references.add(join.leftColumn);
+            references.add(join.rightColumn);
+        }
+        for (SubqueryCondition subquery : command.subqueries) {
+            if (subquery.columnName != null) {
+                references.add(subquery.columnName);
+            }
+            // 🔗 Only the outer side of a correlation is read from these tables; the subquery reads its own
+            for (Correlation correlation : subquery.correlations) {
+                for (String side : List.of(correlation.leftColumn, correlation.rightColumn)) {
+                    if (JoinPlanner.owner(side, tables) != null) {
+                        references.add(side);
+                    }
+                }
+            }
+        }
+
+        List<TreeSet<Integer>> needed = new ArrayList<>();
+        for (int t = 0; t < tables.size(); t++) {
+            needed.add(new TreeSet<>());
+        }
+        for (String reference : references) {
+            int[] owner = JoinPlanner.owner(reference, tables);
+            if (owner == null) {
+                return none;
+            }
+            needed.get(owner[0]).add(owner[1]);
+        }
+
+        int[][] projections = new int[tables.size()][];
+        for (int t = 0; t < tables.size(); t++) {
+            if (needed.get(t).size() < tables.get(t).columnList.size()) {
+                projections[t] = needed.get(t).stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+        return projections;
+    }
+}
@@ -0,0 +1,49 @@
+package com.yggra.executor;
+
+import com.yggra.commands.SelectCommand;
+import com.yggra.models.Table;
+
+import java.util.function.Function;
+
+/**
+ * 🔭 [RUNIC INSCRIPTION] 🔭
+ * The Seer of Yggra — turns a parsed SELECT into a {@link QueryResult}.
+ * ⚡ Flow:
+ *  1. Scan each JOINed table with its single-table conditions and unread columns pushed down
+ *     ({@link Pushdown}), then join them onto the FROM table in the order the {@link JoinPlanner}
+ *     estimates cheapest — a merge join when both inputs are already ordered by their keys,
+ *     otherwise a memory-budgeted hash join. Columns keep their written order whatever the join order.
+ *  2. Compile the remaining WHERE conditions into a {@link RowPredicate} once per statement.
+ *  3. Aggregates → fold the rows morsel by morsel on the {@link MorselScheduler} pool —
+ *     into one result row, or with GROUP BY into one row per group ({@link GroupedAggregate}).
+ *  4. Columns → pull rows through a scan (filter and projection fused) → [distinct] → limit
+ *     {@link Operator} pipeline.
+ *     Without a LIMIT the scan's source is filtered morsel-parallel up front; with one it streams
+ *     serially so the stop signal from {@link LimitOperator} ends it after just enough rows.
+ * The plan itself is a {@link PreparedQuery}; a one-off SELECT is prepared and executed at once.
+ */
+
+public final class QueryEngine {
+
+    // 🔥 Largest hash-join build side held in a single hash table before grace partitioning kicks in
+    public static final int JOIN_BUDGET_ROWS = 1 << 20;
+
+    // 🔢 Most distinct values (or rows) hashed by DISTINCT / COUNT(DISTINCT) before deduplication turns to sorting
+    public static final int DISTINCT_BUDGET_VALUES = 1 << 20;
+
+    private QueryEngine() {
+    }
+
+    /**
+     * ⚔️ Executes a SELECT.
+     *
+     * @param command The parsed SELECT
+     * @param tables  Resolves table names (FROM and JOIN) to tables of the current realm
+     * @return The projected (or aggregated) result
+     * @throws RuntimeException if a table or column is unknown, or a literal does not match its column's type
+     */
+
+    public static QueryResult execute(SelectCommand command, Function<String, Table> tables) {
+        return PreparedQuery.prepare(command, tables).execute(command);
+    }
+}
@@ -0,0 +1,25 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+import java.util.List;
+
+/**
+ * 📜 [RUNIC INSCRIPTION] 📜
+ * The answer a SELECT brings back from the depths — the headers it was asked for and the rows it found,
+ * already projected into header order. Rendering is left to the caller.
+ */
+
+public class QueryResult {
+
+    // 🏷️ Result column headers, in SELECT order
+    public final List<String> columnNames;
+
+    // 📦 Result rows; each row's values align with columnNames
+    public final List<Row> rows;
+
+    public QueryResult(List<String> columnNames, List<Row> rows) {
+        this.columnNames = columnNames;
+        this.rows = rows;
+    }
+}
@@ -0,0 +1,171 @@
+package com.yggra.executor;
+
+import com.yggra.commands.AggregateCall;
+import com.yggra.commands.Condition;
+import com.yggra.commands.JoinClause;
+import com.yggra.commands.SelectCommand;
+import com.yggra.commands.SubqueryCondition;
+import com.yggra.commands.WindowCall;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🏺 [RUNIC INSCRIPTION] 🏺
+ * The Well of Urd — remembers the results of SELECTs so a repeated statement is answered without a scan.
+ * ⚡ Rules:
+ *  - An entry is keyed by the statement and remembers the version of every table the statement read.
+ *    Any INSERT, TRUNCATE or ALTER bumps a table's {@link Table#version}, and an entry whose versions
+ *    no longer match is stale: it is dropped the next time it is asked for, and the query runs again.
+ *  - The cache is bounded by the estimated size of the rows it holds; the least recently used entries
+ *    are forgotten first, and a result larger than the whole budget is never kept.
+ * Cached rows are shared between callers and must not be modified.
+ */
+
+public final class ResultCache {
+
+    // 🏺 A remembered result, the tables it was read from and their versions at the time
+    private record Entry(QueryResult result, List<Table> tables, long[] versions, long bytes) {
+
+        boolean isCurrent(List<Table> current) {
+            for (int t = 0; t < tables.size(); t++) {
+                if (current.get(t) != tables.get(t) || tables.get(t).version != versions[t]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final long capacityBytes;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * @param capacityBytes The estimated size of the results held at most
+     */
+
+    public ResultCache(long capacityBytes) {
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * 🔍 The remembered result of a statement, if every table it read is still at the same version.
+     *
+     * @param key    The statement's key (see {@link #key})
+     * @param tables The tables the statement reads, FROM table first, then each JOINed table
+     * @return The cached result, or null when there is none or it is stale
+     */
+
+    public QueryResult get(String key, List<Table> tables) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.isCurrent(tables)) {
+            remove(key);
+            return null;
+        }
+        return entry.result;
+    }
+
+    /**
+     * 📥 Remembers a result, evicting the least recently used results until it fits.
+     *
+     * @param key    The statement's key (see {@link #key})
+     * @param tables The tables the result was read from, at their current versions
+     * @param result The result to remember
+     */
+
+    public void put(String key, List<Table> tables, QueryResult result) {
+        long size = estimateBytes(result);
+        remove(key);
+        if (size > capacityBytes) {
+            return;
+        }
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes + size > capacityBytes && eldest.hasNext()) {
+            bytes -= eldest.next().getValue().bytes;
+            eldest.remove();
+        }
+        long[] versions = new long[tables.size()];
+        for (int t = 0; t < tables.size(); t++) {
+            versions[t] = tables.get(t).version;
+        }
+        entries.put(key, new Entry(result, List.copyOf(tables), versions, size));
+        bytes += size;
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.bytes;
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 📏 The estimated size of the results held
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * 🔑 A key naming everything that shapes a SELECT's result: the realm, and every clause of the statement.
+     */
+
+    public static String key(String database, SelectCommand command) {
+        StringBuilder key = new StringBuilder(database).append('|');
+        key.append(command.distinct ? "DISTINCT " : "").append(command.columns);
+        for (AggregateCall call : command.aggregates) {
+            key.append(' ').append(call);
+        }
+        for (WindowCall call : command.windows) {
+            key.append(' ').append(call);
+        }
+        key.append(" FROM ").append(command.tableName);
+        if (command.sample != null) {
+            key.append(' ').append(command.sample);
+        }
+        for (JoinClause join : command.joins) {
+            key.append(' ').append(join);
+        }
+        for (Condition condition : command.conditions) {
+            key.append(" & ").append(condition.columnName).append(' ').append(condition.operator)
+                    .append(' ').append(condition.value.type).append(':').append(condition.value.value);
+        }
+        for (SubqueryCondition subquery : command.subqueries) {
+            key.append(" & ").append(subquery.kind).append(' ').append(subquery.columnName).append(' ').append(subquery.operator)
+                    .append(" (").append(key("", subquery.query)).append(") ON ").append(subquery.correlations);
+        }
+        if (!command.groupBy.isEmpty()) {
+            key.append(" GROUP BY ").append(command.groupBy);
+        }
+        return key.append(" LIMIT ").append(command.limit).append(" OFFSET ").append(command.offset).toString();
+    }
+
+    // 📏 Roughly what the result occupies on the heap: headers, rows, and each boxed value or string
+    static long estimateBytes(QueryResult result) {
+        long size = 64;
+        for (String column : result.columnNames) {
+            size += 40 + 2L * column.length();
+        }
+        for (Row row : result.rows) {
+            size += 56 + 8L * row.values.size();
+            for (Object value : row.values) {
+                if (value instanceof String text) {
+                    size += 40 + 2L * text.length();
+                } else if (value != null) {
+                    size += 16;
+                }
+            }
+        }
+        return size;
+    }
+}
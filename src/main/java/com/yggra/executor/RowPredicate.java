@@ -0,0 +1,127 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.Condition;
+import com.yggra.models.Row;
+import com.yggra.parser.TokenType;
+
+import java.util.List;
+
+/**
+ * ⚖️ [RUNIC INSCRIPTION] ⚖️
+ * A WHERE clause compiled against a schema — column names resolved to indices and literals
+ * converted to their column's Java type exactly once, so that judging a row is a handful of
+ * array reads and comparisons. Immutable and therefore safe to share across morsel workers.
+ */
+
+public final class RowPredicate {
+
+    // 🌕 The predicate that lets every row pass (no WHERE clause)
+    @SuppressWarnings("unchecked")
+    public static final RowPredicate ALWAYS = new RowPredicate(new int[0], new TokenType[0], (Comparable<Object>[]) new Comparable<?>[0]);
+
+    private final int[] columnIndices;
+    private final TokenType[] operators;
+    private final Comparable<Object>[] constants;
+
+    private RowPredicate(int[] columnIndices, TokenType[] operators, Comparable<Object>[] constants) {
+        this.columnIndices = columnIndices;
+        this.operators = operators;
+        this.constants = constants;
+    }
+
+    /**
+     * 🔨 [FORGING THE JUDGE] 🔨
+     * Compiles AND-joined conditions against the given schema.
+     *
+     * @param conditions The parsed WHERE conditions (may be empty)
+     * @param schema     The shape of the rows that will be judged
+     * @return A reusable predicate
+     * @throws RuntimeException if a column is unknown or a literal does not match its column's type
+     */
+
+    @SuppressWarnings("unchecked")
+    public static RowPredicate compile(List<Condition> conditions, BoundSchema schema) {
+        if (conditions == null || conditions.isEmpty()) {
+            return ALWAYS;
+        }
+        int size = conditions.size();
+        int[] indices = new int[size];
+        TokenType[] operators = new TokenType[size];
+        Comparable<Object>[] constants = (Comparable<Object>[]) new Comparable<?>[size];
+
+        for (int i = 0; i < size; i++) {
+            Condition condition = conditions.get(i);
+            int index = schema.resolve(condition.columnName);
+            ColumnDefinition column = schema.column(index);
+            indices[i] = index;
+            operators[i] = condition.operator;
+            constants[i] = (Comparable<Object>) convertLiteral(column, condition);
+        }
+        return new RowPredicate(indices, operators, constants);
+    }
+
+    /**
+     * ⚖️ Judges a single row — true only if every condition holds.
+     * A NULL value never satisfies a comparison, as in SQL.
+     */
+
+    public boolean test(Row row) {
+        for (int i = 0; i < columnIndices.length; i++) {
+            Object value = row.getValue(columnIndices[i]);
+            if (value == null) {
+                return false;
+            }
+            int cmp = constants[i].compareTo(value);
+            // cmp compares constant to value, so the operator is read mirrored
+            boolean passed = switch (operators[i]) {
+                case EQUALS -> cmp == 0;
+                case NOT_EQUALS -> cmp != 0;
+                case LESS_THAN -> cmp > 0;
+                case LESS_THAN_EQUAL -> cmp >= 0;
+                case GREATER_THAN -> cmp < 0;
+                case GREATER_THAN_EQUAL -> cmp <= 0;
+                default -> throw new RuntimeException("⚖️ [SCALES MISSING] Unknown comparison rune " + operators[i]);
+            };
+            if (!passed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 🌕 True when this predicate judges nothing and every row passes.
+     */
+
+    public boolean acceptsAll() {
+        return columnIndices.length == 0;
+    }
+
+    static Object convertLiteral(ColumnDefinition column, Condition condition) {
+        TokenType literalType = condition.value.type;
+        if (column.type == TokenType.INT) {
+            if (literalType != TokenType.NUMBER_LITERAL) {
+                throw new RuntimeException("⚔️ [TYPE JUDGMENT] INT column '" + column.columnName + "' can only be judged against numbers, not '" + condition.value.value + "'");
+            }
+            if (condition.value.constant instanceof Integer number) {
+                return number;
+            }
+            throw new RuntimeException("💢 [CONVERSION WRATH] Failed to shape '" + condition.value.value + "' into INT.");
+        }
+        if (column.type == TokenType.DOUBLE) {
+            // 🪞 Only materialized views hold DOUBLE columns (their AVGs)
+            if (literalType != TokenType.NUMBER_LITERAL) {
+                throw new RuntimeException("⚔️ [TYPE JUDGMENT] DOUBLE column '" + column.columnName + "' can only be judged against numbers, not '" + condition.value.value + "'");
+            }
+            if (condition.value.constant instanceof Number number) {
+                return number.doubleValue();
+            }
+            return Double.parseDouble(condition.value.value);
+        }
+        if (literalType != TokenType.STRING_LITERAL) {
+            throw new RuntimeException("📜 [RUNIC MISMATCH] VARCHAR column '" + column.columnName + "' can only be judged against text, not " + condition.value.value);
+        }
+        return condition.value.value;
+    }
+}
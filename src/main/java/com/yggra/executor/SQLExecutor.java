@@ -3,6 +3,11 @@ package com.yggra.executor;
 import com.yggra.commands.*;
 import com.yggra.models.DatabaseManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 🧙‍♂️ [RUNIC INSCRIPTION] 🧙‍♂️
  * The Invoker of Commands — `SQLExecutor` breathes life into the sacred scrolls of YggraDB.
@@ -11,6 +16,36 @@ import com.yggra.models.DatabaseManager;
  */
 
 public class SQLExecutor {
+
+    // 📦 Statements sealed by PREPARE, by name — they live as long as this executor (one REPL session)
+    private final Map<String, PreparedStatement> prepared = new HashMap<>();
+
+    // 🗃️ Most ad-hoc statement shapes remembered by the statement cache
+    public static final int STATEMENT_CACHE_SIZE = 256;
+
+    // 🗃️ Ad-hoc SELECTs and INSERTs by normalized text, so repeated shapes skip the lexer and parser
+    private final StatementCache statements = new StatementCache(STATEMENT_CACHE_SIZE);
+
+    /**
+     * 🗃️ [THE REMEMBERED RITUAL] 🗃️
+     * Executes a statement straight from its text when the statement cache holds its shape —
+     * a repeated SELECT or INSERT differing only in literals is neither lexed nor parsed again.
+     *
+     * @param sql One statement as the user typed it
+     * @return true if the statement was executed; false if it must be lexed, parsed and executed as usual
+     * @throws RuntimeException if the statement was executed and failed
+     */
+
+    public boolean executeCached(String sql) {
+        List<ValueDefinition> arguments = new ArrayList<>();
+        PreparedStatement statement = statements.lookup(sql, arguments);
+        if (statement == null) {
+            return false;
+        }
+        statement.execute(arguments, this);
+        return true;
+    }
+
     /**
      * ⚔️ [THE EXECUTION RITUAL] ⚔️
      * Examines the passed SQLCommand and routes its intent to the appropriate keeper function in `DatabaseManager`.
@@ -20,6 +55,8 @@ public class SQLExecutor {
      */
 
     public void execute(SQLCommand command) {
+        // 🧹 DDL evicts the cached statements reading the tables it reshapes
+        statements.invalidate(command);
         switch (command) {
 
             // 🌍 [CREATE DATABASE] – Forges a new realm in the tree of Yggra
@@ -51,7 +88,7 @@ public class SQLExecutor {
             // 🍯 [INSERT INTO] – Offers data into the sacred tables of the current realm
 
             case InsertCommand insertCommand ->
-                    DatabaseManager.getInstance().insertIntoTable(insertCommand.tableName, insertCommand.columns, insertCommand.values);
+                    DatabaseManager.getInstance().insertIntoTable(insertCommand.tableName, insertCommand.columns, insertCommand.rows);
 
             // ⚔️ [DECREE OF DELETION] Executes the DROP TABLE command to remove a table from the current database realm.
 
@@ -158,7 +195,41 @@ public class SQLExecutor {
                             dropDefaultValueColumn.tableName,
                             dropDefaultValueColumn.columnName
                     );
-            case SelectCommand selectCommand -> DatabaseManager.getInstance().selectCommand(selectCommand.tableName,selectCommand.columns);
+            case SelectCommand selectCommand -> DatabaseManager.getInstance().selectCommand(selectCommand);
+            case UpdateCommand updateCommand -> DatabaseManager.getInstance().updateTable(
+                    updateCommand.tableName, updateCommand.columns, updateCommand.values, updateCommand.conditions);
+            case DeleteCommand deleteCommand ->
+                    DatabaseManager.getInstance().deleteFromTable(deleteCommand.tableName, deleteCommand.conditions);
+            case AnalyzeCommand analyzeCommand -> DatabaseManager.getInstance().analyzeTable(analyzeCommand.tableName);
+            case VacuumCommand vacuumCommand -> DatabaseManager.getInstance().vacuumTable(vacuumCommand.tableName);
+
+            // 📥 [COPY FROM] – Bulk-loads a CSV, TSV or binary file, all of its rows or none
+            case CopyFromCommand copyFrom ->
+                    DatabaseManager.getInstance().copyFrom(copyFrom.tableName, copyFrom.path, copyFrom.options);
+            // 📤 [COPY TO] – Exports a table's rows as CSV, TSV, JSON Lines or binary
+            case CopyToCommand copyTo -> DatabaseManager.getInstance().copyTo(copyTo.tableName, copyTo.path, copyTo.options);
+
+            // 🪞 [MATERIALIZED VIEWS] – Stored SELECT results kept in step with their source table
+            case CreateMaterializedViewCommand createView ->
+                    DatabaseManager.getInstance().createMaterializedView(createView.viewName, createView.query);
+            case DropMaterializedViewCommand dropView ->
+                    DatabaseManager.getInstance().dropMaterializedView(dropView.viewName);
+
+            // 📦 [PREPARE] – Seals a parsed statement under a name; a new PREPARE of the same name replaces it
+            case PrepareCommand prepareCommand -> {
+                prepared.put(prepareCommand.name, new PreparedStatement(prepareCommand.template, prepareCommand.parameterCount));
+                System.out.println("📦 [SCROLL SEALED] Statement '" + prepareCommand.name + "' is prepared with "
+                        + prepareCommand.parameterCount + " placeholder(s).");
+            }
+
+            // ⚡ [EXECUTE] – Binds the arguments to a sealed statement and runs it through its cached plan
+            case ExecuteCommand executeCommand -> {
+                PreparedStatement statement = prepared.get(executeCommand.name);
+                if (statement == null) {
+                    throw new RuntimeException("📦 [UNKNOWN SCROLL] No statement named '" + executeCommand.name + "' has been prepared!");
+                }
+                statement.execute(executeCommand.arguments, this);
+            }
 
             // ❌ [UNKNOWN COMMAND] – All invalid or null invocations are smitten
             case null, default ->
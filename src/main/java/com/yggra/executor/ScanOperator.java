@@ -0,0 +1,69 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 🔦 [RUNIC INSCRIPTION] 🔦
+ * The leaf of every pipeline — walks a row list in order, handing out the rows that pass its predicate.
+ * Rows are judged lazily, one pull at a time; after {@link #close()} the scan touches nothing more.
+ * With a pushed-down projection only the rows that pass are copied, and only the requested columns.
+ * Tombstoned positions of a table's row list are stepped over without being judged.
+ */
+
+public final class ScanOperator implements Operator {
+
+    private final List<Row> rows;
+    private final BitSet dead;
+    private final RowPredicate predicate;
+    private final int[] projection;
+    private int position;
+    private boolean closed;
+
+    public ScanOperator(List<Row> rows, RowPredicate predicate) {
+        this(rows, predicate, null);
+    }
+
+    /**
+     * @param rows       The rows to walk
+     * @param predicate  Judged against each full row
+     * @param projection The column positions handed out, or null for the whole row
+     */
+
+    public ScanOperator(List<Row> rows, RowPredicate predicate, int[] projection) {
+        this(rows, null, predicate, projection);
+    }
+
+    /**
+     * @param dead The positions of rows to skip (a table's tombstones), or null
+     */
+
+    public ScanOperator(List<Row> rows, BitSet dead, RowPredicate predicate, int[] projection) {
+        this.rows = rows;
+        this.dead = dead;
+        this.predicate = predicate;
+        this.projection = projection;
+    }
+
+    @Override
+    public Row next() {
+        while (!closed && position < rows.size()) {
+            if (dead != null && dead.get(position)) {
+                position++;
+                continue;
+            }
+            Row row = rows.get(position++);
+            if (predicate.test(row)) {
+                return projection == null ? row : ProjectOperator.project(row, projection);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
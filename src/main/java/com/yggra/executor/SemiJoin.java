@@ -0,0 +1,317 @@
+package com.yggra.executor;
+
+import com.yggra.commands.AggregateCall;
+import com.yggra.commands.AggregateFunction;
+import com.yggra.commands.Correlation;
+import com.yggra.commands.JoinClause;
+import com.yggra.commands.SelectCommand;
+import com.yggra.commands.SubqueryCondition;
+import com.yggra.commands.SubqueryKind;
+import com.yggra.commands.WindowFunction;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 🪆 [RUNIC INSCRIPTION] 🪆
+ * A WHERE subquery turned into a semi join (or anti join) against the rows of the query around it.
+ * The subquery runs exactly once per execution, never once per outer row.
+ * ⚡ Decorrelation:
+ *  - The subquery's `inner = outer` correlations become join keys: the subquery is run with its inner
+ *    key columns selected, and its rows are hashed by them. Each outer row then probes with its own
+ *    outer key values — one hash lookup per row.
+ *  - [NOT] EXISTS hashes the key tuples: a semi join keeps the outer rows that find one, an anti join the rest.
+ *  - [NOT] IN hashes the tuples of keys and the selected value. NOT IN follows SQL: a NULL among the values
+ *    of a key leaves every row probing that key unknown, so none of them pass. A NULL probed against a key
+ *    with no rows at all is NOT IN them, as `x NOT IN (empty)` is true for any x. The probed column and the
+ *    selected value must share a type — numbers with numbers, runes with runes — or the query is refused.
+ *  - A scalar subquery with an aggregate is run grouped by its keys — one value per key — and a key with
+ *    no rows yields 0 for COUNT and NULL otherwise; a plain scalar subquery must find at most one row per key.
+ *  - Uncorrelated subqueries are the case of zero keys.
+ *  - NULL keys never match, as in SQL: an outer row with a NULL key meets an empty subquery — it passes
+ *    NOT EXISTS and NOT IN, and a scalar subquery answers it with COUNT's 0 or NULL.
+ * Values are compared across INT, COUNT/SUM results and AVG results numerically: hashed values are normalized,
+ * so a whole AVG result meets the INT of the same value.
+ */
+
+final class SemiJoin {
+
+    private final SubqueryCondition subquery;
+    private final int[] outerKeys;
+    private final int probe; // the outer column judged by IN or a scalar comparison, -1 for EXISTS
+
+    // 🗝️ EXISTS: the key tuples found; IN: the (keys, value) tuples found
+    private final Set<List<Object>> found = new HashSet<>();
+    // 🕳️ NOT IN: the key tuples whose values hold a NULL
+    private final Set<List<Object>> nullsFound = new HashSet<>();
+    // 📜 IN: the key tuples with any row at all, NULL value or not
+    private final Set<List<Object>> keysFound = new HashSet<>();
+    // 🎯 Scalar: the single value per key tuple
+    private final Map<List<Object>, Object> scalars = new HashMap<>();
+    private final Object missing; // the scalar of a key with no rows
+
+    private SemiJoin(SubqueryCondition subquery, int[] outerKeys, int probe, Object missing) {
+        this.subquery = subquery;
+        this.outerKeys = outerKeys;
+        this.probe = probe;
+        this.missing = missing;
+    }
+
+    /**
+     * 🔨 Runs a subquery once and hashes its rows for probing.
+     *
+     * @param subquery The subquery condition
+     * @param outer    The schema of the outer rows
+     * @param tables   Resolves the subquery's table names
+     * @throws RuntimeException if the subquery cannot be decorrelated, or its result has the wrong shape
+     */
+
+    static SemiJoin build(SubqueryCondition subquery, BoundSchema outer, Function<String, Table> tables) {
+        SelectCommand query = subquery.query;
+        BoundSchema inner = schemaOf(query, tables);
+
+        // 🔗 Sort each correlation's columns into the subquery's side and the outer side
+        List<String> innerKeys = new ArrayList<>();
+        int[] outerKeys = new int[subquery.correlations.size()];
+        for (int i = 0; i < outerKeys.length; i++) {
+            Correlation correlation = subquery.correlations.get(i);
+            boolean leftInner = inner.find(correlation.leftColumn) != -1;
+            boolean rightInner = inner.find(correlation.rightColumn) != -1;
+            if (leftInner == rightInner) {
+                throw new RuntimeException("🔗 [TANGLED ROOTS] " + correlation + " must name one column of the subquery and one of the query around it"
+                        + " — qualify them with their tables (a table cannot be correlated with itself).");
+            }
+            innerKeys.add(leftInner ? correlation.leftColumn : correlation.rightColumn);
+            outerKeys[i] = outer.resolve(leftInner ? correlation.rightColumn : correlation.leftColumn);
+        }
+        boolean correlated = !innerKeys.isEmpty();
+        if (correlated && (query.limit >= 0 || query.offset > 0 || !query.windows.isEmpty() || query.sample != null)) {
+            throw new RuntimeException("🔗 [TANGLED ROOTS] A correlated subquery cannot hold LIMIT, OFFSET, TABLESAMPLE or window calls — they would differ for every outer row.");
+        }
+
+        int probe = subquery.columnName == null ? -1 : outer.resolve(subquery.columnName);
+        boolean isExists = subquery.kind == SubqueryKind.EXISTS || subquery.kind == SubqueryKind.NOT_EXISTS;
+        if (!isExists && selectedCount(query, inner) != 1) {
+            throw new RuntimeException("🪆 [MANY-HEADED DOLL] A subquery judged by " + (subquery.kind == SubqueryKind.SCALAR ? subquery.operator : subquery.kind)
+                    + " must select exactly one column.");
+        }
+        if (subquery.kind == SubqueryKind.IN || subquery.kind == SubqueryKind.NOT_IN) {
+            TokenType probed = outer.column(probe).type;
+            TokenType selected = selectedType(query, inner);
+            if (probed != selected && !(isNumeric(probed) && isNumeric(selected))) {
+                throw new RuntimeException("⚔️ [TYPE JUDGMENT] " + probed + " column '" + subquery.columnName + "' cannot be sought among the subquery's "
+                        + selected + " values — they are of different essence!");
+            }
+        }
+
+        boolean aggregated = !query.aggregates.isEmpty();
+        Object missing = aggregated && query.groupBy.isEmpty() && query.aggregates.getFirst().function == AggregateFunction.COUNT ? 0L : null;
+        SelectCommand run = query;
+        if (correlated) {
+            if (!query.groupBy.isEmpty() || (aggregated && subquery.kind != SubqueryKind.SCALAR)) {
+                throw new RuntimeException("🔗 [TANGLED ROOTS] Only a correlated scalar subquery may aggregate, and none may GROUP BY — its correlations already group it.");
+            }
+            if (isExists) {
+                run = derived(query, innerKeys, List.of(), List.of()); // 🗝️ only the keys matter
+            } else if (aggregated) {
+                run = derived(query, innerKeys, query.aggregates, innerKeys);
+            } else {
+                List<String> selected = new ArrayList<>(innerKeys);
+                selected.addAll(query.columns);
+                run = derived(query, selected, List.of(), List.of());
+            }
+        }
+
+        QueryResult result = QueryEngine.execute(run, tables);
+        SemiJoin join = new SemiJoin(subquery, outerKeys, probe, missing);
+        int keys = innerKeys.size();
+        for (Row row : result.rows) {
+            List<Object> key = new ArrayList<>(keys + 1);
+            boolean nullKey = false;
+            for (int k = 0; k < keys; k++) {
+                Object value = normalize(row.getValue(k));
+                nullKey |= value == null;
+                key.add(value);
+            }
+            if (nullKey) {
+                continue; // 🕳️ a NULL key matches no outer row
+            }
+            switch (subquery.kind) {
+                case EXISTS, NOT_EXISTS -> join.found.add(key);
+                case IN, NOT_IN -> {
+                    join.keysFound.add(List.copyOf(key));
+                    Object value = normalize(row.getValue(keys));
+                    if (value == null) {
+                        join.nullsFound.add(key);
+                    } else {
+                        key.add(value);
+                        join.found.add(key);
+                    }
+                }
+                case SCALAR -> {
+                    if (join.scalars.containsKey(key)) {
+                        throw new RuntimeException("🪆 [MANY-HEADED DOLL] A scalar subquery found more than one row"
+                                + (correlated ? " for " + key : "") + " — it must answer with a single value.");
+                    }
+                    join.scalars.put(key, normalize(row.getValue(keys)));
+                }
+            }
+        }
+        return join;
+    }
+
+    // 🗺️ The schema of the subquery's FROM and JOINed tables, in written order
+    private static BoundSchema schemaOf(SelectCommand query, Function<String, Table> tables) {
+        BoundSchema schema = BoundSchema.of(tables.apply(query.tableName));
+        for (JoinClause join : query.joins) {
+            schema = schema.join(BoundSchema.of(tables.apply(join.tableName)));
+        }
+        return schema;
+    }
+
+    private static int selectedCount(SelectCommand query, BoundSchema inner) {
+        if (query.columns.size() == 1 && query.columns.getFirst().equalsIgnoreCase("ALL")) {
+            return inner.size();
+        }
+        return query.columns.size() + query.aggregates.size() + query.windows.size();
+    }
+
+    // 🏷️ The type of the one value a subquery selects — AVG answers in DOUBLE, counts and sums in INT
+    private static TokenType selectedType(SelectCommand query, BoundSchema inner) {
+        if (!query.aggregates.isEmpty()) {
+            AggregateCall call = query.aggregates.getFirst();
+            return switch (call.function) {
+                case COUNT, SUM, APPROX_COUNT_DISTINCT -> TokenType.INT;
+                case AVG -> TokenType.DOUBLE;
+                case MIN, MAX, APPROX_PERCENTILE -> inner.column(inner.resolve(call.columnName)).type;
+            };
+        }
+        if (!query.windows.isEmpty()) {
+            return query.windows.getFirst().function == WindowFunction.AVG ? TokenType.DOUBLE : TokenType.INT;
+        }
+        String column = query.columns.getFirst();
+        return inner.column(column.equalsIgnoreCase("ALL") ? 0 : inner.resolve(column)).type;
+    }
+
+    private static boolean isNumeric(TokenType type) {
+        return type == TokenType.INT || type == TokenType.DOUBLE;
+    }
+
+    // 🔨 The subquery with another SELECT list and GROUP BY — its FROM, JOINs and remaining WHERE unchanged
+    private static SelectCommand derived(SelectCommand query, List<String> columns, List<AggregateCall> aggregates, List<String> groupBy) {
+        return new SelectCommand(query.tableName, null, query.distinct && aggregates.isEmpty(), query.joins, columns, aggregates,
+                List.of(), query.conditions, query.subqueries, groupBy, -1, 0);
+    }
+
+    // 🔢 INT values, COUNT/SUM results and whole AVG results hash alike
+    private static Object normalize(Object value) {
+        if (value instanceof Integer number) {
+            return Long.valueOf(number);
+        }
+        if (value instanceof Double number && number == Math.rint(number) && Math.abs(number) < 0x1p63) {
+            return Long.valueOf(number.longValue());
+        }
+        return value;
+    }
+
+    /**
+     * ⚖️ Whether an outer row passes the subquery condition.
+     */
+
+    boolean test(Row row) {
+        List<Object> key = new ArrayList<>(outerKeys.length + 1);
+        for (int outerKey : outerKeys) {
+            Object value = normalize(row.getValue(outerKey));
+            if (value == null) {
+                return passesEmpty(row); // 🕳️ a NULL key finds nothing
+            }
+            key.add(value);
+        }
+        return switch (subquery.kind) {
+            case EXISTS -> found.contains(key);
+            case NOT_EXISTS -> !found.contains(key);
+            case IN, NOT_IN -> {
+                Object value = normalize(row.getValue(probe));
+                if (value == null) {
+                    yield subquery.kind == SubqueryKind.NOT_IN && !keysFound.contains(key); // 🕳️ unknown unless there is nothing to be in
+                }
+                boolean unknown = nullsFound.contains(key);
+                key.add(value);
+                boolean in = found.contains(key);
+                yield subquery.kind == SubqueryKind.IN ? in : !in && !unknown;
+            }
+            case SCALAR -> judges(row, scalars.containsKey(key) ? scalars.get(key) : missing);
+        };
+    }
+
+    // 🕳️ Whether a row passes against a subquery that found no rows for it
+    private boolean passesEmpty(Row row) {
+        return switch (subquery.kind) {
+            case EXISTS, IN -> false;
+            case NOT_EXISTS, NOT_IN -> true;
+            case SCALAR -> judges(row, missing);
+        };
+    }
+
+    // ⚖️ Whether the row's probe value stands in the scalar comparison with the subquery's value
+    private boolean judges(Row row, Object scalar) {
+        Object value = row.getValue(probe);
+        return value != null && scalar != null && compares(subquery.operator, compare(value, scalar));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object value, Object scalar) {
+        if (value instanceof Number a && scalar instanceof Number b) {
+            if (a instanceof Double || b instanceof Double) {
+                return Double.compare(a.doubleValue(), b.doubleValue());
+            }
+            return Long.compare(a.longValue(), b.longValue());
+        }
+        if (value.getClass() != scalar.getClass()) {
+            throw new RuntimeException("⚔️ [TYPE JUDGMENT] '" + value + "' and the subquery's '" + scalar + "' are of different essence — they cannot be compared!");
+        }
+        return ((Comparable) value).compareTo(scalar);
+    }
+
+    private static boolean compares(TokenType operator, int cmp) {
+        return switch (operator) {
+            case EQUALS -> cmp == 0;
+            case NOT_EQUALS -> cmp != 0;
+            case LESS_THAN -> cmp < 0;
+            case LESS_THAN_EQUAL -> cmp <= 0;
+            case GREATER_THAN -> cmp > 0;
+            case GREATER_THAN_EQUAL -> cmp >= 0;
+            default -> throw new RuntimeException("⚖️ [SCALES MISSING] Unknown comparison rune " + operator);
+        };
+    }
+
+    /**
+     * 🪆 Runs every subquery once, then keeps the rows that pass them all.
+     *
+     * @param rows       The outer rows, already filtered by the plain conditions
+     * @param outer      Their schema
+     * @param subqueries The AND-joined subquery conditions
+     */
+
+    static List<Row> filter(List<Row> rows, BoundSchema outer, List<SubqueryCondition> subqueries, Function<String, Table> tables) {
+        List<SemiJoin> joins = new ArrayList<>(subqueries.size());
+        for (SubqueryCondition subquery : subqueries) {
+            joins.add(build(subquery, outer, tables));
+        }
+        List<Row> kept = new ArrayList<>();
+        for (Row row : rows) {
+            if (joins.stream().allMatch(join -> join.test(row))) {
+                kept.add(row);
+            }
+        }
+        return kept;
+    }
+}
@@ -0,0 +1,199 @@
+package com.yggra.executor;
+
+import com.yggra.commands.*;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenCursor;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🗃️ [RUNIC INSCRIPTION] 🗃️
+ * The Memory of Mímir — an LRU cache of ad-hoc statements, keyed on their normalized text.
+ * ⚡ Flow:
+ *  1. A SELECT or INSERT is normalized in one pass over its text: every number and string literal
+ *     becomes `?` and is collected as a value; everything else (keywords, names, runes) is kept.
+ *     `SELECT clan FROM w WHERE id = 7;` and `... WHERE id = 9;` share the key `SELECT clan FROM w WHERE id = ?;`
+ *  2. On a hit the cached {@link PreparedStatement} is bound to the collected values and executed —
+ *     the statement is neither lexed nor parsed, and its plan is reused.
+ *  3. On a miss the normalized text is parsed once as a template and cached. A shape the parser cannot
+ *     take placeholders in is remembered as uncacheable, so the caller lexes and parses it as before.
+ * Counts after LIMIT and OFFSET, and the row counts of a window frame (ROWS n, BETWEEN n, AND n), stay part
+ * of the key, as placeholders are not accepted there.
+ * Entries remember the tables their statement reads; DDL on one of those tables evicts them.
+ */
+
+public final class StatementCache {
+
+    // 🗃️ A cached template and the tables it reads; a null statement marks a shape that cannot be templated
+    private record Entry(PreparedStatement statement, Set<String> tables) {
+    }
+
+    private final Map<String, Entry> entries;
+
+    /**
+     * @param capacity The most statement shapes remembered before the least recently used is forgotten
+     */
+
+    public StatementCache(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 🔍 Looks a statement up by its normalized text, parsing and caching its template on a miss.
+     *
+     * @param sql       One statement as the user typed it
+     * @param arguments Receives the statement's literals, in order, when a statement is returned
+     * @return The cached statement to bind the literals to, or null when the text must be lexed and parsed as usual
+     */
+
+    public PreparedStatement lookup(String sql, List<ValueDefinition> arguments) {
+        StringBuilder key = new StringBuilder(sql.length());
+        List<ValueDefinition> literals = new ArrayList<>();
+        if (!normalize(sql, key, literals)) {
+            return null;
+        }
+
+        String normalized = key.toString();
+        Entry entry = entries.get(normalized);
+        if (entry == null) {
+            entry = template(normalized, literals.size());
+            entries.put(normalized, entry);
+        }
+        if (entry.statement == null) {
+            return null;
+        }
+        arguments.addAll(literals);
+        return entry.statement;
+    }
+
+    /**
+     * 🧹 Evicts the statements a DDL command may have changed the meaning of.
+     * Table DDL evicts the statements reading that table; dropping or renaming a realm clears the cache.
+     */
+
+    public void invalidate(SQLCommand command) {
+        switch (command) {
+            case CreateTableCommand create -> invalidate(create.tableName);
+            case DropTableCommand drop -> invalidate(drop.tableName);
+            case AlterTableNameCommand rename -> {
+                invalidate(rename.oldTableName);
+                invalidate(rename.newTableName);
+            }
+            case AlterAddColumnCommand add -> invalidate(add.tableName);
+            case DropColumnsCommand dropColumns -> invalidate(dropColumns.tableName);
+            case RenameColumnCommand renameColumn -> invalidate(renameColumn.tableName);
+            case ModifyDatatypeColumn modify -> invalidate(modify.tableName);
+            case SetDefaultValueColumn setDefault -> invalidate(setDefault.tableName);
+            case DropDefaultValueColumn dropDefault -> invalidate(dropDefault.tableName);
+            case TruncateTableCommand truncate -> invalidate(truncate.tableName);
+            case CreateMaterializedViewCommand createView -> invalidate(createView.viewName);
+            case DropMaterializedViewCommand dropView -> invalidate(dropView.viewName);
+            case DropDatabaseCommand ignored -> entries.clear();
+            case AlterDatabaseNameCommand ignored -> entries.clear();
+            case null, default -> {
+            }
+        }
+    }
+
+    private void invalidate(String tableName) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().tables.contains(tableName)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 📜 Parses a normalized statement into a template, or marks the shape uncacheable
+    private static Entry template(String normalized, int literals) {
+        try {
+            Parser parser = new Parser(new Lexer().tokenize(normalized));
+            SQLCommand template = parser.parseStatement();
+            if (parser.parameterCount() != literals) {
+                return new Entry(null, Set.of());
+            }
+            return switch (template) {
+                case SelectCommand select -> new Entry(new PreparedStatement(select, literals), Set.copyOf(select.tableNames()));
+                case InsertCommand insert -> new Entry(new PreparedStatement(insert, literals), Set.of(insert.tableName));
+                default -> new Entry(null, Set.of());
+            };
+        } catch (RuntimeException e) {
+            return new Entry(null, Set.of()); // 🌫️ the lexer and parser will report the error on the original text
+        }
+    }
+
+    /**
+     * 🪶 Normalizes a SELECT or INSERT: literals become `?` in the key and are collected in order,
+     * runs of whitespace collapse to one space. The text is walked by a {@link TokenCursor}, so literals are
+     * read exactly as the {@link Lexer} reads them and keywords and names are copied into the key without a String of their own.
+     *
+     * @return false when the statement is not a SELECT or INSERT, or cannot be normalized safely
+     */
+
+    static boolean normalize(String sql, StringBuilder key, List<ValueDefinition> literals) {
+        TokenCursor cursor = new TokenCursor(sql);
+        TokenType previous = null;
+        int last = 0; // 📍 where the previous token ended, its closing quote included
+        try {
+            while (cursor.next()) {
+                TokenType type = cursor.type();
+                if (previous == null && type != TokenType.SELECT && type != TokenType.INSERT) {
+                    return false;
+                }
+                boolean quoted = type == TokenType.STRING_LITERAL;
+                if ((quoted ? cursor.start() - 1 : cursor.start()) > last && !key.isEmpty()) {
+                    key.append(' ');
+                }
+                last = quoted ? cursor.end() + 1 : cursor.end();
+                switch (type) {
+                    case NUMBER_LITERAL -> {
+                        if (isCount(previous)) {
+                            key.append(sql, cursor.start(), cursor.end());
+                        } else {
+                            key.append('?');
+                            literals.add(new ValueDefinition(TokenType.NUMBER_LITERAL, cursor.text()));
+                        }
+                    }
+                    case STRING_LITERAL -> {
+                        String value = cursor.text();
+                        if (value.contains(";") || value.contains("--")) {
+                            return false; // 🌪️ forbidden runes are judged by the parser
+                        }
+                        key.append('?');
+                        literals.add(new ValueDefinition(TokenType.STRING_LITERAL, value));
+                    }
+                    case PARAMETER -> {
+                        return false; // ❓ placeholders belong to PREPARE
+                    }
+                    default -> key.append(sql, cursor.start(), cursor.end());
+                }
+                previous = type;
+            }
+        } catch (RuntimeException e) {
+            return false; // ⚠️ unclosed strings and forbidden symbols are left for the lexer to report
+        }
+        return previous != null;
+    }
+
+    // ✂️ Keywords after which a number is a count of rows rather than a value (AND only ever precedes one inside a frame)
+    private static boolean isCount(TokenType previous) {
+        return previous == TokenType.LIMIT || previous == TokenType.OFFSET
+                || previous == TokenType.ROWS || previous == TokenType.BETWEEN || previous == TokenType.AND;
+    }
+}
@@ -0,0 +1,187 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.CopyFormat;
+import com.yggra.commands.CopyOptions;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 📤 [RUNIC INSCRIPTION] 📤
+ * The exporter behind COPY ... TO — streams a table's live rows to a file as CSV, TSV, JSON Lines or
+ * the {@link ColumnarFile} binary layout.
+ * ⚡ Behavior:
+ *  - Values go straight from the rows into one reusable {@link ByteSink}; no String is built per row or per value.
+ *  - CSV quotes a text only when it must: when it holds the delimiter, a quote or a line break,
+ *    is empty, or equals the NULL text — so every file reads back through COPY ... FROM unchanged.
+ *  - TSV has no quoting, so a text holding a tab or a line break cannot be written as TSV.
+ *  - JSONL writes one object per line, keyed by column name, NULL as null.
+ */
+
+public final class TableExporter {
+
+    private TableExporter() {
+    }
+
+    /**
+     * 📤 Writes every live row of a table to a file, replacing what it held.
+     *
+     * @param table   The table to export
+     * @param file    The file to write
+     * @param options The format, delimiter, NULL text and whether to open with a header line
+     * @return The number of rows written
+     * @throws RuntimeException if the file cannot be written, or a value cannot be expressed in the format
+     */
+
+    public static long export(Table table, Path file, CopyOptions options) {
+        List<Row> rows = table.liveRows();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteSink sink = new ByteSink(channel);
+            switch (options.format) {
+                case CSV, TSV -> writeDelimited(rows, table.columnList, options, sink);
+                case JSONL -> writeJsonLines(rows, table.columnList, sink);
+                case BINARY -> ColumnarFile.write(rows, table.columnList, sink);
+            }
+            sink.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("📂 [SCROLL UNWRITABLE] The file '" + file + "' cannot be written: " + e.getMessage());
+        }
+        return rows.size();
+    }
+
+    private static void writeDelimited(List<Row> rows, List<ColumnDefinition> columns, CopyOptions options, ByteSink sink) throws IOException {
+        boolean quoting = options.format == CopyFormat.CSV;
+        byte[] nullText = options.nullText.getBytes(StandardCharsets.UTF_8);
+        if (options.header) {
+            for (int c = 0; c < columns.size(); c++) {
+                if (c > 0) {
+                    sink.put(options.delimiter);
+                }
+                putText(columns.get(c).columnName, quoting, options, sink);
+            }
+            sink.put('\n');
+        }
+        for (Row row : rows) {
+            for (int c = 0; c < columns.size(); c++) {
+                if (c > 0) {
+                    sink.put(options.delimiter);
+                }
+                Object value = row.getValue(c);
+                if (value == null) {
+                    sink.put(nullText);
+                } else if (value instanceof Integer number) {
+                    sink.putDecimal(number);
+                } else {
+                    putText((String) value, quoting, options, sink);
+                }
+            }
+            sink.put('\n');
+        }
+    }
+
+    // 🔡 A text field, quoted (with its quotes doubled) only when it would otherwise read back differently
+    private static void putText(String text, boolean quoting, CopyOptions options, ByteSink sink) throws IOException {
+        boolean special = false;
+        for (int i = 0; i < text.length() && !special; i++) {
+            char ch = text.charAt(i);
+            special = ch == options.delimiter || ch == '\n' || ch == '\r' || quoting && ch == '"';
+        }
+        if (!quoting) {
+            if (special) {
+                throw new RuntimeException("📤 [UNSPEAKABLE RUNE] The value '" + (text.length() > 20 ? text.substring(0, 20) + "..." : text)
+                        + "' holds a tab or a line break, which TSV cannot carry — COPY it as CSV instead.");
+            }
+            putUtf8(text, sink);
+            return;
+        }
+        if (!special && !text.isEmpty() && !text.equals(options.nullText)) {
+            putUtf8(text, sink);
+            return;
+        }
+        sink.put('"');
+        for (int i = 0; i < text.length(); i = text.offsetByCodePoints(i, 1)) {
+            int codePoint = text.codePointAt(i);
+            if (codePoint == '"') {
+                sink.put('"');
+            }
+            sink.putCodePoint(codePoint);
+        }
+        sink.put('"');
+    }
+
+    private static void writeJsonLines(List<Row> rows, List<ColumnDefinition> columns, ByteSink sink) throws IOException {
+        byte[][] keys = new byte[columns.size()][];
+        for (int c = 0; c < columns.size(); c++) {
+            StringBuilder key = new StringBuilder(c == 0 ? "{" : ",");
+            appendJson(columns.get(c).columnName, key);
+            keys[c] = key.append(':').toString().getBytes(StandardCharsets.UTF_8);
+        }
+        for (Row row : rows) {
+            for (int c = 0; c < columns.size(); c++) {
+                sink.put(keys[c]);
+                Object value = row.getValue(c);
+                if (value == null) {
+                    sink.put('n').put('u').put('l').put('l');
+                } else if (value instanceof Integer number) {
+                    sink.putDecimal(number);
+                } else {
+                    putJson((String) value, sink);
+                }
+            }
+            sink.put('}').put('\n');
+        }
+    }
+
+    // 🔡 A JSON string, escaped as it is written
+    private static void putJson(String text, ByteSink sink) throws IOException {
+        sink.put('"');
+        for (int i = 0; i < text.length(); i = text.offsetByCodePoints(i, 1)) {
+            int codePoint = text.codePointAt(i);
+            switch (codePoint) {
+                case '"' -> sink.put('\\').put('"');
+                case '\\' -> sink.put('\\').put('\\');
+                case '\n' -> sink.put('\\').put('n');
+                case '\r' -> sink.put('\\').put('r');
+                case '\t' -> sink.put('\\').put('t');
+                default -> {
+                    if (codePoint < 0x20) {
+                        sink.put('\\').put('u').put('0').put('0').put(hex(codePoint >> 4)).put(hex(codePoint & 0xF));
+                    } else {
+                        sink.putCodePoint(codePoint);
+                    }
+                }
+            }
+        }
+        sink.put('"');
+    }
+
+    // 🏷️ The same escaping for the column names, done once per export
+    private static void appendJson(String text, StringBuilder out) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch == '"' || ch == '\\') {
+                out.append('\\');
+            }
+            out.append(ch);
+        }
+        out.append('"');
+    }
+
+    private static void putUtf8(String text, ByteSink sink) throws IOException {
+        for (int i = 0; i < text.length(); i = text.offsetByCodePoints(i, 1)) {
+            sink.putCodePoint(text.codePointAt(i));
+        }
+    }
+
+    private static int hex(int digit) {
+        return digit < 10 ? '0' + digit : 'a' + digit - 10;
+    }
+}
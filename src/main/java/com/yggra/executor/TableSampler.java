@@ -0,0 +1,78 @@
+package com.yggra.executor;
+
+import com.yggra.commands.SampleMethod;
+import com.yggra.commands.TableSample;
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 🎲 [RUNIC INSCRIPTION] 🎲
+ * Draws the rows a TABLESAMPLE reads, touching only the rows it keeps — never the whole table.
+ * ⚡ Strategy:
+ *  - SYSTEM splits the row list into blocks of {@link #BLOCK_ROWS} and keeps each block with the sample's
+ *    probability; a skipped block is stepped over without reading a row of it.
+ *  - BERNOULLI keeps each row with the sample's probability. Instead of rolling once per row, it draws the
+ *    gap to the next kept row from the geometric distribution, so the work follows the sample's size.
+ *  - Tombstoned rows that fall into the sample are dropped; the sample stays in table order.
+ * The sampled rows are the table's own and must not be modified.
+ */
+
+public final class TableSampler {
+
+    // 🧱 Rows per SYSTEM block
+    public static final int BLOCK_ROWS = 1_024;
+
+    private TableSampler() {
+    }
+
+    /**
+     * 🎲 The rows of a table's row list a sample keeps.
+     *
+     * @param rows   The table's row list
+     * @param dead   The table's tombstones, or null
+     * @param sample The TABLESAMPLE clause; its seed, if any, makes the draw repeatable
+     */
+
+    public static List<Row> sample(List<Row> rows, BitSet dead, TableSample sample) {
+        double probability = sample.percent / 100;
+        SplittableRandom random = sample.seed == null ? new SplittableRandom() : new SplittableRandom(sample.seed);
+        List<Row> kept = new ArrayList<>((int) Math.min(rows.size(), rows.size() * probability * 1.1 + 16));
+        if (probability <= 0) {
+            return kept;
+        }
+        if (sample.method == SampleMethod.SYSTEM) {
+            for (int block = 0; block < rows.size(); block += BLOCK_ROWS) {
+                if (random.nextDouble() < probability) {
+                    keep(rows, dead, block, Math.min(rows.size(), block + BLOCK_ROWS), kept);
+                }
+            }
+            return kept;
+        }
+        if (probability >= 1) {
+            keep(rows, dead, 0, rows.size(), kept);
+            return kept;
+        }
+        double logMiss = Math.log1p(-probability);
+        for (long position = gap(random, logMiss); position < rows.size(); position += 1 + gap(random, logMiss)) {
+            keep(rows, dead, (int) position, (int) position + 1, kept);
+        }
+        return kept;
+    }
+
+    // 📏 Rows skipped before the next kept one: geometric, with each row missed at probability 1 - p
+    private static long gap(SplittableRandom random, double logMiss) {
+        return (long) Math.floor(Math.log(1 - random.nextDouble()) / logMiss);
+    }
+
+    private static void keep(List<Row> rows, BitSet dead, int from, int to, List<Row> kept) {
+        for (int i = from; i < to; i++) {
+            if (dead == null || !dead.get(i)) {
+                kept.add(rows.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.yggra.executor;
+
+import com.yggra.commands.WindowFunction;
+import com.yggra.models.Row;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 🪟 [RUNIC INSCRIPTION] 🪟
+ * Evaluates the window calls of one {@link WindowSpec}, appending their values to each row.
+ * ⚡ Strategy:
+ *  - The child is drained once and stably sorted by the partition keys, then the order keys (NULL lowest),
+ *    so each partition is a run of neighbouring rows and rows tied on every key keep their input order.
+ *  - Partitions are then evaluated and handed out one at a time — only the current partition's values are held.
+ *  - ROW_NUMBER counts the rows; RANK repeats for rows tied on the order keys, then skips ahead.
+ *  - COUNT/SUM/AVG keep a running count and sum over a sliding frame. Both frame ends only move forward,
+ *    so each row enters and leaves the running state once — O(1) amortized per row, whatever the frame's width.
+ *    NULLs are skipped; SUM is a Long, AVG a Double, and both are NULL over a frame without values.
+ */
+
+public final class WindowOperator implements Operator {
+
+    private final Operator child;
+    private final WindowSpec spec;
+
+    private List<Row> sorted;
+    private int partitionStart;
+    private int partitionEnd;
+    private Object[][] values; // 🪟 the current partition's window values, one array per call
+    private int position;
+
+    /**
+     * @param child The rows to look through, in the schema the spec was compiled against
+     * @param spec  The window calls sharing one window
+     */
+
+    public WindowOperator(Operator child, WindowSpec spec) {
+        this.child = child;
+        this.spec = spec;
+    }
+
+    @Override
+    public Row next() {
+        if (sorted == null) {
+            sorted = sort();
+        }
+        if (position == partitionEnd) {
+            if (position == sorted.size()) {
+                return null;
+            }
+            evaluatePartition();
+        }
+        Row row = sorted.get(position);
+        List<Object> extended = new ArrayList<>(row.values.size() + values.length);
+        extended.addAll(row.values);
+        for (Object[] column : values) {
+            extended.add(column[position - partitionStart]);
+        }
+        position++;
+        return new Row(extended);
+    }
+
+    @Override
+    public void close() {
+        child.close();
+    }
+
+    private List<Row> sort() {
+        List<Row> rows = new ArrayList<>();
+        for (Row row = child.next(); row != null; row = child.next()) {
+            rows.add(row);
+        }
+        rows.sort(partitionOrder().thenComparing(peerOrder()));
+        return rows;
+    }
+
+    // 🗂️ Rows of one partition compare equal
+    private Comparator<Row> partitionOrder() {
+        return (a, b) -> {
+            for (int key : spec.partitionKeys) {
+                int cmp = compare(a.getValue(key), b.getValue(key));
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        };
+    }
+
+    // 📐 Rows tied on every ORDER BY key — peers, which share a RANK — compare equal
+    private Comparator<Row> peerOrder() {
+        return (a, b) -> {
+            for (int i = 0; i < spec.orderKeys.length; i++) {
+                int cmp = compare(a.getValue(spec.orderKeys[i]), b.getValue(spec.orderKeys[i]));
+                if (cmp != 0) {
+                    return spec.descending[i] ? -cmp : cmp;
+                }
+            }
+            return 0;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object x, Object y) {
+        if (x == y) {
+            return 0;
+        }
+        if (x == null) {
+            return -1;
+        }
+        if (y == null) {
+            return 1;
+        }
+        return ((Comparable) x).compareTo(y);
+    }
+
+    // 🗂️ Finds where the partition at the current position ends, and computes every call's values over it
+    private void evaluatePartition() {
+        Comparator<Row> partitionOrder = partitionOrder();
+        partitionStart = position;
+        partitionEnd = position + 1;
+        while (partitionEnd < sorted.size() && partitionOrder.compare(sorted.get(partitionStart), sorted.get(partitionEnd)) == 0) {
+            partitionEnd++;
+        }
+        List<Row> partition = sorted.subList(partitionStart, partitionEnd);
+        values = new Object[spec.size()][];
+        for (int f = 0; f < spec.size(); f++) {
+            values[f] = switch (spec.functions[f]) {
+                case ROW_NUMBER -> rowNumbers(partition.size());
+                case RANK -> ranks(partition);
+                case COUNT, SUM, AVG -> frames(partition, f);
+            };
+        }
+    }
+
+    private static Object[] rowNumbers(int size) {
+        Object[] numbers = new Object[size];
+        for (int i = 0; i < size; i++) {
+            numbers[i] = (long) i + 1;
+        }
+        return numbers;
+    }
+
+    private Object[] ranks(List<Row> partition) {
+        Comparator<Row> peerOrder = peerOrder();
+        Object[] ranks = new Object[partition.size()];
+        long rank = 1;
+        for (int i = 0; i < ranks.length; i++) {
+            if (i > 0 && peerOrder.compare(partition.get(i - 1), partition.get(i)) != 0) {
+                rank = i + 1;
+            }
+            ranks[i] = rank;
+        }
+        return ranks;
+    }
+
+    // 🖼️ COUNT, SUM or AVG over each row's frame, sliding one running state along the partition
+    private Object[] frames(List<Row> partition, int f) {
+        WindowFunction function = spec.functions[f];
+        int column = spec.columnIndices[f];
+        int size = partition.size();
+        long start = Math.max(-size, Math.min(size, spec.frameStarts[f])); // ✂️ offsets past the partition's ends are clamped
+        long end = Math.max(-size, Math.min(size, spec.frameEnds[f]));
+        Object[] results = new Object[size];
+
+        int lo = 0; // 🖼️ the running state holds the rows in [lo, hi)
+        int hi = 0;
+        long count = 0;
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            int frameLo = (int) Math.min(size, Math.max(0, i + start));
+            int frameHi = (int) Math.min(size, Math.max(0, i + end + 1));
+            while (hi < frameHi) {
+                Object value = column == -1 ? Boolean.TRUE : partition.get(hi).getValue(column);
+                if (value != null) {
+                    count++;
+                    sum += value instanceof Integer number ? number : 0;
+                }
+                hi++;
+            }
+            while (lo < frameLo) {
+                if (lo < hi) {
+                    Object value = column == -1 ? Boolean.TRUE : partition.get(lo).getValue(column);
+                    if (value != null) {
+                        count--;
+                        sum -= value instanceof Integer number ? number : 0;
+                    }
+                }
+                lo++;
+            }
+            hi = Math.max(hi, lo); // 🕳️ a frame wholly past the rows added so far is empty
+            results[i] = switch (function) {
+                case COUNT -> count;
+                case SUM -> count == 0 ? null : sum;
+                case AVG -> count == 0 ? null : (double) sum / count;
+                default -> throw new IllegalStateException(function + " has no frame");
+            };
+        }
+        return results;
+    }
+}
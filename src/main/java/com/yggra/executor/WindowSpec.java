@@ -0,0 +1,127 @@
+package com.yggra.executor;
+
+import com.yggra.commands.WindowCall;
+import com.yggra.commands.WindowFunction;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 🪟 [RUNIC INSCRIPTION] 🪟
+ * The window calls that look through one window, compiled against a schema: the partition and order
+ * key indices they share, and per call the function, the column it reads and its frame.
+ * A spec is immutable; a {@link WindowOperator} evaluates it once per execution.
+ */
+
+public final class WindowSpec {
+
+    final int[] partitionKeys;
+    final int[] orderKeys;
+    final boolean[] descending;
+    final WindowFunction[] functions;
+    final int[] columnIndices; // -1 for ROW_NUMBER, RANK and COUNT(*)
+    final long[] frameStarts;
+    final long[] frameEnds;
+    final List<WindowCall> calls;
+    private final List<String> headers;
+
+    private WindowSpec(int[] partitionKeys, int[] orderKeys, boolean[] descending, WindowFunction[] functions,
+                       int[] columnIndices, long[] frameStarts, long[] frameEnds, List<WindowCall> calls, List<String> headers) {
+        this.partitionKeys = partitionKeys;
+        this.orderKeys = orderKeys;
+        this.descending = descending;
+        this.functions = functions;
+        this.columnIndices = columnIndices;
+        this.frameStarts = frameStarts;
+        this.frameEnds = frameEnds;
+        this.calls = calls;
+        this.headers = headers;
+    }
+
+    /**
+     * 🔨 Groups window calls by the window they look through, in the order each window is first named,
+     * and compiles each group against the schema of the rows it will read.
+     *
+     * @throws RuntimeException if a column is unknown, or SUM/AVG is asked of a VARCHAR column
+     */
+
+    public static List<WindowSpec> compile(List<WindowCall> calls, BoundSchema schema) {
+        List<List<WindowCall>> windows = new ArrayList<>();
+        for (WindowCall call : calls) {
+            List<WindowCall> shared = null;
+            for (List<WindowCall> window : windows) {
+                if (window.getFirst().sharesWindowWith(call)) {
+                    shared = window;
+                    break;
+                }
+            }
+            if (shared == null) {
+                shared = new ArrayList<>();
+                windows.add(shared);
+            }
+            shared.add(call);
+        }
+        List<WindowSpec> specs = new ArrayList<>(windows.size());
+        for (List<WindowCall> window : windows) {
+            specs.add(compileWindow(window, schema));
+        }
+        return specs;
+    }
+
+    private static WindowSpec compileWindow(List<WindowCall> calls, BoundSchema schema) {
+        WindowCall first = calls.getFirst();
+        int[] partitionKeys = resolve(first.partitionBy, schema);
+        int[] orderKeys = resolve(first.orderBy, schema);
+        boolean[] descending = new boolean[orderKeys.length];
+        for (int i = 0; i < descending.length; i++) {
+            descending[i] = first.descending.get(i);
+        }
+
+        int size = calls.size();
+        WindowFunction[] functions = new WindowFunction[size];
+        int[] indices = new int[size];
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        List<String> headers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            WindowCall call = calls.get(i);
+            functions[i] = call.function;
+            starts[i] = call.frameStart;
+            ends[i] = call.frameEnd;
+            headers.add(call.toString());
+            if (call.columnName == null) {
+                indices[i] = -1;
+                continue;
+            }
+            int index = schema.resolve(call.columnName);
+            if ((call.function == WindowFunction.SUM || call.function == WindowFunction.AVG)
+                    && schema.column(index).type != TokenType.INT) {
+                throw new RuntimeException("⚔️ [TYPE JUDGMENT] " + call.function + " can only count the might of INT columns — '" + call.columnName + "' holds runes!");
+            }
+            indices[i] = index;
+        }
+        return new WindowSpec(partitionKeys, orderKeys, descending, functions, indices, starts, ends, List.copyOf(calls), headers);
+    }
+
+    private static int[] resolve(List<String> columns, BoundSchema schema) {
+        int[] indices = new int[columns.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = schema.resolve(columns.get(i));
+        }
+        return indices;
+    }
+
+    /**
+     * 📜 The result headers, written as the calls were spoken (e.g. "SUM(gold) OVER (ORDER BY id)").
+     */
+
+    public List<String> headers() {
+        return headers;
+    }
+
+    // 🔢 How many values each row gains
+    public int size() {
+        return functions.length;
+    }
+}
@@ -0,0 +1,238 @@
+package com.yggra.models;
+
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📊 [RUNIC INSCRIPTION] 📊
+ * What ANALYZE learned about one column: how many values are NULL, how many are distinct
+ * (a {@link HyperLogLog} sketch), how the values spread (an equi-depth histogram and, for INT
+ * columns, a {@link QuantileSketch}), and whether the column is stored in ascending order.
+ * ⚡ Every INSERT after ANALYZE is folded in with {@link #add(Object)} — the sketches stay exact in
+ * their own terms, while the histogram only grows the bucket each value falls into, so its buckets
+ * drift from equal depth until the next ANALYZE rebuilds them.
+ */
+
+public final class ColumnStatistics {
+
+    private long nullCount;
+    private long valueCount;
+    private final HyperLogLog sketch = new HyperLogLog();
+    private final QuantileSketch quantiles = new QuantileSketch();
+
+    // 📐 Equi-depth histogram: bucket i holds the values in (bounds[i - 1], bounds[i]]
+    private Object[] bounds;
+    private long[] bucketCounts;
+    private Object min;
+
+    // 🌊 True while every value is non-NULL and none is smaller than the one before it
+    private boolean ordered = true;
+    private Object last;
+
+    private ColumnStatistics() {
+    }
+
+    /**
+     * 🔍 Scans one column of a table and builds its statistics.
+     *
+     * @param rows    The table's rows
+     * @param index   The column position
+     * @param buckets Histogram buckets to build
+     */
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ColumnStatistics collect(List<Row> rows, int index, int buckets) {
+        ColumnStatistics stats = new ColumnStatistics();
+        List<Object> values = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            Object value = row.getValue(index);
+            stats.track(value);
+            if (value != null) {
+                stats.sketch.add(value);
+                if (value instanceof Integer number) {
+                    stats.quantiles.add(number);
+                }
+                values.add(value);
+            }
+        }
+        stats.valueCount = values.size();
+
+        Object[] sorted = values.toArray();
+        Arrays.sort(sorted, (a, b) -> ((Comparable) a).compareTo(b));
+        int bucketCount = Math.min(buckets, sorted.length);
+        stats.bounds = new Object[bucketCount];
+        stats.bucketCounts = new long[bucketCount];
+        int start = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            int end = (int) ((long) sorted.length * (i + 1) / bucketCount);
+            stats.bounds[i] = sorted[end - 1];
+            stats.bucketCounts[i] = end - start;
+            start = end;
+        }
+        stats.min = sorted.length == 0 ? null : sorted[0];
+        return stats;
+    }
+
+    /**
+     * ⚒️ Folds a newly inserted value into the statistics.
+     */
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void add(Object value) {
+        track(value);
+        if (value == null) {
+            return;
+        }
+        valueCount++;
+        sketch.add(value);
+        if (value instanceof Integer number) {
+            quantiles.add(number);
+        }
+        Comparable comparable = (Comparable) value;
+        if (bounds.length == 0) {
+            bounds = new Object[]{value};
+            bucketCounts = new long[]{1};
+            min = value;
+            return;
+        }
+        if (comparable.compareTo(min) < 0) {
+            min = value;
+        }
+        int bucket = bucketOf(value);
+        if (bucket == bounds.length) {
+            bucket--;
+            bounds[bucket] = value; // 📈 a new maximum widens the last bucket
+        }
+        bucketCounts[bucket]++;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void track(Object value) {
+        if (value == null) {
+            nullCount++;
+            ordered = false;
+            return;
+        }
+        if (last != null && ((Comparable) last).compareTo(value) > 0) {
+            ordered = false;
+        }
+        last = value;
+    }
+
+    // 🔎 The first bucket whose upper bound is >= value (bounds.length when above them all)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int bucketOf(Object value) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (((Comparable) bounds[mid]).compareTo(value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public long nullCount() {
+        return nullCount;
+    }
+
+    /**
+     * 🔢 Estimated number of distinct non-NULL values.
+     */
+
+    public long distinctValues() {
+        if (valueCount == 0) {
+            return 0;
+        }
+        return Math.max(1, Math.min(sketch.estimate(), valueCount));
+    }
+
+    /**
+     * 🎯 Estimated value at a fraction of the way through the column's sorted non-NULL INT values.
+     *
+     * @return The estimate, or null if the column holds no INT value
+     */
+
+    public Integer quantile(double fraction) {
+        Long value = quantiles.quantile(fraction);
+        return value == null ? null : value.intValue();
+    }
+
+    /**
+     * 🌊 True when the column holds no NULLs and is stored in non-decreasing order.
+     */
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * ⚖️ Estimated fraction of rows satisfying `column <op> literal`. NULLs never satisfy a comparison.
+     *
+     * @param operator One of the comparison token types
+     * @param literal  The (already typed) literal
+     * @return A fraction in [0, 1]
+     */
+
+    public double selectivity(TokenType operator, Object literal) {
+        long rows = valueCount + nullCount;
+        if (rows == 0 || valueCount == 0) {
+            return 0;
+        }
+        double nonNull = (double) valueCount / rows;
+        double equal = inRange(literal) ? nonNull / distinctValues() : 0;
+        return switch (operator) {
+            case EQUALS -> equal;
+            case NOT_EQUALS -> Math.max(0, nonNull - equal);
+            case LESS_THAN -> nonNull * fractionBelow(literal);
+            case LESS_THAN_EQUAL -> Math.min(nonNull, nonNull * fractionBelow(literal) + equal);
+            case GREATER_THAN -> Math.max(0, nonNull * (1 - fractionBelow(literal)) - equal);
+            case GREATER_THAN_EQUAL -> nonNull * (1 - fractionBelow(literal));
+            default -> nonNull;
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean inRange(Object literal) {
+        return ((Comparable) literal).compareTo(min) >= 0
+                && ((Comparable) literal).compareTo(bounds[bounds.length - 1]) <= 0;
+    }
+
+    // 📐 Fraction of non-NULL values strictly below the literal, read off the histogram
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private double fractionBelow(Object literal) {
+        if (((Comparable) literal).compareTo(min) <= 0) {
+            return 0;
+        }
+        int bucket = bucketOf(literal);
+        if (bucket == bounds.length) {
+            return 1;
+        }
+        long below = 0;
+        long total = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            total += bucketCounts[i];
+            if (i < bucket) {
+                below += bucketCounts[i];
+            }
+        }
+        // 🧮 Within the bucket: interpolate linearly for INT, assume the middle for VARCHAR
+        Object low = bucket == 0 ? min : bounds[bucket - 1];
+        double within = 0.5;
+        if (literal instanceof Integer value && low instanceof Integer from && bounds[bucket] instanceof Integer to && to > from) {
+            within = (double) (value - from) / (to - from);
+        }
+        return (below + within * bucketCounts[bucket]) / total;
+    }
+
+    @Override
+    public String toString() {
+        return "nulls=" + nullCount + ", distinct≈" + distinctValues() + ", buckets=" + bounds.length + (ordered ? ", ordered" : "");
+    }
+}
@@ -2,21 +2,30 @@ package com.yggra.models;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *DATABASE CLASS - Handles the complete creation of databases statement parsing
  * Expected format: CREATE DATABASE database_name;
  * Validates database_name and semicolon termination
  * throws RuntimeException for various CREATE DATABASE syntax errors
+ * 🗝️ Tables are kept in a concurrent hash keyed by name, so finding one costs the same in a realm of
+ * thousands as in a realm of one. Names match exactly as written — the rule column names, qualified
+ * references and the statement cache follow too. A second list keeps creation order for SHOW TABLES.
  */
 
 public class Database {
     public String databaseName;
-    public List<Table> tables;
+
+    // 🗝️ Every table and materialized view, by name
+    private final Map<String, Table> tables = new ConcurrentHashMap<>();
+
+    // 📜 The same tables in the order they were forged; changed only under this realm's lock
+    private final List<Table> forgeOrder = new ArrayList<>();
 
     public Database(String databaseName) {
         this.databaseName = databaseName;
-        this.tables =new ArrayList<>();
     }
 
     public String getName(){
@@ -28,8 +37,64 @@ public class Database {
         this.databaseName=newName;
     }
 
+    // 🔍 The table of that name, or null when the realm has none
+    public Table getTable(String tableName) {
+        return tables.get(tableName);
+    }
+
+    public boolean hasTable(String tableName) {
+        return tables.containsKey(tableName);
+    }
+
+    /**
+     * 🛠️ Adds a table under its own name.
+     *
+     * @return false, changing nothing, when the name is already taken
+     */
+
+    public synchronized boolean addTable(Table table) {
+        if (tables.putIfAbsent(table.tableName, table) != null) {
+            return false;
+        }
+        forgeOrder.add(table);
+        return true;
+    }
+
+    // 🧨 Removes and returns the table of that name, or null when there is none
+    public synchronized Table removeTable(String tableName) {
+        Table removed = tables.remove(tableName);
+        if (removed != null) {
+            forgeOrder.remove(removed);
+        }
+        return removed;
+    }
+
+    /**
+     * 🏛️ Renames a table of this realm, moving it to its new key.
+     *
+     * @return false, changing nothing, when the new name is already taken
+     */
+
+    public synchronized boolean renameTable(Table table, String newName) {
+        if (tables.putIfAbsent(newName, table) != null) {
+            return false;
+        }
+        tables.remove(table.tableName, table);
+        table.setTableName(newName);
+        return true;
+    }
+
+    // 📜 Every table, in the order it was forged — for SHOW TABLES
+    public synchronized List<Table> tablesInOrder() {
+        return List.copyOf(forgeOrder);
+    }
+
+    public boolean isEmpty() {
+        return tables.isEmpty();
+    }
+
     @Override
     public String toString(){
-        return databaseName + " " + (tables.isEmpty() ? "(0 tables)": tables);
+        return databaseName + " " + (isEmpty() ? "(0 tables)": tablesInOrder());
     }
 }
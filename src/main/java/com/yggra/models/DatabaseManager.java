@@ -1,10 +1,25 @@
 package com.yggra.models;
 
 import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.Condition;
+import com.yggra.commands.CopyFormat;
+import com.yggra.commands.CopyOptions;
+import com.yggra.commands.SelectCommand;
 import com.yggra.commands.ValueDefinition;
+import com.yggra.executor.BoundSchema;
+import com.yggra.executor.ColumnarFile;
+import com.yggra.executor.CsvLoader;
+import com.yggra.executor.MaterializedView;
+import com.yggra.executor.QueryEngine;
+import com.yggra.executor.QueryResult;
+import com.yggra.executor.ResultCache;
+import com.yggra.executor.RowPredicate;
+import com.yggra.executor.TableExporter;
 import com.yggra.parser.TokenType;
 
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Function;
 
 
 /**
@@ -20,6 +35,9 @@ public class DatabaseManager {
     public Map<String, Database> databases = new HashMap<>();
     private Database currentDatabase;
 
+    // 🏺 Results of repeated SELECTs, kept while their tables are unchanged (null until enabled)
+    private ResultCache resultCache;
+
     /**
      * 🌌 [COSMIC CONSTRUCTOR] 🌌
      * Forges the initial connection to the World Tree (database system).
@@ -66,25 +84,17 @@ public class DatabaseManager {
 
 
     public static List<Integer> getIntegers(List<String> columns, Table table) {
-        List<Integer> columnIndices = new ArrayList<>();
+        List<Integer> columnIndices = new ArrayList<>(columns.size());
+        TableSchema schema = table.schema();
         for (String column : columns) {
-            boolean found = false;
-
-            // Linear scan over table schema (O(n) per lookup).
-            // For large schemas, this could be optimized with a hashmap
-            // mapping columnName -> index.
-            for (int j = 0; j < table.columnList.size(); j++) {
-                if (column.equals(table.columnList.get(j).columnName)) {
-                    columnIndices.add(j); // capture index
-                    found = true;
-                    break; // stop once match is found
-                }
-            }
+            // Hash probe into the compiled schema (O(1) per lookup)
+            int index = schema.indexOf(column);
 
             // Defensive guard: if column not found, raise descriptive error.
-            if (!found) {
+            if (index == -1) {
                 throw new RuntimeException("❌ [COLUMN CURSED] The Fates declare: 'No such column: " + column + "'");
             }
+            columnIndices.add(index);
         }
         return columnIndices;
     }
@@ -101,20 +111,20 @@ public class DatabaseManager {
      *   | 2  | veeru   |
      * Null values are printed as the literal string "NULL".
      *
-     * @param columns       the column names requested in the SELECT
-     * @param table         the table object containing schema + rows
-     * @param columnIndices resolved indices for each requested column
+     * @param result the projected (or aggregated) rows with their headers
      */
 
-    private void printTable(List<String> columns, Table table, List<Integer> columnIndices) {
+    private void printTable(QueryResult result) {
+        List<String> columns = result.columnNames;
+
         // 🔍 Step 1: Compute column widths
         // Each column must be wide enough for both the header and the longest value.
         List<Integer> colWidths = new ArrayList<>();
-        for (int idx : columnIndices) {
-            int maxWidth = table.columnList.get(idx).columnName.length();
+        for (int i = 0; i < columns.size(); i++) {
+            int maxWidth = columns.get(i).length();
 
-            for (Row row : table.rowList) {
-                Object val = row.getValue(idx);
+            for (Row row : result.rows) {
+                Object val = row.getValue(i);
                 if (val != null) {
                     maxWidth = Math.max(maxWidth, val.toString().length());
                 }
@@ -140,10 +150,10 @@ public class DatabaseManager {
         System.out.println(sep);
 
         // 📊 Step 4: Print each row’s values, aligned by column widths
-        for (Row row : table.rowList) {
+        for (Row row : result.rows) {
             StringBuilder rowStr = new StringBuilder("|");
-            for (int i = 0; i < columnIndices.size(); i++) {
-                Object val = row.getValue(columnIndices.get(i));
+            for (int i = 0; i < columns.size(); i++) {
+                Object val = row.getValue(i);
                 rowStr.append(" ")
                         .append(String.format("%-" + colWidths.get(i) + "s", val != null ? val : "NULL"))
                         .append(" |");
@@ -174,7 +184,11 @@ public class DatabaseManager {
      */
 
     public Table getTable(final String tablename) {
-        return currentDatabase.tables.stream().filter(t -> t.tableName.equals(tablename)).findFirst().orElseThrow(() -> new RuntimeException("🔥 [FLAMES OF CONFLICT] Table '" + tablename + "' does not exist!\n" + "🛡️ Forge it first with: CREATE TABLE " + tablename + "!"));
+        Table table = currentDatabase.getTable(tablename);
+        if (table == null) {
+            throw new RuntimeException("🔥 [FLAMES OF CONFLICT] Table '" + tablename + "' does not exist!\n" + "🛡️ Forge it first with: CREATE TABLE " + tablename + "!");
+        }
+        return table;
     }
 
     /**
@@ -367,14 +381,10 @@ public class DatabaseManager {
             if (!hasCurrentDatabase()) {
                 throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
             }
-            boolean tableExists = currentDatabase.tables.stream().anyMatch(table -> table.tableName.equals(tablename));
-
-            if (tableExists) {
+            if (!currentDatabase.addTable(new Table(tablename, columns))) {
                 throw new RuntimeException("🔥 [FLAMES OF CONFLICT] Table '" + tablename + "' already exists!\n" + "🛡️ Choose a name worthy of Valhalla!");
 
             } else {
-                Table table = new Table(tablename, columns);
-                currentDatabase.tables.add(table);
                 System.out.println("🛠️ [TABLE FORGED] Table '" + tablename + "' rises in " + currentDatabase.getName() + "!");
             }
 
@@ -389,11 +399,26 @@ public class DatabaseManager {
      *
      * @param tableName       Target table name
      * @param providedColumns List of column definitions
-     * @param values          List of values to insert
+     * @param rows            The rows to insert, one list of values each
      * @throws RuntimeException for various validation failures
      */
 
-    public void insertIntoTable(String tableName, List<String> providedColumns, List<ValueDefinition> values) {
+    public void insertIntoTable(String tableName, List<String> providedColumns, List<List<ValueDefinition>> rows) {
+        // 🛡️ [SHIELD OF VALHALLA] - Resolve the column list once, then expand, validate and etch the rows
+        insertIntoTable(prepareInsert(tableName, providedColumns), rows);
+    }
+
+    /**
+     * 📜 [RUNIC INSCRIPTION] 📜
+     * Resolves an INSERT's column list against a table of the current realm, once for any number of rows.
+     *
+     * @param tableName       Target table name
+     * @param providedColumns The columns named by the INSERT, in the order their values are offered
+     * @return The plan rows are bound through
+     * @throws RuntimeException if no realm is bound, the table does not exist, or a column is unknown or repeated
+     */
+
+    public InsertPlan prepareInsert(String tableName, List<String> providedColumns) {
         try {
             if (!hasCurrentDatabase()) {
                 throw new RuntimeException("""
@@ -401,42 +426,145 @@ public class DatabaseManager {
                         ⚡ First, claim a domain with: USE <database_name>\s
                         The All-Father watches... and finds you wanting.""");
             }
-            Table table = getTable(tableName);
+            return InsertPlan.prepare(getTable(tableName), providedColumns);
 
-            // 🛡️ [SHIELD OF VALHALLA] - Ensuring no null pointers breach our defenses
-            if (table.columnList == null || providedColumns == null) {
-                throw new RuntimeException("🌑 [GINNUNGAGAP'S VOID] - You offer nothingness where substance is demanded!");
-            }
-            // Validate column existence
-            for (String providedCol : providedColumns) {
-                if (table.columnList.stream().noneMatch(col -> col.columnName.equals(providedCol))) {
-                    throw new RuntimeException("🗡️  [VALKYRIE'S DENIAL] Column '" + providedCol + "' is not worthy!\n" + "   No such warrior stands among Odin's chosen.\n" + "   Check your runes, mortal.");
+        } catch (Exception e) {
+            throw new RuntimeException("⚡ [RAGNARÖK'S ECHO] The Valkyries deny your INSERT! \n" + "Mimir says: \"" + e.getMessage() + "\" \n" + "Return when you are worthy, mortal.");
+        }
+    }
+
+    /**
+     * ✍️ [RUNIC INSCRIPTION] ✍️
+     * Inscribes rows through an INSERT plan resolved earlier (a prepared INSERT),
+     * skipping the per-statement column lookups.
+     * Every row is validated before the first is appended, so a flawed row leaves the table untouched.
+     *
+     * @param plan A plan still valid for its table
+     * @param rows The rows to insert, each holding one value per column named when the plan was prepared
+     * @throws RuntimeException for validation failures
+     */
+
+    public void insertIntoTable(InsertPlan plan, List<List<ValueDefinition>> rows) {
+        try {
+            List<Row> bound = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    bound.add(plan.bind(rows.get(i)));
+                } catch (RuntimeException e) {
+                    throw rows.size() == 1 ? e : new RuntimeException("Row " + (i + 1) + ": " + e.getMessage());
                 }
             }
+            plan.table().addRows(bound);
+        } catch (Exception e) {
+            throw new RuntimeException("⚡ [RAGNARÖK'S ECHO] The Valkyries deny your INSERT! \n" + "Mimir says: \"" + e.getMessage() + "\" \n" + "Return when you are worthy, mortal.");
+        }
+    }
 
-            // Check for duplicate columns in the provided list
-            Set<String> uniqueColumns = new HashSet<>(providedColumns);
-            if (uniqueColumns.size() != providedColumns.size()) {
-                throw new RuntimeException("""
-                        🔄 [ECHO OF CONFUSION] You speak the same column name twice!
-                        Even Loki's tricks cannot make one column hold two values.
-                        Remove the duplicate and try again.""");
+    /**
+     * 📥 [BULK OFFERING] 📥
+     * Appends every row of a CSV, TSV or binary columnar file to a table (COPY ... FROM).
+     * The file is parsed in parallel chunks straight into typed rows; only once all of it has proven
+     * worthy are the rows appended, in one step, so a flawed line leaves the table untouched.
+     *
+     * @param tableName Target table name
+     * @param path      The file, relative to the working directory unless absolute
+     * @param options   The file's format, delimiter, NULL text and header
+     * @throws RuntimeException if no realm is bound, the table is a view, or the file cannot be read or does not fit
+     */
+
+    public void copyFrom(String tableName, String path, CopyOptions options) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
+        }
+        Table table = getTable(tableName);
+        refuseDerived(table, "COPY into");
+        long started = System.nanoTime();
+        List<Row> rows = options.format == CopyFormat.BINARY
+                ? ColumnarFile.read(Path.of(path), table.columnList)
+                : CsvLoader.load(Path.of(path), options, table.columnList);
+        table.addRows(rows);
+        System.out.println("📥 [TRIBUTE RECEIVED] '" + path + "' was read in " + (System.nanoTime() - started) * 0.000001 + " ms");
+    }
+
+    /**
+     * 📤 [TRIBUTE SENT FORTH] 📤
+     * Writes every row of a table or view to a file (COPY ... TO), replacing what the file held.
+     *
+     * @param tableName The table or view to export
+     * @param path      The file, relative to the working directory unless absolute
+     * @param options   The format to write, and for CSV and TSV the delimiter, NULL text and header
+     * @throws RuntimeException if no realm is bound, the table does not exist, or the file cannot be written
+     */
+
+    public void copyTo(String tableName, String path, CopyOptions options) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
+        }
+        Table table = getTable(tableName);
+        long started = System.nanoTime();
+        long rows = TableExporter.export(table, Path.of(path), options);
+        System.out.println("📤 [TRIBUTE SENT] " + rows + " rows of '" + tableName + "' written to '" + path + "' in "
+                + (System.nanoTime() - started) * 0.000001 + " ms");
+    }
+
+    /**
+     * 🔨 [REFORGING ROWS] 🔨
+     * Overwrites the SET columns of every row that passes the WHERE (UPDATE).
+     * The new values are validated against their columns once, then written into each matching row in place.
+     *
+     * @param tableName  Target table name
+     * @param columns    The SET columns
+     * @param values     One value per SET column (literals, NULL or DEFAULT)
+     * @param conditions The AND-joined WHERE conditions (empty for every row)
+     * @throws RuntimeException if no realm is bound, the table is a view, or a column or value is unworthy
+     */
+
+    public void updateTable(String tableName, List<String> columns, List<ValueDefinition> values, List<Condition> conditions) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
+        }
+        Table table = getTable(tableName);
+        refuseDerived(table, "UPDATE");
+
+        TableSchema schema = table.schema();
+        int[] positions = new int[columns.size()];
+        List<TokenType> types = new ArrayList<>(columns.size());
+        List<Integer> lengths = new ArrayList<>(columns.size());
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = schema.indexOf(columns.get(i));
+            if (positions[i] == -1) {
+                throw new RuntimeException("💀 [PHANTOM COLUMN] The Allfather roars: 'Column \"" + columns.get(i) + "\" is but an illusion in " + tableName + "!'");
             }
-            // Validate column names (order matters)
-            List<String> tableColumns = table.columnList.stream().map(col -> col.columnName).toList();
-            List<TokenType> typesOfColumn = table.columnList.stream().map(type -> type.type).toList();
-            List<Integer> lengths = table.columnList.stream().map(length -> length.length).toList();
+            types.add(schema.type(positions[i]));
+            lengths.add(schema.length(positions[i]));
+        }
+        List<Object> converted = table.validateRow(values, types, lengths, columns);
+        RowPredicate predicate = RowPredicate.compile(conditions, BoundSchema.of(table));
 
-            // Your validation logic here...
-            List<ValueDefinition> expandedRowValues = table.expandRow(providedColumns, values, table.columnList);
+        int updated = table.updateRows(predicate::test, positions, converted);
+        System.out.println("🔨 [ROWS REFORGED] " + updated + " row(s) of '" + tableName + "' bear new runes.");
+    }
 
-            List<Object> returnedValue = table.validateRow(expandedRowValues, typesOfColumn, lengths, tableColumns);
-            //Actually insert the row into the table storage
-            table.addRow(new Row(returnedValue));
+    /**
+     * 🗡️ [STRIKING ROWS] 🗡️
+     * Removes every row that passes the WHERE (DELETE). Removed rows are tombstoned rather than
+     * cut out of the row list, which is compacted only once enough of it is dead.
+     *
+     * @param tableName  Target table name
+     * @param conditions The AND-joined WHERE conditions (empty for every row)
+     * @throws RuntimeException if no realm is bound, the table is a view, or a condition is unworthy
+     */
 
-        } catch (Exception e) {
-            throw new RuntimeException("⚡ [RAGNARÖK'S ECHO] The Valkyries deny your INSERT! \n" + "Mimir says: \"" + e.getMessage() + "\" \n" + "Return when you are worthy, mortal.");
+    public void deleteFromTable(String tableName, List<Condition> conditions) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
         }
+        Table table = getTable(tableName);
+        refuseDerived(table, "DELETE from");
+        RowPredicate predicate = RowPredicate.compile(conditions, BoundSchema.of(table));
+
+        int deleted = table.deleteRows(predicate::test);
+        System.out.println("🗡️ [ROWS FALLEN] " + deleted + " row(s) of '" + tableName + "' have been sent to Hel.");
     }
 
     /**
@@ -469,20 +597,22 @@ public class DatabaseManager {
 
             // 🔍 Check if table truly exists in the current realm
 
-            boolean tableExists = currentDatabase.tables.stream().anyMatch(table -> table.tableName.equals(tableName));
-            if (!tableExists) {
+            if (!currentDatabase.hasTable(tableName)) {
                 throw new RuntimeException("❌ [PHANTOM TABLE] Table '" + tableName + "' does not exist in this realm!\n" + "🧭 Seek it in other lands or summon it anew with CREATE TABLE.");
             }
 
-            // ⚔️ Purge the table from the list of known relics
+            Table dropped = getTable(tableName);
+            if (dropped instanceof MaterializedView) {
+                throw new RuntimeException("🪞 [MIRROR UNTOUCHABLE] '" + tableName + "' is a materialized view — remove it with DROP MATERIALIZED VIEW " + tableName + ";");
+            }
+            refuseObserved(dropped, "drop");
 
-            List<Table> modifiedTableList = currentDatabase.tables.stream().filter(table -> !table.tableName.equals(tableName)).toList();
+            // ⚔️ Purge the table from the list of known relics
 
-            // ⚗️ Reforge the list of tables in the current realm
-            currentDatabase.tables = new ArrayList<>(modifiedTableList);
+            currentDatabase.removeTable(tableName);
 
             // ☠️ If no relics remain in the realm, warn the summoner
-            if (modifiedTableList.isEmpty()) {
+            if (currentDatabase.isEmpty()) {
                 System.out.println("📜 [EMPTY TOMES] All tables have been purged from this realm. Use CREATE TABLE to write new destiny.");
             }
             // ✅ Success message
@@ -493,6 +623,65 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * 🪞 [MIRROR FORGING] 🪞
+     * Creates a materialized view: computes the SELECT once, stores the result as a table of the current realm,
+     * and keeps it current as rows are inserted into the source table.
+     *
+     * @param viewName The name the view is read by (must be free in the realm)
+     * @param query    A single-table SELECT without DISTINCT, LIMIT or OFFSET
+     * @throws RuntimeException if no realm is bound, the name is taken, or the query cannot be maintained
+     */
+
+    public void createMaterializedView(String viewName, SelectCommand query) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
+        }
+        if (currentDatabase.hasTable(viewName)) {
+            throw new RuntimeException("🔥 [FLAMES OF CONFLICT] Table '" + viewName + "' already exists!\n" + "🛡️ Choose a name worthy of Valhalla!");
+        }
+        Table source = getTable(query.tableName);
+        MaterializedView view = MaterializedView.create(viewName, query, source);
+        if (!currentDatabase.addTable(view)) {
+            throw new RuntimeException("🔥 [FLAMES OF CONFLICT] Table '" + viewName + "' already exists!\n" + "🛡️ Choose a name worthy of Valhalla!");
+        }
+        source.observers.add(view);
+        System.out.println("🪞 [MIRROR FORGED] Materialized view '" + viewName + "' reflects '" + source.tableName + "' with " + view.rowList.size() + " rows.");
+    }
+
+    /**
+     * 🪞 Removes a materialized view and stops its maintenance; the source table is untouched.
+     *
+     * @throws RuntimeException if no realm is bound or the name is not a materialized view
+     */
+
+    public void dropMaterializedView(String viewName) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
+        }
+        if (!(getTable(viewName) instanceof MaterializedView view)) {
+            throw new RuntimeException("🪞 [NO MIRROR HERE] '" + viewName + "' is a table, not a materialized view — use DROP TABLE.");
+        }
+        view.source().observers.remove(view);
+        currentDatabase.removeTable(viewName);
+        System.out.println("🧨 [MIRROR SHATTERED] Materialized view '" + viewName + "' has been dropped.");
+    }
+
+    // 🪞 Materialized views change only through their source table
+    private static void refuseDerived(Table table, String deed) {
+        if (table.isDerived()) {
+            throw new RuntimeException("🪞 [MIRROR UNTOUCHABLE] '" + table.tableName + "' is a materialized view — " + deed + " its source table instead.");
+        }
+    }
+
+    // 🪞 DDL that would break the views kept from a table waits until those views are dropped
+    private static void refuseObserved(Table table, String deed) {
+        if (!table.observers.isEmpty()) {
+            throw new RuntimeException("🪞 [MIRRORS DEPEND ON IT] Cannot " + deed + " '" + table.tableName + "' while materialized views reflect it: "
+                    + table.observers.stream().map(TableObserver::name).toList() + " — DROP MATERIALIZED VIEW them first.");
+        }
+    }
+
     /**
      * ⚔️ [SUMMON THE ARCHIVES] Executes the 'SHOW TABLES' command by unveiling all
      * ancient realms (tables) bound to the current database.
@@ -507,8 +696,8 @@ public class DatabaseManager {
         if (!hasCurrentDatabase()) {
             throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
         }
-        List<Table> allTables = currentDatabase.tables;
-        if (currentDatabase.tables.isEmpty()) {
+        List<Table> allTables = currentDatabase.tablesInOrder();
+        if (allTables.isEmpty()) {
             System.out.println("🪦 [REALM SILENT] No tables dwell in this realm. Forge one with: CREATE TABLE <table_name>");
             return;
         }
@@ -525,14 +714,13 @@ public class DatabaseManager {
      * - Without this, the Bifrost cannot bridge your will to the table.
      * 2. 🕵️ Seek the ancient table by its old name among the stones of the realm.
      * - If it is but a phantom, cry out in warning and end the ritual.
-     * 3. 🛡️ Traverse the hall of tables:
-     * - When the old name is found, shatter it from the annals and forge the new name in its place.
-     * - End your march the moment the deed is done — no need to disturb the others.
+     * 3. 🛡️ Move the table to its new name in the realm's ledger:
+     * - Refused when another table already bears that name.
      * 4. 📜 Declare to the Nine Realms that the renaming has been sealed.
      *
      * @param oldTableName The forsaken name of the table to be replaced.
      * @param newTableName The new name, worthy of the gods.
-     * @throws RuntimeException if no realm is bound or the table lies not within this realm.
+     * @throws RuntimeException if no realm is bound, the table lies not within this realm, or the new name is taken.
      */
 
     public void alterTableName(String oldTableName, String newTableName) {
@@ -543,8 +731,10 @@ public class DatabaseManager {
         // 2. 🕵️ Search for the ancient table by its old name
         Table table = getTable(oldTableName);
 
-        // The ritual is complete; leave the hall in silence
-        table.setTableName(newTableName);
+        // 3. 🛡️ Move it to its new name — unless another table already bears it
+        if (!currentDatabase.renameTable(table, newTableName)) {
+            throw new RuntimeException("🔥 [FLAMES OF CONFLICT] Table '" + newTableName + "' already exists!\n" + "🛡️ Choose a name worthy of Valhalla!");
+        }
         // 4. 📜 Announce the completion of the renaming ritual
         System.out.println("🏛️ [REALM SHIFT] Table '" + oldTableName + "' has been reborn as '" + newTableName + "'.");
     }
@@ -582,6 +772,8 @@ public class DatabaseManager {
             throw new RuntimeException("🪨 [TABLE LOST IN THE MISTS] The table '" + tableName + "' could not be found in this realm! " + "Ensure it exists before attempting to alter it.");
         }
 
+        refuseDerived(table, "ALTER");
+
         // 3. 📜 Ensure columns to add are not empty
         if (toAddColumns == null || toAddColumns.isEmpty()) {
             throw new RuntimeException("⚠️ [EMPTY OFFERING] No columns were provided for addition. " + "The gods demand at least one new column!");
@@ -641,10 +833,12 @@ public class DatabaseManager {
             throw new RuntimeException("🌪️💀 [FURY OF THE LOST HUNT] 🌪️💀\n" + "KRATOS BELLOWS: 'The table '" + tableName + "' hides from my blades like a coward!' ⚔️\n" + "🏛️ This realm holds no such vessel for my wrath to consume!\n" + "🔥 'Show yourself, or be deemed unworthy of destruction!' - Ghost of Sparta\n" + "💡 Ensure the table exists before invoking the cleansing fire!");
         }
 
+        refuseDerived(table, "TRUNCATE");
+
         // ⚡ STEP IV: UNLEASH THE BLADES OF CHAOS - TOTAL ANNIHILATION
         // With the fury of a thousand storms, every row falls to Kratos's wrath
         // Like the cleansing of Olympus, none shall survive this divine purge
-        table.rowList.clear();
+        table.clearRows();
 
         // 🏆 STEP V: DISPLAY THE AFTERMATH OF DIVINE WRATH
         // Behold the empty table - a monument to the power of the God Slayer
@@ -690,6 +884,9 @@ public class DatabaseManager {
             throw new RuntimeException("🌪️💀 [FURY OF THE LOST HUNT] 🌪️💀\n" + "KRATOS BELLOWS: 'The table \"" + tableName + "\" hides from my blades like a coward!' ⚔️\n" + "🏛️ This realm holds no such vessel for my wrath to consume!\n" + "🔥 'Show yourself, or be deemed unworthy of destruction!' - Ghost of Sparta\n" + "💡 Ensure the table exists before invoking the cleansing fire!");
         }
 
+        refuseDerived(table, "ALTER");
+        refuseObserved(table, "drop columns of");
+
         // STEP IV: Remove each specified column from the table
         for (String deleteColumnName : deletedColumns) {
             table.removeColumnFromTable(deleteColumnName);
@@ -736,6 +933,9 @@ public class DatabaseManager {
             throw new RuntimeException("🌪️💀 [FURY OF THE LOST HUNT] 🌪️💀\n" + "KRATOS BELLOWS: 'The table \"" + tableName + "\" hides from my blades like a coward!' ⚔️\n" + "🏛️ This realm holds no such vessel for my wrath to consume!\n" + "🔥 'Show yourself, or be deemed unworthy of destruction!' - Ghost of Sparta\n" + "💡 Ensure the table exists before invoking the cleansing fire!");
         }
 
+        refuseDerived(table, "ALTER");
+        refuseObserved(table, "rename columns of");
+
         // STEP IV: Command the table to rename the column
         table.renameColumnFromTable(oldName, newName);
 
@@ -783,6 +983,9 @@ public class DatabaseManager {
             throw new RuntimeException("🌪️💀 [FURY OF THE LOST HUNT] 🌪️💀\n" + "KRATOS BELLOWS: 'The table \"" + tableName + "\" hides from my blades like a coward!' ⚔️\n" + "🏛️ This realm holds no such vessel for my wrath to consume!\n" + "🔥 'Show yourself, or be deemed unworthy of destruction!' - Ghost of Sparta\n" + "💡 Ensure the table exists before invoking the cleansing fire!");
         }
 
+        refuseDerived(table, "ALTER");
+        refuseObserved(table, "retype columns of");
+
         // STEP IV: Delegate the datatype modification task to the Table object.
         // This ensures all column-level validation and updates are handled at the table level.
         table.modifyDataTypeColumnsFromTable(columns);
@@ -826,6 +1029,8 @@ public class DatabaseManager {
             throw new RuntimeException("🌪️💀 [FURY OF THE LOST HUNT] 🌪️💀\n" + "KRATOS BELLOWS: 'The table \"" + tableName + "\" skulks in shadows, " + "fleeing from my blades like a coward!' ⚔️\n" + "🏛️ No such vessel stands in this realm for my wrath to consume!\n" + "🔥 'Reveal yourself, or be deemed unworthy of my destruction!' - Ghost of Sparta");
         }
 
+        refuseDerived(table, "SET DEFAULT");
+
         // STEP IV: Retrieve the target column definition.
         ColumnDefinition column = table.getColumn(columnName);
 
@@ -841,6 +1046,7 @@ public class DatabaseManager {
 
         // STEP VII: All conditions met — set the default value.
         column.setDefault(defaultValue);
+        table.schemaVersion++; // 🔖 prepared INSERTs resolved the old DEFAULT
         System.out.println("🛠️ [DECREE CARVED] Default value bound to column '" + columnName + "' in table '" + tableName + "'!");
     }
 
@@ -870,6 +1076,8 @@ public class DatabaseManager {
             throw new RuntimeException("🌀 [TABLE VANISHED] The Norns whisper: 'No table named " + tableName + " dwells here!'");
         }
 
+        refuseDerived(table, "DROP DEFAULT");
+
         // 🪓 Step 3: Fetch the target column
         ColumnDefinition column = table.getColumn(columnName);
         if (column == null) {
@@ -883,6 +1091,7 @@ public class DatabaseManager {
 
         // 🔥 Step 5: Remove the default value
         column.dropDefault();
+        table.schemaVersion++; // 🔖 prepared INSERTs resolved the old DEFAULT
 
         // 🎉 Step 6: Confirm the operation
         System.out.println("🔥 [DEFAULT BANISHED] The default for column '" + columnName + "' has been shattered!");
@@ -893,14 +1102,34 @@ public class DatabaseManager {
      * Supports:
      *   - Selecting all columns (via SELECT ALL).
      *   - Selecting a subset of columns in any order.
+     *   - INNER and LEFT OUTER joins with other tables of the realm.
+     *   - Filtering rows with AND-joined WHERE conditions.
+     *   - LIMIT / OFFSET, ending the scan as soon as enough rows are produced.
+     *   - Folding rows with COUNT, SUM, MIN, MAX and AVG.
+     *   - DISTINCT rows and COUNT(DISTINCT ...).
      *   - Proper error handling with saga-inspired error messages.
      *   - Printing results in a tabular ASCII format.
-     * @param tableName the name of the table to fetch rows from
-     * @param columns   list of columns requested in the SELECT statement
+     * Filtering and aggregation run morsel-parallel on the {@link com.yggra.executor.MorselScheduler} pool.
+     * @param command the parsed SELECT statement
      * @throws RuntimeException if no database is selected, the table does not exist,or any requested column is missing from the schema.
      */
 
-    public void selectCommand(String tableName, List<String> columns) {
+    public void selectCommand(SelectCommand command) {
+        selectCommand(command, query -> QueryEngine.execute(query, this::getTable));
+    }
+
+    /**
+     * Executes a SELECT like {@link #selectCommand(SelectCommand)}, with the rows produced by the given
+     * engine — a prepared statement passes its cached plan.
+     *
+     * @param command the parsed SELECT statement, its placeholders bound
+     * @param engine  turns the SELECT into its result once the realm and table have been checked
+     */
+
+    public void selectCommand(SelectCommand command, Function<SelectCommand, QueryResult> engine) {
+        String tableName = command.tableName;
+        List<String> columns = command.columns;
+
         // 🛡️ Step 1: Ensure a database is currently active
         // Without a selected database (via USE <dbname>), a SELECT has no context.
         if (!hasCurrentDatabase()) {
@@ -916,32 +1145,120 @@ public class DatabaseManager {
         }
 
         // 🌐 Step 3: Handle SELECT ALL
-        // If the user writes `SELECT ALL`, we bypass column-specific handling
+        // If the user writes `SELECT ALL` with no WHERE, subquery, JOIN, TABLESAMPLE, LIMIT or DISTINCT, we bypass column-specific handling
         // and just print the table directly with its full schema.
-        if (columns.size() == 1 && columns.getFirst().equalsIgnoreCase("ALL")) {
+        // With a LIMIT the pipeline is used instead, so previews never format the whole table.
+        boolean selectAll = columns.size() == 1 && columns.getFirst().equalsIgnoreCase("ALL");
+        if (selectAll && command.conditions.isEmpty() && command.subqueries.isEmpty() && command.joins.isEmpty() && command.sample == null
+                && command.limit < 0 && command.offset == 0 && !command.distinct) {
             System.out.println(table); // delegate to Table.toString()
             return;
         }
 
-        // ⚔️ Step 4: Validate requested columns against table schema
-        // Ensure that every requested column exists in table.columnList.
-        // If even one column is invalid, the query is aborted.
-        for (String column : columns) {
-            if (table.columnList.stream().noneMatch(c -> c.columnName.equals(column))) {
-                throw new RuntimeException("💥 [COLUMN LOST] Mimir mutters: 'The column '" + column + "' does not exist in table '" + tableName + "'!'");
-            }
+        // ⚔️ Step 4: Join, filter, project or fold the rows
+        // Column references are validated against the (joined) schema as the query is planned;
+        // column order is preserved, so SELECT name,id behaves differently from SELECT id,name.
+        // With the result cache enabled, a statement whose tables are unchanged since it last ran is answered from memory.
+        // A TABLESAMPLE without a REPEATABLE seed draws afresh each time, so its result is never cached.
+        boolean cacheable = resultCache != null && (command.sample == null || command.sample.seed != null);
+        QueryResult result = cacheable ? cachedResult(command, engine) : engine.apply(command);
+
+        // 🖼️ Step 5: Render results in ASCII tabular format
+        // Dynamically sizes each column so values and headers align neatly.
+        printTable(result);
+    }
+
+    // 🏺 The cached result of the SELECT when its tables are unchanged; otherwise runs it and remembers the result
+    private QueryResult cachedResult(SelectCommand command, Function<SelectCommand, QueryResult> engine) {
+        List<Table> tables = new ArrayList<>();
+        for (String tableName : command.tableNames()) {
+            tables.add(getTable(tableName));
+        }
+        String key = ResultCache.key(currentDatabase.getName(), command);
+        QueryResult result = resultCache.get(key, tables);
+        if (result == null) {
+            result = engine.apply(command);
+            resultCache.put(key, tables, result);
         }
+        return result;
+    }
 
-        // 📜 Step 5: Resolve requested column names into indices
-        // Column indices are used internally for quick access into row values.
-        // The returned list preserves the order of the requested columns,
-        // so SELECT name,id behaves differently from SELECT id,name.
-        List<Integer> columnIndices = getIntegers(columns, table);
+    /**
+     * 🏺 enableResultCache – Turns on the result cache for SELECTs.
+     * Identical SELECTs are then answered from memory until an INSERT, TRUNCATE or ALTER changes
+     * one of the tables they read. Off by default.
+     *
+     * @param capacityBytes the estimated size of the results kept at most; the least recently used go first
+     */
 
-        // 🖼️ Step 6: Render results in ASCII tabular format
-        // Dynamically sizes each column so values and headers align neatly.
-        printTable(columns, table, columnIndices);
+    public void enableResultCache(long capacityBytes) {
+        if (capacityBytes <= 0) {
+            throw new RuntimeException("🏺 [BOTTOMLESS WELL] The result cache needs a positive size, not " + capacityBytes + " bytes!");
+        }
+        resultCache = new ResultCache(capacityBytes);
     }
 
-}
+    /**
+     * 🏺 disableResultCache – Turns the result cache off and forgets every cached result.
+     */
+
+    public void disableResultCache() {
+        resultCache = null;
+    }
+
+    /**
+     * 📊 analyzeTable – Gathers planner statistics for a table of the current realm.
+     * Counts the rows and, per column, the NULLs, the (sketched) number of distinct values and
+     * an equi-depth histogram of the values, then stores them on the table. Later INSERTs keep
+     * them current; schema changes, UPDATE, DELETE and TRUNCATE discard them until the next ANALYZE.
+     *
+     * @param tableName The table to measure
+     * @throws RuntimeException if no database is selected or the table does not exist
+     */
+
+    public void analyzeTable(String tableName) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [ABYSS OF NOTHINGNESS] The Norns cannot measure what has no realm — `USE <database>` first!");
+        }
+        Table table = getTable(tableName);
+        table.statistics = TableStatistics.collect(table);
+
+        long rowCount = table.statistics.rowCount();
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < table.columnList.size(); i++) {
+            ColumnStatistics column = table.statistics.column(i);
+            rows.add(new Row(new ArrayList<>(List.of(
+                    table.columnList.get(i).columnName,
+                    column.nullCount(),
+                    column.distinctValues(),
+                    column.isOrdered()))));
+        }
+        System.out.println("📊 [NORNS' MEASURE] '" + tableName + "' holds " + rowCount + " rows");
+        printTable(new QueryResult(List.of("column", "nulls", "distinct", "ordered"), rows));
+    }
 
+    /**
+     * 🧹 vacuumTable – Rewrites a table's stored rows into column order.
+     * ADD and DROP COLUMN only change the table's metadata; rows stored before them are read through a
+     * layout that hides dropped values and fills in added columns. VACUUM rewrites those rows once, letting
+     * the dropped values go, and cuts out tombstoned rows in the same pass. Queries see the same rows after.
+     *
+     * @param tableName The table to sweep
+     * @throws RuntimeException if no database is selected, the table does not exist, or it is a materialized view
+     */
+
+    public void vacuumTable(String tableName) {
+        if (!hasCurrentDatabase()) {
+            throw new RuntimeException("🌌 [VOID OF REALMS] No database bound to your will! ⚡ First, summon a realm with: USE <database_name>");
+        }
+        Table table = getTable(tableName);
+        refuseDerived(table, "VACUUM");
+
+        int stored = table.rowList.size();
+        boolean reshaped = table.hasPendingLayout();
+        table.compact();
+        System.out.println("🧹 [HALL SWEPT] '" + tableName + "' keeps " + table.rowList.size() + " rows"
+                + (stored > table.rowList.size() ? ", " + (stored - table.rowList.size()) + " dead ones cut away" : "")
+                + (reshaped ? ", rewritten in column order." : "."));
+    }
+}
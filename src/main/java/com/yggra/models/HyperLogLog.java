@@ -0,0 +1,90 @@
+package com.yggra.models;
+
+/**
+ * 🔮 [RUNIC INSCRIPTION] 🔮
+ * A HyperLogLog sketch — estimates how many distinct values a column holds in a fixed 4 KiB,
+ * no matter how many rows pass through it. Values can be added one at a time (so statistics
+ * follow every INSERT) and two sketches merge by taking the larger register of each pair.
+ * The standard error at 4096 registers is roughly 1.6%.
+ */
+
+public final class HyperLogLog {
+
+    private static final int PRECISION = 12;
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers = new byte[REGISTERS];
+
+    /**
+     * ⚒️ Adds one non-NULL value to the sketch.
+     */
+
+    public void add(Object value) {
+        long hash = hash64(value);
+        int register = (int) (hash >>> (64 - PRECISION));
+        // ✨ Rank = position of the first 1-bit in the remaining bits (sentinel bit caps it)
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (rank > registers[register]) {
+            registers[register] = (byte) rank;
+        }
+    }
+
+    /**
+     * 🤝 Folds another sketch into this one; the result estimates the union of both inputs.
+     */
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /**
+     * 📏 The estimated number of distinct values added so far.
+     */
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            // 🌱 Small cardinalities — linear counting over the empty registers is far more exact
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * 🌀 A well-mixed 64-bit hash — INT values are mixed directly, strings are hashed over their characters.
+     */
+
+    static long hash64(Object value) {
+        long h;
+        if (value instanceof Integer number) {
+            h = number;
+        } else if (value instanceof String text) {
+            h = 0xcbf29ce484222325L; // FNV-1a offset basis
+            for (int i = 0; i < text.length(); i++) {
+                h = (h ^ text.charAt(i)) * 0x100000001b3L;
+            }
+        } else {
+            h = value.hashCode();
+        }
+        // 🔥 Murmur3 finaliser
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
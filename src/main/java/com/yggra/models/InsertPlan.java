@@ -0,0 +1,109 @@
+package com.yggra.models;
+
+import com.yggra.commands.ValueDefinition;
+import com.yggra.parser.TokenType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📜 [RUNIC INSCRIPTION] 📜
+ * An INSERT resolved against its table once: which offered value feeds which column, and the types,
+ * lengths, names and resolved DEFAULTs every row is validated against — the table's compiled {@link TableSchema}.
+ * Binding a row is then a walk over arrays — no column-name searches, no schema streams and no
+ * DEFAULT conversions per row; literals arrive already converted by the parser.
+ * A plan belongs to one shape of one table; {@link #isValidFor(Table)} reports when ALTERs have
+ * changed that shape and the plan must be rebuilt.
+ */
+
+public final class InsertPlan {
+
+    private final Table table;
+    private final TableSchema schema; // types, lengths, names and resolved DEFAULTs of the shape this plan was built for
+    private final int[] sources;      // per table column: position among the offered values, or -1
+    private final int offered;
+
+    private InsertPlan(Table table, TableSchema schema, int[] sources, int offered) {
+        this.table = table;
+        this.schema = schema;
+        this.sources = sources;
+        this.offered = offered;
+    }
+
+    /**
+     * 🔨 Resolves the INSERT's column list against the table.
+     *
+     * @param table           The target table
+     * @param providedColumns The columns named by the INSERT, in the order their values are offered
+     * @throws RuntimeException if a column does not exist or is named twice
+     */
+
+    public static InsertPlan prepare(Table table, List<String> providedColumns) {
+        if (table.columnList == null || providedColumns == null) {
+            throw new RuntimeException("🌑 [GINNUNGAGAP'S VOID] - You offer nothingness where substance is demanded!");
+        }
+        if (table.isDerived()) {
+            throw new RuntimeException("🪞 [MIRROR UNTOUCHABLE] '" + table.tableName + "' is a materialized view — INSERT into its source table instead.");
+        }
+        TableSchema schema = table.schema();
+        int[] sources = new int[schema.size()];
+        Arrays.fill(sources, -1);
+        boolean duplicated = false;
+        for (int j = 0; j < providedColumns.size(); j++) {
+            // Validate column existence
+            int column = schema.indexOf(providedColumns.get(j));
+            if (column == -1) {
+                throw new RuntimeException("🗡️  [VALKYRIE'S DENIAL] Column '" + providedColumns.get(j) + "' is not worthy!\n" + "   No such warrior stands among Odin's chosen.\n" + "   Check your runes, mortal.");
+            }
+            duplicated |= sources[column] != -1;
+            sources[column] = j;
+        }
+        // Check for duplicate columns in the provided list
+        if (duplicated) {
+            throw new RuntimeException("""
+                    🔄 [ECHO OF CONFUSION] You speak the same column name twice!
+                    Even Loki's tricks cannot make one column hold two values.
+                    Remove the duplicate and try again.""");
+        }
+        return new InsertPlan(table, schema, sources, providedColumns.size());
+    }
+
+    /**
+     * 🔖 True while the table still has the shape this plan was built for.
+     */
+
+    public boolean isValidFor(Table table) {
+        return this.table == table && table.schemaVersion == schema.version;
+    }
+
+    public Table table() {
+        return table;
+    }
+
+    /**
+     * ⚒️ Expands and validates one row of offered values into a row ready for the table.
+     * Columns left out take their DEFAULT when they have one, NULL otherwise.
+     *
+     * @param values One value per column named by the INSERT
+     * @throws RuntimeException if the count is wrong or a value fails its column's type or length
+     */
+
+    public Row bind(List<ValueDefinition> values) {
+        if (values.size() != offered) {
+            throw new RuntimeException("⚔️ The AllFather demands equal measures! Columns (" + offered + ") and values (" + values.size() + ") must stand in perfect balance!");
+        }
+        List<Object> row = new ArrayList<>(sources.length);
+        for (int i = 0; i < sources.length; i++) {
+            if (sources[i] == -1) {
+                row.add(schema.defaultValue(i)); // null when the column has no DEFAULT
+                continue;
+            }
+            ValueDefinition value = values.get(sources[i]);
+            row.add(value.type == TokenType.DEFAULT && schema.hasDefault(i)
+                    ? schema.defaultValue(i)
+                    : table.validateValue(value, schema.type(i), schema.length(i), schema.name(i), i));
+        }
+        return new Row(row);
+    }
+}
@@ -0,0 +1,181 @@
+package com.yggra.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 📐 [RUNIC INSCRIPTION] 📐
+ * A KLL quantile sketch — answers "which value sits at the p-th percentile?" over INT values
+ * while keeping only a few hundred of them, no matter how many rows pass through it.
+ * ⚡ How it works:
+ *  - Values land in level 0. Each level holds items that stand for 2^level original values.
+ *  - When the sketch is full, the lowest full level is sorted and every other item (odd or even,
+ *    chosen at random) is promoted to the next level with twice the weight; the rest are dropped.
+ *  - Higher levels get the largest capacities (K), lower ones shrink geometrically by 2/3,
+ *    so the sketch holds about 3K items in all.
+ * Two sketches merge by concatenating their levels and compacting. At K = 256 a quantile's
+ * rank is typically within about 1% of the true one.
+ */
+
+public final class QuantileSketch {
+
+    private static final int K = 256;
+    private static final double DECAY = 2.0 / 3.0;
+    private static final int MIN_CAPACITY = 8;
+
+    private final List<long[]> levels = new ArrayList<>();
+    private final List<Integer> sizes = new ArrayList<>();
+    private long count;
+    private long random = 0x9E3779B97F4A7C15L; // 🎲 xorshift state — fixed, so a sketch is reproducible
+
+    public QuantileSketch() {
+        addLevel();
+    }
+
+    /**
+     * ⚒️ Adds one value to the sketch.
+     */
+
+    public void add(long value) {
+        append(0, value);
+        count++;
+        if (retained() > capacity()) {
+            compress();
+        }
+    }
+
+    /**
+     * 🤝 Folds another sketch into this one; the result summarises both inputs.
+     */
+
+    public void merge(QuantileSketch other) {
+        for (int level = 0; level < other.levels.size(); level++) {
+            long[] items = other.levels.get(level);
+            for (int i = 0; i < other.sizes.get(level); i++) {
+                while (levels.size() <= level) {
+                    addLevel();
+                }
+                append(level, items[i]);
+            }
+        }
+        count += other.count;
+        while (retained() > capacity()) {
+            compress();
+        }
+    }
+
+    // 🔢 Values added so far
+    public long count() {
+        return count;
+    }
+
+    /**
+     * 🎯 The estimated value at a fraction of the way through the sorted input.
+     *
+     * @param fraction In [0, 1] — 0.5 is the median, 1 the largest value
+     * @return The estimate, or null if no value has been added
+     */
+
+    public Long quantile(double fraction) {
+        int retained = retained();
+        if (retained == 0) {
+            return null;
+        }
+        long[] values = new long[retained];
+        long[] weights = new long[retained];
+        int n = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            long[] items = levels.get(level);
+            for (int i = 0; i < sizes.get(level); i++) {
+                values[n] = items[i];
+                weights[n++] = 1L << level;
+            }
+        }
+        Integer[] order = new Integer[retained];
+        for (int i = 0; i < retained; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(values[a], values[b]));
+
+        long total = 0;
+        for (long weight : weights) {
+            total += weight;
+        }
+        double target = fraction * total;
+        long seen = 0;
+        for (Integer i : order) {
+            seen += weights[i];
+            if (seen >= target) {
+                return values[i];
+            }
+        }
+        return values[order[retained - 1]];
+    }
+
+    private void addLevel() {
+        levels.add(new long[MIN_CAPACITY]);
+        sizes.add(0);
+    }
+
+    private void append(int level, long value) {
+        long[] items = levels.get(level);
+        int size = sizes.get(level);
+        if (size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+            levels.set(level, items);
+        }
+        items[size] = value;
+        sizes.set(level, size + 1);
+    }
+
+    private int retained() {
+        int retained = 0;
+        for (int size : sizes) {
+            retained += size;
+        }
+        return retained;
+    }
+
+    private int capacity() {
+        int capacity = 0;
+        for (int level = 0; level < levels.size(); level++) {
+            capacity += levelCapacity(level);
+        }
+        return capacity;
+    }
+
+    // 📏 The top level holds K items; each level below holds 2/3 of the one above
+    private int levelCapacity(int level) {
+        int depth = levels.size() - level - 1;
+        return Math.max(MIN_CAPACITY, (int) Math.ceil(K * Math.pow(DECAY, depth)));
+    }
+
+    // 🗜️ Halves the lowest level that is over its capacity, promoting the survivors one level up
+    private void compress() {
+        for (int level = 0; level < levels.size(); level++) {
+            int size = sizes.get(level);
+            if (size < levelCapacity(level)) {
+                continue;
+            }
+            if (level + 1 == levels.size()) {
+                addLevel();
+            }
+            long[] items = levels.get(level);
+            Arrays.sort(items, 0, size);
+            int kept = size % 2; // an odd item out stays behind, unweighted
+            long leftover = items[size - 1];
+            random ^= random << 13;
+            random ^= random >>> 7;
+            random ^= random << 17;
+            for (int i = (int) (random & 1); i < size - kept; i += 2) {
+                append(level + 1, items[i]);
+            }
+            sizes.set(level, 0);
+            if (kept == 1) {
+                append(level, leftover);
+            }
+            return;
+        }
+    }
+}
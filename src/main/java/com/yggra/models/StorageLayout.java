@@ -0,0 +1,111 @@
+package com.yggra.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 🧬 [RUNIC INSCRIPTION] 🧬
+ * Where each column's value sits in a table's stored rows once ADD COLUMN and DROP COLUMN have changed
+ * the columns without rewriting the rows.
+ * ⚡ Behavior:
+ *  - Every column maps to a slot of the stored rows. A dropped column's slot is simply no longer mapped;
+ *    its values stay in storage, unseen, until the rows are rewritten.
+ *  - An added column takes a new slot past the end. Rows stored before it was added are too short to
+ *    hold that slot and read it as the column's fill — its DEFAULT, or the type's zero value.
+ *  - Rows inserted while a layout is in force are stored in it, so every stored row agrees with it.
+ *  - Immutable: each ALTER derives a new layout. {@link Table#compact()} rewrites the rows into column
+ *    order and discards the layout, and with it every hidden value and every fill.
+ */
+
+final class StorageLayout {
+
+    private final int[] slots;     // per column: its slot in the stored rows
+    private final Object[] fills;  // per slot: what a stored row too short to hold it reads there
+    private final boolean shifted; // false while every column still sits in the slot of its own position
+
+    private StorageLayout(int[] slots, Object[] fills) {
+        this.slots = slots;
+        this.fills = fills;
+        boolean moved = false;
+        for (int c = 0; c < slots.length && !moved; c++) {
+            moved = slots[c] != c;
+        }
+        this.shifted = moved;
+    }
+
+    /**
+     * 🏛️ The layout of rows stored exactly in column order, for a table with that many columns.
+     */
+
+    static StorageLayout columnOrder(int columns) {
+        int[] slots = new int[columns];
+        Arrays.setAll(slots, c -> c);
+        return new StorageLayout(slots, new Object[columns]);
+    }
+
+    // ➕ This layout with one more column, at a new slot every existing stored row is too short to hold
+    StorageLayout add(Object fill) {
+        int[] added = Arrays.copyOf(slots, slots.length + 1);
+        added[slots.length] = fills.length;
+        Object[] addedFills = Arrays.copyOf(fills, fills.length + 1);
+        addedFills[fills.length] = fill;
+        return new StorageLayout(added, addedFills);
+    }
+
+    // ➖ This layout without the column at that position; its slot stays in storage, unmapped
+    StorageLayout drop(int column) {
+        int[] kept = new int[slots.length - 1];
+        System.arraycopy(slots, 0, kept, 0, column);
+        System.arraycopy(slots, column + 1, kept, column, kept.length - column);
+        return new StorageLayout(kept, fills);
+    }
+
+    // 📏 The slot of a column within the stored rows
+    int slot(int column) {
+        return slots[column];
+    }
+
+    /**
+     * 🔮 A stored row as the columns see it — each column's value from its slot, or its fill when the
+     * row predates the column. The stored row is left as it is.
+     */
+
+    Row present(Row stored) {
+        List<Object> values = stored.values;
+        if (!shifted && values.size() == slots.length) {
+            return stored; // 🪶 nothing dropped and nothing added since this row was stored
+        }
+        List<Object> presented = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            presented.add(slot < values.size() ? values.get(slot) : fills[slot]);
+        }
+        return new Row(presented);
+    }
+
+    /**
+     * 📦 A row in column order laid out for storage: each value in its column's slot, NULL in every hidden slot.
+     */
+
+    Row store(Row row) {
+        List<Object> stored = new ArrayList<>(fills.length);
+        for (int slot = 0; slot < fills.length; slot++) {
+            stored.add(null);
+        }
+        for (int c = 0; c < slots.length; c++) {
+            stored.set(slots[c], row.getValue(c));
+        }
+        return new Row(stored);
+    }
+
+    /**
+     * 🔨 Widens a stored row, in place, to hold the given slot — filling what it lacks as it would have read.
+     */
+
+    void reach(Row stored, int slot) {
+        List<Object> values = stored.values;
+        while (values.size() <= slot) {
+            values.add(fills[values.size()]);
+        }
+    }
+}
@@ -4,9 +4,14 @@ import com.yggra.commands.ColumnDefinition;
 import com.yggra.commands.ValueDefinition;
 import com.yggra.parser.TokenType;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 
@@ -24,6 +29,31 @@ public class Table {
     public final List<Row> rowList;
     public String tableName;
 
+    // 📊 Statistics gathered by ANALYZE (null until then); kept current by addRow, dropped on schema changes, UPDATE and DELETE
+    public TableStatistics statistics;
+
+    // 🔖 Bumped by every change to the columns, so cached plans can tell they were built for an older shape
+    public int schemaVersion;
+
+    // 🔖 Bumped by every change to the rows or the columns, so cached results can tell they are stale
+    public long version;
+
+    // 🪞 Materialized views kept in step with this table's rows
+    public final List<TableObserver> observers = new ArrayList<>();
+
+    // 🧹 Share of the row list that may be tombstones before a statement compacts it
+    public static final double COMPACTION_THRESHOLD = 0.25;
+
+    // 🪦 Positions in rowList of DELETEd rows not yet compacted away, and how many there are
+    private final BitSet tombstones = new BitSet();
+    private int deadRows;
+
+    // 🗂️ The columns compiled for lookups by name and position; rebuilt on the first use after an ALTER
+    private volatile TableSchema schema;
+
+    // 🧬 Where the columns sit in the stored rows since ADD/DROP COLUMN; null while rows are stored in column order
+    private StorageLayout layout;
+
     /**
      * 🏗️ [TABLE FORGING] 🏗️
      * Creates a new table with the given name and column definitions.
@@ -38,6 +68,29 @@ public class Table {
         this.rowList = new ArrayList<>();
     }
 
+    /**
+     * 🪞 True for tables whose rows are derived from another table (materialized views);
+     * their rows and columns cannot be changed directly.
+     */
+
+    public boolean isDerived() {
+        return false;
+    }
+
+    /**
+     * 🗂️ The table's columns compiled into a {@link TableSchema}, recompiled only when
+     * {@link #schemaVersion} has moved on since the last call.
+     */
+
+    public TableSchema schema() {
+        TableSchema compiled = schema;
+        if (compiled == null || compiled.version != schemaVersion) {
+            compiled = new TableSchema(this);
+            schema = compiled;
+        }
+        return compiled;
+    }
+
     //gets the table name of the current table
     public String getTableName() {
         return tableName;
@@ -58,6 +111,8 @@ public class Table {
 
     /**
      * Adds a single new column to an existing table's schema.
+     * Metadata only: the rows already stored are left as they are and read the column's default
+     * (or the type's zero value) through the {@link StorageLayout} until {@link #compact()} rewrites them.
      *
      * @param column The new column to be embedded into the table.
      */
@@ -89,21 +144,19 @@ public class Table {
             }
         }
 
-        //add columns to the existing columnList.
-        columnList.add(column);
+        // The value rows stored before this column read for it — its default, or the type's own
+        Object fill = defaultValue != null ? convertValue(defaultValue, column.type) : getTypeDefault(column.getType());
 
-        // Determine the actual value to insert for existing rows
-        Object valueToInsert;
-        if (defaultValue != null) {
-            valueToInsert = defaultValue.value;
-        } else {
-            valueToInsert = getTypeDefault(column.getType());
-        }
-        // Add the value to each existing row
-        for (Row row : rowList) {
-            row.addDefaultValues(valueToInsert);
+        // Only the layout learns of the column; the stored rows are not touched
+        if (layout != null || !rowList.isEmpty()) {
+            layout = storageLayout().add(fill);
         }
 
+        //add columns to the existing columnList.
+        columnList.add(column);
+        statistics = null;
+        schemaVersion++;
+        version++;
     }
 
     /**
@@ -133,11 +186,12 @@ public class Table {
         builder.append("+\n");
 
         // Display Rows with values
-        if (rowList.isEmpty()) {
+        List<Row> live = liveRows();
+        if (live.isEmpty()) {
             builder.append("| ").append("🕳️  The void consumes this table...".repeat(columnList.size() / 2))
                     .append(" |\n");
         } else {
-            for (Row row : rowList) {
+            for (Row row : live) {
                 builder.append("| ");
                 for (Object value : row.values) {
                     String displayValue = (value == null || (value instanceof String && ((String) value).isEmpty())) ? "NULL" : value.toString();
@@ -150,7 +204,7 @@ public class Table {
         // Footer
         builder.append("🌊").append("+-----------------".repeat(columnList.size()));
         builder.append("+\n");
-        builder.append("Rows: ").append(rowList.size()).append(" | Forged in the fires of Yggdrasil ");
+        builder.append("Rows: ").append(live.size()).append(" | Forged in the fires of Yggdrasil ");
 
         return builder.toString();
     }
@@ -180,43 +234,43 @@ public class Table {
      */
 
     private Object convertValue(ValueDefinition valDef, TokenType targetType) {
-        try {
-            return switch (targetType) {
-                case INT -> {
-                    if (valDef.type == TokenType.NUMBER_LITERAL) {
-                        yield Integer.parseInt(valDef.value);
-                    } else if (valDef.type == TokenType.NULL) {
-                        yield null;
-                    } else {
-                        throw new RuntimeException(
-                                "⚔️ [TYPE JUDGMENT] INT columns accept only numbers or NULL.\n" +
-                                        "You dared offer: " + valDef.type + " '" + valDef.value + "'"
-                        );
+        return switch (targetType) {
+            case INT -> {
+                if (valDef.type == TokenType.NUMBER_LITERAL) {
+                    // ⚙️ Read once by the parser; only a number too large for an INT is left unconverted
+                    if (valDef.constant instanceof Integer number) {
+                        yield number;
                     }
+                    throw new RuntimeException(
+                            "💢 [CONVERSION WRATH] Failed to shape '" + valDef.value + "' into INT.\n" +
+                                    "The Norns whisper: it lies beyond the bounds of an INT"
+                    );
+                } else if (valDef.type == TokenType.NULL) {
+                    yield null;
+                } else {
+                    throw new RuntimeException(
+                            "⚔️ [TYPE JUDGMENT] INT columns accept only numbers or NULL.\n" +
+                                    "You dared offer: " + valDef.type + " '" + valDef.value + "'"
+                    );
                 }
-                case VARCHAR -> {
-                    if (valDef.type == TokenType.STRING_LITERAL) {
-                        yield valDef.value;
-                    } else if (valDef.type == TokenType.NULL) {
-                        yield null;
-                    } else {
-                        throw new RuntimeException(
-                                "📜 [RUNIC MISMATCH] VARCHAR columns accept only text or NULL.\n" +
-                                        "You dared chant: " + valDef.type + " '" + valDef.value + "'"
-                        );
-                    }
+            }
+            case VARCHAR -> {
+                if (valDef.type == TokenType.STRING_LITERAL) {
+                    yield valDef.value;
+                } else if (valDef.type == TokenType.NULL) {
+                    yield null;
+                } else {
+                    throw new RuntimeException(
+                            "📜 [RUNIC MISMATCH] VARCHAR columns accept only text or NULL.\n" +
+                                    "You dared chant: " + valDef.type + " '" + valDef.value + "'"
+                    );
                 }
-                default -> throw new RuntimeException(
-                        "🌌 [FORBIDDEN KNOWLEDGE] Unknown column type: " + targetType +
-                                " — the gods have not inscribed this essence."
-                );
-            };
-        } catch (NumberFormatException e) {
-            throw new RuntimeException(
-                    "💢 [CONVERSION WRATH] Failed to shape '" + valDef.value + "' into INT.\n" +
-                            "The Norns whisper: " + e.getMessage()
+            }
+            default -> throw new RuntimeException(
+                    "🌌 [FORBIDDEN KNOWLEDGE] Unknown column type: " + targetType +
+                            " — the gods have not inscribed this essence."
             );
-        }
+        };
     }
 
 
@@ -228,8 +282,250 @@ public class Table {
      */
 
     public void addRow(Row row) {
-        rowList.add(row);
-        System.out.println("⚡ [VALHALLA'S BOUNTY] Row added to table '" + tableName + "'");
+        addRows(List.of(row));
+    }
+
+    /**
+     * 📜 [ROWS INSCRIPTION] 📜
+     * Appends a batch of validated rows at once — the row list grows once and one line announces them all.
+     * Observers still see each row in turn; one refusing a row withdraws the whole batch — the rows
+     * already appended are cut off again and every observer rebuilds without them.
+     *
+     * @param rows The Row objects to add (each must match table structure)
+     */
+
+    public void addRows(List<Row> rows) {
+        int start = rowList.size();
+        boolean stored = false;
+        try {
+            if (observers.isEmpty()) {
+                stored = !rows.isEmpty();
+                if (layout == null) {
+                    rowList.addAll(rows);
+                } else {
+                    rows.forEach(row -> rowList.add(layout.store(row)));
+                }
+                if (statistics != null) {
+                    rows.forEach(statistics::onInsert);
+                }
+            } else {
+                try {
+                    for (Row row : rows) {
+                        for (TableObserver observer : observers) {
+                            observer.beforeInsert(row);
+                        }
+                        rowList.add(layout == null ? row : layout.store(row));
+                        stored = true;
+                        if (statistics != null) {
+                            statistics.onInsert(row);
+                        }
+                        for (TableObserver observer : observers) {
+                            observer.afterInsert(row);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    // ↩️ A refused row withdraws the batch: the rows before it go, and so do their deltas
+                    if (stored) {
+                        rowList.subList(start, rowList.size()).clear();
+                        statistics = null;
+                        for (TableObserver observer : observers) {
+                            observer.rowsReplaced();
+                        }
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            // 🔖 Rows were stored, even if withdrawn again — cached results must not outlive them
+            if (stored) {
+                version++;
+            }
+        }
+        System.out.println(rows.size() == 1
+                ? "⚡ [VALHALLA'S BOUNTY] Row added to table '" + tableName + "'"
+                : "⚡ [VALHALLA'S BOUNTY] " + rows.size() + " rows added to table '" + tableName + "'");
+    }
+
+    /**
+     * 🪦 The positions of deleted rows still in {@link #rowList}, or null when there are none.
+     * Every scan of the row list must skip these positions.
+     */
+
+    public BitSet tombstones() {
+        return deadRows == 0 ? null : tombstones;
+    }
+
+    // 📏 Rows a query can see — the row list less its tombstones
+    public int liveRowCount() {
+        return rowList.size() - deadRows;
+    }
+
+    /**
+     * 🌿 The rows a query can see, for whole-table readers such as ANALYZE.
+     * The row list itself when nothing is tombstoned, otherwise a copy without the dead rows.
+     */
+
+    public List<Row> liveRows() {
+        if (deadRows == 0) {
+            return scanRows();
+        }
+        List<Row> live = new ArrayList<>(liveRowCount());
+        for (int i = tombstones.nextClearBit(0); i < rowList.size(); i = tombstones.nextClearBit(i + 1)) {
+            live.add(layout == null ? rowList.get(i) : layout.present(rowList.get(i)));
+        }
+        return live;
+    }
+
+    /**
+     * 🔭 The row list as queries read it: every row in column order, at the same positions as in
+     * {@link #rowList}, so {@link #tombstones()} applies unchanged.
+     * The row list itself while rows are stored in column order; after ADD/DROP COLUMN, a view that
+     * presents each stored row in column order as it is read.
+     */
+
+    public List<Row> scanRows() {
+        StorageLayout current = layout;
+        return current == null ? rowList : new PresentedRows(rowList, current);
+    }
+
+    // 🔮 Stored rows seen through a layout, one at a time — nothing is copied up front
+    private static final class PresentedRows extends AbstractList<Row> implements RandomAccess {
+
+        private final List<Row> stored;
+        private final StorageLayout layout;
+
+        PresentedRows(List<Row> stored, StorageLayout layout) {
+            this.stored = stored;
+            this.layout = layout;
+        }
+
+        @Override
+        public Row get(int index) {
+            return layout.present(stored.get(index));
+        }
+
+        @Override
+        public int size() {
+            return stored.size();
+        }
+    }
+
+    /**
+     * 🗡️ [DELETE] Tombstones every live row that matches; the row list itself is not rewritten
+     * unless the tombstones now pass {@link #COMPACTION_THRESHOLD} of it.
+     *
+     * @param matches The compiled WHERE clause
+     * @return The number of rows deleted
+     */
+
+    public int deleteRows(Predicate<Row> matches) {
+        int deleted = 0;
+        for (int i = tombstones.nextClearBit(0); i < rowList.size(); i = tombstones.nextClearBit(i + 1)) {
+            if (matches.test(layout == null ? rowList.get(i) : layout.present(rowList.get(i)))) {
+                tombstones.set(i);
+                deleted++;
+            }
+        }
+        deadRows += deleted;
+        if (deleted > 0) {
+            rowsChanged();
+        }
+        return deleted;
+    }
+
+    /**
+     * 🔨 [UPDATE] Overwrites the given columns of every live row that matches, in place —
+     * no row is moved and no other value is touched.
+     *
+     * @param matches The compiled WHERE clause
+     * @param columns The positions of the SET columns
+     * @param values  The validated value for each SET column
+     * @return The number of rows updated
+     */
+
+    public int updateRows(Predicate<Row> matches, int[] columns, List<Object> values) {
+        int updated = 0;
+        for (int i = tombstones.nextClearBit(0); i < rowList.size(); i = tombstones.nextClearBit(i + 1)) {
+            Row row = rowList.get(i);
+            if (layout == null) {
+                if (matches.test(row)) {
+                    for (int c = 0; c < columns.length; c++) {
+                        row.values.set(columns[c], values.get(c));
+                    }
+                    updated++;
+                }
+            } else if (matches.test(layout.present(row))) {
+                for (int c = 0; c < columns.length; c++) {
+                    int slot = layout.slot(columns[c]);
+                    layout.reach(row, slot); // 🔨 a row stored before the column was added grows to hold it
+                    row.values.set(slot, values.get(c));
+                }
+                updated++;
+            }
+        }
+        if (updated > 0) {
+            rowsChanged();
+        }
+        return updated;
+    }
+
+    /**
+     * 💀 [TRUNCATE] Removes every row, tombstones included.
+     */
+
+    public void clearRows() {
+        rowList.clear();
+        tombstones.clear();
+        deadRows = 0;
+        layout = null;
+        rowsChanged();
+    }
+
+    // 🔔 After any change but an append: stale statistics go, sparse lists are compacted, views rebuild
+    private void rowsChanged() {
+        version++;
+        statistics = null;
+        if (deadRows > 0 && deadRows >= rowList.size() * COMPACTION_THRESHOLD) {
+            compact();
+        }
+        for (TableObserver observer : observers) {
+            observer.rowsReplaced();
+        }
+    }
+
+    /**
+     * 🧹 Slides the live rows over the tombstones in one pass and trims the list.
+     * Rows stored under an ADD/DROP COLUMN layout are rewritten into column order in the same pass:
+     * dropped values are let go, added columns take their fill, and the layout is discarded.
+     */
+
+    public void compact() {
+        if (deadRows == 0 && layout == null) {
+            return;
+        }
+        int write = layout == null ? tombstones.nextSetBit(0) : 0;
+        for (int read = write; read < rowList.size(); read++) {
+            if (!tombstones.get(read)) {
+                rowList.set(write++, layout == null ? rowList.get(read) : layout.present(rowList.get(read)));
+            }
+        }
+        rowList.subList(write, rowList.size()).clear();
+        tombstones.clear();
+        deadRows = 0;
+        layout = null;
+    }
+
+    /**
+     * 🧬 True while ADD/DROP COLUMN have left rows stored out of column order, awaiting {@link #compact()}.
+     */
+
+    public boolean hasPendingLayout() {
+        return layout != null;
+    }
+
+    // 🧬 The layout in force, or the plain column order when the rows are stored that way
+    private StorageLayout storageLayout() {
+        return layout != null ? layout : StorageLayout.columnOrder(columnList.size());
     }
 
     /**
@@ -262,7 +558,8 @@ public class Table {
 
     public List<Object> validateRow(List<ValueDefinition> row, List<TokenType> columnTypes, List<Integer> lengths, List<String> columnNames) {
         // ⚱️ [VESSEL OF TRANSFORMATION] - Prepare the sacred container for converted values
-        List<Object> convertedValues = new ArrayList<>();
+        List<Object> convertedValues = new ArrayList<>(columnTypes.size());
+        TableSchema compiled = schema();
 
         // 🌀 [RITUAL PROCESSION] - Walk through each column in the ordained order
         for (int i = 0; i < columnTypes.size(); i++) {
@@ -271,48 +568,77 @@ public class Table {
             TokenType expectedType = columnTypes.get(i);  // The divine type demanded by the schema
             Integer maxLength = lengths.get(i);          // The boundary set by the gods
             String columnName = columnNames.get(i);      // The name by which this column is known
-            ColumnDefinition colDef = getColumn(columnName); // The full divine definition
+            int position = compiled.indexOf(columnName); // Where the schema keeps it — a hash probe, not a scan
+            if (position == -1) {
+                throw new RuntimeException("🩸 [SYMBOL LOST] Column '" + columnName + "' does not exist in this realm!");
+            }
 
             // 🔱 [FORK IN THE PATH] - Handle DEFAULT tokens with divine intervention
-            if (colDef.hasDefaultValue && valDef.type == TokenType.DEFAULT) {
-                // 🎭 [DIVINE SUBSTITUTION] - Replace DEFAULT with the column's blessed value
-                ValueDefinition defaultValue = colDef.getDefaultValue();
-                Object convertedValue = convertValue(defaultValue, expectedType);
-                convertedValues.add(convertedValue);
+            if (compiled.hasDefault(position) && valDef.type == TokenType.DEFAULT) {
+                // 🎭 [DIVINE SUBSTITUTION] - Replace DEFAULT with the column's blessed value, resolved once per ALTER
+                convertedValues.add(compiled.defaultValue(position));
             } else {
                 // ⚡ [TRIAL BY FIRE] - Subject the mortal value to divine judgment
-                try {
-                    // 🔮 [ALCHEMICAL TRANSFORMATION] - Convert the raw value to its destined form
-                    Object convertedValue = convertValue(valDef, expectedType);
-
-                    // 📏 [MEASURING THE MIGHTY STRING] - Special judgment for VARCHAR warriors
-                    if (expectedType == TokenType.VARCHAR && convertedValue instanceof String strValue) {
-                        // ⚖️ [SCALES OF JUSTICE] - Does this string exceed its ordained bounds?
-                        if (strValue.length() > maxLength) {
-                            throw new RuntimeException(
-                                    "🛡️ [STRING TOO MIGHTY] Column '" + columnName +
-                                            "' can only hold " + maxLength + " runes\n" +
-                                            "You wield " + strValue.length() + ": " +
-                                            (strValue.length() > 20 ? strValue.substring(0, 20) + "..." : strValue)
-                            );
-                        }
-                    }
+                convertedValues.add(validateValue(valDef, expectedType, maxLength, columnName, i));
+            }
+        }
 
-                    // ✅ [BLESSING OF ACCEPTANCE] - The value has proven worthy
-                    convertedValues.add(convertedValue);
+        // 🏆 [TRIUMPHANT RETURN] - Present the sanctified row to the caller
+        return convertedValues;
+    }
 
-                } catch (RuntimeException e) {
-                    // 🔥 [WRATH OF THE VALIDATORS] - Wrap failure in contextual divine judgment
+    /**
+     * ⚖️ [JUDGMENT OF ONE] ⚖️
+     * Converts one offered value for its column and holds a VARCHAR to its length — the judgment
+     * {@link #validateRow} passes on each value that is not a DEFAULT.
+     *
+     * @param valDef       The offered value
+     * @param expectedType The column's type
+     * @param maxLength    The column's length (VARCHAR only)
+     * @param columnName   The column's name, for the error
+     * @param position     The column's position in the row (0-based), for the error
+     * @return The converted value
+     * @throws RuntimeException if the value is unworthy of its column
+     */
+
+    public Object validateValue(ValueDefinition valDef, TokenType expectedType, int maxLength, String columnName, int position) {
+        try {
+            // 🔮 [ALCHEMICAL TRANSFORMATION] - Convert the raw value to its destined form
+            Object convertedValue = convertValue(valDef, expectedType);
+
+            // 📏 [MEASURING THE MIGHTY STRING] - Special judgment for VARCHAR warriors
+            if (expectedType == TokenType.VARCHAR && convertedValue instanceof String strValue) {
+                // ⚖️ [SCALES OF JUSTICE] - Does this string exceed its ordained bounds?
+                if (strValue.length() > maxLength) {
                     throw new RuntimeException(
-                            "🔥 [ROW REJECTED] At column '" + columnName + "' (position " + (i + 1) + ")\n" +
-                                    e.getMessage()
+                            "🛡️ [STRING TOO MIGHTY] Column '" + columnName +
+                                    "' can only hold " + maxLength + " runes\n" +
+                                    "You wield " + strValue.length() + ": " +
+                                    (strValue.length() > 20 ? strValue.substring(0, 20) + "..." : strValue)
                     );
                 }
             }
+
+            // ✅ [BLESSING OF ACCEPTANCE] - The value has proven worthy
+            return convertedValue;
+
+        } catch (RuntimeException e) {
+            // 🔥 [WRATH OF THE VALIDATORS] - Wrap failure in contextual divine judgment
+            throw new RuntimeException(
+                    "🔥 [ROW REJECTED] At column '" + columnName + "' (position " + (position + 1) + ")\n" +
+                            e.getMessage()
+            );
         }
+    }
 
-        // 🏆 [TRIUMPHANT RETURN] - Present the sanctified row to the caller
-        return convertedValues;
+    /**
+     * 🪙 [RESOLVED RESERVE] 🪙
+     * A column's DEFAULT as the value it puts in a row, or null when it has none.
+     * Resolved at most once per schema version by the table's {@link TableSchema}, not once per row.
+     */
+
+    public Object resolveDefault(ColumnDefinition column) {
+        return column.hasDefaultValue ? convertValue(column.getDefaultValue(), column.type) : null;
     }
 
     /**
@@ -342,13 +668,19 @@ public class Table {
 
     public List<ValueDefinition> expandRow(List<String> insertColumns, List<ValueDefinition> insertValues, List<ColumnDefinition> schemaColumns) {
         // 🏺 [VESSEL OF EXPANSION] - Prepare container for the complete row
-        List<ValueDefinition> expandedRow = new ArrayList<>();
+        List<ValueDefinition> expandedRow = new ArrayList<>(schemaColumns.size());
+
+        // 🗺️ [MAP OF THE OFFERING] - Where each named column's value sits, found by hash rather than by indexOf
+        Map<String, Integer> offered = new HashMap<>(2 * insertColumns.size());
+        for (int i = insertColumns.size() - 1; i >= 0; i--) {
+            offered.put(insertColumns.get(i), i);
+        }
 
         // 🚶‍♂️ [PILGRIMAGE THROUGH SCHEMA] - Walk the sacred path of table structure
         for (ColumnDefinition columnDefinition : schemaColumns) {
 
             // 🔍 [SEEKING THE MORTAL OFFERING] - Search for this column in their tribute
-            int idx = insertColumns.indexOf(columnDefinition.getColumnName());
+            int idx = offered.getOrDefault(columnDefinition.getColumnName(), -1);
 
             // 🎭 [THE GREAT DECISION] - Three paths diverge in the divine wood
             if (idx != -1) {
@@ -404,12 +736,13 @@ public class Table {
     }
 
     /**
-     * Removes a column from the table schema and deletes all data associated with it in every row.
+     * Removes a column from the table schema; its values vanish from every row a query reads.
      * This method behaves like a SQL "ALTER TABLE <tableName> DROP COLUMN <columnName>" operation.
      * It:
      * 1. Locates the column in the table's schema.
-     * 2. Removes the column definition from the schema.
-     * 3. Removes the corresponding value from every row in the table to maintain column alignment.
+     * 2. Hides the column's slot through the {@link StorageLayout} — no stored row is rewritten.
+     * 3. Removes the column definition from the schema.
+     * The hidden values are let go when {@link #compact()} next rewrites the rows.
      *
      * @param columnName The name of the column to remove.
      * @throws RuntimeException if the column does not exist in the schema.
@@ -417,28 +750,23 @@ public class Table {
 
     public void removeColumnFromTable(String columnName) {
         // Step 1: Find the index of the column in the schema
-        int colIndex = -1;
-        for (int i = 0; i < columnList.size(); i++) {
-            if (columnList.get(i).columnName.equals(columnName)) {
-                colIndex = i;
-                break; // Column found, exit loop
-            }
-        }
+        int colIndex = schema().indexOf(columnName);
 
         // If column not found, throw an error
         if (colIndex == -1) {
             throw new RuntimeException("Column not found: " + columnName);
         }
 
-        // Step 2: Remove the column definition from the schema
-        columnList.remove(colIndex);
-
-        // Step 3: Remove the corresponding value from each row
-        for (Row row : rowList) {
-            // Each row stores values in positional order matching the schema,
-            // so we remove the value at the same index as the removed column.
-            row.values.remove(colIndex);
+        // Step 2: Hide the column's slot from the stored rows — the rows themselves are not touched
+        if (layout != null || !rowList.isEmpty()) {
+            layout = storageLayout().drop(colIndex);
         }
+
+        // Step 3: Remove the column definition from the schema
+        columnList.remove(colIndex);
+        statistics = null;
+        schemaVersion++;
+        version++;
     }
 
     /**
@@ -448,8 +776,8 @@ public class Table {
      * 2️⃣ If a match is found, update its name to `newName`.
      * 3️⃣ Does not alter any row data — only the column metadata is changed.
      * ⚠️ NOTE:
-     * - If multiple columns have the same name (which ideally should not happen),
-     * all matching columns will be renamed.
+     * - The column is found through the compiled {@link TableSchema}; were two columns
+     * ever to share a name, only the first would be renamed.
      * - No validation for reserved keywords or duplicate column names is done here.
      *
      * @param oldName The current name of the column to be changed.
@@ -457,15 +785,14 @@ public class Table {
      */
 
     public void renameColumnFromTable(String oldName, String newName) {
-        for (int i = 0; i < columnList.size(); i++) {
-            // 🔍 STEP I: Seek the target column — Kratos hunts his prey
-            if (columnList.stream()
-                    .anyMatch(columnDefinition -> columnDefinition.columnName.equals(oldName))) {
-
-                // ⚒️ STEP II: Change the column’s identity — rebirth in the fires of war
-                columnList.get(i).setColumnName(newName);
-                return; //🛡️ STEP III: Mission complete — retreat from battle
-            }
+        // 🔍 STEP I: Seek the target column — Kratos hunts his prey
+        int index = schema().indexOf(oldName);
+        if (index != -1) {
+            // ⚒️ STEP II: Change the column’s identity — rebirth in the fires of war
+            columnList.get(index).setColumnName(newName);
+            schemaVersion++;
+            version++;
+            return; //🛡️ STEP III: Mission complete — retreat from battle
         }
         // 💀 If no match is found, the enemy is nowhere to be seen
         throw new RuntimeException(
@@ -496,7 +823,8 @@ public class Table {
                 .collect(Collectors.toMap(col -> col.columnName, col -> col));
 
         // Step 2: Validate all requested modifications BEFORE applying any changes.
-        // Ensures atomicity: the operation will fail entirely if even one column doesn't exist.
+        // Ensures atomicity: the operation will fail entirely if even one column doesn't exist
+        // or would be left with a DEFAULT its new type cannot hold.
         for (ColumnDefinition definition : modifiedDataTypesColumn) {
             if (!columnMap.containsKey(definition.columnName)) {
                 throw new RuntimeException(
@@ -505,6 +833,21 @@ public class Table {
                                 "🌌 The MODIFY COLUMN ritual has been abandoned — no changes applied."
                 );
             }
+            // A DEFAULT must still fit its column under the new type, or every later INSERT would stumble on it
+            ColumnDefinition existing = columnMap.get(definition.columnName);
+            if (existing.hasDefaultValue) {
+                boolean varchar = definition.type == TokenType.VARCHAR && definition.length > 0; // as setNewDataTypeColumn decides
+                ColumnDefinition reshaped = new ColumnDefinition(existing.columnName, varchar ? TokenType.VARCHAR : TokenType.INT, varchar ? definition.length : -1);
+                try {
+                    validateDefaultValue(reshaped, existing.getDefaultValue());
+                } catch (RuntimeException e) {
+                    throw new RuntimeException(
+                            "⚠️ [BROKEN RUNE] The default of column '" + existing.columnName + "' cannot follow it to " + reshaped.type + ".\n" +
+                                    e.getMessage() + "\n" +
+                                    "🌌 DROP DEFAULT first — the MODIFY COLUMN ritual has been abandoned, no changes applied."
+                    );
+                }
+            }
         }
 
         // Step 3: Apply all datatype modifications now that validation has passed.
@@ -513,6 +856,9 @@ public class Table {
             ColumnDefinition existing = columnMap.get(definition.columnName);
             existing.setNewDataTypeColumn(definition.type, definition.length);
         }
+        statistics = null;
+        schemaVersion++;
+        version++;
 
         // Step 4: Announce success in God of War style.
         // No individual column logs are shown here, only a single confirmation message.
@@ -532,12 +878,10 @@ public class Table {
      */
 
     public ColumnDefinition getColumn(String columnName) {
-        // 🔍 Search through all columns in the table
-        for (ColumnDefinition columnDefinition : columnList) {
-            // ⚔️ If the column name matches, return its definition
-            if (columnDefinition.columnName.equals(columnName)) {
-                return columnDefinition;
-            }
+        // 🔍 Look the column up in the compiled schema
+        int index = schema().indexOf(columnName);
+        if (index != -1) {
+            return columnList.get(index);
         }
         // 🌑 No such column exists — return null to signal absence
         throw new RuntimeException("🩸 [SYMBOL LOST] Column '" + columnName + "' does not exist in this realm!");
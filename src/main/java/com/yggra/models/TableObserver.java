@@ -0,0 +1,22 @@
+package com.yggra.models;
+
+/**
+ * 🪞 [RUNIC INSCRIPTION] 🪞
+ * Something kept in step with a table's rows — a materialized view over it.
+ * ⚡ Contract:
+ *  - {@link #beforeInsert(Row)} runs before a row is added and may refuse it by throwing; nothing has changed yet.
+ *  - {@link #afterInsert(Row)} runs once the row is in the table and applies it as a delta.
+ *  - {@link #rowsReplaced()} runs after any other change to the rows (UPDATE, DELETE, TRUNCATE) — the observer rebuilds from scratch.
+ */
+
+public interface TableObserver {
+
+    // 🏷️ The observer's name, for errors that must say what depends on the table
+    String name();
+
+    void beforeInsert(Row row);
+
+    void afterInsert(Row row);
+
+    void rowsReplaced();
+}
@@ -0,0 +1,109 @@
+package com.yggra.models;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.parser.TokenType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🗂️ [RUNIC INSCRIPTION] 🗂️
+ * A table's columns compiled once into arrays — names, types, lengths and DEFAULTs by position —
+ * with a hash from column name to position.
+ * ⚡ Behavior:
+ *  - Built by {@link Table#schema()} the first time it is asked for after an ALTER, then shared
+ *    by every INSERT, UPDATE and column lookup until the next one.
+ *  - Immutable: a later ALTER compiles a new schema rather than changing this one,
+ *    so a reader never sees half of a change.
+ *  - A DEFAULT is converted the first time a row takes it, then kept — compiling the schema never
+ *    converts one, so a table whose DEFAULT cannot be converted still serves lookups and explicit values.
+ *  - Every column accepts NULL; YggraDB has no NOT NULL constraint to compile.
+ */
+
+public final class TableSchema {
+
+    // 🔖 The table's schemaVersion this schema was compiled from
+    public final int version;
+
+    // 🕳️ Marks a DEFAULT not yet converted
+    private static final Object UNRESOLVED = new Object();
+
+    private final Table table;
+    private final ColumnDefinition[] columns;
+    private final Map<String, Integer> positions;
+    private final String[] names;
+    private final TokenType[] types;
+    private final int[] lengths;
+    private final boolean[] hasDefault;
+    private final Object[] defaults;
+
+    TableSchema(Table table) {
+        List<ColumnDefinition> columns = table.columnList;
+        int n = columns.size();
+        this.version = table.schemaVersion;
+        this.table = table;
+        this.columns = columns.toArray(new ColumnDefinition[0]);
+        this.positions = new HashMap<>(2 * n);
+        this.names = new String[n];
+        this.types = new TokenType[n];
+        this.lengths = new int[n];
+        this.hasDefault = new boolean[n];
+        this.defaults = new Object[n];
+        for (int i = 0; i < n; i++) {
+            ColumnDefinition column = columns.get(i);
+            names[i] = column.columnName;
+            types[i] = column.type;
+            lengths[i] = column.length;
+            hasDefault[i] = column.hasDefaultValue;
+            defaults[i] = column.hasDefaultValue ? UNRESOLVED : null;
+            positions.putIfAbsent(column.columnName, i);
+        }
+    }
+
+    // 📏 Number of columns
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * 🔍 The position of a column, or -1 when the table has no column of that name.
+     */
+
+    public int indexOf(String columnName) {
+        Integer position = positions.get(columnName);
+        return position == null ? -1 : position;
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public TokenType type(int index) {
+        return types[index];
+    }
+
+    // 🧭 The VARCHAR length of a column (-1 for an INT)
+    public int length(int index) {
+        return lengths[index];
+    }
+
+    public boolean hasDefault(int index) {
+        return hasDefault[index];
+    }
+
+    /**
+     * 🪙 A column's DEFAULT as the value it puts in a row, or null when it has none.
+     *
+     * @throws RuntimeException if the DEFAULT cannot be converted to the column's type
+     */
+
+    public Object defaultValue(int index) {
+        Object value = defaults[index];
+        if (value == UNRESOLVED) {
+            value = table.resolveDefault(columns[index]);
+            defaults[index] = value; // 🪶 a race only converts the same value twice
+        }
+        return value;
+    }
+}
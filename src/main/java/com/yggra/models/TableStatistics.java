@@ -0,0 +1,56 @@
+package com.yggra.models;
+
+import java.util.List;
+
+/**
+ * 📊 [RUNIC INSCRIPTION] 📊
+ * The statistics ANALYZE gathers for a table — its row count and one {@link ColumnStatistics}
+ * per column — kept on the {@link Table} and updated by every later INSERT.
+ * The query planner reads them to estimate how many rows a filter or a join will produce.
+ */
+
+public final class TableStatistics {
+
+    // 📐 Buckets per equi-depth histogram
+    public static final int HISTOGRAM_BUCKETS = 32;
+
+    private long rowCount;
+    private final ColumnStatistics[] columns;
+
+    private TableStatistics(long rowCount, ColumnStatistics[] columns) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    /**
+     * 🔍 Scans every column of the table once and builds fresh statistics.
+     */
+
+    public static TableStatistics collect(Table table) {
+        List<Row> rows = table.liveRows();
+        ColumnStatistics[] columns = new ColumnStatistics[table.columnList.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = ColumnStatistics.collect(rows, i, HISTOGRAM_BUCKETS);
+        }
+        return new TableStatistics(rows.size(), columns);
+    }
+
+    /**
+     * ⚒️ Folds one inserted row into the statistics.
+     */
+
+    void onInsert(Row row) {
+        rowCount++;
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].add(row.getValue(i));
+        }
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public ColumnStatistics column(int index) {
+        return columns[index];
+    }
+}
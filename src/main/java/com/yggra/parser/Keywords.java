@@ -0,0 +1,136 @@
+package com.yggra.parser;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 🗝️ [RUNIC INSCRIPTION] 🗝️
+ * The keywords of YggraDB's SQL, found by a case-insensitive perfect hash.
+ * ⚡ How it works:
+ *  - A word's hash folds its letters to upper case as it is read, so `select`, `Select` and `SELECT` hash alike.
+ *  - At class load a multiplier is searched for under which no two keywords share a slot of the table;
+ *    a lookup is then one slot and one comparison, with no upper-cased copy of the word.
+ *  - Each keyword is spelled exactly like its {@link TokenType}.
+ */
+
+final class Keywords {
+
+    private static final Set<TokenType> KEYWORDS = EnumSet.of(
+            TokenType.CREATE, TokenType.INSERT, TokenType.INTO, TokenType.VALUES, TokenType.TABLE, TokenType.INT,
+            TokenType.VARCHAR, TokenType.DATABASE, TokenType.USE, TokenType.DROP, TokenType.SHOW, TokenType.DATABASES,
+            TokenType.CURRENT, TokenType.TABLES, TokenType.ALTER, TokenType.RENAME, TokenType.NONE, TokenType.ADD,
+            TokenType.COLUMN, TokenType.TO, TokenType.DEFAULT, TokenType.TRUNCATE, TokenType.ANALYZE, TokenType.GROUP,
+            TokenType.BY, TokenType.MATERIALIZED, TokenType.VIEW, TokenType.REMOVE, TokenType.FROM, TokenType.IN,
+            TokenType.MODIFY, TokenType.SET, TokenType.FOR, TokenType.NULL, TokenType.SELECT, TokenType.WHERE,
+            TokenType.AND, TokenType.DISTINCT, TokenType.JOIN, TokenType.INNER, TokenType.LEFT, TokenType.OUTER,
+            TokenType.ON, TokenType.LIMIT, TokenType.OFFSET, TokenType.PREPARE, TokenType.EXECUTE, TokenType.AS,
+            TokenType.UPDATE, TokenType.DELETE, TokenType.ORDER, TokenType.OVER, TokenType.PARTITION, TokenType.ROWS,
+            TokenType.ROW, TokenType.BETWEEN, TokenType.PRECEDING, TokenType.FOLLOWING, TokenType.UNBOUNDED,
+            TokenType.ASC, TokenType.DESC, TokenType.TABLESAMPLE, TokenType.SYSTEM, TokenType.BERNOULLI,
+            TokenType.REPEATABLE, TokenType.PERCENT, TokenType.NOT, TokenType.EXISTS, TokenType.COPY, TokenType.WITH,
+            TokenType.VACUUM);
+
+    private static final int SLOTS = 256; // a power of two, about four slots per keyword
+    private static final int SEED = 0x811C9DC5;
+
+    // 📏 Longer words are never keywords, so their hash need not be finished
+    static final int MAX_LENGTH;
+
+    private static final int MULTIPLIER;
+    private static final char[][] WORDS = new char[SLOTS][];
+    private static final TokenType[] TYPES = new TokenType[SLOTS];
+
+    static {
+        int longest = 0;
+        for (TokenType keyword : KEYWORDS) {
+            longest = Math.max(longest, keyword.name().length());
+        }
+        MAX_LENGTH = longest;
+        MULTIPLIER = search();
+        for (TokenType keyword : KEYWORDS) {
+            int slot = slot(hashOf(keyword.name(), MULTIPLIER));
+            WORDS[slot] = keyword.name().toCharArray();
+            TYPES[slot] = keyword;
+        }
+    }
+
+    private Keywords() {
+    }
+
+    // 🔎 The first odd multiplier under which every keyword has a slot of its own
+    private static int search() {
+        for (int multiplier = 31; ; multiplier += 2) {
+            boolean[] taken = new boolean[SLOTS];
+            boolean perfect = true;
+            for (TokenType keyword : KEYWORDS) {
+                int slot = slot(hashOf(keyword.name(), multiplier));
+                if (taken[slot]) {
+                    perfect = false;
+                    break;
+                }
+                taken[slot] = true;
+            }
+            if (perfect) {
+                return multiplier;
+            }
+        }
+    }
+
+    private static int hashOf(String word, int multiplier) {
+        int hash = SEED;
+        for (int i = 0; i < word.length(); i++) {
+            hash = step(hash, word.charAt(i), multiplier);
+        }
+        return hash;
+    }
+
+    private static int step(int hash, int ch, int multiplier) {
+        return (hash ^ upper(ch)) * multiplier;
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (SLOTS - 1);
+    }
+
+    // 🔠 ASCII letters folded to upper case; every other character is left as it is
+    static int upper(int ch) {
+        return ch >= 'a' && ch <= 'z' ? ch - ('a' - 'A') : ch;
+    }
+
+    // 🧮 A word's hash before its first character
+    static int start() {
+        return SEED;
+    }
+
+    // 🧮 The hash after one more character of the word
+    static int step(int hash, int ch) {
+        return step(hash, ch, MULTIPLIER);
+    }
+
+    /**
+     * 🗝️ The keyword a word spells, if any.
+     *
+     * @param hash   The word's hash, folded by {@link #step(int, int)} from {@link #start()}
+     * @param length The word's length in characters
+     * @param cursor Holds the word's characters, compared without regard to case
+     * @param start  Where the word begins in the cursor's source
+     * @return The keyword's type, or null for a plain identifier
+     */
+
+    static TokenType find(int hash, int length, TokenCursor cursor, int start) {
+        if (length > MAX_LENGTH) {
+            return null;
+        }
+        int slot = slot(hash);
+        char[] word = WORDS[slot];
+        if (word == null || word.length != length) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            if (upper(cursor.charAt(start + i)) != word[i]) {
+                return null;
+            }
+        }
+        return TYPES[slot];
+    }
+}
@@ -1,11 +1,14 @@
 package com.yggra.parser;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 
 /**
  * The Lexer class is responsible for converting raw SQL input strings
  * into a stream of tokens that the parser can understand.
  * * This acts as the "Scanner" of our ancient scrolls.
+ * The scanning itself is done by a {@link TokenCursor}; where no token list is needed,
+ * {@link #stream} walks the tokens in place without allocating.
  */
 public class Lexer {
 
@@ -31,21 +34,25 @@ public class Lexer {
      * @return List of Tokens.
      */
     public ArrayList<Token> tokenize(String input) {
-        ArrayList<Token> tokens = new ArrayList<>();
-        int current = 0;
+        return tokenize(stream(input));
+    }
 
-        try {
-            while (current < input.length()) {
-                char ch = input.charAt(current);
+    /**
+     * Tokenizes a UTF-8 encoded statement, read between the buffer's position and limit, into a list of Token objects.
+     *
+     * @param input Raw SQL query as UTF-8 bytes.
+     * @return List of Tokens.
+     */
+    public ArrayList<Token> tokenize(ByteBuffer input) {
+        return tokenize(stream(input));
+    }
 
-                // Skip whitespace like a stealthy Spartan
-                if (Character.isWhitespace(ch)) {
-                    current++;
-                    continue;
-                }
+    private ArrayList<Token> tokenize(TokenCursor cursor) {
+        ArrayList<Token> tokens = new ArrayList<>();
 
-                // Delegate character processing to a helper method
-                current = processCharacter(input, current, tokens, ch);
+        try {
+            while (cursor.next()) {
+                tokens.add(new Token(cursor.type(), cursor.text()));
             }
         } catch (Exception e) {
             throw new RuntimeException("🔥 [FURY OF THE GODS] Something broke within the parser: " + e.getMessage());
@@ -55,196 +62,22 @@ public class Lexer {
     }
 
     /**
-     * Processes a single character from the input string and adds the corresponding token(s) to the list.
+     * Walks the tokens of a statement one at a time, as offsets into the text itself.
      *
-     * @param input   The raw SQL query string.
-     * @param current The current index in the input string.
-     * @param tokens  The list of tokens being built.
-     * @param ch      The character to process.
-     * @return The updated current index after processing the character.
-     * @throws RuntimeException if an unclosed string literal or forbidden symbol is encountered.
+     * @param input Raw SQL query as any CharSequence.
+     * @return A cursor positioned before the first token.
      */
-    private int processCharacter(String input, int current, ArrayList<Token> tokens, char ch) {
-        switch (ch) {
-            // Symbols and punctuation
-            case '(':
-                tokens.add(new Token(TokenType.LEFT_PAREN, "("));
-                current++;
-                break;
-            case ')':
-                tokens.add(new Token(TokenType.RIGHT_PAREN, ")"));
-                current++;
-                break;
-            case ',':
-                tokens.add(new Token(TokenType.COMMA, ","));
-                current++;
-                break;
-            case ';':
-                tokens.add(new Token(TokenType.SEMICOLON, ";"));
-                current++;
-                break;
-            case '*':
-                tokens.add(new Token(TokenType.ASTERISK,"*"));
-                current++;
-                break;
-            // String literals enclosed in single quotes
-            case '\'':
-                current++; // Skip opening quote
-                StringBuilder stringLiteral = new StringBuilder();
-                while (current < input.length()) {
-                    if (input.charAt(current) == '\'') {
-                        if (input.charAt(current + 1) == '\'') {
-                            stringLiteral.append(input.charAt(current + 1));
-                            current += 2;
-                        } else {
-                            break; //End of string
-                        }
-                    } else {
-                        stringLiteral.append(input.charAt(current));
-                        current++;
-                    }
-
-                }
-
-                // Check for closing quote
-                if (current < input.length() && input.charAt(current) == '\'') {
-                    current++; // Skip closing quote
-                    tokens.add(new Token(TokenType.STRING_LITERAL, stringLiteral.toString()));
-                } else {
-                    throw new RuntimeException("⚠️ [ERROR] String literal was never closed. By the gods, finish what you started!");
-                }
-                break;
-            // Default case for identifiers, numbers, keywords, etc.
-            default:
-                // Number literal (e.g., 123)
-                if (isDigit(ch)) {
-                    StringBuilder numToken = new StringBuilder();
-                    while (current < input.length() && isDigit(input.charAt(current))) {
-                        numToken.append(input.charAt(current));
-                        current++;
-                    }
-                    tokens.add(new Token(TokenType.NUMBER_LITERAL, numToken.toString()));
-                }
-
-                // Identifier or SQL keyword (e.g., CREATE, users, name_1)
-                else if (isAlpha(ch)) {
-                    StringBuilder alphaToken = new StringBuilder();
-                    while (current < input.length() &&
-                            (isAlpha(input.charAt(current)) ||
-                                    isDigit(input.charAt(current)) ||
-                                    input.charAt(current) == '_')) {
-                        alphaToken.append(input.charAt(current));
-                        current++;
-                    }
-
-                    String rawKeyword = alphaToken.toString();
-                    String keyword = rawKeyword.toUpperCase(); // SQL is case-insensitive for keywords
+    public TokenCursor stream(CharSequence input) {
+        return new TokenCursor(input);
+    }
 
-                    // Match against known keywords
-                    switch (keyword) {
-                        case "CREATE":
-                            tokens.add(new Token(TokenType.CREATE, rawKeyword));
-                            break;
-                        case "INSERT":
-                            tokens.add(new Token(TokenType.INSERT, rawKeyword));
-                            break;
-                        case "INTO":
-                            tokens.add(new Token(TokenType.INTO, rawKeyword));
-                            break;
-                        case "VALUES":
-                            tokens.add(new Token(TokenType.VALUES, rawKeyword));
-                            break;
-                        case "TABLE":
-                            tokens.add(new Token(TokenType.TABLE, rawKeyword));
-                            break;
-                        case "INT":
-                            tokens.add(new Token(TokenType.INT, rawKeyword));
-                            break;
-                        case "VARCHAR":
-                            tokens.add(new Token(TokenType.VARCHAR, rawKeyword));
-                            break;
-                        case "DATABASE":
-                            tokens.add(new Token(TokenType.DATABASE, rawKeyword));
-                            break;
-                        case "USE":
-                            tokens.add(new Token(TokenType.USE, rawKeyword));
-                            break;
-                        case "DROP":
-                            tokens.add(new Token(TokenType.DROP, rawKeyword));
-                            break;
-                        case "SHOW":
-                            tokens.add(new Token(TokenType.SHOW, rawKeyword));
-                            break;
-                        case "DATABASES":
-                            tokens.add(new Token(TokenType.DATABASES, rawKeyword));
-                            break;
-                        case "CURRENT":
-                            tokens.add(new Token(TokenType.CURRENT, rawKeyword));
-                            break;
-                        case "TABLES":
-                            tokens.add(new Token(TokenType.TABLES, rawKeyword));
-                            break;
-                        case "ALTER":
-                            tokens.add(new Token(TokenType.ALTER, rawKeyword));
-                            break;
-                        case "RENAME":
-                            tokens.add(new Token(TokenType.RENAME, rawKeyword));
-                            break;
-                        case "NONE":
-                            tokens.add(new Token(TokenType.NONE, rawKeyword));
-                            break;
-                        case "ADD":
-                            tokens.add(new Token(TokenType.ADD, rawKeyword));
-                            break;
-                        case "COLUMN":
-                            tokens.add(new Token(TokenType.COLUMN, rawKeyword));
-                            break;
-                        case "TO":
-                            tokens.add(new Token(TokenType.TO, rawKeyword));
-                            break;
-                        case "DEFAULT":
-                            tokens.add(new Token(TokenType.DEFAULT, rawKeyword));
-                            break;
-                        case "TRUNCATE":
-                            tokens.add(new Token(TokenType.TRUNCATE, rawKeyword));
-                            break;
-                        case "REMOVE":
-                            tokens.add(new Token(TokenType.REMOVE, rawKeyword));
-                            break;
-                        case "FROM":
-                            tokens.add(new Token(TokenType.FROM, rawKeyword));
-                            break;
-                        case "IN":
-                            tokens.add(new Token(TokenType.IN, rawKeyword));
-                            break;
-                        case "MODIFY":
-                            tokens.add(new Token(TokenType.MODIFY, rawKeyword));
-                            break;
-                        case "SET":
-                            tokens.add(new Token(TokenType.SET, rawKeyword));
-                            break;
-                        case "FOR":
-                            tokens.add(new Token(TokenType.FOR, rawKeyword));
-                            break;
-                        case "NULL":
-                            tokens.add(new Token(TokenType.NULL, rawKeyword));
-                            break;
-                        case "SELECT":
-                            tokens.add(new Token(TokenType.SELECT,rawKeyword));
-                            break;
-                        case "WHERE":
-                            tokens.add(new Token(TokenType.WHERE,rawKeyword));
-                            break;
-                        default:
-                            tokens.add(new Token(TokenType.IDENTIFIER, rawKeyword));
-                    }
-                }
-                // Unrecognized symbol — cast it into the underworld
-                else {
-                    throw new RuntimeException("⚔️ [WRATH] Forbidden symbol '" + ch + "' was struck down — it does not belong to the realm of SQL present in realm world!");
-                }
-                break;
-        }
-        return current;
+    /**
+     * Walks the tokens of a UTF-8 encoded statement one at a time, as byte offsets into the buffer.
+     *
+     * @param input Raw SQL query, read between the buffer's position and limit.
+     * @return A cursor positioned before the first token.
+     */
+    public TokenCursor stream(ByteBuffer input) {
+        return new TokenCursor(input);
     }
-}
\ No newline at end of file
+}
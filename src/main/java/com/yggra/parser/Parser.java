@@ -3,28 +3,70 @@ package com.yggra.parser;
 import com.yggra.commands.*;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import static java.lang.Integer.parseInt;
 
 /**
  * SQL Command Parser - The Oracle of Database Commands
  * This parser transforms tokens into Abstract Syntax Trees (AST) for SQL commands.
- * /Currently supports CREATE TABLE and INSERT INTO statements.
- * The parser uses a recursive descent approach with dramatic error messaging
- * inspired by mythological themes.
+ * A statement's first token picks its parser from a dispatch table; from there the parser
+ * uses a recursive descent approach with dramatic error messaging inspired by mythological themes.
+ * One parser may be {@link #reset} onto statement after statement.
  */
 
 public class Parser {
     // SQL command parser
-    // 1. Check first token: CREATE or INSERT?
-    // 2. If CREATE TABLE → build CreateTableCommand AST
-    // 3. If INSERT INTO → build InsertCommand AST
-    // 4. Return the AST to the caller (REPL or executor)
+    // 1. Look the first token up in STATEMENTS
+    // 2. Let its parser build the command's AST (e.g. CREATE TABLE → CreateTableCommand)
+    // 3. Return the AST to the caller (REPL or executor)
 
-    public final List<Token> tokens;
+    /**
+     * 🗺️ [THE ORACLE'S MAP] 🗺️
+     * The parser of every statement, keyed by the token it opens with — one lookup instead of a chain of comparisons.
+     * Each is called with the parser standing just past that token.
+     */
+
+    private static final Map<TokenType, Function<Parser, SQLCommand>> STATEMENTS = new EnumMap<>(TokenType.class);
+
+    static {
+        STATEMENTS.put(TokenType.CREATE, Parser::parseCreate);
+        STATEMENTS.put(TokenType.INSERT, Parser::parseInsert);
+        STATEMENTS.put(TokenType.DROP, Parser::parseDrop);
+        STATEMENTS.put(TokenType.SHOW, Parser::parseShow);
+        STATEMENTS.put(TokenType.USE, Parser::parseUse);
+        STATEMENTS.put(TokenType.ALTER, Parser::parseAlter);
+        STATEMENTS.put(TokenType.ADD, Parser::parseAdd);
+        STATEMENTS.put(TokenType.TRUNCATE, Parser::parseTruncate);
+        STATEMENTS.put(TokenType.REMOVE, Parser::parseRemove);
+        STATEMENTS.put(TokenType.RENAME, Parser::parseRename);
+        STATEMENTS.put(TokenType.MODIFY, Parser::parseModify);
+        STATEMENTS.put(TokenType.SET, Parser::parseSet);
+        STATEMENTS.put(TokenType.SELECT, Parser::parseSelectCommand);
+        STATEMENTS.put(TokenType.UPDATE, Parser::parseUpdateCommand);
+        STATEMENTS.put(TokenType.DELETE, Parser::parseDeleteCommand);
+        STATEMENTS.put(TokenType.ANALYZE, Parser::parseAnalyzeCommand);
+        STATEMENTS.put(TokenType.VACUUM, Parser::parseVacuumCommand);
+        STATEMENTS.put(TokenType.COPY, Parser::parseCopyCommand);
+        STATEMENTS.put(TokenType.PREPARE, Parser::parsePrepareCommand);
+        STATEMENTS.put(TokenType.EXECUTE, Parser::parseExecuteCommand);
+    }
+
+    // 📜 The keywords a statement may open with, for the error that names them
+    private static final String LEADERS = String.join(", ", STATEMENTS.keySet().stream().map(TokenType::name).toList());
+
+    public List<Token> tokens;
     public int position = 0;
 
+    // ❓ Number of `?` placeholders met so far; each is numbered in order of appearance
+    private int parameterCount = 0;
+
+    // 🔗 While a subquery is parsed, the `column = column` conditions tying it to the query around it (null outside one)
+    private List<Correlation> correlations;
+
     /**
      * Constructor - Initializes the parser with a list of tokens
      *
@@ -32,6 +74,26 @@ public class Parser {
      */
 
     public Parser(List<Token> tokens) {
+        reset(tokens);
+    }
+
+    /**
+     * Constructor - A parser awaiting its first statement; hand it one with {@link #reset(List)}.
+     */
+
+    public Parser() {
+        this.tokens = List.of();
+    }
+
+    /**
+     * 🔁 [THE ORACLE RENEWED] Starts over on another statement's tokens, forgetting the last one,
+     * so one parser may serve a whole session or script.
+     *
+     * @param tokens List of tokens to parse (must not be null or empty)
+     * @return This parser, ready at the first token
+     */
+
+    public final Parser reset(List<Token> tokens) {
         if (tokens == null) {
             throw new RuntimeException("🌊 [POSEIDON'S VOID] The token stream cannot be null — the seas of syntax demand substance!");
         }
@@ -39,6 +101,10 @@ public class Parser {
             throw new RuntimeException("🏺 [EMPTY AMPHORA] No tokens provided to parse — the vessel of knowledge stands barren!");
         }
         this.tokens = tokens;
+        this.position = 0;
+        this.parameterCount = 0;
+        this.correlations = null;
+        return this;
     }
 
     /**
@@ -365,8 +431,11 @@ public class Parser {
             consume(TokenType.NULL);
             return new ValueDefinition(TokenType.NULL, null);
 
+        } else if (peek().type == TokenType.PARAMETER) {
+            return parseParameter();
+
         } else {
-            throw new RuntimeException("⚔️ [REJECTED OFFERING] The gods accept only numbers, strings, DEFAULT, or NULL — yet something alien was offered!");
+            throw new RuntimeException("⚔️ [REJECTED OFFERING] The gods accept only numbers, strings, DEFAULT, NULL or ? — yet something alien was offered!");
         }
     }
 
@@ -1084,6 +1153,59 @@ public class Parser {
         return new DropTableCommand(tableName);
     }
 
+    /**
+     * 🪞 [MIRROR FORGED] Parses `CREATE MATERIALIZED VIEW <name> AS SELECT ...;`.
+     * The SELECT is parsed in full here; whether it can be maintained incrementally is judged when the view is built.
+     *
+     * @return CreateMaterializedViewCommand holding the view's name and its SELECT
+     */
+
+    private CreateMaterializedViewCommand parseCreateMaterializedView() {
+        String viewName = parseMaterializedViewName("CREATE");
+        if (peek().type != TokenType.AS) {
+            throw new RuntimeException("🪞 [MIRROR WITHOUT IMAGE] CREATE MATERIALIZED VIEW " + viewName + " must be followed by AS SELECT, not " + peek().value);
+        }
+        consume(TokenType.AS);
+        if (peek().type != TokenType.SELECT) {
+            throw new RuntimeException("🪞 [MIRROR WITHOUT IMAGE] A materialized view reflects a SELECT, not " + peek().value);
+        }
+        consume(TokenType.SELECT);
+        return new CreateMaterializedViewCommand(viewName, parseSelectCommand());
+    }
+
+    /**
+     * 🪞 [MIRROR SHATTERED] Parses `DROP MATERIALIZED VIEW <name>;`.
+     *
+     * @return DropMaterializedViewCommand naming the view
+     */
+
+    private DropMaterializedViewCommand parseDropMaterializedView() {
+        String viewName = parseMaterializedViewName("DROP");
+        if (peek().type != TokenType.SEMICOLON) {
+            throw new RuntimeException("⚡ [BIFRÖST SUNDERED] A semicolon must close fate, not " + peek().value);
+        }
+        consume(TokenType.SEMICOLON);
+        if (position < tokens.size()) {
+            throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
+        }
+        return new DropMaterializedViewCommand(viewName);
+    }
+
+    // 🏷️ Consumes `MATERIALIZED VIEW <name>` and returns the name
+    private String parseMaterializedViewName(String verb) {
+        consume(TokenType.MATERIALIZED);
+        if (peek().type != TokenType.VIEW) {
+            throw new RuntimeException("🪞 [HALF-SPOKEN DECREE] " + verb + " MATERIALIZED must be followed by VIEW, not " + peek().value);
+        }
+        consume(TokenType.VIEW);
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("🪞 [NAMELESS MIRROR] " + verb + " MATERIALIZED VIEW demands a name, not " + peek().value);
+        }
+        String viewName = peek().value;
+        consume(TokenType.IDENTIFIER);
+        return viewName;
+    }
+
     /**
      * 🧠 [PROPHECY DECODED] Parses the sacred incantation 'SHOW TABLES;'
      * and returns a command that reveals all forged realms (tables).
@@ -1119,7 +1241,7 @@ public class Parser {
 
     /**
      * Parse INSERT INTO Statement - Handles the complete INSERT INTO statement parsing
-     * Expected format: INSERT INTO table_name (column1, column2, ...) VALUES (value1, value2, ...);
+     * Expected format: INSERT INTO table_name (column1, column2, ...) VALUES (value1, value2, ...), (value1, value2, ...), ...;
      * Validates table name, column list, VALUES keyword, value list, and semicolon termination
      *
      * @throws RuntimeException for various INSERT INTO syntax errors
@@ -1183,6 +1305,39 @@ public class Parser {
         }
 
         consume(TokenType.VALUES);
+        // Parse the comma-separated tuples, one row each
+        List<List<ValueDefinition>> rows = new ArrayList<>();
+        rows.add(parseValuesTuple(columns.size(), 1));
+        while (position < tokens.size() && peek().type == TokenType.COMMA) {
+            consume(TokenType.COMMA);
+            if (position >= tokens.size()) {
+                throw new RuntimeException("🗡️ [ARES' BROKEN SPEAR] Comma found but no following row — the army of data stands incomplete!");
+            }
+            rows.add(parseValuesTuple(columns.size(), rows.size() + 1));
+        }
+        // Check for mandatory semicolon termination
+        if (position >= tokens.size()) {
+            throw new RuntimeException("📜 [UNFINISHED SCROLL] Insert statement complete but missing final ';' — even divine commands need their sacred seal!");
+        }
+        consume(TokenType.SEMICOLON);
+
+        // Ensure no extraneous tokens remain after the complete statement
+        if (position < tokens.size()) {
+            throw new RuntimeException("🌪️ [LINGERING SPIRITS] Additional tokens haunt the completed statement — banish these phantoms to complete the ritual!");
+        }
+
+        return new InsertCommand(tableName, columns, rows);
+    }
+
+    /**
+     * Parse one parenthesized VALUES tuple of an INSERT — one row of offerings.
+     *
+     * @param columns The number of columns named by the INSERT
+     * @param row     The tuple's position among the statement's rows, counted from 1
+     * @throws RuntimeException if the tuple is malformed or does not hold one value per column
+     */
+
+    private List<ValueDefinition> parseValuesTuple(int columns, int row) {
         // Check for opening parenthesis to begin values list
         if (peek().type != TokenType.LEFT_PAREN) {
             throw new RuntimeException("🎭 [THEATER OF ERRORS] Expected '(' to begin values list, yet the performance lacks its opening act!");
@@ -1211,21 +1366,12 @@ public class Parser {
             throw new RuntimeException("🏺 [AMPHORA UNSEALED] An opening '(' was cast for values, yet no ')' arose to seal the vessel — the contents shall spill forth!");
         }
         consume(TokenType.RIGHT_PAREN);
-        // Check for mandatory semicolon termination
-        if (position >= tokens.size()) {
-            throw new RuntimeException("📜 [UNFINISHED SCROLL] Insert statement complete but missing final ';' — even divine commands need their sacred seal!");
-        }
-        consume(TokenType.SEMICOLON);
-
-        // Ensure no extraneous tokens remain after the complete statement
-        if (position < tokens.size()) {
-            throw new RuntimeException("🌪️ [LINGERING SPIRITS] Additional tokens haunt the completed statement — banish these phantoms to complete the ritual!");
-        }
 
-        if (columns.size() != values.size()) {
-            throw new RuntimeException("⚔️ The AllFather demands equal measures! Columns (" + columns.size() + ") and values (" + values.size() + ") must stand in perfect balance!");
+        if (columns != values.size()) {
+            throw new RuntimeException("⚔️ The AllFather demands equal measures! Columns (" + columns + ") and values (" + values.size() + ") must stand in perfect balance"
+                    + (row > 1 ? " in row " + row : "") + "!");
         }
-        return new InsertCommand(tableName, columns, values);
+        return values;
     }
 
 
@@ -1453,6 +1599,186 @@ public class Parser {
         return new TruncateTableCommand(tableName);
     }
 
+    /**
+     * 📊 [NORNS' MEASURE] Parses an ANALYZE command, which gathers planner statistics for a table.
+     * Valid Syntax: ANALYZE [TABLE] <table_name>;
+     * Example: ANALYZE TABLE warriors;
+     *
+     * @return AnalyzeCommand naming the table to measure
+     * @throws RuntimeException if the table name or the closing ';' is missing
+     */
+
+    private AnalyzeCommand parseAnalyzeCommand() {
+        if (peek().type == TokenType.TABLE) {
+            consume(TokenType.TABLE);
+        }
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("📊 [NOTHING TO MEASURE] ANALYZE demands a table name, not " + peek().value);
+        }
+        String tableName = peek().value;
+        consume(TokenType.IDENTIFIER);
+        if (peek().type != TokenType.SEMICOLON) {
+            throw new RuntimeException("⚡ [BIFRÖST SUNDERED] A semicolon must close fate, not " + peek().value);
+        }
+        consume(TokenType.SEMICOLON);
+        if (position < tokens.size()) {
+            throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
+        }
+        return new AnalyzeCommand(tableName);
+    }
+
+    /**
+     * 🧹 [SWEEPING THE HALL] Parses a VACUUM command, which rewrites a table's storage.
+     * Valid Syntax: VACUUM [TABLE] <table_name>;
+     * Example: VACUUM TABLE warriors;
+     *
+     * @return VacuumCommand naming the table to sweep
+     * @throws RuntimeException if the table name or the closing ';' is missing
+     */
+
+    private VacuumCommand parseVacuumCommand() {
+        if (peek().type == TokenType.TABLE) {
+            consume(TokenType.TABLE);
+        }
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("🧹 [NOTHING TO SWEEP] VACUUM demands a table name, not " + peek().value);
+        }
+        String tableName = peek().value;
+        consume(TokenType.IDENTIFIER);
+        if (peek().type != TokenType.SEMICOLON) {
+            throw new RuntimeException("⚡ [BIFRÖST SUNDERED] A semicolon must close fate, not " + peek().value);
+        }
+        consume(TokenType.SEMICOLON);
+        if (position < tokens.size()) {
+            throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
+        }
+        return new VacuumCommand(tableName);
+    }
+
+    /**
+     * 📥 [BULK OFFERING] 📥
+     * Parses `COPY <table> FROM | TO '<path>' [WITH (<option>, ...) | FORMAT <format>];` after its COPY rune.
+     * Options: FORMAT CSV | TSV | JSONL | BINARY, HEADER, DELIMITER '<char>', NULL '<text>' — option names are not reserved words.
+     * JSONL can only be written.
+     *
+     * @throws RuntimeException if the statement is malformed or an option is unknown or repeated
+     */
+
+    private SQLCommand parseCopyCommand() {
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("📥 [NOWHERE TO POUR] COPY demands a table name, not " + peek().value);
+        }
+        String tableName = peek().value;
+        consume(TokenType.IDENTIFIER);
+        if (peek().type != TokenType.FROM && peek().type != TokenType.TO) {
+            throw new RuntimeException("📥 [NOWHERE TO POUR] COPY " + tableName + " expects FROM or TO '<file>', not " + peek().value);
+        }
+        boolean reading = peek().type == TokenType.FROM;
+        advance();
+        if (peek().type != TokenType.STRING_LITERAL) {
+            throw new RuntimeException("📂 [SCROLL UNNAMED] COPY " + (reading ? "FROM" : "TO") + " demands the path of a file in quotes, not " + peek().value);
+        }
+        String path = peek().value;
+        consume(TokenType.STRING_LITERAL);
+        CopyOptions options = parseCopyOptions(reading);
+        if (peek().type != TokenType.SEMICOLON) {
+            throw new RuntimeException("⚡ [BIFRÖST SUNDERED] A semicolon must close fate, not " + peek().value);
+        }
+        consume(TokenType.SEMICOLON);
+        if (position < tokens.size()) {
+            throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
+        }
+        return reading ? new CopyFromCommand(tableName, path, options) : new CopyToCommand(tableName, path, options);
+    }
+
+    // ⚙️ WITH (FORMAT CSV, HEADER, DELIMITER ';', NULL 'NA'), a lone FORMAT BINARY, or nothing for the defaults
+    private CopyOptions parseCopyOptions(boolean reading) {
+        boolean listed = peek().type == TokenType.WITH;
+        if (!listed && !(peek().type == TokenType.IDENTIFIER && peek().value.equalsIgnoreCase("FORMAT"))) {
+            return CopyOptions.defaults();
+        }
+        if (listed) {
+            consume(TokenType.WITH);
+            if (peek().type != TokenType.LEFT_PAREN) {
+                throw new RuntimeException("⚙️ [OPTIONS UNBOUND] WITH expects '(' before its options, not " + peek().value);
+            }
+            consume(TokenType.LEFT_PAREN);
+        }
+        CopyFormat format = null;
+        Boolean header = null;
+        Character delimiter = null;
+        String nullText = null;
+        do {
+            Token option = peek();
+            String name = option.type == TokenType.NULL ? "NULL" : option.value.toUpperCase();
+            if (option.type != TokenType.IDENTIFIER && option.type != TokenType.NULL) {
+                throw new RuntimeException("⚙️ [UNKNOWN OPTION] COPY knows FORMAT, HEADER, DELIMITER and NULL — not " + option.value);
+            }
+            advance();
+            boolean repeated = switch (name) {
+                case "FORMAT" -> {
+                    boolean seen = format != null;
+                    format = parseCopyFormat(reading);
+                    yield seen;
+                }
+                case "HEADER" -> {
+                    boolean seen = header != null;
+                    header = true;
+                    yield seen;
+                }
+                case "DELIMITER" -> {
+                    if (peek().type != TokenType.STRING_LITERAL || peek().value.length() != 1 || peek().value.charAt(0) > 0x7F) {
+                        throw new RuntimeException("⚙️ [UNKNOWN OPTION] DELIMITER expects one ASCII character in quotes, not " + peek().value);
+                    }
+                    boolean seen = delimiter != null;
+                    delimiter = peek().value.charAt(0);
+                    consume(TokenType.STRING_LITERAL);
+                    yield seen;
+                }
+                case "NULL" -> {
+                    if (peek().type != TokenType.STRING_LITERAL) {
+                        throw new RuntimeException("⚙️ [UNKNOWN OPTION] NULL expects the text standing for NULL in quotes, not " + peek().value);
+                    }
+                    boolean seen = nullText != null;
+                    nullText = peek().value;
+                    consume(TokenType.STRING_LITERAL);
+                    yield seen;
+                }
+                default -> throw new RuntimeException("⚙️ [UNKNOWN OPTION] COPY knows FORMAT, HEADER, DELIMITER and NULL — not " + option.value);
+            };
+            if (repeated) {
+                throw new RuntimeException("🔄 [ECHO OF CONFUSION] The COPY option " + name + " is given twice!");
+            }
+            if (!listed || peek().type != TokenType.COMMA) {
+                break;
+            }
+            consume(TokenType.COMMA);
+        } while (true);
+        if (listed) {
+            if (peek().type != TokenType.RIGHT_PAREN) {
+                throw new RuntimeException("🏺 [AMPHORA UNSEALED] The COPY options were opened but never closed — found " + peek().value);
+            }
+            consume(TokenType.RIGHT_PAREN);
+        }
+        format = format == null ? CopyFormat.CSV : format;
+        return new CopyOptions(format, header != null, delimiter != null ? delimiter : format == CopyFormat.TSV ? '\t' : ',',
+                nullText != null ? nullText : "");
+    }
+
+    // 📦 The format named after FORMAT
+    private CopyFormat parseCopyFormat(boolean reading) {
+        String formatName = peek().type == TokenType.IDENTIFIER ? peek().value.toUpperCase() : "";
+        CopyFormat format = switch (formatName) {
+            case "CSV", "TSV", "JSONL", "BINARY" -> CopyFormat.valueOf(formatName);
+            default -> throw new RuntimeException("⚙️ [UNKNOWN OPTION] FORMAT expects CSV, TSV, JSONL or BINARY, not " + peek().value);
+        };
+        if (reading && format == CopyFormat.JSONL) {
+            throw new RuntimeException("⚙️ [UNKNOWN OPTION] JSONL can be written by COPY TO, but not read back — COPY FROM takes CSV, TSV or BINARY.");
+        }
+        advance();
+        return format;
+    }
+
     /**
      * Parses a custom "REMOVE FROM TABLE <tableName> (<columnNames>);" or
      * equivalent drop-columns statement into a DropColumnsCommand object.
@@ -1950,7 +2276,7 @@ public class Parser {
         }
         consume(TokenType.SEMICOLON);
 
-        // 👁️ STEP IX: Ensure no trailing tokens exist
+        // 👁️ STEP X: Ensure no trailing tokens exist
         if (position < tokens.size()) {
             throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
         }
@@ -1963,16 +2289,30 @@ public class Parser {
      * 🌌 [SEER’S DIVINATION] 🌌
      * Parses a `SELECT` SQL command from the token stream.
      * The SELECT command in YggraDB follows this structure:
-     *   SELECT <columns> FROM <tableName>;
+     *   SELECT [DISTINCT] <columns | aggregates> FROM <tableName>
+     *       [[INNER | LEFT [OUTER]] JOIN <tableName> ON <column> = <column>]...
+     *       [WHERE <condition> [AND <condition>]...]
+     *       [GROUP BY <column> [, <column>]...]
+     *       [LIMIT <count> [OFFSET <skip>]];
      * Columns can be either:
      *   - `*` (represented internally as ["ALL"])
-     *   - A list of identifiers (e.g., ["id", "name"])
+     *   - A list of identifiers, optionally qualified by table (e.g., ["id", "weapons.name"])
+     *   - A list of aggregates (e.g., COUNT(*), COUNT(DISTINCT clan), SUM(gold), MIN(age), MAX(age), AVG(age))
+     *   - A list of window calls (e.g., ROW_NUMBER() OVER (ORDER BY id), SUM(gold) OVER (PARTITION BY clan))
+     * Plain columns and aggregates can only be mixed under GROUP BY, and every plain column must be grouped;
+     * the result lists the plain columns first, then the aggregates (or the window calls).
      * This method consumes tokens from the input and constructs a {@link SelectCommand}.
      * Any violation of the expected grammar results in a God of War–style runtime error.
      * ⚡ Responsibilities:
-     *  - Validate that columns are properly specified (`*` or identifiers).
+     *  - Parse the optional DISTINCT.
+     *  - Validate that columns are properly specified (`*`, identifiers or aggregates).
      *  - Ensure the `FROM` keyword appears after the column list.
      *  - Validate that a table name follows `FROM`.
+     *  - Parse the optional TABLESAMPLE clause.
+     *  - Parse the optional JOIN clauses.
+     *  - Parse the optional WHERE conditions, subqueries included.
+     *  - Parse the optional GROUP BY columns.
+     *  - Parse the optional LIMIT / OFFSET window.
      *  - Ensure the query is terminated by a semicolon.
      *  - Guard against stray tokens beyond the query.
      * 🛡️ Error Handling:
@@ -1984,17 +2324,34 @@ public class Parser {
      */
 
     private SelectCommand parseSelectCommand() {
+        return parseSelectCommand(false);
+    }
+
+    /**
+     * 🔍 Parses a SELECT after its SELECT rune; a nested one (a subquery) ends before its closing ')',
+     * where a top-level one demands its semicolon.
+     */
+
+    private SelectCommand parseSelectCommand(boolean nested) {
+
+        // 🔢 Optional DISTINCT — duplicate result rows are returned once
+        boolean distinct = false;
+        if (peek().type == TokenType.DISTINCT) {
+            consume(TokenType.DISTINCT);
+            distinct = true;
+        }
 
         // 🔮 STEP I: Ensure SELECT targets are valid (either * or identifiers)
         if (peek().type != TokenType.ASTERISK && peek().type != TokenType.IDENTIFIER) {
             throw new RuntimeException("❌ [FATE TWISTED] A SELECT must choose runes (* or identifiers), not " + peek().value);
         }
 
-        List<String> columns;
+        List<String> columns = new ArrayList<>();
+        List<AggregateCall> aggregates = new ArrayList<>();
+        List<WindowCall> windows = new ArrayList<>();
 
         // 🟊 STEP II: Handle `SELECT *`
         if (peek().type == TokenType.ASTERISK) {
-            columns = new ArrayList<>();
             consume(TokenType.ASTERISK);
             columns.add("ALL");
 
@@ -2002,9 +2359,9 @@ public class Parser {
                 throw new RuntimeException("⚔️ [REALM UNCHOSEN] The path falters — 'FROM' is demanded by fate, not " + peek().value);
             }
 
-            // 📜 STEP III: Handle `SELECT col1, col2, ...`
+            // 📜 STEP III: Handle `SELECT col1, col2, ...` or `SELECT COUNT(*), SUM(col), ...`
         } else if (peek().type == TokenType.IDENTIFIER) {
-            columns = parseColumnInsertStatements();
+            parseSelectItems(columns, aggregates, windows);
         } else {
             throw new RuntimeException("❌ [FATE CORRUPTED] Unexpected token in SELECT — " + peek().value);
         }
@@ -2022,283 +2379,830 @@ public class Parser {
         }
         consume(TokenType.IDENTIFIER);
 
-        // ⛓️ STEP VI: Ensure semicolon terminates the query
+        // 🎲 STEP V½: Optional TABLESAMPLE — only a sample of the FROM table is read
+        TableSample sample = null;
+        if (peek().type == TokenType.TABLESAMPLE) {
+            sample = parseTableSample();
+        }
+
+        // 🌉 STEP VI: Optional JOIN clauses
+        List<JoinClause> joins = new ArrayList<>();
+        while (peek().type == TokenType.JOIN || peek().type == TokenType.INNER || peek().type == TokenType.LEFT) {
+            joins.add(parseJoinClause());
+        }
+
+        // ⚖️ STEP VII: Optional WHERE conditions
+        List<Condition> conditions = new ArrayList<>();
+        List<SubqueryCondition> subqueries = new ArrayList<>();
+        if (peek().type == TokenType.WHERE) {
+            consume(TokenType.WHERE);
+            conditions = parseWhereConditions(subqueries);
+        }
+
+        // 🗂️ STEP VII½: Optional GROUP BY — the rows it splits fold into one result row per group
+        List<String> groupBy = new ArrayList<>();
+        if (peek().type == TokenType.GROUP) {
+            consume(TokenType.GROUP);
+            if (peek().type != TokenType.BY) {
+                throw new RuntimeException("🗂️ [HALF-SPOKEN DECREE] GROUP must be followed by BY, not " + peek().value);
+            }
+            consume(TokenType.BY);
+            groupBy = parseGroupByColumns();
+        }
+        checkGrouping(columns, aggregates, windows, groupBy);
+
+        // ✂️ STEP VIII: Optional LIMIT [OFFSET]
+        long limit = -1;
+        long offset = 0;
+        if (peek().type == TokenType.LIMIT) {
+            consume(TokenType.LIMIT);
+            limit = parseCount("LIMIT");
+            if (peek().type == TokenType.OFFSET) {
+                consume(TokenType.OFFSET);
+                offset = parseCount("OFFSET");
+            }
+        }
+
+        if (nested) {
+            return new SelectCommand(tableName, sample, distinct, joins, columns, aggregates, windows, conditions, subqueries, groupBy, limit, offset);
+        }
+
+        // ⛓️ STEP IX: Ensure semicolon terminates the query
         if (peek().type != TokenType.SEMICOLON) {
             throw new RuntimeException("⚡ [BIFRÖST SUNDERED] A semicolon must close fate, not " + peek().value);
         }
         consume(TokenType.SEMICOLON);
 
-        // 👁️ STEP VII: Ensure no trailing tokens
+        // 👁️ STEP IX: Ensure no trailing tokens
         if (position < tokens.size()) {
             throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
         }
 
-        // 🎇 STEP VIII: Return parsed command
-        return new SelectCommand(tableName, columns);
+        // 🎇 STEP XI: Return parsed command
+        return new SelectCommand(tableName, sample, distinct, joins, columns, aggregates, windows, conditions, subqueries, groupBy, limit, offset);
     }
 
     /**
-     * Parse - Main entry point for parsing SQL commands
-     * Determines command type (CREATE or INSERT) and delegates to appropriate parser
-     * Handles top-level parsing errors with comprehensive error reporting
+     * 🎲 [TABLESAMPLE] 🎲
+     * Parses `TABLESAMPLE {SYSTEM | BERNOULLI} (n [PERCENT]) [REPEATABLE (seed)]`, where n may carry a fraction (0.5).
+     *
+     * @throws RuntimeException if the method is unknown, or the percentage is missing or above 100
      */
 
-    public SQLCommand parse() {
-        try {
-            // Ensure we have at least one token to examine
-            if (tokens.isEmpty()) {
-                throw new RuntimeException("🏺 [EMPTY VESSEL] No tokens to parse — the vessel of commands stands empty!");
+    private TableSample parseTableSample() {
+        consume(TokenType.TABLESAMPLE);
+        SampleMethod method;
+        if (peek().type == TokenType.SYSTEM) {
+            method = SampleMethod.SYSTEM;
+        } else if (peek().type == TokenType.BERNOULLI) {
+            method = SampleMethod.BERNOULLI;
+        } else {
+            throw new RuntimeException("🎲 [DICE UNCAST] TABLESAMPLE demands SYSTEM or BERNOULLI, not " + peek().value);
+        }
+        consume(peek().type);
+        if (peek().type != TokenType.LEFT_PAREN) {
+            throw new RuntimeException("🎲 [DICE UNCAST] " + method + " must be followed by '(' and a percentage, not " + peek().value);
+        }
+        consume(TokenType.LEFT_PAREN);
+        String whole = String.valueOf(parseCount("TABLESAMPLE"));
+        String fraction = "0";
+        if (peek().type == TokenType.DOT) {
+            consume(TokenType.DOT);
+            if (peek().type != TokenType.NUMBER_LITERAL) {
+                throw new RuntimeException("🎲 [DICE UNCAST] A fraction of a percent must follow '" + whole + ".', not " + peek().value);
             }
-            Token first = peek();
+            fraction = peek().value;
+            consume(TokenType.NUMBER_LITERAL);
+        }
+        double percent = Double.parseDouble(whole + "." + fraction);
+        if (percent > 100) {
+            throw new RuntimeException("🎲 [DICE OVERFLOWING] A sample cannot hold more than 100 percent of a table — not " + percent + "!");
+        }
+        if (peek().type == TokenType.PERCENT) {
+            consume(TokenType.PERCENT);
+        }
+        if (peek().type != TokenType.RIGHT_PAREN) {
+            throw new RuntimeException("🏺 [AMPHORA UNSEALED] TABLESAMPLE ( was opened but never closed — found " + peek().value);
+        }
+        consume(TokenType.RIGHT_PAREN);
 
-            if (first.type == TokenType.CREATE) {
-                advance();
-                // Validate that CREATE is followed by TABLE
-                if (position >= tokens.size()) {
-                    throw new RuntimeException("🔨 [FORGE OF THE GODS SILENT] 'CREATE' declared, yet the forge stands idle — TABLE or DATABASE expected, but void answered!");
-                }
-                Token second = peek();
-                if (second.type == TokenType.TABLE) {
-                    return parseCreateTable();
-                } else if (second.type == TokenType.DATABASE) {
-                    return parseCreateDatabase();
-                } else {
-                    throw new RuntimeException("🏛️ [ARCHITECT'S CONFUSION] 'CREATE' invoked, yet '" + second.value + "' follows — only TABLE or DATABASE may rise from the forge of Yggra!");
-                }
+        Long seed = null;
+        if (peek().type == TokenType.REPEATABLE) {
+            consume(TokenType.REPEATABLE);
+            if (peek().type != TokenType.LEFT_PAREN) {
+                throw new RuntimeException("🌱 [SEEDLESS SOIL] REPEATABLE must be followed by '(' and a seed, not " + peek().value);
+            }
+            consume(TokenType.LEFT_PAREN);
+            seed = parseCount("REPEATABLE");
+            if (peek().type != TokenType.RIGHT_PAREN) {
+                throw new RuntimeException("🏺 [AMPHORA UNSEALED] REPEATABLE ( was opened but never closed — found " + peek().value);
+            }
+            consume(TokenType.RIGHT_PAREN);
+        }
+        return new TableSample(method, percent, seed);
+    }
 
-                // PARSE INSERT INTO COMMAND
-            } else if (first.type == TokenType.INSERT) {
-                advance();
-                // Validate that INSERT is followed by INTO
-                if (position >= tokens.size()) {
-                    throw new RuntimeException("🎯 [ARTEMIS' MISSING TARGET] 'INSERT' declared but INTO what realm? Target specification missing!");
-                }
-                Token second = peek();
-                if (second.type != TokenType.INTO) {
-                    throw new RuntimeException("🌊 [POSEIDON'S MISDIRECTION] 'INSERT' found but '" + second.value + "' follows — the data must flow INTO a table!");
-                }
-                return parseInsertStatement();
-            } else if (first.type == TokenType.DROP) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException("🏛️ [DROP UNGUIDED] You call upon destruction, yet name no realm — the void demands a target!");
-                }
-                Token second = peek();
-                // PARSE DROP DATABASE COMMAND;
-                if (second.type == TokenType.DATABASE) {
-                    return parseDropDatabase();
-                    // PARSE DROP TABLE COMMAND;
-                } else if (second.type == TokenType.TABLE) {
-                    return parseDropTable();
-                    // PARSE DROP DEFAULT VALUE COMMAND;
-                } else if (second.type == TokenType.DEFAULT) {
-                    return parseDropDefaultValueColumn();
-                } else {
-                    throw new RuntimeException("🌀 [REALM MISALIGNED] 'DROP' spoken, but '" + second.value + "' stands in defiance — only DATABASE AND TABLE may be struck down!");
-                }
+    /**
+     * 📜 [SELECT LIST] 📜
+     * Parses the comma-separated SELECT list into plain columns, aggregate calls and window calls.
+     * An identifier followed by '(' is an aggregate (COUNT, SUM, MIN, MAX, AVG, APPROX_COUNT_DISTINCT, APPROX_PERCENTILE);
+     * COUNT alone may take '*' as its argument, or DISTINCT followed by a column.
+     * APPROX_PERCENTILE takes a second argument, the percentile as a whole number from 0 to 100.
+     * An aggregate followed by OVER (...) is a window call instead, as are ROW_NUMBER() and RANK(),
+     * which must always be followed by OVER.
+     *
+     * @param columns    Receives the plain column names
+     * @param aggregates Receives the aggregate calls
+     * @param windows    Receives the window calls
+     * @throws RuntimeException if an unknown function is called, or the call is malformed.
+     */
 
-            } else if (first.type == TokenType.SHOW) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException("🌌 [BLIND BIFROST] You invoke 'SHOW', yet the bridge to knowledge lies broken — name what must be unveiled!");
+    private void parseSelectItems(List<String> columns, List<AggregateCall> aggregates, List<WindowCall> windows) {
+        while (true) {
+            if (peek().type != TokenType.IDENTIFIER) {
+                throw new RuntimeException("❌ [FATE CORRUPTED] Unexpected token in SELECT — " + peek().value);
+            }
+            String name = parseColumnReference();
+
+            WindowFunction ranking = WindowFunction.fromName(name);
+            if (peek().type == TokenType.LEFT_PAREN && ranking != null && ranking.isRanking()) {
+                consume(TokenType.LEFT_PAREN);
+                if (peek().type != TokenType.RIGHT_PAREN) {
+                    throw new RuntimeException("🏺 [AMPHORA UNSEALED] " + ranking + "( takes no argument and must be closed at once — found " + peek().value);
                 }
-                Token second = peek();
-                if (second.type == TokenType.DATABASES) {
-                    return parseShowDatabase();
-                } else if (second.type == TokenType.CURRENT) {
-                    return parseGetCurrentDatabase();
-                } else if (second.type == TokenType.TABLES) {
-                    return parseShowTables();
-                } else {
-                    throw new RuntimeException("🌀 [VISION DISTORTED] 'SHOW' spoken, yet '" + second.value + "' clouds the truth — only DATABASES OR CURRENT OR TABLES can be unveiled!");
+                consume(TokenType.RIGHT_PAREN);
+                if (peek().type != TokenType.OVER) {
+                    throw new RuntimeException("🪟 [WINDOWLESS WATCH] " + ranking + "() counts rows within a window — OVER (...) must follow, not " + peek().value);
                 }
-                // PARSE SHOW COMMAND;
-
-            } else if (first.type == TokenType.USE) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException("🌉 [BIFROST UNBOUND] You seek passage, yet name no realm — which world shall your will command?");
+                windows.add(parseWindow(ranking, null));
+            } else if (peek().type == TokenType.LEFT_PAREN) {
+                AggregateFunction function = AggregateFunction.fromName(name);
+                if (function == null) {
+                    throw new RuntimeException("🔮 [UNKNOWN INCANTATION] '" + name + "' is no aggregate the gods recognise — only COUNT, SUM, MIN, MAX, AVG,"
+                            + " APPROX_COUNT_DISTINCT, APPROX_PERCENTILE (and ROW_NUMBER, RANK over a window) may fold a realm!");
                 }
-                Token second = peek();
-                if (second.type == TokenType.IDENTIFIER) {
-                    return parseUseDatabase();
+                consume(TokenType.LEFT_PAREN);
+                boolean distinct = false;
+                if (peek().type == TokenType.DISTINCT) {
+                    if (function != AggregateFunction.COUNT) {
+                        throw new RuntimeException("🔢 [ECHOES FORBIDDEN] Only COUNT may be told to ignore echoes — " + function + "(DISTINCT ...) is not woven!");
+                    }
+                    consume(TokenType.DISTINCT);
+                    distinct = true;
                 }
-                // PARSE SHOW COMMAND;
-                else if (second.type == TokenType.NONE) {
-                    return parseExitDatabase();
+                String argument;
+                if (peek().type == TokenType.ASTERISK && !distinct) {
+                    if (function != AggregateFunction.COUNT) {
+                        throw new RuntimeException("⚔️ [FALSE IDOL] Only COUNT may gaze upon '*' — " + function + " demands a column!");
+                    }
+                    consume(TokenType.ASTERISK);
+                    argument = null;
+                } else if (peek().type == TokenType.IDENTIFIER) {
+                    argument = parseColumnReference();
                 } else {
-                    throw new RuntimeException("🌀 [REALM MISCAST] 'USE' spoken, yet '" + second.value + "' defies the gods — only a valid realm name may follow!");
-                }
-            } else if (peek().type == TokenType.ALTER) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException(
-                            """
-                                    ⚡ [BROKEN RUNE] ALTER command incomplete!
-                                    🛡️ You must specify: ALTER DATABASE <name> RENAME  <new_name>
-                                    🌌 Example: ALTER DATABASE Valhalla RENAME  Asgard or ALTER TABLE Valhalla RENAME  Asgard."""
-                    );
+                    throw new RuntimeException("⚔️ [FALSE IDOL] " + function + " expects a column name, not " + peek().value);
                 }
-
-                Token second = peek();
-                if (second.type == TokenType.DATABASE) {
-                    if (position >= tokens.size()) {
-                        throw new RuntimeException("""
-                                🌪️ [CHAOS WHISPER] No target specified for ALTER!
-                                ⚔️ Valid forms:
-                                   ALTER DATABASE <name> RENAME  <new_name>.""");
+                int percentile = -1;
+                if (function == AggregateFunction.APPROX_PERCENTILE) {
+                    if (peek().type != TokenType.COMMA) {
+                        throw new RuntimeException("🎯 [AIMLESS ARROW] APPROX_PERCENTILE(" + argument + " must name a percentile after a comma, not " + peek().value);
                     }
-                    return parseAlterDatabase();
-                } else if (second.type == TokenType.TABLE) {
-                    if (position >= tokens.size()) {
-                        throw new RuntimeException("""
-                                🌪️ [CHAOS WHISPER] No target specified for ALTER!
-                                ⚔️ Valid forms:
-                                   ALTER TABLE <name> RENAME  <new_name>.""");
+                    consume(TokenType.COMMA);
+                    long aimed = parseCount("APPROX_PERCENTILE");
+                    if (aimed > 100) {
+                        throw new RuntimeException("🎯 [AIMLESS ARROW] A percentile lies between 0 and 100, not " + aimed + "!");
                     }
-                    return parseAlterTable();
-                } else {
-                    throw new RuntimeException(
-                            "⚔️ [WRATH OF THE ALLFATHER] Kratos bellows: 'Only the realms themselves (databases) " +
-                                    "and their great halls (tables) may be reshaped by my hand!'\n" +
-                                    "🪓 All other alterations are but whispers to the wind — unworthy of the forge!"
-                    );
-
+                    percentile = (int) aimed;
                 }
-            } else if (peek().type == TokenType.ADD) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException(
-                            """
-                                    ⚡ [BROKEN RUNE] ALTER command incomplete!
-                                    🛡️ You must specify: ADD COLUMN (<column_name,datatype>)  TO TABLE <table_name>
-                                    🌌 Example: ADD COLUMN (Valhalla INT) TO TABLE Asgard."""
-                    );
+                if (peek().type != TokenType.RIGHT_PAREN) {
+                    throw new RuntimeException("🏺 [AMPHORA UNSEALED] " + function + "( was opened but never closed — found " + peek().value);
                 }
-                Token second = peek();
-                if (second.type != TokenType.COLUMN) {
-                    throw new RuntimeException(
-                            "⚡ By Odin’s beard! The 'COLUMN' rune was foretold, yet you bring me '"
-                                    + second.value + "' instead!"
-                    );
+                consume(TokenType.RIGHT_PAREN);
+                if (peek().type == TokenType.OVER) {
+                    WindowFunction windowed = WindowFunction.fromName(function.name());
+                    if (windowed == null || distinct) {
+                        throw new RuntimeException("🪟 [WINDOW TOO NARROW] " + new AggregateCall(function, argument, distinct, percentile)
+                                + " cannot look through a window — only ROW_NUMBER, RANK, COUNT, SUM and AVG may be followed by OVER!");
+                    }
+                    windows.add(parseWindow(windowed, argument));
+                } else {
+                    aggregates.add(new AggregateCall(function, argument, distinct, percentile));
                 }
+            } else {
+                columns.add(name);
+            }
 
-                return parseAlterColumnsofTable();
-            } else if (peek().type == TokenType.TRUNCATE) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException(
-                            """
-                                    ⚡ [BROKEN RUNE] TRUNCATE command incomplete!
-                                    🛡️ You must specify: TRUNCATE TABLE table_name
-                                    🌌 Example: TRUNCATE TABLE Valhalla"""
-                    );
-                }
-                Token second = peek();
-                if (second.type != TokenType.TABLE) {
-                    throw new RuntimeException(
-                            "⚡ [BROKEN RUNE] The prophecy called for the TABLE rune, " +
-                                    "yet you dare present '" + second.value + "'! " +
-                                    "Summon the TABLE rune to proceed through the Bifrost."
-                    );
-                }
-                return parseTruncateCommand();
-            } else if (peek().type == TokenType.REMOVE) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException(
-                            """
-                                    ⚡ [BROKEN RUNE] REMOVE command incomplete!
-                                    🛡️ You must specify: REMOVE FROM TABLE table_name (columns)
-                                    🌌 Example: REMOVE FROM TABLE Valhalla (id,name)."""
-                    );
-                }
-                Token second = peek();
-                if (second.type != TokenType.FROM) {
-                    throw new RuntimeException(
-                            "⚡ [BROKEN RUNE] The prophecy called for the FROM rune, " +
-                                    "yet you dare present '" + second.value + "'! " +
-                                    "Summon the FROM rune to proceed through the Bifrost."
-                    );
-                }
-                return parseDropColumnsCommand();
+            if (peek().type != TokenType.COMMA) {
+                break;
+            }
+            consume(TokenType.COMMA);
+            if (peek().type == TokenType.COMMA) {
+                throw new RuntimeException("⚡ [DOUBLE LIGHTNING] Two commas in succession — even Zeus strikes but once at a time!");
+            }
+        }
+    }
 
-            } else if (peek().type == TokenType.RENAME) {
-                advance();
+    /**
+     * 🪟 [WINDOW] 🪟
+     * Parses `OVER ([PARTITION BY col, ...] [ORDER BY col [ASC | DESC], ...] [ROWS frame])` for a call already read.
+     * The frame is `ROWS <start>` (ending at the current row) or `ROWS BETWEEN <start> AND <end>`, each bound being
+     * UNBOUNDED PRECEDING, n PRECEDING, CURRENT ROW, n FOLLOWING or UNBOUNDED FOLLOWING.
+     *
+     * @param function The window function read before OVER
+     * @param column   The column it reads, or null for ROW_NUMBER, RANK and COUNT(*)
+     * @throws RuntimeException if the window is malformed, or a frame is given to ROW_NUMBER or RANK
+     */
 
-                if (position >= tokens.size()) {
-                    throw new RuntimeException(
-                            """
-                                    ⚡ [BROKEN RUNE] RENAME command incomplete!
-                                    🛡️ You must specify: RENAME COLUMN <OLD_COLUMN_NAME> TO <NEW_COLUMN_NAME> IN TABLE <TABLE_NAME>
-                                    🌌 Example: RENAME COLUMN age TO years IN TABLE warriors."""
-                    );
-                }
+    private WindowCall parseWindow(WindowFunction function, String column) {
+        consume(TokenType.OVER);
+        if (peek().type != TokenType.LEFT_PAREN) {
+            throw new RuntimeException("🪟 [SHUTTERED WINDOW] OVER must be followed by '(', not " + peek().value);
+        }
+        consume(TokenType.LEFT_PAREN);
+
+        List<String> partitionBy = new ArrayList<>();
+        if (peek().type == TokenType.PARTITION) {
+            consume(TokenType.PARTITION);
+            expectBy("PARTITION");
+            partitionBy.add(parseWindowColumn("PARTITION BY"));
+            while (peek().type == TokenType.COMMA) {
+                consume(TokenType.COMMA);
+                partitionBy.add(parseWindowColumn("PARTITION BY"));
+            }
+        }
 
-                Token second = peek();
-                if (second.type != TokenType.COLUMN) {
-                    throw new RuntimeException(
-                            "⚡ [BROKEN RUNE] The prophecy spoke of the COLUMN rune, " +
-                                    "yet you offer '" + second.value + "'! " +
-                                    "Summon the COLUMN rune to reshape destiny."
-                    );
+        List<String> orderBy = new ArrayList<>();
+        List<Boolean> descending = new ArrayList<>();
+        if (peek().type == TokenType.ORDER) {
+            consume(TokenType.ORDER);
+            expectBy("ORDER");
+            do {
+                if (!orderBy.isEmpty()) {
+                    consume(TokenType.COMMA);
                 }
+                orderBy.add(parseWindowColumn("ORDER BY"));
+                boolean desc = peek().type == TokenType.DESC;
+                if (desc || peek().type == TokenType.ASC) {
+                    consume(peek().type);
+                }
+                descending.add(desc);
+            } while (peek().type == TokenType.COMMA);
+        }
 
-                return parseRenameColumnCommand();
-            } else if (peek().type == TokenType.MODIFY) {
-                advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException(
-                            """
-                                    ⚡ [BROKEN RUNE] The MODIFY ritual is incomplete!
-                                    🛡️ You must speak the full incantation:
-                                    MODIFY COLUMN <COLUMN_NAME> <NEW_DATATYPE> IN TABLE <TABLE_NAME>;
-                                    🌌 Example: MODIFY COLUMN age INT IN TABLE Midgardians;
-                                    """
-                    );
+        long start = WindowCall.UNBOUNDED_PRECEDING;
+        long end = orderBy.isEmpty() ? WindowCall.UNBOUNDED_FOLLOWING : 0;
+        if (peek().type == TokenType.ROWS) {
+            if (function.isRanking()) {
+                throw new RuntimeException("🖼️ [FRAME FORBIDDEN] " + function + " numbers the whole partition — it takes no ROWS frame!");
+            }
+            consume(TokenType.ROWS);
+            if (peek().type == TokenType.BETWEEN) {
+                consume(TokenType.BETWEEN);
+                start = parseFrameBound();
+                if (peek().type != TokenType.AND) {
+                    throw new RuntimeException("🖼️ [HALF-HUNG FRAME] ROWS BETWEEN demands AND between its bounds, not " + peek().value);
                 }
-                Token second = peek();
-                if (second.type != TokenType.COLUMN) {
-                    throw new RuntimeException(
-                            "⚡ [BROKEN RUNE] The prophecy demanded the COLUMN rune, " +
-                                    "yet you brandish '" + second.value + "'! " +
-                                    "Summon the COLUMN rune to channel the Allfather's will."
-                    );
+                consume(TokenType.AND);
+                end = parseFrameBound();
+            } else {
+                start = parseFrameBound();
+                end = 0;
+            }
+            if (start == WindowCall.UNBOUNDED_FOLLOWING || end == WindowCall.UNBOUNDED_PRECEDING || start > end) {
+                throw new RuntimeException("🖼️ [INVERTED FRAME] A frame must begin at or before where it ends!");
+            }
+        }
+
+        if (peek().type != TokenType.RIGHT_PAREN) {
+            throw new RuntimeException("🏺 [AMPHORA UNSEALED] OVER ( was opened but never closed — found " + peek().value);
+        }
+        consume(TokenType.RIGHT_PAREN);
+        return new WindowCall(function, column, partitionBy, orderBy, descending, start, end);
+    }
+
+    private void expectBy(String clause) {
+        if (peek().type != TokenType.BY) {
+            throw new RuntimeException("🪟 [HALF-SPOKEN DECREE] " + clause + " must be followed by BY, not " + peek().value);
+        }
+        consume(TokenType.BY);
+    }
+
+    private String parseWindowColumn(String clause) {
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("🪟 [NAMELESS BANNER] " + clause + " demands a column name, not " + peek().value);
+        }
+        return parseColumnReference();
+    }
+
+    // 🖼️ One frame bound, as an offset from the current row
+    private long parseFrameBound() {
+        if (peek().type == TokenType.UNBOUNDED) {
+            consume(TokenType.UNBOUNDED);
+            if (peek().type == TokenType.PRECEDING) {
+                consume(TokenType.PRECEDING);
+                return WindowCall.UNBOUNDED_PRECEDING;
+            }
+            if (peek().type == TokenType.FOLLOWING) {
+                consume(TokenType.FOLLOWING);
+                return WindowCall.UNBOUNDED_FOLLOWING;
+            }
+            throw new RuntimeException("🖼️ [BOUNDLESS WHERE?] UNBOUNDED must be followed by PRECEDING or FOLLOWING, not " + peek().value);
+        }
+        if (peek().type == TokenType.CURRENT) {
+            consume(TokenType.CURRENT);
+            if (peek().type != TokenType.ROW) {
+                throw new RuntimeException("🖼️ [BOUNDLESS WHERE?] CURRENT must be followed by ROW, not " + peek().value);
+            }
+            consume(TokenType.ROW);
+            return 0;
+        }
+        long rows = parseCount("ROWS");
+        if (peek().type == TokenType.PRECEDING) {
+            consume(TokenType.PRECEDING);
+            return -rows;
+        }
+        if (peek().type == TokenType.FOLLOWING) {
+            consume(TokenType.FOLLOWING);
+            return rows;
+        }
+        throw new RuntimeException("🖼️ [BOUNDLESS WHERE?] " + rows + " must be followed by PRECEDING or FOLLOWING, not " + peek().value);
+    }
+
+    /**
+     * 🗂️ Parses the comma-separated column references after GROUP BY.
+     *
+     * @throws RuntimeException if a column is missing or named twice
+     */
+
+    private List<String> parseGroupByColumns() {
+        List<String> groupBy = new ArrayList<>();
+        while (true) {
+            if (peek().type != TokenType.IDENTIFIER) {
+                throw new RuntimeException("🗂️ [NAMELESS BANNER] GROUP BY demands a column name, not " + peek().value);
+            }
+            String column = parseColumnReference();
+            if (groupBy.contains(column)) {
+                throw new RuntimeException("🗂️ [TWICE-RAISED BANNER] Column '" + column + "' is named twice in GROUP BY!");
+            }
+            groupBy.add(column);
+            if (peek().type != TokenType.COMMA) {
+                return groupBy;
+            }
+            consume(TokenType.COMMA);
+        }
+    }
+
+    /**
+     * ⚖️ Checks the SELECT list against the GROUP BY: without one, plain columns and aggregates cannot
+     * be mixed; with one, every plain column must be grouped, so each group yields a single value for it.
+     * Window calls stand beside plain columns only — never beside aggregates or a GROUP BY.
+     */
+
+    private void checkGrouping(List<String> columns, List<AggregateCall> aggregates, List<WindowCall> windows, List<String> groupBy) {
+        if (!windows.isEmpty() && (!aggregates.isEmpty() || !groupBy.isEmpty())) {
+            throw new RuntimeException("🪟 [WINDOW OVER THE FOLD] Window calls cannot stand beside aggregates or GROUP BY — a row must keep its place to look through a window!");
+        }
+        if (groupBy.isEmpty()) {
+            if (!columns.isEmpty() && !aggregates.isEmpty()) {
+                throw new RuntimeException("⚖️ [SCALES UNBALANCED] Plain columns and aggregates cannot stand side by side without GROUP BY — choose one path!");
+            }
+            return;
+        }
+        for (String column : columns) {
+            if (column.equals("ALL")) {
+                throw new RuntimeException("🗂️ [UNGROUPED HORDE] SELECT * cannot be grouped — name the grouped columns instead!");
+            }
+            if (!groupBy.contains(column)) {
+                throw new RuntimeException("🗂️ [UNGROUPED WARRIOR] Column '" + column + "' must appear in GROUP BY or inside an aggregate!");
+            }
+        }
+    }
+
+    /**
+     * 🔢 Parses the non-negative count that follows LIMIT or OFFSET.
+     *
+     * @param clause The clause name, for error messages
+     * @throws RuntimeException if the count is missing or too large
+     */
+
+    private long parseCount(String clause) {
+        if (peek().type != TokenType.NUMBER_LITERAL) {
+            throw new RuntimeException("✂️ [MEASURE UNSPOKEN] " + clause + " demands a count of rows, not " + peek().value);
+        }
+        long count;
+        try {
+            count = Long.parseLong(peek().value);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("✂️ [MEASURE BEYOND MIDGARD] " + clause + " " + peek().value + " is too vast to count!");
+        }
+        consume(TokenType.NUMBER_LITERAL);
+        return count;
+    }
+
+    /**
+     * 🏷️ [COLUMN REFERENCE] 🏷️
+     * Parses `<column>` or `<table>.<column>` and returns it as written (e.g. "weapons.owner").
+     *
+     * @throws RuntimeException if a '.' is not followed by a column name
+     */
+
+    private String parseColumnReference() {
+        String name = peek().value;
+        consume(TokenType.IDENTIFIER);
+        if (peek().type == TokenType.DOT) {
+            consume(TokenType.DOT);
+            if (peek().type != TokenType.IDENTIFIER) {
+                throw new RuntimeException("🏷️ [BROKEN LINEAGE] '" + name + ".' must be followed by a column name, not " + peek().value);
+            }
+            name = name + "." + peek().value;
+            consume(TokenType.IDENTIFIER);
+        }
+        return name;
+    }
+
+    /**
+     * 🌉 [BRIDGE BETWEEN REALMS] 🌉
+     * Parses `[INNER | LEFT [OUTER]] JOIN <table> ON <column> = <column>`.
+     *
+     * @return The parsed join clause
+     * @throws RuntimeException if the JOIN rune, table name, ON rune or equality is missing
+     */
+
+    private JoinClause parseJoinClause() {
+        JoinType type = JoinType.INNER;
+        if (peek().type == TokenType.INNER) {
+            consume(TokenType.INNER);
+        } else if (peek().type == TokenType.LEFT) {
+            consume(TokenType.LEFT);
+            if (peek().type == TokenType.OUTER) {
+                consume(TokenType.OUTER);
+            }
+            type = JoinType.LEFT;
+        }
+        if (peek().type != TokenType.JOIN) {
+            throw new RuntimeException("🌉 [BRIDGE UNFINISHED] Expected JOIN to bind the realms, not " + peek().value);
+        }
+        consume(TokenType.JOIN);
+
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("🏛️ [NAMELESS REALM] JOIN demands a table name — found " + peek().value);
+        }
+        String tableName = peek().value;
+        consume(TokenType.IDENTIFIER);
+
+        if (peek().type != TokenType.ON) {
+            throw new RuntimeException("🌉 [BRIDGE WITHOUT PILLARS] JOIN " + tableName + " must say ON which columns the realms meet, not " + peek().value);
+        }
+        consume(TokenType.ON);
+
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("🌉 [BRIDGE WITHOUT PILLARS] ON demands a column, not " + peek().value);
+        }
+        String leftColumn = parseColumnReference();
+        if (peek().type != TokenType.EQUALS) {
+            throw new RuntimeException("🌉 [CROOKED BRIDGE] Realms may only be joined on equality ('='), not " + peek().value);
+        }
+        consume(TokenType.EQUALS);
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("🌉 [BRIDGE WITHOUT PILLARS] '=' demands a column on its right, not " + peek().value);
+        }
+        String rightColumn = parseColumnReference();
+        return new JoinClause(type, tableName, leftColumn, rightColumn);
+    }
+
+    /**
+     * ⚖️ [WHERE JUDGMENTS] ⚖️
+     * Parses `<column> <op> <literal> [AND <column> <op> <literal>]...`
+     * where op is one of =, !=, <>, <, <=, >, >=.
+     *
+     * @return The AND-joined list of conditions
+     * @throws RuntimeException if a condition is malformed
+     */
+
+    private List<Condition> parseWhereConditions() {
+        return parseWhereConditions(null);
+    }
+
+    /**
+     * ⚖️ [WHERE JUDGMENTS] ⚖️
+     * Parses the AND-joined WHERE conditions of a SELECT, where a condition may also consult a subquery:
+     * `<column> [NOT] IN (SELECT ...)`, `[NOT] EXISTS (SELECT ...)` or `<column> <op> (SELECT ...)`.
+     * Inside a subquery, `<column> = <column>` ties the subquery to the query around it.
+     *
+     * @param subqueries Receives the subquery conditions (null where subqueries are not allowed)
+     * @return The AND-joined list of plain conditions
+     * @throws RuntimeException if a condition is malformed
+     */
+
+    private List<Condition> parseWhereConditions(List<SubqueryCondition> subqueries) {
+        List<Condition> conditions = new ArrayList<>();
+        parseWherePredicate(conditions, subqueries);
+        while (peek().type == TokenType.AND) {
+            consume(TokenType.AND);
+            parseWherePredicate(conditions, subqueries);
+        }
+        return conditions;
+    }
+
+    // ⚖️ One WHERE condition, landing in the list it belongs to
+    private void parseWherePredicate(List<Condition> conditions, List<SubqueryCondition> subqueries) {
+        if (peek().type == TokenType.EXISTS || (peek().type == TokenType.NOT && peekNextIs(TokenType.EXISTS))) {
+            boolean negated = peek().type == TokenType.NOT;
+            if (negated) {
+                consume(TokenType.NOT);
+            }
+            consume(TokenType.EXISTS);
+            subqueries(subqueries).add(parseSubquery(negated ? SubqueryKind.NOT_EXISTS : SubqueryKind.EXISTS, null, null));
+            return;
+        }
+
+        int start = position;
+        if (peek().type == TokenType.IDENTIFIER) {
+            String columnName = parseColumnReference();
+            if (peek().type == TokenType.IN || (peek().type == TokenType.NOT && peekNextIs(TokenType.IN))) {
+                boolean negated = peek().type == TokenType.NOT;
+                if (negated) {
+                    consume(TokenType.NOT);
                 }
-                return parseModifyDataTypeCommand();
-            } else if (peek().type == TokenType.SET) {
+                consume(TokenType.IN);
+                subqueries(subqueries).add(parseSubquery(negated ? SubqueryKind.NOT_IN : SubqueryKind.IN, columnName, TokenType.EQUALS));
+                return;
+            }
+            TokenType operator = peek().type;
+            boolean comparison = switch (operator) {
+                case EQUALS, NOT_EQUALS, LESS_THAN, LESS_THAN_EQUAL, GREATER_THAN, GREATER_THAN_EQUAL -> true;
+                default -> false;
+            };
+            if (comparison && peekNextIs(TokenType.LEFT_PAREN)) {
                 advance();
-                if (position >= tokens.size()) {
-                    throw new RuntimeException(
-                            """
-                                    ⚡ [BROKEN RUNE] The MODIFY ritual is incomplete!
-                                    🛡️ You must speak the full incantation:
-                                    SET COLUMN <COLUMN_NAME>  IN TABLE <TABLE_NAME> TO <DEFAULT_VALUE>;
-                                    🌌 Example: MODIFY COLUMN age INT IN TABLE Midgardians;
-                                    """
-                    );
-                }
-                Token second = peek();
-                if (second.type != TokenType.COLUMN) {
-                    throw new RuntimeException(
-                            "⚡ [BROKEN RUNE] The prophecy demanded the COLUMN rune, " +
-                                    "yet you brandish '" + second.value + "'! " +
-                                    "Summon the COLUMN rune to channel the Allfather's will."
-                    );
+                subqueries(subqueries).add(parseSubquery(SubqueryKind.SCALAR, columnName, operator));
+                return;
+            }
+            if (comparison && peekNextIs(TokenType.IDENTIFIER) && correlations != null) {
+                if (operator != TokenType.EQUALS) {
+                    throw new RuntimeException("🔗 [TANGLED ROOTS] A subquery may only be tied to the query around it by '=', not " + peek().value);
                 }
-                return parseSetDefaultValueCommand();
-            } else if (peek().type == TokenType.SELECT) {
                 advance();
-                return parseSelectCommand();
-            } else {
-                throw new RuntimeException(
-                        "⛓️ [CHAINS OF FATE] The Oracle rejects your words! \n" +
-                                "👉 Expected one of: CREATE, INSERT, DROP, SHOW, USE, ALTER, ADD, TRUNCATE, REMOVE, RENAME, MODIFY, SET ,DEFAULT,SELECT.\n" +
-                                "❌ But instead received: " + first.type + " ('" + first.value + "').\n" +
-                                "⚔️ Only these divine runes may command the realms of Yggra!"
-                );
+                correlations.add(new Correlation(columnName, parseColumnReference()));
+                return;
+            }
+        }
+        position = start;
+        conditions.add(parseCondition());
+    }
+
+    private boolean peekNextIs(TokenType type) {
+        return position + 1 < tokens.size() && tokens.get(position + 1).type == type;
+    }
+
+    private static List<SubqueryCondition> subqueries(List<SubqueryCondition> subqueries) {
+        if (subqueries == null) {
+            throw new RuntimeException("🪆 [ROOTS TOO DEEP] Subqueries may only judge the rows of a SELECT!");
+        }
+        return subqueries;
+    }
+
+    /**
+     * 🪆 [SUBQUERY] 🪆
+     * Parses `(SELECT ...)` and the correlations found in its WHERE.
+     *
+     * @throws RuntimeException if the parentheses or the SELECT are missing
+     */
+
+    private SubqueryCondition parseSubquery(SubqueryKind kind, String columnName, TokenType operator) {
+        if (peek().type != TokenType.LEFT_PAREN || !peekNextIs(TokenType.SELECT)) {
+            throw new RuntimeException("🪆 [HOLLOW DOLL] " + kind + " demands a (SELECT ...) subquery, not " + peek().value);
+        }
+        consume(TokenType.LEFT_PAREN);
+        consume(TokenType.SELECT);
+        List<Correlation> outer = correlations;
+        correlations = new ArrayList<>();
+        SelectCommand query;
+        List<Correlation> found;
+        try {
+            query = parseSelectCommand(true);
+            found = correlations;
+        } finally {
+            correlations = outer;
+        }
+        if (peek().type != TokenType.RIGHT_PAREN) {
+            throw new RuntimeException("🏺 [AMPHORA UNSEALED] The subquery was opened but never closed — found " + peek().value);
+        }
+        consume(TokenType.RIGHT_PAREN);
+        return new SubqueryCondition(kind, columnName, operator, query, found);
+    }
+
+    /**
+     * ⚖️ Parses a single `<column> <op> <literal>` judgment.
+     */
+
+    private Condition parseCondition() {
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("⚖️ [BLIND JUDGMENT] WHERE demands a column to judge, not " + peek().value);
+        }
+        String columnName = parseColumnReference();
+
+        TokenType operator = peek().type;
+        switch (operator) {
+            case EQUALS, NOT_EQUALS, LESS_THAN, LESS_THAN_EQUAL, GREATER_THAN, GREATER_THAN_EQUAL -> advance();
+            default ->
+                    throw new RuntimeException("⚖️ [SCALES MISSING] Expected a comparison rune (=, !=, <, <=, >, >=) after '" + columnName + "', not " + peek().value);
+        }
+
+        if (peek().type == TokenType.PARAMETER) {
+            return new Condition(columnName, operator, parseParameter());
+        }
+        if (peek().type != TokenType.NUMBER_LITERAL && peek().type != TokenType.STRING_LITERAL) {
+            throw new RuntimeException("⚖️ [EMPTY SCALE] A column may only be judged against a number, a string or ?, not " + peek().value);
+        }
+        ValueDefinition value = new ValueDefinition(peek().type, peek().value);
+        advance();
+        return new Condition(columnName, operator, value);
+    }
+
+    /**
+     * 🔨 [REFORGING ROWS] Parses `UPDATE <table> SET <column> = <value> [, ...] [WHERE <conditions>];`.
+     * Values are numbers, strings, NULL, DEFAULT or ? placeholders.
+     *
+     * @return UpdateCommand holding the SET pairs and the WHERE conditions
+     * @throws RuntimeException if SET is missing, a column is set twice, or the statement is malformed
+     */
+
+    private UpdateCommand parseUpdateCommand() {
+        String tableName = parseDmlTableName("UPDATE");
+        if (peek().type != TokenType.SET) {
+            throw new RuntimeException("🔨 [FORGE WITHOUT FIRE] UPDATE " + tableName + " must be followed by SET, not " + peek().value);
+        }
+        consume(TokenType.SET);
+
+        List<String> columns = new ArrayList<>();
+        List<ValueDefinition> values = new ArrayList<>();
+        while (true) {
+            if (peek().type != TokenType.IDENTIFIER) {
+                throw new RuntimeException("🔨 [NAMELESS ANVIL] SET demands a column to reforge, not " + peek().value);
+            }
+            String column = peek().value;
+            consume(TokenType.IDENTIFIER);
+            if (columns.contains(column)) {
+                throw new RuntimeException("🔄 [ECHO OF CONFUSION] Column '" + column + "' is SET twice — one column cannot take two values!");
+            }
+            if (peek().type != TokenType.EQUALS) {
+                throw new RuntimeException("🔨 [SCALES MISSING] Expected '=' after SET " + column + ", not " + peek().value);
             }
+            consume(TokenType.EQUALS);
+            columns.add(column);
+            values.add(parseValuesInsertStatement());
+            if (peek().type != TokenType.COMMA) {
+                break;
+            }
+            consume(TokenType.COMMA);
+        }
+        return new UpdateCommand(tableName, columns, values, parseDmlWhere());
+    }
+
+    /**
+     * 🗡️ [STRIKING ROWS] Parses `DELETE FROM <table> [WHERE <conditions>];`.
+     *
+     * @return DeleteCommand holding the WHERE conditions
+     */
+
+    private DeleteCommand parseDeleteCommand() {
+        if (peek().type != TokenType.FROM) {
+            throw new RuntimeException("🗡️ [BLADE WITHOUT TARGET] DELETE must be followed by FROM, not " + peek().value);
+        }
+        consume(TokenType.FROM);
+        String tableName = parseDmlTableName("DELETE FROM");
+        return new DeleteCommand(tableName, parseDmlWhere());
+    }
 
+    // 🏷️ The table named after UPDATE or DELETE FROM
+    private String parseDmlTableName(String verb) {
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("🎯 [ARTEMIS' LOST TARGET] After '" + verb + "', a table name was expected, not " + peek().value);
+        }
+        String tableName = peek().value;
+        consume(TokenType.IDENTIFIER);
+        return tableName;
+    }
+
+    // ⚖️ The optional WHERE of an UPDATE or DELETE, then the closing ';' and nothing after it
+    private List<Condition> parseDmlWhere() {
+        List<Condition> conditions = List.of();
+        if (peek().type == TokenType.WHERE) {
+            consume(TokenType.WHERE);
+            conditions = parseWhereConditions();
+        }
+        if (peek().type != TokenType.SEMICOLON) {
+            throw new RuntimeException("⚡ [BIFRÖST SUNDERED] A semicolon must close fate, not " + peek().value);
+        }
+        consume(TokenType.SEMICOLON);
+        if (position < tokens.size()) {
+            throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
+        }
+        return conditions;
+    }
+
+    /**
+     * ❓ Consumes a `?` placeholder and numbers it — the first `?` of a statement is parameter 0.
+     *
+     * @return A PARAMETER value whose text and constant are the parameter's ordinal
+     */
+
+    private ValueDefinition parseParameter() {
+        if (correlations != null) {
+            throw new RuntimeException("❓ [VEILED DEPTHS] Placeholders cannot be bound inside a subquery — write its values out.");
+        }
+        consume(TokenType.PARAMETER);
+        int ordinal = parameterCount++;
+        return new ValueDefinition(TokenType.PARAMETER, String.valueOf(ordinal), ordinal);
+    }
+
+    /**
+     * ❓ The number of `?` placeholders in the statement parsed so far.
+     */
+
+    public int parameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * 📦 [SEALING THE SCROLL] Parses `PREPARE <name> AS <statement>`.
+     * The statement is parsed once, here; its `?` placeholders are bound at every EXECUTE.
+     *
+     * @return PrepareCommand holding the parsed statement template
+     * @throws RuntimeException if the name or AS is missing, or the statement itself is malformed
+     */
+
+    private PrepareCommand parsePrepareCommand() {
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("📦 [NAMELESS SCROLL] PREPARE demands a name for the statement, not " + peek().value);
+        }
+        String name = peek().value;
+        consume(TokenType.IDENTIFIER);
+        if (peek().type != TokenType.AS) {
+            throw new RuntimeException("📦 [SCROLL UNBOUND] PREPARE " + name + " must be followed by AS, not " + peek().value);
+        }
+        consume(TokenType.AS);
+        if (position >= tokens.size()) {
+            throw new RuntimeException("📦 [EMPTY SCROLL] PREPARE " + name + " AS ... holds no statement!");
+        }
+
+        Parser inner = new Parser(new ArrayList<>(tokens.subList(position, tokens.size())));
+        SQLCommand template = inner.parseStatement();
+        position = tokens.size();
+        if (template instanceof PrepareCommand || template instanceof ExecuteCommand) {
+            throw new RuntimeException("📦 [SCROLL WITHIN SCROLL] A prepared statement cannot itself PREPARE or EXECUTE!");
+        }
+        return new PrepareCommand(name, template, inner.parameterCount());
+    }
+
+    /**
+     * ⚡ [BREAKING THE SEAL] Parses `EXECUTE <name> [(<value>, ...)]`.
+     * Values are numbers, strings, NULL or DEFAULT, bound to the statement's `?` placeholders in order.
+     *
+     * @return ExecuteCommand naming the prepared statement and carrying its arguments
+     */
+
+    private ExecuteCommand parseExecuteCommand() {
+        if (peek().type != TokenType.IDENTIFIER) {
+            throw new RuntimeException("⚡ [NAMELESS SEAL] EXECUTE demands the name of a prepared statement, not " + peek().value);
+        }
+        String name = peek().value;
+        consume(TokenType.IDENTIFIER);
+
+        List<ValueDefinition> arguments = new ArrayList<>();
+        if (peek().type == TokenType.LEFT_PAREN) {
+            consume(TokenType.LEFT_PAREN);
+            if (peek().type != TokenType.RIGHT_PAREN) {
+                arguments = parseValuesInsertStatements();
+            }
+            if (peek().type != TokenType.RIGHT_PAREN) {
+                throw new RuntimeException("🏺 [AMPHORA UNSEALED] EXECUTE " + name + "( was opened but never closed — found " + peek().value);
+            }
+            consume(TokenType.RIGHT_PAREN);
+        }
+        if (parameterCount > 0) {
+            throw new RuntimeException("⚡ [SEAL UPON SEAL] EXECUTE arguments must be values, not ? placeholders!");
+        }
+        if (peek().type != TokenType.SEMICOLON) {
+            throw new RuntimeException("⚡ [BIFRÖST SUNDERED] A semicolon must close fate, not " + peek().value);
+        }
+        consume(TokenType.SEMICOLON);
+        if (position < tokens.size()) {
+            throw new RuntimeException("👁️ [WHISPERS BEYOND] Shadows remain past the end... " + peek().value);
+        }
+        return new ExecuteCommand(name, arguments);
+    }
+
+    /**
+     * Parse - Main entry point for parsing SQL commands
+     * Determines command type from the first token and delegates to its parser
+     * Handles top-level parsing errors with comprehensive error reporting
+     */
+
+    public SQLCommand parse() {
+        try {
+            return parseStatement();
         } catch (Exception e) {
             // Enhanced error reporting with parser state information
             System.err.println("💀 [PARSING CATASTROPHE] Error at position " + position + (position < tokens.size() ? " near token: '" + tokens.get(position).value + "'" : " (end of input)"));
@@ -2307,5 +3211,290 @@ public class Parser {
         }
     }
 
+    /**
+     * Parse Statement - Like {@link #parse()}, but lets syntax errors escape to the caller
+     * instead of reporting them. Used for statements nested in PREPARE and by the prepared-statement API.
+     *
+     * @throws RuntimeException describing the first syntax error
+     */
+
+    public SQLCommand parseStatement() {
+        // Ensure we have at least one token to examine
+        if (tokens.isEmpty()) {
+            throw new RuntimeException("🏺 [EMPTY VESSEL] No tokens to parse — the vessel of commands stands empty!");
+        }
+        Token first = peek();
+        Function<Parser, SQLCommand> statement = STATEMENTS.get(first.type);
+        if (statement == null) {
+            throw new RuntimeException(
+                    "⛓️ [CHAINS OF FATE] The Oracle rejects your words! \n" +
+                            "👉 Expected one of: " + LEADERS + ".\n" +
+                            "❌ But instead received: " + first.type + " ('" + first.value + "').\n" +
+                            "⚔️ Only these divine runes may command the realms of Yggra!"
+            );
+        }
+        advance();
+        return statement.apply(this);
+    }
+
+    // 🗺️ The statement parsers below are reached through STATEMENTS, each called just past its leading keyword
+
+    // CREATE ... — TABLE, DATABASE or MATERIALIZED VIEW must follow
+    private SQLCommand parseCreate() {
+        // Validate that CREATE is followed by TABLE
+        if (position >= tokens.size()) {
+            throw new RuntimeException("🔨 [FORGE OF THE GODS SILENT] 'CREATE' declared, yet the forge stands idle — TABLE or DATABASE expected, but void answered!");
+        }
+        Token second = peek();
+        if (second.type == TokenType.TABLE) {
+            return parseCreateTable();
+        } else if (second.type == TokenType.DATABASE) {
+            return parseCreateDatabase();
+        } else if (second.type == TokenType.MATERIALIZED) {
+            return parseCreateMaterializedView();
+        } else {
+            throw new RuntimeException("🏛️ [ARCHITECT'S CONFUSION] 'CREATE' invoked, yet '" + second.value + "' follows — only TABLE, DATABASE or MATERIALIZED VIEW may rise from the forge of Yggra!");
+        }
+    }
+
+    // INSERT ... — INTO must follow
+    private SQLCommand parseInsert() {
+        // Validate that INSERT is followed by INTO
+        if (position >= tokens.size()) {
+            throw new RuntimeException("🎯 [ARTEMIS' MISSING TARGET] 'INSERT' declared but INTO what realm? Target specification missing!");
+        }
+        Token second = peek();
+        if (second.type != TokenType.INTO) {
+            throw new RuntimeException("🌊 [POSEIDON'S MISDIRECTION] 'INSERT' found but '" + second.value + "' follows — the data must flow INTO a table!");
+        }
+        return parseInsertStatement();
+    }
+
+    // DROP ... — DATABASE, TABLE, DEFAULT or MATERIALIZED VIEW must follow
+    private SQLCommand parseDrop() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException("🏛️ [DROP UNGUIDED] You call upon destruction, yet name no realm — the void demands a target!");
+        }
+        Token second = peek();
+        // PARSE DROP DATABASE COMMAND;
+        if (second.type == TokenType.DATABASE) {
+            return parseDropDatabase();
+            // PARSE DROP TABLE COMMAND;
+        } else if (second.type == TokenType.TABLE) {
+            return parseDropTable();
+            // PARSE DROP DEFAULT VALUE COMMAND;
+        } else if (second.type == TokenType.DEFAULT) {
+            return parseDropDefaultValueColumn();
+        } else if (second.type == TokenType.MATERIALIZED) {
+            return parseDropMaterializedView();
+        } else {
+            throw new RuntimeException("🌀 [REALM MISALIGNED] 'DROP' spoken, but '" + second.value + "' stands in defiance — only DATABASE AND TABLE may be struck down!");
+        }
+    }
+
+    // SHOW ... — DATABASES, CURRENT or TABLES must follow
+    private SQLCommand parseShow() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException("🌌 [BLIND BIFROST] You invoke 'SHOW', yet the bridge to knowledge lies broken — name what must be unveiled!");
+        }
+        Token second = peek();
+        if (second.type == TokenType.DATABASES) {
+            return parseShowDatabase();
+        } else if (second.type == TokenType.CURRENT) {
+            return parseGetCurrentDatabase();
+        } else if (second.type == TokenType.TABLES) {
+            return parseShowTables();
+        } else {
+            throw new RuntimeException("🌀 [VISION DISTORTED] 'SHOW' spoken, yet '" + second.value + "' clouds the truth — only DATABASES OR CURRENT OR TABLES can be unveiled!");
+        }
+    }
+
+    // USE ... — a database name or NONE must follow
+    private SQLCommand parseUse() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException("🌉 [BIFROST UNBOUND] You seek passage, yet name no realm — which world shall your will command?");
+        }
+        Token second = peek();
+        if (second.type == TokenType.IDENTIFIER) {
+            return parseUseDatabase();
+        }
+        // PARSE SHOW COMMAND;
+        else if (second.type == TokenType.NONE) {
+            return parseExitDatabase();
+        } else {
+            throw new RuntimeException("🌀 [REALM MISCAST] 'USE' spoken, yet '" + second.value + "' defies the gods — only a valid realm name may follow!");
+        }
+    }
+
+    // ALTER ... — DATABASE or TABLE must follow
+    private SQLCommand parseAlter() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException(
+                    """
+                            ⚡ [BROKEN RUNE] ALTER command incomplete!
+                            🛡️ You must specify: ALTER DATABASE <name> RENAME  <new_name>
+                            🌌 Example: ALTER DATABASE Valhalla RENAME  Asgard or ALTER TABLE Valhalla RENAME  Asgard."""
+            );
+        }
+
+        Token second = peek();
+        if (second.type == TokenType.DATABASE) {
+            if (position >= tokens.size()) {
+                throw new RuntimeException("""
+                        🌪️ [CHAOS WHISPER] No target specified for ALTER!
+                        ⚔️ Valid forms:
+                           ALTER DATABASE <name> RENAME  <new_name>.""");
+            }
+            return parseAlterDatabase();
+        } else if (second.type == TokenType.TABLE) {
+            if (position >= tokens.size()) {
+                throw new RuntimeException("""
+                        🌪️ [CHAOS WHISPER] No target specified for ALTER!
+                        ⚔️ Valid forms:
+                           ALTER TABLE <name> RENAME  <new_name>.""");
+            }
+            return parseAlterTable();
+        } else {
+            throw new RuntimeException(
+                    "⚔️ [WRATH OF THE ALLFATHER] Kratos bellows: 'Only the realms themselves (databases) " +
+                            "and their great halls (tables) may be reshaped by my hand!'\n" +
+                            "🪓 All other alterations are but whispers to the wind — unworthy of the forge!"
+            );
+
+        }
+    }
+
+    // ADD ... — COLUMN must follow
+    private SQLCommand parseAdd() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException(
+                    """
+                            ⚡ [BROKEN RUNE] ALTER command incomplete!
+                            🛡️ You must specify: ADD COLUMN (<column_name,datatype>)  TO TABLE <table_name>
+                            🌌 Example: ADD COLUMN (Valhalla INT) TO TABLE Asgard."""
+            );
+        }
+        Token second = peek();
+        if (second.type != TokenType.COLUMN) {
+            throw new RuntimeException(
+                    "⚡ By Odin’s beard! The 'COLUMN' rune was foretold, yet you bring me '"
+                            + second.value + "' instead!"
+            );
+        }
+
+        return parseAlterColumnsofTable();
+    }
+
+    // TRUNCATE ... — TABLE must follow
+    private SQLCommand parseTruncate() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException(
+                    """
+                            ⚡ [BROKEN RUNE] TRUNCATE command incomplete!
+                            🛡️ You must specify: TRUNCATE TABLE table_name
+                            🌌 Example: TRUNCATE TABLE Valhalla"""
+            );
+        }
+        Token second = peek();
+        if (second.type != TokenType.TABLE) {
+            throw new RuntimeException(
+                    "⚡ [BROKEN RUNE] The prophecy called for the TABLE rune, " +
+                            "yet you dare present '" + second.value + "'! " +
+                            "Summon the TABLE rune to proceed through the Bifrost."
+            );
+        }
+        return parseTruncateCommand();
+    }
+
+    // REMOVE ... — FROM must follow
+    private SQLCommand parseRemove() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException(
+                    """
+                            ⚡ [BROKEN RUNE] REMOVE command incomplete!
+                            🛡️ You must specify: REMOVE FROM TABLE table_name (columns)
+                            🌌 Example: REMOVE FROM TABLE Valhalla (id,name)."""
+            );
+        }
+        Token second = peek();
+        if (second.type != TokenType.FROM) {
+            throw new RuntimeException(
+                    "⚡ [BROKEN RUNE] The prophecy called for the FROM rune, " +
+                            "yet you dare present '" + second.value + "'! " +
+                            "Summon the FROM rune to proceed through the Bifrost."
+            );
+        }
+        return parseDropColumnsCommand();
+    }
+
+    // RENAME ... — COLUMN must follow
+    private SQLCommand parseRename() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException(
+                    """
+                            ⚡ [BROKEN RUNE] RENAME command incomplete!
+                            🛡️ You must specify: RENAME COLUMN <OLD_COLUMN_NAME> TO <NEW_COLUMN_NAME> IN TABLE <TABLE_NAME>
+                            🌌 Example: RENAME COLUMN age TO years IN TABLE warriors."""
+            );
+        }
+
+        Token second = peek();
+        if (second.type != TokenType.COLUMN) {
+            throw new RuntimeException(
+                    "⚡ [BROKEN RUNE] The prophecy spoke of the COLUMN rune, " +
+                            "yet you offer '" + second.value + "'! " +
+                            "Summon the COLUMN rune to reshape destiny."
+            );
+        }
+
+        return parseRenameColumnCommand();
+    }
+
+    // MODIFY ... — COLUMN must follow
+    private SQLCommand parseModify() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException(
+                    """
+                            ⚡ [BROKEN RUNE] The MODIFY ritual is incomplete!
+                            🛡️ You must speak the full incantation:
+                            MODIFY COLUMN <COLUMN_NAME> <NEW_DATATYPE> IN TABLE <TABLE_NAME>;
+                            🌌 Example: MODIFY COLUMN age INT IN TABLE Midgardians;
+                            """
+            );
+        }
+        Token second = peek();
+        if (second.type != TokenType.COLUMN) {
+            throw new RuntimeException(
+                    "⚡ [BROKEN RUNE] The prophecy demanded the COLUMN rune, " +
+                            "yet you brandish '" + second.value + "'! " +
+                            "Summon the COLUMN rune to channel the Allfather's will."
+            );
+        }
+        return parseModifyDataTypeCommand();
+    }
+
+    // SET ... — COLUMN must follow
+    private SQLCommand parseSet() {
+        if (position >= tokens.size()) {
+            throw new RuntimeException(
+                    """
+                            ⚡ [BROKEN RUNE] The MODIFY ritual is incomplete!
+                            🛡️ You must speak the full incantation:
+                            SET COLUMN <COLUMN_NAME>  IN TABLE <TABLE_NAME> TO <DEFAULT_VALUE>;
+                            🌌 Example: MODIFY COLUMN age INT IN TABLE Midgardians;
+                            """
+            );
+        }
+        Token second = peek();
+        if (second.type != TokenType.COLUMN) {
+            throw new RuntimeException(
+                    "⚡ [BROKEN RUNE] The prophecy demanded the COLUMN rune, " +
+                            "yet you brandish '" + second.value + "'! " +
+                            "Summon the COLUMN rune to channel the Allfather's will."
+            );
+        }
+        return parseSetDefaultValueCommand();
+    }
+
 
 }
\ No newline at end of file
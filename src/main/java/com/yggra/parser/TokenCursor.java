@@ -0,0 +1,254 @@
+package com.yggra.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 🧭 [RUNIC INSCRIPTION] 🧭
+ * The streaming mode of the {@link Lexer}: walks a statement one token at a time and reports each
+ * as its type and the offsets it spans in the source, without building a {@link Token} or a String for it.
+ * ⚡ Sources:
+ *  - any CharSequence (a String, a StringBuilder, a CharBuffer), offsets counted in chars
+ *  - a UTF-8 ByteBuffer, read between its position and limit without moving them, offsets counted in bytes
+ * ⚡ Rules:
+ *  - Tokens are read exactly as {@link Lexer#tokenize} reads them; keywords are found by the {@link Keywords} perfect hash.
+ *  - A string literal spans the text between its quotes; {@link #text()} turns its doubled quotes back into one.
+ *  - Nothing is allocated per token — only {@link #text()} creates a String, and only when it is called.
+ * One cursor may be {@link #reset} onto statement after statement.
+ */
+
+public final class TokenCursor {
+
+    private CharSequence chars;
+    private ByteBuffer bytes;
+    private int position;
+    private int limit;
+
+    private TokenType type;
+    private int start;
+    private int end;
+    private boolean escaped; // a string literal holding doubled quotes
+
+    public TokenCursor(CharSequence source) {
+        reset(source);
+    }
+
+    public TokenCursor(ByteBuffer utf8) {
+        reset(utf8);
+    }
+
+    // 🔁 Starts over on another statement
+    public TokenCursor reset(CharSequence source) {
+        chars = source;
+        bytes = null;
+        position = 0;
+        limit = source.length();
+        type = null;
+        return this;
+    }
+
+    // 🔁 Starts over on another UTF-8 statement, read between the buffer's position and limit
+    public TokenCursor reset(ByteBuffer utf8) {
+        chars = null;
+        bytes = utf8;
+        position = utf8.position();
+        limit = utf8.limit();
+        type = null;
+        return this;
+    }
+
+    /**
+     * ➡️ Moves to the next token.
+     *
+     * @return false once the source is exhausted
+     * @throws RuntimeException on an unclosed string literal or a symbol outside the language
+     */
+
+    public boolean next() {
+        while (position < limit && Character.isWhitespace(codePointAt(position))) {
+            position += widthAt(position);
+        }
+        if (position >= limit) {
+            type = null;
+            return false;
+        }
+        start = position;
+        escaped = false;
+        switch (charAt(position)) {
+            case '(' -> symbol(TokenType.LEFT_PAREN, 1);
+            case ')' -> symbol(TokenType.RIGHT_PAREN, 1);
+            case ',' -> symbol(TokenType.COMMA, 1);
+            case ';' -> symbol(TokenType.SEMICOLON, 1);
+            case '*' -> symbol(TokenType.ASTERISK, 1);
+            case '.' -> symbol(TokenType.DOT, 1);
+            case '?' -> symbol(TokenType.PARAMETER, 1);
+            case '=' -> symbol(TokenType.EQUALS, 1);
+            case '<' -> {
+                if (followedBy('=')) {
+                    symbol(TokenType.LESS_THAN_EQUAL, 2);
+                } else if (followedBy('>')) {
+                    symbol(TokenType.NOT_EQUALS, 2);
+                } else {
+                    symbol(TokenType.LESS_THAN, 1);
+                }
+            }
+            case '>' -> {
+                if (followedBy('=')) {
+                    symbol(TokenType.GREATER_THAN_EQUAL, 2);
+                } else {
+                    symbol(TokenType.GREATER_THAN, 1);
+                }
+            }
+            case '!' -> {
+                if (!followedBy('=')) {
+                    throw new RuntimeException("⚔️ [WRATH] A lone '!' was struck down — only '!=' may stand in the realm of SQL!");
+                }
+                symbol(TokenType.NOT_EQUALS, 2);
+            }
+            case '\'' -> stringLiteral();
+            default -> {
+                int codePoint = codePointAt(position);
+                if (Character.isDigit(codePoint)) {
+                    number();
+                } else if (Character.isAlphabetic(codePoint)) {
+                    word();
+                } else {
+                    throw new RuntimeException("⚔️ [WRATH] Forbidden symbol '" + Character.toString(codePoint)
+                            + "' was struck down — it does not belong to the realm of SQL present in realm world!");
+                }
+            }
+        }
+        return true;
+    }
+
+    // 🔤 The current token's type (null before the first token and after the last)
+    public TokenType type() {
+        return type;
+    }
+
+    // 📍 Where the current token begins in the source
+    public int start() {
+        return start;
+    }
+
+    // 📍 Where the current token ends in the source (exclusive)
+    public int end() {
+        return end;
+    }
+
+    /**
+     * 🧾 The current token's text as the lexer would give it — the only call that allocates.
+     */
+
+    public String text() {
+        String text = chars != null
+                ? chars.subSequence(start, end).toString()
+                : StandardCharsets.UTF_8.decode(bytes.slice(start, end - start)).toString();
+        return escaped ? text.replace("''", "'") : text;
+    }
+
+    // 🔡 The char (or, for a byte source, the byte) at an offset of the source
+    int charAt(int index) {
+        return chars != null ? chars.charAt(index) : bytes.get(index) & 0xFF;
+    }
+
+    private void symbol(TokenType type, int length) {
+        this.type = type;
+        position += length;
+        end = position;
+    }
+
+    private boolean followedBy(char ch) {
+        return position + 1 < limit && charAt(position + 1) == ch;
+    }
+
+    private void stringLiteral() {
+        position++; // skip the opening quote
+        start = position;
+        while (true) {
+            if (position >= limit) {
+                throw new RuntimeException("⚠️ [ERROR] String literal was never closed. By the gods, finish what you started!");
+            }
+            if (charAt(position) == '\'') {
+                if (position + 1 < limit && charAt(position + 1) == '\'') {
+                    escaped = true;
+                    position += 2;
+                    continue;
+                }
+                break;
+            }
+            position++;
+        }
+        end = position;
+        position++; // skip the closing quote
+        type = TokenType.STRING_LITERAL;
+    }
+
+    private void number() {
+        while (position < limit && Character.isDigit(codePointAt(position))) {
+            position += widthAt(position);
+        }
+        end = position;
+        type = TokenType.NUMBER_LITERAL;
+    }
+
+    // 🗝️ An identifier or keyword (e.g. CREATE, users, name_1), hashed for the keyword table as it is read
+    private void word() {
+        int hash = Keywords.start();
+        int length = 0;
+        while (position < limit) {
+            int codePoint = codePointAt(position);
+            if (!Character.isAlphabetic(codePoint) && !Character.isDigit(codePoint) && codePoint != '_') {
+                break;
+            }
+            int width = widthAt(position);
+            if (length <= Keywords.MAX_LENGTH) {
+                hash = Keywords.step(hash, width == 1 ? codePoint : -1);
+            }
+            position += width;
+            length += width;
+        }
+        end = position;
+        TokenType keyword = Keywords.find(hash, length, this, start);
+        type = keyword != null ? keyword : TokenType.IDENTIFIER;
+    }
+
+    // 🔣 The code point beginning at an offset; a byte source is decoded from UTF-8 in place
+    private int codePointAt(int index) {
+        if (chars != null) {
+            return Character.codePointAt(chars, index);
+        }
+        int lead = bytes.get(index) & 0xFF;
+        int width = widthAt(index);
+        if (width == 1) {
+            return lead;
+        }
+        if (index + width > limit) {
+            return 0xFFFD; // ✂️ a sequence cut short by the end of the buffer
+        }
+        int codePoint = lead & (0xFF >> (width + 1));
+        for (int i = 1; i < width; i++) {
+            codePoint = (codePoint << 6) | (bytes.get(index + i) & 0x3F);
+        }
+        return codePoint;
+    }
+
+    // 📏 How many chars (or bytes) the code point at an offset occupies
+    private int widthAt(int index) {
+        if (chars != null) {
+            return Character.isHighSurrogate(chars.charAt(index)) && index + 1 < limit
+                    && Character.isLowSurrogate(chars.charAt(index + 1)) ? 2 : 1;
+        }
+        int lead = bytes.get(index) & 0xFF;
+        if (lead < 0x80) {
+            return 1;
+        }
+        if ((lead & 0xE0) == 0xC0) {
+            return 2;
+        }
+        if ((lead & 0xF0) == 0xE0) {
+            return 3;
+        }
+        return (lead & 0xF8) == 0xF0 ? 4 : 1;
+    }
+}
@@ -13,6 +13,9 @@ public enum TokenType {
     DATABASES, CURRENT, TABLES, ALTER, RENAME, ADD, COLUMN, TO,
     DEFAULT, TRUNCATE, REMOVE, FROM, IN, MODIFY, SET, FOR, NULL,
     SELECT, WHERE, GROUP, BY, HAVING, ORDER, LIMIT, DISTINCT, AS,NONE,
+    JOIN, INNER, LEFT, OUTER, ON, OFFSET, ANALYZE, PREPARE, EXECUTE, MATERIALIZED, VIEW, UPDATE, DELETE,
+    OVER, PARTITION, ROWS, ROW, PRECEDING, FOLLOWING, UNBOUNDED, ASC, DESC,
+    TABLESAMPLE, SYSTEM, BERNOULLI, REPEATABLE, EXISTS, COPY, WITH, VACUUM,
 
     // 📐 [DATA TYPE RUNES] – Column essences
     INT, VARCHAR, BOOLEAN, FLOAT, DOUBLE, CHAR, DATE, TIMESTAMP,
@@ -24,7 +27,7 @@ public enum TokenType {
     NUMBER_LITERAL, STRING_LITERAL, BOOLEAN_LITERAL, NULL_LITERAL,
 
     // ⚙️ [SYMBOLIC RUNES] – Structure symbols
-    LEFT_PAREN, RIGHT_PAREN, COMMA, SEMICOLON, DOT, STAR,
+    LEFT_PAREN, RIGHT_PAREN, COMMA, SEMICOLON, DOT, STAR, PARAMETER,
 
     // ➕ [ARITHMETIC RUNES]
     PLUS, MINUS, SLASH, ASTERISK, PERCENT,
@@ -0,0 +1,62 @@
+package com.yggra.cli;
+
+import com.yggra.executor.SQLExecutor;
+import com.yggra.models.DatabaseManager;
+import com.yggra.models.Row;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScriptRunnerTest {
+
+    private final DatabaseManager realm = DatabaseManager.getInstance();
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void abandonRealm() {
+        realm.dropDatabase("Bragi");
+    }
+
+    @Test
+    void executesStatementsInOrderAcrossWindows() throws IOException {
+        StringBuilder script = new StringBuilder("CREATE DATABASE Bragi;\nUSE Bragi;\nCREATE TABLE verses (id INT, line VARCHAR(40));\n");
+        for (int i = 0; i < 600; i++) {
+            script.append("INSERT INTO verses (id, line) VALUES (").append(i).append(", 'it''s verse ").append(i).append("');\n");
+        }
+        script.append("SOURCE chorus.sql;\n");
+        Files.writeString(directory.resolve("saga.sql"), script);
+        Files.writeString(directory.resolve("chorus.sql"), "INSERT INTO verses (id, line) VALUES (600, 'chorus');");
+
+        try (ScriptRunner runner = new ScriptRunner(new SQLExecutor(), 100)) {
+            assertEquals(0, runner.run(directory.resolve("saga.sql")));
+        }
+        List<Row> rows = realm.getTable("verses").rowList;
+        assertEquals(601, rows.size());
+        for (int i = 0; i < 600; i++) {
+            assertEquals(List.of(i, "it's verse " + i), rows.get(i).values, "statements cut by a window are read whole, in order");
+        }
+        assertEquals("chorus", rows.get(600).getValue(1));
+    }
+
+    @Test
+    void reportsFailingStatementsAndGoesOn() throws IOException {
+        Files.writeString(directory.resolve("flawed.sql"),
+                "CREATE DATABASE Bragi; USE Bragi; CREATE TABLE verses (id INT); SELEC id FROM verses; INSERT INTO verses (id) VALUES (1);;");
+        try (ScriptRunner runner = new ScriptRunner(new SQLExecutor())) {
+            assertEquals(1, runner.run(directory.resolve("flawed.sql")));
+        }
+        assertEquals(1, realm.getTable("verses").rowList.size());
+
+        assertEquals("dump.sql", ScriptRunner.sourcePath("source 'dump.sql';"));
+        assertNull(ScriptRunner.sourcePath("SELECT source FROM verses;"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.CopyFormat;
+import com.yggra.commands.CopyOptions;
+import com.yggra.models.DatabaseManager;
+import com.yggra.models.Row;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvLoaderTest {
+
+    private final DatabaseManager realm = DatabaseManager.getInstance();
+    private final SQLExecutor executor = new SQLExecutor();
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void forgeRealm() {
+        realm.createDatabase("Sindri");
+        realm.useDatabase("Sindri");
+        List<ColumnDefinition> treasures = new ArrayList<>();
+        treasures.add(new ColumnDefinition("id", TokenType.INT, -1));
+        treasures.add(new ColumnDefinition("name", TokenType.VARCHAR, 30));
+        realm.addTable("treasures", treasures);
+    }
+
+    @AfterEach
+    void abandonRealm() {
+        realm.dropDatabase("Sindri");
+    }
+
+    private void copy(String sql) {
+        executor.execute(new Parser(new Lexer().tokenize(sql)).parseStatement());
+    }
+
+    @Test
+    void splitsAtNewlinesOutsideQuotesAndKeepsFileOrder() throws IOException {
+        StringBuilder csv = new StringBuilder("id,name\r\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(i - 250).append(i % 7 == 0 ? ",\"Mjöll\nnir, \"\"the\"\" hammer\"\r\n" : ",ring " + i + "\n");
+        }
+        csv.append("\n7,\n");
+        Path file = Files.writeString(directory.resolve("hoard.csv"), csv);
+
+        CopyOptions options = new CopyOptions(CopyFormat.CSV, true, ',', "");
+        List<Row> rows = CsvLoader.load(file, options, realm.getTable("treasures").columnList, 64);
+        assertEquals(501, rows.size());
+        for (int i = 0; i < 500; i++) {
+            Object name = i % 7 == 0 ? "Mjöll\nnir, \"the\" hammer" : "ring " + i;
+            assertEquals(Arrays.asList(i - 250, name), rows.get(i).values, "chunks cut inside quoted fields are rejoined, in order");
+        }
+        assertEquals(Arrays.asList(7, null), rows.get(500).values, "an empty unquoted field is NULL");
+
+        copy("COPY treasures FROM '" + file + "' WITH (header, FORMAT csv);");
+        assertEquals(501, realm.getTable("treasures").rowList.size());
+    }
+
+    @Test
+    void readsTsvAndRejectsAFlawedFileWhole() throws IOException {
+        Path tsv = Files.writeString(directory.resolve("hoard.tsv"), "1\tDraupnir\n2\t\\N\n+3\tGungnir, spear\n");
+        copy("COPY treasures FROM '" + tsv + "' WITH (FORMAT TSV, NULL '\\N');");
+        List<Row> rows = realm.getTable("treasures").rowList;
+        assertEquals(List.of(1, "Draupnir"), rows.get(0).values);
+        assertEquals(Arrays.asList(2, null), rows.get(1).values);
+        assertEquals(List.of(3, "Gungnir, spear"), rows.get(2).values);
+
+        Path flawed = Files.writeString(directory.resolve("flawed.csv"), "4,Skidbladnir\n5,Brisingamen,necklace\n");
+        RuntimeException error = assertThrows(RuntimeException.class, () -> copy("COPY treasures FROM '" + flawed + "';"));
+        assertTrue(error.getMessage().contains("byte 14"), error.getMessage());
+        Files.writeString(flawed, "2147483648,Andvaranaut\n");
+        assertThrows(RuntimeException.class, () -> copy("COPY treasures FROM '" + flawed + "';"));
+        assertEquals(3, rows.size(), "a flawed file adds no rows at all");
+
+        assertThrows(RuntimeException.class, () -> new Parser(new Lexer().tokenize("COPY treasures FROM 'x' WITH (HEADER, HEADER);")).parseStatement());
+        assertThrows(RuntimeException.class, () -> new Parser(new Lexer().tokenize("COPY treasures FROM 'x' WITH (QUOTE '\"');")).parseStatement());
+    }
+}
@@ -0,0 +1,61 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistinctTest {
+
+    private static List<Row> rows(Object... values) {
+        List<Row> rows = new ArrayList<>();
+        for (Object value : values) {
+            rows.add(new Row(new ArrayList<>(Arrays.asList(value))));
+        }
+        return rows;
+    }
+
+    private static List<Object> drain(Operator operator) {
+        List<Object> out = new ArrayList<>();
+        for (Row row = operator.next(); row != null; row = operator.next()) {
+            out.add(row.getValue(0));
+        }
+        return out;
+    }
+
+    @Test
+    void hashDistinctKeepsFirstSeenOrder() {
+        List<Row> input = rows(3, 1, 3, null, 2, 1, null);
+        Operator distinct = new DistinctOperator(new ScanOperator(input, RowPredicate.ALWAYS), true, 1 << 10);
+        assertEquals(Arrays.asList(3, 1, null, 2), drain(distinct));
+    }
+
+    @Test
+    void sortFallbackOverBudgetStillRemovesEveryDuplicate() {
+        List<Row> input = rows("b", "a", "c", "a", "d", "b", "e", "c", "d");
+        Operator distinct = new DistinctOperator(new ScanOperator(input, RowPredicate.ALWAYS), false, 2);
+        List<Object> result = drain(distinct);
+        assertEquals(5, result.size());
+        assertEquals(new HashSet<>(List.of("a", "b", "c", "d", "e")), new HashSet<>(result));
+        assertEquals(List.of("b", "a"), result.subList(0, 2), "rows hashed before the budget stream out first");
+    }
+
+    @Test
+    void countDistinctMergesWorkersAcrossHashAndSortModes() {
+        DistinctCounter hashed = new DistinctCounter(100);
+        DistinctCounter sorted = new DistinctCounter(4);
+        for (int i = 0; i < 50; i++) {
+            hashed.add(i % 10);
+            sorted.add(i % 30);
+        }
+        assertEquals(10, hashed.count());
+        assertEquals(30, sorted.count());
+        sorted.merge(hashed);
+        assertEquals(30, sorted.count());
+    }
+}
@@ -0,0 +1,100 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.Condition;
+import com.yggra.commands.JoinClause;
+import com.yggra.commands.JoinType;
+import com.yggra.commands.ValueDefinition;
+import com.yggra.models.ColumnStatistics;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.models.TableStatistics;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JoinPlannerTest {
+
+    // A table of (id INT, tag INT) with ids 0..rows-1 and tags id % tags
+    private static Table table(String name, int rows, int tags) {
+        Table table = new Table(name, new ArrayList<>(List.of(
+                new ColumnDefinition("id", TokenType.INT, -1),
+                new ColumnDefinition(name + "_tag", TokenType.INT, -1))));
+        for (int i = 0; i < rows; i++) {
+            table.rowList.add(new Row(new ArrayList<>(List.of(i, i % tags))));
+        }
+        return table;
+    }
+
+    @Test
+    void analyzeEstimatesDistinctValuesAndRanges() {
+        Table table = table("realm", 20_000, 500);
+        TableStatistics statistics = TableStatistics.collect(table);
+        ColumnStatistics id = statistics.column(0);
+        ColumnStatistics tag = statistics.column(1);
+
+        assertEquals(20_000, id.distinctValues(), 20_000 * 0.05);
+        assertEquals(500, tag.distinctValues(), 500 * 0.05);
+        assertTrue(id.isOrdered());
+        assertFalse(tag.isOrdered());
+        assertEquals(0.25, id.selectivity(TokenType.LESS_THAN, 5_000), 0.02);
+        assertEquals(1.0 / 500, tag.selectivity(TokenType.EQUALS, 7), 0.0005);
+        assertEquals(0, id.selectivity(TokenType.EQUALS, 99_999));
+    }
+
+    @Test
+    void insertsKeepStatisticsCurrent() {
+        Table table = table("realm", 100, 10);
+        table.statistics = TableStatistics.collect(table);
+        table.addRow(new Row(new ArrayList<>(List.of(50, 3))));
+        List<Object> withNull = new ArrayList<>();
+        withNull.add(500);
+        withNull.add(null);
+        table.addRow(new Row(withNull));
+
+        assertEquals(102, table.statistics.rowCount());
+        assertFalse(table.statistics.column(0).isOrdered(), "50 after 99 breaks the ascending order");
+        assertEquals(1, table.statistics.column(1).nullCount());
+        assertTrue(table.statistics.column(0).selectivity(TokenType.GREATER_THAN, 200) > 0, "a new maximum widens the histogram");
+    }
+
+    @Test
+    void innerJoinChainStartsWithTheMostSelectiveJoin() {
+        Table big = table("big", 10_000, 10_000);
+        Table mid = table("mid", 1_000, 1_000);
+        Table small = table("small", 100, 100);
+        for (Table table : List.of(big, mid, small)) {
+            table.statistics = TableStatistics.collect(table);
+        }
+        // FROM big JOIN mid ON big.id = mid.id JOIN small ON mid.id = small.id WHERE small.id < 10
+        List<JoinClause> joins = List.of(
+                new JoinClause(JoinType.INNER, "mid", "big.id", "mid.id"),
+                new JoinClause(JoinType.INNER, "small", "mid.id", "small.id"));
+        List<Condition> conditions = List.of(new Condition("small.id", TokenType.LESS_THAN, new ValueDefinition(TokenType.NUMBER_LITERAL, "10")));
+
+        List<JoinPlanner.Step> steps = JoinPlanner.plan(List.of(big, mid, small), joins, conditions);
+
+        assertEquals(List.of(1, 2, 0), steps.stream().map(JoinPlanner.Step::table).toList());
+        assertNull(steps.get(0).clause());
+        assertSame(joins.get(1), steps.get(1).clause());
+        assertSame(joins.get(0), steps.get(2).clause());
+    }
+
+    @Test
+    void leftJoinsKeepTheWrittenOrder() {
+        Table big = table("big", 1_000, 1_000);
+        Table mid = table("mid", 100, 100);
+        Table small = table("small", 10, 10);
+        List<JoinClause> joins = List.of(
+                new JoinClause(JoinType.LEFT, "mid", "big.id", "mid.id"),
+                new JoinClause(JoinType.INNER, "small", "mid.id", "small.id"));
+
+        List<JoinPlanner.Step> steps = JoinPlanner.plan(List.of(big, mid, small), joins, List.of());
+
+        assertEquals(List.of(0, 1, 2), steps.stream().map(JoinPlanner.Step::table).toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.JoinType;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JoinTest {
+
+    private static Row row(Object... values) {
+        List<Object> list = new ArrayList<>();
+        for (Object value : values) {
+            list.add(value);
+        }
+        return new Row(list);
+    }
+
+    private static List<String> render(List<Row> rows) {
+        return rows.stream().map(Row::toString).sorted(Comparator.naturalOrder()).toList();
+    }
+
+    private final List<Row> warriors = List.of(row(1, "kratos"), row(2, "atreus"), row(3, "mimir"), row(null, "ghost"));
+    private final List<Row> weapons = List.of(row("blades", 1), row("axe", 1), row("bow", 2), row("spear", 9));
+
+    @Test
+    void innerHashJoinMatchesOnlyPartneredRows() {
+        List<Row> joined = HashJoin.join(warriors, 0, weapons, 1, 2, JoinType.INNER, QueryEngine.JOIN_BUDGET_ROWS);
+        assertEquals(List.of("[1, kratos, axe, 1]", "[1, kratos, blades, 1]", "[2, atreus, bow, 2]"), render(joined));
+    }
+
+    @Test
+    void leftHashJoinPadsUnmatchedRowsWithNulls() {
+        List<Row> joined = HashJoin.join(warriors, 0, weapons, 1, 2, JoinType.LEFT, QueryEngine.JOIN_BUDGET_ROWS);
+        assertEquals(List.of("[1, kratos, axe, 1]", "[1, kratos, blades, 1]", "[2, atreus, bow, 2]",
+                "[3, mimir, null, null]", "[null, ghost, null, null]"), render(joined));
+    }
+
+    @Test
+    void partitionedHashJoinAgreesWithInMemoryJoin() {
+        List<Row> left = new ArrayList<>();
+        List<Row> right = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            left.add(row(i % 1_000 == 0 ? null : i % 1_500, "l" + i));
+            right.add(row(i % 1_200, "r" + i));
+        }
+        for (JoinType type : JoinType.values()) {
+            List<Row> inMemory = HashJoin.join(left, 0, right, 0, 2, type, Integer.MAX_VALUE);
+            List<Row> partitioned = HashJoin.join(left, 0, right, 0, 2, type, 300);
+            assertEquals(render(inMemory), render(partitioned), type + " join must not depend on the memory budget");
+        }
+    }
+
+    @Test
+    void mergeJoinAgreesWithHashJoinOnOrderedInputs() {
+        List<Row> left = new ArrayList<>();
+        List<Row> right = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            left.add(row(i / 3, "l" + i));
+            right.add(row(i / 2 + 100, "r" + i));
+        }
+        assertTrue(MergeJoin.isOrderedOn(left, 0));
+        assertTrue(MergeJoin.isOrderedOn(right, 0));
+        for (JoinType type : JoinType.values()) {
+            assertEquals(render(HashJoin.join(left, 0, right, 0, 2, type, Integer.MAX_VALUE)),
+                    render(MergeJoin.join(left, 0, right, 0, 2, type)));
+        }
+    }
+
+    @Test
+    void boundSchemaResolvesQualifiedAndBareNames() {
+        Table a = new Table("a", new ArrayList<>(List.of(
+                new ColumnDefinition("id", TokenType.INT, -1), new ColumnDefinition("name", TokenType.VARCHAR, 10))));
+        Table b = new Table("b", new ArrayList<>(List.of(
+                new ColumnDefinition("id", TokenType.INT, -1), new ColumnDefinition("owner", TokenType.INT, -1))));
+        BoundSchema schema = BoundSchema.of(a).join(BoundSchema.of(b));
+        assertEquals(2, schema.resolve("b.id"));
+        assertEquals(3, schema.resolve("owner"));
+        assertThrows(RuntimeException.class, () -> schema.resolve("id"));
+        assertEquals(List.of("a.id", "a.name", "b.id", "b.owner"), schema.displayNames());
+    }
+}
@@ -0,0 +1,53 @@
+package com.yggra.executor;
+
+import com.yggra.models.Row;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LimitOperatorTest {
+
+    // A million-row list that counts how many rows the scan actually touched
+    private static final class CountingRows extends AbstractList<Row> {
+        int touched;
+
+        @Override
+        public Row get(int index) {
+            touched++;
+            List<Object> values = new ArrayList<>();
+            values.add(index);
+            return new Row(values);
+        }
+
+        @Override
+        public int size() {
+            return 1_000_000;
+        }
+    }
+
+    @Test
+    void limitStopsTheScanAfterEnoughRows() {
+        CountingRows rows = new CountingRows();
+        Operator pipeline = new LimitOperator(new ProjectOperator(new ScanOperator(rows, RowPredicate.ALWAYS), new int[]{0}), 5, 10);
+
+        List<Object> ids = new ArrayList<>();
+        for (Row row = pipeline.next(); row != null; row = pipeline.next()) {
+            ids.add(row.getValue(0));
+        }
+
+        assertEquals(List.of(10, 11, 12, 13, 14), ids);
+        assertEquals(15, rows.touched, "the scan must end once LIMIT + OFFSET rows were produced");
+    }
+
+    @Test
+    void zeroLimitReadsNothing() {
+        CountingRows rows = new CountingRows();
+        Operator pipeline = new LimitOperator(new ScanOperator(rows, RowPredicate.ALWAYS), 0, 0);
+        assertNull(pipeline.next());
+        assertEquals(0, rows.touched);
+    }
+}
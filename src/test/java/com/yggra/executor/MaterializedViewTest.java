@@ -0,0 +1,120 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.SelectCommand;
+import com.yggra.models.DatabaseManager;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaterializedViewTest {
+
+    private final DatabaseManager realm = DatabaseManager.getInstance();
+
+    @BeforeEach
+    void forgeRealm() {
+        realm.createDatabase("Glitnir");
+        realm.useDatabase("Glitnir");
+        List<ColumnDefinition> columns = new ArrayList<>();
+        columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+        columns.add(new ColumnDefinition("clan", TokenType.VARCHAR, 20));
+        columns.add(new ColumnDefinition("gold", TokenType.INT, -1));
+        realm.addTable("warriors", columns);
+    }
+
+    @AfterEach
+    void abandonRealm() {
+        realm.exitDatabase();
+        realm.dropDatabase("Glitnir");
+    }
+
+    private static SelectCommand select(String sql) {
+        return (SelectCommand) new Parser(new Lexer().tokenize(sql)).parse();
+    }
+
+    private void insert(int id, String clan, int gold) {
+        PreparedStatement.prepare("INSERT INTO warriors (id, clan, gold) VALUES (?, ?, ?);").execute(id, clan, gold);
+    }
+
+    @Test
+    void groupByFoldsRowsPerKey() {
+        insert(1, "Aesir", 10);
+        insert(2, "Vanir", 5);
+        insert(3, "Aesir", 7);
+        QueryResult result = QueryEngine.execute(select("SELECT clan, SUM(gold) FROM warriors GROUP BY clan;"), realm::getTable);
+        assertEquals(List.of("clan", "SUM(gold)"), result.columnNames);
+        assertEquals(List.of("Aesir", 17L), result.rows.get(0).values);
+        assertEquals(List.of("Vanir", 5L), result.rows.get(1).values);
+    }
+
+    @Test
+    void aggregateViewAppliesEachInsertAsADelta() {
+        insert(1, "Aesir", 10);
+        realm.createMaterializedView("clan_gold",
+                select("SELECT clan, COUNT(*), SUM(gold), AVG(gold) FROM warriors WHERE gold > 0 GROUP BY clan;"));
+        Table view = realm.getTable("clan_gold");
+        assertEquals(List.of("clan", "count", "sum_gold", "avg_gold"), view.columnList.stream().map(c -> c.columnName).toList());
+        Row before = view.rowList.getFirst();
+
+        insert(2, "Vanir", 5);
+        insert(3, "Aesir", 7);
+        insert(4, "Aesir", 0);
+        assertEquals(List.of("Aesir", 2, 17, 8.5), view.rowList.get(0).values);
+        assertEquals(List.of("Vanir", 1, 5, 5.0), view.rowList.get(1).values);
+        assertEquals(List.of("Aesir", 1, 10, 10.0), before.values, "rows handed out earlier are never changed");
+
+        QueryResult rich = QueryEngine.execute(select("SELECT clan FROM clan_gold WHERE avg_gold > 6;"), realm::getTable);
+        assertEquals(1, rich.rows.size());
+
+        realm.truncateTable("warriors");
+        assertTrue(view.rowList.isEmpty(), "TRUNCATE recomputes the view");
+    }
+
+    @Test
+    void aRefusedRowWithdrawsItsWholeInsert() {
+        realm.createMaterializedView("hoard", select("SELECT SUM(gold) FROM warriors;"));
+        Table warriors = realm.getTable("warriors");
+        long version = warriors.version;
+
+        assertThrows(RuntimeException.class, () -> PreparedStatement.prepare(
+                "INSERT INTO warriors (id, clan, gold) VALUES (1, 'Aesir', 5), (2, 'Vanir', 2147483647);").execute());
+        assertTrue(warriors.liveRows().isEmpty(), "the row before the refused one is withdrawn too");
+        assertTrue(warriors.version > version, "a result cached while the row stood is stale");
+        assertEquals(Arrays.asList((Object) null), realm.getTable("hoard").rowList.getFirst().values);
+
+        insert(3, "Aesir", 7);
+        assertEquals(List.of(7), realm.getTable("hoard").rowList.getFirst().values);
+    }
+
+    @Test
+    void viewsAreReadOnlyAndPinTheirSource() {
+        realm.createMaterializedView("totals", select("SELECT COUNT(*), SUM(gold) FROM warriors;"));
+        Table view = realm.getTable("totals");
+        assertEquals(Arrays.asList(0, null), view.rowList.getFirst().values);
+
+        insert(1, "Aesir", Integer.MAX_VALUE);
+        RuntimeException overflow = assertThrows(RuntimeException.class, () -> insert(2, "Aesir", 1));
+        assertTrue(overflow.getMessage().contains("sum_gold"));
+        assertEquals(1, realm.getTable("warriors").rowList.size(), "a refused row is not inserted");
+
+        assertThrows(RuntimeException.class, () -> realm.truncateTable("totals"));
+        assertThrows(RuntimeException.class, () -> realm.dropTable("warriors"));
+        assertThrows(RuntimeException.class, () -> realm.dropColumnsofTable(List.of("gold"), "warriors"));
+        assertThrows(RuntimeException.class, () -> realm.createMaterializedView("bad", select("SELECT clan FROM warriors LIMIT 1;")));
+
+        realm.dropMaterializedView("totals");
+        assertTrue(realm.getTable("warriors").observers.isEmpty());
+        realm.dropTable("warriors");
+    }
+}
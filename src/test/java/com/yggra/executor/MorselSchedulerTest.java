@@ -0,0 +1,82 @@
+package com.yggra.executor;
+
+import com.yggra.commands.*;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MorselSchedulerTest {
+    private static final int ROWS = MorselScheduler.MORSEL_SIZE * 5 + 123;
+    private Table table;
+
+    @BeforeEach
+    void setUp() {
+        List<ColumnDefinition> columns = new ArrayList<>();
+        columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+        columns.add(new ColumnDefinition("name", TokenType.VARCHAR, 20));
+        table = new Table("warriors", columns);
+        for (int i = 0; i < ROWS; i++) {
+            List<Object> values = new ArrayList<>();
+            values.add(i % 7 == 0 ? null : i);
+            values.add("w" + i);
+            table.rowList.add(new Row(values));
+        }
+    }
+
+    @Test
+    void parallelAggregateMatchesSerialFold() {
+        List<AggregateCall> calls = List.of(
+                new AggregateCall(AggregateFunction.COUNT, null),
+                new AggregateCall(AggregateFunction.COUNT, "id"),
+                new AggregateCall(AggregateFunction.SUM, "id"),
+                new AggregateCall(AggregateFunction.MIN, "id"),
+                new AggregateCall(AggregateFunction.MAX, "id"));
+        QueryResult result = QueryEngine.execute(new SelectCommand("warriors", List.of(), calls, List.of()), name -> table);
+
+        long count = 0, sum = 0;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int i = 0; i < ROWS; i++) {
+            if (i % 7 == 0) continue;
+            count++;
+            sum += i;
+            min = Math.min(min, i);
+            max = Math.max(max, i);
+        }
+        List<Object> values = result.rows.getFirst().values;
+        assertEquals((long) ROWS, values.get(0));
+        assertEquals(count, values.get(1));
+        assertEquals(sum, values.get(2));
+        assertEquals(min, values.get(3));
+        assertEquals(max, values.get(4));
+    }
+
+    @Test
+    void parallelFilterPreservesTableOrder() {
+        Condition condition = new Condition("id", TokenType.GREATER_THAN_EQUAL,
+                new ValueDefinition(TokenType.NUMBER_LITERAL, "100"));
+        QueryResult result = QueryEngine.execute(
+                new SelectCommand("warriors", List.of("name", "id"), List.of(), List.of(condition)), name -> table);
+
+        int expected = 0;
+        int previous = -1;
+        for (Row row : result.rows) {
+            int id = (Integer) row.getValue(1);
+            assertTrue(id > previous, "rows must come back in table order");
+            assertEquals("w" + id, row.getValue(0));
+            previous = id;
+            expected++;
+        }
+        long survivors = 0;
+        for (int i = 100; i < ROWS; i++) {
+            if (i % 7 != 0) survivors++;
+        }
+        assertEquals(survivors, expected);
+    }
+}
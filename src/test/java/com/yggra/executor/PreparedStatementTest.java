@@ -0,0 +1,130 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.ValueDefinition;
+import com.yggra.models.DatabaseManager;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreparedStatementTest {
+
+    private final DatabaseManager realm = DatabaseManager.getInstance();
+
+    @BeforeEach
+    void forgeRealm() {
+        realm.createDatabase("Bifrost");
+        realm.useDatabase("Bifrost");
+        List<ColumnDefinition> columns = new ArrayList<>();
+        columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+        columns.add(new ColumnDefinition("clan", TokenType.VARCHAR, 20));
+        realm.addTable("warriors", columns);
+    }
+
+    @AfterEach
+    void abandonRealm() {
+        realm.exitDatabase();
+        realm.dropDatabase("Bifrost");
+    }
+
+    @Test
+    void placeholdersAreBoundPerExecution() {
+        PreparedStatement insert = PreparedStatement.prepare("INSERT INTO warriors (id, clan) VALUES (?, ?);");
+        assertEquals(2, insert.parameterCount);
+        insert.execute(1, "Aesir");
+        insert.execute(2, "Vanir");
+        insert.execute(3, null);
+
+        PreparedStatement find = PreparedStatement.prepare("SELECT clan FROM warriors WHERE id >= ? AND id < ?;");
+        QueryResult first = find.executeQuery(1, 2);
+        assertEquals(1, first.rows.size());
+        assertEquals("Aesir", first.rows.getFirst().getValue(0));
+        QueryResult rest = find.executeQuery(2, 10);
+        assertEquals(2, rest.rows.size());
+        assertNull(rest.rows.get(1).getValue(0));
+    }
+
+    @Test
+    void multiRowInsertsAreValidatedBeforeAnyRowIsAppended() {
+        PreparedStatement insert = PreparedStatement.prepare("INSERT INTO warriors (id, clan) VALUES (?, ?), (2, 'Vanir'), (?, NULL);");
+        assertEquals(3, insert.parameterCount);
+        insert.execute(1, "Aesir", 3);
+        assertEquals(3, realm.getTable("warriors").rowList.size());
+        assertEquals(List.of(3), realm.getTable("warriors").rowList.get(2).values.subList(0, 1));
+
+        SQLExecutor executor = new SQLExecutor();
+        String sql = "INSERT INTO warriors (id, clan) VALUES (4, 'Jotun'), ('five', 'Jotun');";
+        RuntimeException flawed = assertThrows(RuntimeException.class,
+                () -> executor.execute(new Parser(new Lexer().tokenize(sql)).parseStatement()));
+        assertTrue(flawed.getMessage().contains("Row 2"));
+        assertEquals(3, realm.getTable("warriors").rowList.size(), "a flawed row leaves the whole batch out");
+        assertThrows(RuntimeException.class, () -> PreparedStatement.prepare("INSERT INTO warriors (id, clan) VALUES (1, 'a'), (2);"));
+    }
+
+    @Test
+    void planIsRebuiltWhenTheTableIsAltered() {
+        PreparedStatement insert = PreparedStatement.prepare("INSERT INTO warriors (id, clan) VALUES (?, ?);");
+        PreparedStatement all = PreparedStatement.prepare("SELECT * FROM warriors WHERE id = ?;");
+        insert.execute(7, "Kratos");
+        assertEquals(2, all.executeQuery(7).columnNames.size());
+
+        realm.alterColumnsofTable(List.of(new ColumnDefinition("gold", TokenType.INT, -1)), "warriors",
+                List.of(new ValueDefinition(TokenType.NULL, null)));
+        insert.execute(8, "Atreus");
+        QueryResult widened = all.executeQuery(8);
+        assertEquals(List.of("id", "clan", "gold"), widened.columnNames);
+        assertEquals(1, widened.rows.size());
+    }
+
+    @Test
+    void argumentCountMustMatchThePlaceholders() {
+        PreparedStatement find = PreparedStatement.prepare("SELECT clan FROM warriors WHERE id = ?;");
+        assertThrows(RuntimeException.class, find::executeQuery);
+        assertThrows(RuntimeException.class, () -> find.executeQuery(1, 2));
+        assertThrows(RuntimeException.class, () -> PreparedStatement.prepare("INSERT INTO warriors (id) VALUES (?);").executeQuery(1));
+    }
+
+    @Test
+    void literalsArriveConvertedAndDefaultsFollowTheirColumn() {
+        assertEquals(42, new ValueDefinition(TokenType.NUMBER_LITERAL, "42").constant);
+        assertEquals(4_000_000_000L, new ValueDefinition(TokenType.NUMBER_LITERAL, "4000000000").constant);
+        assertThrows(RuntimeException.class, () -> PreparedStatement.prepare("INSERT INTO warriors (id) VALUES (4000000000);").execute());
+
+        PreparedStatement insert = PreparedStatement.prepare("INSERT INTO warriors (id) VALUES (?);");
+        insert.execute(1);
+        realm.setDefaultValue("warriors", "clan", new ValueDefinition(TokenType.STRING_LITERAL, "Aesir"));
+        insert.execute(2);
+        PreparedStatement.prepare("INSERT INTO warriors (id, clan) VALUES (?, DEFAULT);").execute(3);
+        realm.dropDefaultValue("warriors", "clan");
+        insert.execute(4);
+
+        List<Object> clans = realm.getTable("warriors").rowList.stream().map(row -> row.getValue(1)).toList();
+        assertEquals(Arrays.asList(null, "Aesir", "Aesir", null), clans, "a prepared INSERT sees SET and DROP DEFAULT");
+    }
+
+    @Test
+    void modifyRefusesATypeItsDefaultCannotTake() {
+        PreparedStatement insert = PreparedStatement.prepare("INSERT INTO warriors (id, clan) VALUES (?, ?);");
+        insert.execute(1, "Aesir");
+        realm.setDefaultValue("warriors", "clan", new ValueDefinition(TokenType.STRING_LITERAL, "Vanir"));
+
+        assertThrows(RuntimeException.class, () -> new SQLExecutor().execute(
+                new Parser(new Lexer().tokenize("MODIFY COLUMN (clan INT) IN TABLE warriors;")).parseStatement()));
+        assertEquals(TokenType.VARCHAR, realm.getTable("warriors").getColumn("clan").type, "a refused MODIFY changes nothing");
+        insert.execute(2, "Jotnar");
+
+        realm.dropDefaultValue("warriors", "clan");
+        new SQLExecutor().execute(new Parser(new Lexer().tokenize("MODIFY COLUMN (clan INT) IN TABLE warriors;")).parseStatement());
+        PreparedStatement.prepare("INSERT INTO warriors (id, clan) VALUES (3, 5);").execute();
+        assertEquals(5, realm.getTable("warriors").rowList.getLast().getValue(1));
+    }
+}
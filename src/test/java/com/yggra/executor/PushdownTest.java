@@ -0,0 +1,81 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.Condition;
+import com.yggra.commands.JoinClause;
+import com.yggra.commands.JoinType;
+import com.yggra.commands.SelectCommand;
+import com.yggra.commands.ValueDefinition;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PushdownTest {
+
+    private static Table table(String name, List<String> columns, Object[]... rows) {
+        List<ColumnDefinition> definitions = new ArrayList<>();
+        for (String column : columns) {
+            boolean isInt = column.endsWith("id");
+            definitions.add(new ColumnDefinition(column, isInt ? TokenType.INT : TokenType.VARCHAR, isInt ? -1 : 20));
+        }
+        Table table = new Table(name, definitions);
+        for (Object[] row : rows) {
+            table.rowList.add(new Row(new ArrayList<>(Arrays.asList(row))));
+        }
+        return table;
+    }
+
+    private final Table warriors = table("warriors", List.of("id", "name", "realm"),
+            new Object[]{1, "kratos", "midgard"}, new Object[]{2, "atreus", "midgard"}, new Object[]{3, "freya", "vanaheim"});
+    private final Table weapons = table("weapons", List.of("owner_id", "weapon", "rune"),
+            new Object[]{1, "axe", "frost"}, new Object[]{1, "blades", "fire"}, new Object[]{3, "sword", "seidr"});
+    private final Map<String, Table> realm = Map.of("warriors", warriors, "weapons", weapons);
+
+    private static Condition condition(String column, TokenType operator, String value) {
+        return new Condition(column, operator, new ValueDefinition(TokenType.STRING_LITERAL, value));
+    }
+
+    private List<String> run(SelectCommand command) {
+        return QueryEngine.execute(command, realm::get).rows.stream().map(Row::toString).sorted().toList();
+    }
+
+    @Test
+    void singleTableConditionsAndUnreadColumnsArePushedIntoTheScans() {
+        SelectCommand command = new SelectCommand("warriors",
+                List.of(new JoinClause(JoinType.INNER, "weapons", "warriors.id", "weapons.owner_id")),
+                List.of("name", "weapon"), List.of(),
+                List.of(condition("realm", TokenType.EQUALS, "midgard"), condition("rune", TokenType.NOT_EQUALS, "fire")));
+
+        Pushdown pushdown = Pushdown.plan(command, List.of(warriors, weapons));
+        assertEquals(1, pushdown.pushed.get(0).size());
+        assertEquals(1, pushdown.pushed.get(1).size());
+        assertTrue(pushdown.remaining.isEmpty());
+        assertArrayEquals(new int[]{0, 1}, pushdown.projections[0], "realm is read only by a pushed condition");
+        assertArrayEquals(new int[]{0, 1}, pushdown.projections[1]);
+
+        assertEquals(List.of("[kratos, axe]"), run(command));
+    }
+
+    @Test
+    void conditionsOnTheNullPaddedSideOfALeftJoinStayAboveTheJoin() {
+        SelectCommand command = new SelectCommand("warriors",
+                List.of(new JoinClause(JoinType.LEFT, "weapons", "id", "owner_id")),
+                List.of("name", "weapon"), List.of(),
+                List.of(condition("rune", TokenType.NOT_EQUALS, "frost")));
+
+        Pushdown pushdown = Pushdown.plan(command, List.of(warriors, weapons));
+        assertTrue(pushdown.pushed.get(1).isEmpty());
+        assertEquals(1, pushdown.remaining.size());
+
+        // atreus has no weapon: the NULL rune fails the condition, so the padded row must not survive
+        assertEquals(List.of("[freya, sword]", "[kratos, blades]"), run(command));
+    }
+}
@@ -0,0 +1,63 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.models.Row;
+import com.yggra.models.Table;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    private static Table table(String name) {
+        List<ColumnDefinition> columns = new ArrayList<>();
+        columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+        return new Table(name, columns);
+    }
+
+    private static QueryResult result(int rows) {
+        List<Row> list = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            list.add(new Row(new ArrayList<>(List.of(i))));
+        }
+        return new QueryResult(List.of("id"), list);
+    }
+
+    @Test
+    void anInsertIntoAReadTableMakesTheResultStale() {
+        Table warriors = table("warriors");
+        Table realms = table("realms");
+        ResultCache cache = new ResultCache(1 << 20);
+        QueryResult joined = result(3);
+        cache.put("q", List.of(warriors, realms), joined);
+        assertSame(joined, cache.get("q", List.of(warriors, realms)));
+
+        realms.addRow(new Row(new ArrayList<>(List.of(7))));
+        assertNull(cache.get("q", List.of(warriors, realms)));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.bytes());
+    }
+
+    @Test
+    void leastRecentlyUsedResultsAreEvictedByBytes() {
+        Table warriors = table("warriors");
+        long one = ResultCache.estimateBytes(result(10));
+        ResultCache cache = new ResultCache(2 * one);
+        cache.put("a", List.of(warriors), result(10));
+        cache.put("b", List.of(warriors), result(10));
+        assertNotNull(cache.get("a", List.of(warriors)));
+        cache.put("c", List.of(warriors), result(10));
+
+        assertNotNull(cache.get("a", List.of(warriors)));
+        assertNull(cache.get("b", List.of(warriors)), "b was the least recently used");
+        assertNotNull(cache.get("c", List.of(warriors)));
+
+        cache.put("huge", List.of(warriors), result(1000));
+        assertNull(cache.get("huge", List.of(warriors)), "a result larger than the budget is never kept");
+        assertEquals(2, cache.size());
+    }
+}
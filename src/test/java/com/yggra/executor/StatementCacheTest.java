@@ -0,0 +1,65 @@
+package com.yggra.executor;
+
+import com.yggra.commands.DropTableCommand;
+import com.yggra.commands.SelectCommand;
+import com.yggra.commands.ValueDefinition;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCacheTest {
+
+    private static String key(String sql, List<ValueDefinition> literals) {
+        StringBuilder key = new StringBuilder();
+        return StatementCache.normalize(sql, key, literals) ? key.toString() : null;
+    }
+
+    @Test
+    void literalsBecomePlaceholdersExceptLimitCounts() {
+        List<ValueDefinition> literals = new ArrayList<>();
+        assertEquals("SELECT clan FROM w1 WHERE id >= ? AND clan = ? LIMIT 5;",
+                key("SELECT  clan FROM w1\tWHERE id >= 12 AND clan = 'Van''ir' LIMIT 5;", literals));
+        assertEquals(2, literals.size());
+        assertEquals(TokenType.NUMBER_LITERAL, literals.get(0).type);
+        assertEquals("12", literals.get(0).value);
+        assertEquals("Van'ir", literals.get(1).value);
+
+        assertNull(key("CREATE TABLE w (id INT);", new ArrayList<>()), "only SELECT and INSERT are cached");
+        assertNull(key("SELECT clan FROM w WHERE id = ?;", new ArrayList<>()), "placeholders belong to PREPARE");
+        assertNull(key("INSERT INTO w (clan) VALUES ('a;b');", new ArrayList<>()), "forbidden runes are left to the parser");
+    }
+
+    @Test
+    void shapesDifferingOnlyInLiteralsShareOneTemplate() {
+        StatementCache cache = new StatementCache(8);
+        List<ValueDefinition> first = new ArrayList<>();
+        List<ValueDefinition> second = new ArrayList<>();
+        PreparedStatement statement = cache.lookup("SELECT clan FROM w WHERE id = 1;", first);
+        assertNotNull(statement);
+        assertSame(statement, cache.lookup("SELECT clan FROM w WHERE id = 2;", second));
+        assertEquals("2", second.getFirst().value);
+        assertEquals(1, cache.size());
+
+        SelectCommand bound = (SelectCommand) statement.bind(second);
+        assertEquals("2", bound.conditions.getFirst().value.value);
+
+        assertNull(cache.lookup("SELECT clan FROM w WHERE;", new ArrayList<>()), "malformed shapes fall back to the parser");
+    }
+
+    @Test
+    void ddlAndCapacityEvictEntries() {
+        StatementCache cache = new StatementCache(2);
+        cache.lookup("SELECT clan FROM w WHERE id = 1;", new ArrayList<>());
+        cache.lookup("INSERT INTO v (id) VALUES (1);", new ArrayList<>());
+        cache.invalidate(new DropTableCommand("w"));
+        assertEquals(1, cache.size());
+
+        cache.lookup("SELECT id FROM u;", new ArrayList<>());
+        cache.lookup("SELECT id FROM t;", new ArrayList<>());
+        assertEquals(2, cache.size(), "the least recently used shape is forgotten");
+    }
+}
@@ -0,0 +1,125 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.SelectCommand;
+import com.yggra.models.DatabaseManager;
+import com.yggra.models.Row;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubqueryTest {
+
+    private final DatabaseManager realm = DatabaseManager.getInstance();
+
+    @BeforeEach
+    void forgeRealm() {
+        realm.createDatabase("Vigrid");
+        realm.useDatabase("Vigrid");
+        List<ColumnDefinition> warriors = new ArrayList<>();
+        warriors.add(new ColumnDefinition("id", TokenType.INT, -1));
+        warriors.add(new ColumnDefinition("gold", TokenType.INT, -1));
+        realm.addTable("warriors", warriors);
+        List<ColumnDefinition> raids = new ArrayList<>();
+        raids.add(new ColumnDefinition("warrior_id", TokenType.INT, -1));
+        raids.add(new ColumnDefinition("loot", TokenType.INT, -1));
+        realm.addTable("raids", raids);
+
+        PreparedStatement warrior = PreparedStatement.prepare("INSERT INTO warriors (id, gold) VALUES (?, ?);");
+        warrior.execute(1, 10);
+        warrior.execute(2, 5);
+        warrior.execute(3, 7);
+        PreparedStatement raid = PreparedStatement.prepare("INSERT INTO raids (warrior_id, loot) VALUES (?, ?);");
+        raid.execute(1, 100);
+        raid.execute(1, 50);
+        raid.execute(3, 20);
+    }
+
+    @AfterEach
+    void abandonRealm() {
+        realm.exitDatabase();
+        realm.dropDatabase("Vigrid");
+    }
+
+    private List<Object> ids(String sql) {
+        SelectCommand select = (SelectCommand) new Parser(new Lexer().tokenize(sql)).parse();
+        return QueryEngine.execute(select, realm::getTable).rows.stream().map(row -> row.getValue(0)).toList();
+    }
+
+    @Test
+    void uncorrelatedSubqueriesRunOnceAndFollowSqlNulls() {
+        assertEquals(List.of(1, 3), ids("SELECT id FROM warriors WHERE id IN (SELECT warrior_id FROM raids);"));
+        assertEquals(List.of(2), ids("SELECT id FROM warriors WHERE id NOT IN (SELECT warrior_id FROM raids);"));
+        assertEquals(List.of(1), ids("SELECT id FROM warriors WHERE gold > (SELECT AVG(gold) FROM warriors);"));
+
+        PreparedStatement.prepare("INSERT INTO raids (loot) VALUES (?);").execute(1);
+        assertEquals(List.of(), ids("SELECT id FROM warriors WHERE id NOT IN (SELECT warrior_id FROM raids);"),
+                "a NULL among the values leaves NOT IN unknown for every row");
+        assertThrows(RuntimeException.class, () -> ids("SELECT id FROM warriors WHERE id = (SELECT warrior_id FROM raids);"));
+    }
+
+    @Test
+    void aWholeAverageMeetsTheIntOfTheSameValue() {
+        assertEquals(List.of(2), ids("SELECT id FROM warriors WHERE id IN (SELECT AVG(warrior_id) FROM raids WHERE loot < 60);"));
+        assertEquals(List.of(1, 3), ids("SELECT id FROM warriors WHERE id NOT IN (SELECT AVG(warrior_id) FROM raids WHERE loot < 60);"));
+    }
+
+    @Test
+    void aNullIsNotInASubqueryWithoutRows() {
+        PreparedStatement.prepare("INSERT INTO warriors (id) VALUES (?);").execute(4);
+        PreparedStatement.prepare("INSERT INTO raids (warrior_id) VALUES (?);").execute(5);
+        PreparedStatement.prepare("INSERT INTO warriors (id) VALUES (?);").execute(5);
+        assertEquals(List.of(1, 2, 3, 4, 5), ids("SELECT id FROM warriors WHERE gold NOT IN (SELECT loot FROM raids WHERE loot > 1000);"));
+        assertEquals(List.of(), ids("SELECT id FROM warriors WHERE gold IN (SELECT loot FROM raids WHERE loot > 1000);"));
+        assertEquals(List.of(1, 2, 3, 4), ids("SELECT id FROM warriors WHERE gold NOT IN (SELECT loot FROM raids WHERE raids.warrior_id = warriors.id);"),
+                "warrior 4 has no raids; warrior 5 has a raid, so its NULL gold stays unknown");
+    }
+
+    @Test
+    void aNullOuterKeyMeetsAnEmptySubquery() {
+        PreparedStatement.prepare("INSERT INTO warriors (gold) VALUES (?);").execute(0);
+        assertEquals(List.of(10, 5, 7, 0), ids("SELECT gold FROM warriors WHERE gold NOT IN (SELECT loot FROM raids WHERE raids.warrior_id = warriors.id);"));
+        assertEquals(List.of(0), ids("SELECT gold FROM warriors WHERE gold = (SELECT COUNT(*) FROM raids WHERE raids.warrior_id = warriors.id);"),
+                "a NULL key counts no raids");
+        assertEquals(List.of(10, 7), ids("SELECT gold FROM warriors WHERE EXISTS (SELECT * FROM raids WHERE raids.warrior_id = warriors.id);"));
+        assertEquals(List.of(5, 0), ids("SELECT gold FROM warriors WHERE NOT EXISTS (SELECT * FROM raids WHERE raids.warrior_id = warriors.id);"));
+    }
+
+    @Test
+    void inRefusesValuesOfAnotherType() {
+        List<ColumnDefinition> skalds = new ArrayList<>();
+        skalds.add(new ColumnDefinition("name", TokenType.VARCHAR, 10));
+        realm.addTable("skalds", skalds);
+        PreparedStatement.prepare("INSERT INTO skalds (name) VALUES (?);").execute("Bragi");
+
+        for (String mismatch : List.of(
+                "SELECT name FROM skalds WHERE name IN (SELECT loot FROM raids);",
+                "SELECT name FROM skalds WHERE name NOT IN (SELECT AVG(loot) FROM raids);",
+                "SELECT id FROM warriors WHERE id NOT IN (SELECT name FROM skalds);",
+                "SELECT id FROM warriors WHERE id IN (SELECT MAX(name) FROM skalds);")) {
+            RuntimeException refused = assertThrows(RuntimeException.class, () -> ids(mismatch), mismatch);
+            assertTrue(refused.getMessage().contains("TYPE JUDGMENT"), refused.getMessage());
+        }
+        assertEquals(List.of("Bragi"), ids("SELECT name FROM skalds WHERE name IN (SELECT name FROM skalds);"));
+    }
+
+    @Test
+    void correlatedSubqueriesBecomeSemiJoinsAndGroupedLookups() {
+        assertEquals(List.of(1), ids("SELECT id FROM warriors WHERE EXISTS (SELECT * FROM raids WHERE raids.warrior_id = warriors.id AND loot > 30);"));
+        assertEquals(List.of(2), ids("SELECT id FROM warriors WHERE NOT EXISTS (SELECT loot FROM raids WHERE warriors.id = raids.warrior_id);"));
+        assertEquals(List.of(1, 3), ids("SELECT id FROM warriors WHERE gold < (SELECT SUM(loot) FROM raids WHERE raids.warrior_id = warriors.id);"),
+                "a warrior without raids has a NULL SUM");
+        assertEquals(List.of(2), ids("SELECT id FROM warriors WHERE gold > (SELECT COUNT(*) FROM raids WHERE raids.warrior_id = warriors.id AND loot > 0) AND id = 2;"),
+                "a warrior without raids has a COUNT of 0");
+        assertThrows(RuntimeException.class,
+                () -> ids("SELECT id FROM warriors WHERE EXISTS (SELECT * FROM raids WHERE raids.warrior_id = warriors.id LIMIT 1);"));
+    }
+}
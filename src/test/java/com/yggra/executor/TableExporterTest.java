@@ -0,0 +1,105 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.models.DatabaseManager;
+import com.yggra.models.Row;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableExporterTest {
+
+    private static final List<List<Object>> TRICKY = List.of(
+            Arrays.asList(Integer.MIN_VALUE, "plain"),
+            Arrays.asList(Integer.MAX_VALUE, ""),
+            Arrays.asList(null, "say \"skål\", then\nsleep"),
+            Arrays.asList(-1, null),
+            Arrays.asList(0, "Ægir 🌊 \\ back"));
+
+    private final DatabaseManager realm = DatabaseManager.getInstance();
+    private final SQLExecutor executor = new SQLExecutor();
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void forgeRealm() {
+        realm.createDatabase("Brokkr");
+        realm.useDatabase("Brokkr");
+        for (String name : List.of("forged", "reforged")) {
+            List<ColumnDefinition> columns = new ArrayList<>();
+            columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+            columns.add(new ColumnDefinition("name", TokenType.VARCHAR, 30));
+            realm.addTable(name, columns);
+        }
+    }
+
+    @AfterEach
+    void abandonRealm() {
+        realm.dropDatabase("Brokkr");
+    }
+
+    private void run(String sql) {
+        executor.execute(new Parser(new Lexer().tokenize(sql)).parseStatement());
+    }
+
+    private List<List<Object>> values(String table) {
+        return realm.getTable(table).liveRows().stream().map(row -> row.values).toList();
+    }
+
+    @Test
+    void csvAndBinaryReadBackUnchanged() {
+        List<Row> rows = new ArrayList<>();
+        for (int i = 0; i < ColumnarFile.BLOCK + 10; i++) {
+            List<Object> values = TRICKY.get(i % TRICKY.size());
+            rows.add(new Row(new ArrayList<>(values)));
+        }
+        realm.getTable("forged").addRows(rows);
+        run("DELETE FROM forged WHERE id = 0;");
+        List<List<Object>> expected = values("forged");
+
+        Path csv = directory.resolve("forged.csv");
+        run("COPY forged TO '" + csv + "' WITH (FORMAT CSV, HEADER);");
+        run("COPY reforged FROM '" + csv + "' WITH (HEADER);");
+        assertEquals(expected, values("reforged"), "NULLs, empty texts, quotes and line breaks survive CSV");
+
+        run("TRUNCATE TABLE reforged;");
+        Path binary = directory.resolve("forged.ygg");
+        run("COPY forged TO '" + binary + "' FORMAT BINARY;");
+        run("COPY reforged FROM '" + binary + "' FORMAT binary;");
+        assertEquals(expected, values("reforged"), "rows spanning several blocks survive the columnar file");
+    }
+
+    @Test
+    void writesJsonLinesAndRefusesWhatTsvCannotCarry() throws IOException {
+        List<Row> rows = new ArrayList<>();
+        TRICKY.forEach(values -> rows.add(new Row(new ArrayList<>(values))));
+        realm.getTable("forged").addRows(rows);
+
+        Path jsonl = directory.resolve("forged.jsonl");
+        run("COPY forged TO '" + jsonl + "' FORMAT JSONL;");
+        List<String> lines = Files.readAllLines(jsonl);
+        assertEquals(5, lines.size());
+        assertEquals("{\"id\":-2147483648,\"name\":\"plain\"}", lines.get(0));
+        assertEquals("{\"id\":null,\"name\":\"say \\\"skål\\\", then\\nsleep\"}", lines.get(2));
+        assertEquals("{\"id\":0,\"name\":\"Ægir 🌊 \\\\ back\"}", lines.get(4));
+
+        assertThrows(RuntimeException.class, () -> run("COPY forged TO '" + directory.resolve("forged.tsv") + "' FORMAT TSV;"));
+        assertThrows(RuntimeException.class, () -> run("COPY forged FROM '" + jsonl + "' FORMAT JSONL;"));
+        assertThrows(RuntimeException.class, () -> run("COPY reforged FROM '" + jsonl + "' FORMAT BINARY;"));
+        assertTrue(values("reforged").isEmpty());
+    }
+}
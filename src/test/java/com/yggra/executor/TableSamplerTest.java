@@ -0,0 +1,52 @@
+package com.yggra.executor;
+
+import com.yggra.commands.SampleMethod;
+import com.yggra.commands.TableSample;
+import com.yggra.models.Row;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableSamplerTest {
+
+    private static List<Row> rows(int count) {
+        List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(new ArrayList<>(List.of(i))));
+        }
+        return rows;
+    }
+
+    @Test
+    void bernoulliKeepsRowsAtTheAskedRate() {
+        List<Row> rows = rows(100_000);
+        TableSample tenth = new TableSample(SampleMethod.BERNOULLI, 10, 42L);
+        List<Row> sample = TableSampler.sample(rows, null, tenth);
+        assertEquals(10_000, sample.size(), 400);
+        for (int i = 1; i < sample.size(); i++) {
+            assertTrue((Integer) sample.get(i).getValue(0) > (Integer) sample.get(i - 1).getValue(0), "the sample keeps table order");
+        }
+        assertEquals(sample, TableSampler.sample(rows, null, tenth), "a REPEATABLE seed draws the same rows");
+        assertEquals(100_000, TableSampler.sample(rows, null, new TableSample(SampleMethod.BERNOULLI, 100, null)).size());
+        assertTrue(TableSampler.sample(rows, null, new TableSample(SampleMethod.BERNOULLI, 0, null)).isEmpty());
+    }
+
+    @Test
+    void systemKeepsWholeBlocksWithoutTheirDeadRows() {
+        List<Row> rows = rows(64 * TableSampler.BLOCK_ROWS);
+        BitSet dead = new BitSet();
+        dead.set(0, rows.size(), true);
+        dead.clear(0, rows.size() / 2);
+        List<Row> sample = TableSampler.sample(rows, dead, new TableSample(SampleMethod.SYSTEM, 50, 7L));
+
+        assertFalse(sample.isEmpty());
+        assertEquals(0, sample.size() % TableSampler.BLOCK_ROWS, "blocks are kept whole");
+        for (Row row : sample) {
+            assertTrue((Integer) row.getValue(0) < rows.size() / 2, "tombstoned rows are never sampled");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.yggra.executor;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.SelectCommand;
+import com.yggra.models.DatabaseManager;
+import com.yggra.parser.Lexer;
+import com.yggra.parser.Parser;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WindowTest {
+
+    private final DatabaseManager realm = DatabaseManager.getInstance();
+
+    @BeforeEach
+    void forgeRealm() {
+        realm.createDatabase("Vigrid");
+        realm.useDatabase("Vigrid");
+        List<ColumnDefinition> columns = new ArrayList<>();
+        columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+        columns.add(new ColumnDefinition("clan", TokenType.VARCHAR, 20));
+        columns.add(new ColumnDefinition("gold", TokenType.INT, -1));
+        realm.addTable("warriors", columns);
+        Object[][] rows = {{1, "Aesir", 10}, {2, "Vanir", 5}, {3, "Aesir", 7}, {4, "Aesir", 10}, {5, "Vanir", null}};
+        for (Object[] row : rows) {
+            PreparedStatement.prepare("INSERT INTO warriors (id, clan, gold) VALUES (?, ?, ?);").execute(row);
+        }
+    }
+
+    @AfterEach
+    void abandonRealm() {
+        realm.exitDatabase();
+        realm.dropDatabase("Vigrid");
+    }
+
+    private QueryResult select(String sql) {
+        return QueryEngine.execute((SelectCommand) new Parser(new Lexer().tokenize(sql)).parse(), realm::getTable);
+    }
+
+    private static List<List<Object>> values(QueryResult result) {
+        return result.rows.stream().map(row -> row.values).toList();
+    }
+
+    @Test
+    void rankingRestartsPerPartitionAndTiesShareARank() {
+        QueryResult result = select("SELECT id, ROW_NUMBER() OVER (PARTITION BY clan ORDER BY gold DESC), "
+                + "RANK() OVER (PARTITION BY clan ORDER BY gold DESC) FROM warriors;");
+        assertEquals(3, result.columnNames.size());
+        assertEquals(List.of(
+                List.of(1, 1L, 1L),
+                List.of(4, 2L, 1L),
+                List.of(3, 3L, 3L),
+                List.of(2, 1L, 1L),
+                List.of(5, 2L, 2L)), values(result));
+    }
+
+    @Test
+    void framesSlideAlongThePartition() {
+        QueryResult result = select("SELECT id, SUM(gold) OVER (ORDER BY id ROWS BETWEEN 1 PRECEDING AND 1 FOLLOWING), "
+                + "AVG(gold) OVER (PARTITION BY clan ORDER BY id), COUNT(gold) OVER (ORDER BY id ROWS BETWEEN 1 FOLLOWING AND UNBOUNDED FOLLOWING) "
+                + "FROM warriors WHERE id > 1;");
+        assertEquals(List.of(
+                Arrays.asList(3, 22L, 7.0, 1L),
+                Arrays.asList(4, 17L, 8.5, 0L),
+                Arrays.asList(2, 12L, 5.0, 2L),
+                Arrays.asList(5, 10L, 5.0, 0L)), values(result), "rows come back in the order of the last window");
+
+        assertThrows(RuntimeException.class, () -> select("SELECT id, SUM(clan) OVER () FROM warriors;"));
+        assertThrows(RuntimeException.class, () -> select("SELECT id, MAX(gold) OVER () FROM warriors;"));
+        assertThrows(RuntimeException.class, () -> select("SELECT id, RANK() OVER (ORDER BY id ROWS 1 PRECEDING) FROM warriors;"));
+    }
+}
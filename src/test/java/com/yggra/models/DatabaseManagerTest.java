@@ -1,11 +1,16 @@
 package com.yggra.models;
 
+import com.yggra.commands.ColumnDefinition;
 import com.yggra.commands.CreateDatabaseCommand;
 import com.yggra.commands.SQLCommand;
 import com.yggra.executor.SQLExecutor;
+import com.yggra.parser.TokenType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DatabaseManagerTest {
@@ -44,6 +49,31 @@ class DatabaseManagerTest {
     }
     @Test
     void getTable() {
+        dbManager.createDatabase("Helheim");
+        dbManager.useDatabase("Helheim");
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                dbManager.addTable("shade" + i, new ArrayList<>(List.of(new ColumnDefinition("id", TokenType.INT, -1))));
+            }
+            Table shade = dbManager.getTable("shade1234");
+            assertEquals("shade1234", shade.tableName);
+            assertThrows(RuntimeException.class, () -> dbManager.getTable("Shade1234"), "names match exactly as written");
+            assertThrows(RuntimeException.class, () -> dbManager.addTable("shade7", new ArrayList<>()));
+
+            assertThrows(RuntimeException.class, () -> dbManager.alterTableName("shade1234", "shade0"), "a rename cannot take another table's name");
+            dbManager.alterTableName("shade1234", "wraith");
+            assertSame(shade, dbManager.getTable("wraith"));
+            assertThrows(RuntimeException.class, () -> dbManager.getTable("shade1234"));
+
+            dbManager.dropTable("shade0");
+            Database realm = dbManager.databases.get("Helheim");
+            assertFalse(realm.hasTable("shade0"));
+            assertEquals(1_999, realm.tablesInOrder().size());
+            assertEquals("shade1", realm.tablesInOrder().getFirst().tableName, "SHOW TABLES keeps the order tables were forged in");
+            assertEquals("wraith", realm.tablesInOrder().get(1_233).tableName);
+        } finally {
+            dbManager.dropDatabase("Helheim");
+        }
     }
 
     @Test
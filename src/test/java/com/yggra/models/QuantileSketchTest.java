@@ -0,0 +1,56 @@
+package com.yggra.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+
+    private static List<Integer> shuffled(int count) {
+        List<Integer> values = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            values.add(i);
+        }
+        Collections.shuffle(values, new Random(7));
+        return values;
+    }
+
+    @Test
+    void quantilesStayWithinAPercentOfTheirRank() {
+        QuantileSketch sketch = new QuantileSketch();
+        for (int value : shuffled(200_000)) {
+            sketch.add(value);
+        }
+        assertEquals(200_000, sketch.count());
+        for (double fraction : new double[]{0.01, 0.25, 0.5, 0.9, 0.99}) {
+            long expected = Math.round(fraction * 200_000);
+            assertEquals(expected, sketch.quantile(fraction), 2_000, "percentile " + fraction);
+        }
+        assertNull(new QuantileSketch().quantile(0.5));
+    }
+
+    @Test
+    void partitionsMergeIntoOneSketch() {
+        List<Integer> values = shuffled(100_000);
+        QuantileSketch merged = new QuantileSketch();
+        HyperLogLog distinct = new HyperLogLog();
+        for (int part = 0; part < 4; part++) {
+            QuantileSketch sketch = new QuantileSketch();
+            HyperLogLog partDistinct = new HyperLogLog();
+            for (int value : values.subList(part * 25_000, (part + 1) * 25_000)) {
+                sketch.add(value);
+                partDistinct.add(value % 10_000);
+            }
+            merged.merge(sketch);
+            distinct.merge(partDistinct);
+        }
+        assertEquals(100_000, merged.count());
+        assertEquals(50_000, merged.quantile(0.5), 1_000);
+        assertEquals(10_000, distinct.estimate(), 500, "within three standard errors");
+    }
+}
@@ -0,0 +1,133 @@
+package com.yggra.models;
+
+import com.yggra.commands.ColumnDefinition;
+import com.yggra.commands.ValueDefinition;
+import com.yggra.executor.MorselScheduler;
+import com.yggra.executor.RowPredicate;
+import com.yggra.parser.TokenType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableTest {
+
+    private static Table table(int rows) {
+        List<ColumnDefinition> columns = new ArrayList<>();
+        columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+        columns.add(new ColumnDefinition("gold", TokenType.INT, -1));
+        Table table = new Table("hoard", columns);
+        for (int i = 0; i < rows; i++) {
+            table.rowList.add(new Row(new ArrayList<>(List.of(i, i * 10))));
+        }
+        return table;
+    }
+
+    @Test
+    void deletesAreTombstonedUntilTheListIsSparse() {
+        Table table = table(100);
+        List<Row> rows = table.rowList;
+        long version = table.version;
+
+        assertEquals(10, table.deleteRows(row -> (Integer) row.getValue(0) % 10 == 0));
+        assertSame(rows, table.rowList);
+        assertEquals(100, table.rowList.size(), "a few deletes leave the row list as it was");
+        assertEquals(90, table.liveRowCount());
+        assertTrue(table.tombstones().get(0));
+        assertTrue(table.version > version);
+        assertEquals(90, MorselScheduler.filter(table.rowList, table.tombstones(), RowPredicate.ALWAYS, null).size());
+        assertEquals(0, table.deleteRows(row -> (Integer) row.getValue(0) == 0), "a tombstoned row cannot die twice");
+
+        table.deleteRows(row -> (Integer) row.getValue(0) < 20);
+        assertEquals(72, table.rowList.size(), "past the threshold the list is compacted");
+        assertNull(table.tombstones());
+        assertEquals(21, table.rowList.getFirst().getValue(0));
+        assertEquals(99, table.rowList.getLast().getValue(0));
+    }
+
+    @Test
+    void updatesRewriteOnlyTheMatchingRowsInPlace() {
+        Table table = table(5);
+        Row third = table.rowList.get(2);
+        table.deleteRows(row -> (Integer) row.getValue(0) == 4);
+
+        int updated = table.updateRows(row -> (Integer) row.getValue(0) >= 2, new int[]{1}, List.of(-1));
+        assertEquals(2, updated, "the tombstoned row is not reforged");
+        assertSame(third, table.rowList.get(2));
+        assertEquals(List.of(2, -1), third.values);
+        assertEquals(List.of(1, 10), table.rowList.get(1).values);
+        assertEquals(List.of(4, 40), table.rowList.get(4).values);
+    }
+
+    @Test
+    void compiledSchemaLastsUntilTheNextAlter() {
+        Table table = table(0);
+        TableSchema schema = table.schema();
+        assertSame(schema, table.schema(), "no ALTER, no recompiling");
+        assertEquals(1, schema.indexOf("gold"));
+        assertEquals(-1, schema.indexOf("silver"));
+
+        table.addColumnsToExistingTable(new ColumnDefinition("weight", TokenType.INT, -1), new ValueDefinition(TokenType.NUMBER_LITERAL, "7"));
+        table.renameColumnFromTable("gold", "silver");
+        TableSchema altered = table.schema();
+        assertNotSame(schema, altered);
+        assertEquals(-1, schema.indexOf("silver"), "a compiled schema never changes under its readers");
+        assertEquals(List.of("id", "silver", "weight"), List.of(altered.name(0), altered.name(1), altered.name(2)),
+                "the renamed column is the one named, not the first");
+        assertSame(table.columnList.get(2), table.getColumn("weight"));
+
+        table.columnList.get(2).setDefault(new ValueDefinition(TokenType.NUMBER_LITERAL, "9"));
+        table.schemaVersion++;
+        assertEquals(9, table.schema().defaultValue(2));
+        assertNull(table.schema().defaultValue(0));
+    }
+
+    @Test
+    void addAndDropColumnLeaveStoredRowsUntilCompaction() {
+        Table table = table(3);
+        Row first = table.rowList.getFirst();
+        table.addColumnsToExistingTable(new ColumnDefinition("weight", TokenType.INT, -1), new ValueDefinition(TokenType.NUMBER_LITERAL, "7"));
+        table.removeColumnFromTable("gold");
+        assertEquals(List.of(0, 0), first.values, "ALTER rewrites no row");
+        assertEquals(List.of(List.of(0, 7), List.of(1, 7), List.of(2, 7)), table.liveRows().stream().map(row -> row.values).toList());
+
+        table.addRow(new Row(new ArrayList<>(List.of(3, 8))));
+        assertEquals(1, table.updateRows(row -> (Integer) row.getValue(0) == 1, new int[]{1}, List.of(9)));
+        assertEquals(List.of(List.of(0, 7), List.of(1, 9), List.of(2, 7), List.of(3, 8)),
+                MorselScheduler.filter(table.scanRows(), table.tombstones(), RowPredicate.ALWAYS, null).stream().map(row -> row.values).toList());
+        assertEquals(Arrays.asList(3, null, 8), table.rowList.getLast().values, "inserted while the dropped slot is still stored");
+        assertTrue(table.hasPendingLayout());
+
+        table.deleteRows(row -> (Integer) row.getValue(0) == 2);
+        assertFalse(table.hasPendingLayout(), "the tombstone compaction rewrites the rows as it goes");
+        assertSame(table.rowList, table.scanRows());
+        assertEquals(List.of(List.of(0, 7), List.of(1, 9), List.of(3, 8)), table.rowList.stream().map(row -> row.values).toList());
+    }
+
+    @Test
+    void aDefaultThatNoLongerFitsLeavesTheSchemaUsable() {
+        List<ColumnDefinition> columns = new ArrayList<>();
+        columns.add(new ColumnDefinition("id", TokenType.INT, -1));
+        columns.add(new ColumnDefinition("name", TokenType.VARCHAR, 20));
+        Table table = new Table("t", columns);
+        columns.get(1).setDefault(new ValueDefinition(TokenType.STRING_LITERAL, "abc"));
+        table.schemaVersion++;
+
+        assertThrows(RuntimeException.class, () -> table.modifyDataTypeColumnsFromTable(List.of(new ColumnDefinition("name", TokenType.INT, -1))));
+        assertEquals(TokenType.VARCHAR, table.getColumn("name").type);
+        assertEquals("abc", table.schema().defaultValue(1));
+
+        // A DEFAULT that slipped past validation fails only the rows that take it
+        columns.get(0).setDefault(new ValueDefinition(TokenType.STRING_LITERAL, "abc"));
+        table.schemaVersion++;
+        TableSchema schema = table.schema();
+        assertEquals(1, schema.indexOf("name"));
+        assertEquals(List.of(2, "x"), table.validateRow(
+                List.of(new ValueDefinition(TokenType.NUMBER_LITERAL, "2"), new ValueDefinition(TokenType.STRING_LITERAL, "x")),
+                List.of(TokenType.INT, TokenType.VARCHAR), List.of(-1, 20), List.of("id", "name")));
+        assertThrows(RuntimeException.class, () -> schema.defaultValue(0));
+    }
+}
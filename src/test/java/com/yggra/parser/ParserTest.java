@@ -0,0 +1,38 @@
+package com.yggra.parser;
+
+import com.yggra.commands.CopyFromCommand;
+import com.yggra.commands.InsertCommand;
+import com.yggra.commands.SelectCommand;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParserTest {
+
+    private final Lexer lexer = new Lexer();
+
+    @Test
+    void oneParserServesStatementAfterStatement() {
+        Parser parser = new Parser();
+        assertInstanceOf(InsertCommand.class, parser.reset(lexer.tokenize("INSERT INTO runes (id) VALUES (?);")).parseStatement());
+        assertEquals(1, parser.parameterCount());
+
+        assertInstanceOf(SelectCommand.class, parser.reset(lexer.tokenize("SELECT id FROM runes;")).parseStatement());
+        assertEquals(0, parser.parameterCount(), "a reset forgets the last statement's placeholders");
+
+        assertThrows(RuntimeException.class, () -> parser.reset(lexer.tokenize("SELEC id FROM runes;")).parseStatement());
+        assertInstanceOf(CopyFromCommand.class, parser.reset(lexer.tokenize("copy runes from 'runes.csv';")).parseStatement(),
+                "a failed statement leaves nothing behind for the next");
+    }
+
+    @Test
+    void namesEveryLeadingKeywordWhenNoneMatches() {
+        RuntimeException error = assertThrows(RuntimeException.class, () -> new Parser(lexer.tokenize("FROM runes;")).parseStatement());
+        for (String keyword : new String[]{"CREATE", "SELECT", "COPY", "EXECUTE"}) {
+            assertTrue(error.getMessage().contains(keyword), error.getMessage());
+        }
+        assertThrows(RuntimeException.class, () -> new Parser().reset(List.of()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.yggra.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenCursorTest {
+
+    private static final String SQL = "select Jötunn, COUNT(*) FROM halls WHERE gold >= 10 AND name <> 'Ægir''s hall' LiMiT 5;";
+
+    private static List<String> walk(TokenCursor cursor) {
+        List<String> tokens = new ArrayList<>();
+        while (cursor.next()) {
+            tokens.add(cursor.type() + ": " + cursor.text());
+        }
+        return tokens;
+    }
+
+    @Test
+    void streamsTheSameTokensAsTokenize() {
+        List<String> listed = new Lexer().tokenize(SQL).stream().map(Token::toString).toList();
+        assertEquals(listed, walk(new Lexer().stream(SQL)));
+        assertEquals(listed, walk(new Lexer().stream(ByteBuffer.wrap(SQL.getBytes(StandardCharsets.UTF_8)))));
+
+        assertTrue(listed.contains("SELECT: select"), "keywords are found whatever their case");
+        assertTrue(listed.contains("LIMIT: LiMiT"));
+        assertTrue(listed.contains("IDENTIFIER: Jötunn"));
+        assertTrue(listed.contains("STRING_LITERAL: Ægir's hall"));
+        assertTrue(listed.contains("IDENTIFIER: halls"), "a keyword's prefix or extension is a plain name");
+    }
+
+    @Test
+    void reportsOffsetsIntoTheSource() {
+        byte[] utf8 = "xx ÆGIR = 7".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(utf8).position(3);
+        TokenCursor cursor = new Lexer().stream(buffer);
+
+        assertTrue(cursor.next());
+        assertEquals(TokenType.IDENTIFIER, cursor.type());
+        assertEquals(3, cursor.start());
+        assertEquals(8, cursor.end(), "offsets count the bytes of the UTF-8 source");
+        assertTrue(cursor.next());
+        assertEquals(TokenType.EQUALS, cursor.type());
+        assertTrue(cursor.next());
+        assertEquals("7", cursor.text());
+        assertFalse(cursor.next());
+        assertEquals(3, buffer.position(), "the buffer itself is not moved");
+
+        assertThrows(RuntimeException.class, () -> walk(new TokenCursor("SELECT 'unclosed")));
+        assertEquals(List.of("PERCENT: percent"), walk(cursor.reset("percent")));
+    }
+}